@@ -0,0 +1,68 @@
+package com.gamegoo.gamegoo_v2.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Mike;
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 매칭 데이터 생성
+ * 릴리즈 간 결과 비교가 가능하도록 고정 seed를 사용한다.
+ */
+final class MatchingBenchmarkFixtures {
+
+    static final long SEED = 20250101L;
+
+    private MatchingBenchmarkFixtures() {
+    }
+
+    static List<MatchingRecord> randomRecords(Random random, GameMode gameMode, int size) {
+        List<MatchingRecord> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(randomRecord(random, gameMode, i + 1L));
+        }
+        return records;
+    }
+
+    static MatchingRecord randomRecord(Random random, GameMode gameMode, Long memberId) {
+        Position[] positions = Position.values();
+        List<Position> wantP = new ArrayList<>();
+        int wantCount = random.nextInt(3);
+        for (int i = 0; i < wantCount; i++) {
+            wantP.add(positions[random.nextInt(positions.length)]);
+        }
+
+        Tier tier = Tier.values()[random.nextInt(Tier.values().length)];
+        Member member = Member.createForGeneral("bench" + memberId + "@gamegoo.co.kr", "password", LoginType.GENERAL,
+                "BENCH" + memberId, "KR1", tier, random.nextInt(4) + 1, 50.0, tier, random.nextInt(4) + 1, 50.0, 100,
+                100, true);
+        member.updateMike(Mike.values()[random.nextInt(Mike.values().length)]);
+        member.updatePosition(positions[random.nextInt(positions.length)],
+                positions[random.nextInt(positions.length)], wantP);
+        member.updateMannerLevel(random.nextInt(5) + 1);
+        setId(member, memberId);
+
+        MatchingType matchingType = random.nextInt(5) == 0 ? MatchingType.PRECISE : MatchingType.BASIC;
+        return MatchingRecord.create(gameMode, matchingType, member);
+    }
+
+    private static void setId(Member member, Long memberId) {
+        try {
+            Field id = Member.class.getDeclaredField("id");
+            id.setAccessible(true);
+            id.set(member, memberId);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
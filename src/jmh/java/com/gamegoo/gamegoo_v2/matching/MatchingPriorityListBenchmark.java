@@ -0,0 +1,62 @@
+package com.gamegoo.gamegoo_v2.matching;
+
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPriorityBoard;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingService;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingStrategyProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기자 규모별 MatchingService.calculatePriorityList 전체 계산 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchingPriorityListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int poolSize;
+
+    @Param({"SOLO", "FREE", "ARAM", "FAST"})
+    private GameMode gameMode;
+
+    @Param({"0", "20"})
+    private int topK;
+
+    private MatchingService matchingService;
+    private MatchingRecord myRecord;
+    private List<MatchingRecord> pendingRecords;
+
+    @Setup
+    public void setUp() {
+        MatchingProperties matchingProperties = new MatchingProperties();
+        matchingProperties.getTopK().put(gameMode, topK);
+        // 우선순위 계산에는 repository, 매칭 풀이 사용되지 않는다
+        matchingService = new MatchingService(new MatchingStrategyProcessor(), null, null, matchingProperties,
+                new MatchingPriorityBoard(matchingProperties));
+
+        Random random = new Random(MatchingBenchmarkFixtures.SEED);
+        myRecord = MatchingBenchmarkFixtures.randomRecord(random, gameMode, 0L);
+        pendingRecords = MatchingBenchmarkFixtures.randomRecords(random, gameMode, poolSize);
+    }
+
+    @Benchmark
+    public PriorityListResponse calculatePriorityList() {
+        return matchingService.calculatePriorityList(myRecord, pendingRecords);
+    }
+
+}
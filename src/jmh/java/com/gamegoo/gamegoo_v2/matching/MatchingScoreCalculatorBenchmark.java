@@ -0,0 +1,77 @@
+package com.gamegoo.gamegoo_v2.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Mike;
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingScoreCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchingScoreCalculator 단위 점수 함수 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchingScoreCalculatorBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private Tier[] tiers;
+    private int[] ranks;
+    private Mike[] mikes;
+    private Position[] positions;
+    private List<Position>[] wantPositions;
+    private int index;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(MatchingBenchmarkFixtures.SEED);
+        tiers = new Tier[SIZE];
+        ranks = new int[SIZE];
+        mikes = new Mike[SIZE];
+        positions = new Position[SIZE];
+        wantPositions = new List[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            tiers[i] = Tier.values()[random.nextInt(Tier.values().length)];
+            ranks[i] = random.nextInt(4) + 1;
+            mikes[i] = Mike.values()[random.nextInt(Mike.values().length)];
+            positions[i] = Position.values()[random.nextInt(Position.values().length)];
+            wantPositions[i] = List.of(Position.values()[random.nextInt(Position.values().length)],
+                    Position.values()[random.nextInt(Position.values().length)]);
+        }
+    }
+
+    @Benchmark
+    public int getTierRankPriority() {
+        int i = index++ & MASK;
+        int j = (i + 1) & MASK;
+        return MatchingScoreCalculator.getTierRankPriority(tiers[i], ranks[i], tiers[j], ranks[j], 40, 4);
+    }
+
+    @Benchmark
+    public int getPositionPriority() {
+        int i = index++ & MASK;
+        int j = (i + 1) & MASK;
+        return MatchingScoreCalculator.getPositionPriority(wantPositions[i], positions[j], positions[i], 3, 2, 1);
+    }
+
+    @Benchmark
+    public int getMikePriority() {
+        int i = index++ & MASK;
+        int j = (i + 1) & MASK;
+        return MatchingScoreCalculator.getMikePriority(mikes[i], mikes[j], 3);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.gamegoo.gamegoo_v2.matching;
+
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingStrategyProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 모드별 MatchingStrategyProcessor 우선순위 계산 및 정밀 매칭 검증 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchingStrategyBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private final MatchingStrategyProcessor matchingStrategyProcessor = new MatchingStrategyProcessor();
+
+    private List<MatchingRecord> soloRecords;
+    private List<MatchingRecord> freeRecords;
+    private List<MatchingRecord> aramRecords;
+    private List<MatchingRecord> fastRecords;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(MatchingBenchmarkFixtures.SEED);
+        soloRecords = MatchingBenchmarkFixtures.randomRecords(random, GameMode.SOLO, SIZE);
+        freeRecords = MatchingBenchmarkFixtures.randomRecords(random, GameMode.FREE, SIZE);
+        aramRecords = MatchingBenchmarkFixtures.randomRecords(random, GameMode.ARAM, SIZE);
+        fastRecords = MatchingBenchmarkFixtures.randomRecords(random, GameMode.FAST, SIZE);
+    }
+
+    @Benchmark
+    public int calculateSoloPriority() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.calculateSoloPriority(soloRecords.get(i), soloRecords.get((i + 1) & MASK));
+    }
+
+    @Benchmark
+    public int calculateFreePriority() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.calculateFreePriority(freeRecords.get(i), freeRecords.get((i + 1) & MASK));
+    }
+
+    @Benchmark
+    public int calculateAramPriority() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.calculateAramPriority(aramRecords.get(i), aramRecords.get((i + 1) & MASK));
+    }
+
+    @Benchmark
+    public int calculateFastPriority() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.calculateFastPriority(fastRecords.get(i), fastRecords.get((i + 1) & MASK));
+    }
+
+    @Benchmark
+    public boolean validatePreciseMatching() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.validatePreciseMatching(soloRecords.get(i), soloRecords.get((i + 1) & MASK));
+    }
+
+    @Benchmark
+    public int calculatePrecisePriority() {
+        int i = index++ & MASK;
+        return matchingStrategyProcessor.calculatePrecisePriority(soloRecords.get(i), soloRecords.get((i + 1) & MASK));
+    }
+
+}
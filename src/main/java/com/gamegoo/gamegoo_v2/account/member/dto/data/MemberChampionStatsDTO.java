@@ -0,0 +1,25 @@
+package com.gamegoo.gamegoo_v2.account.member.dto.data;
+
+public interface MemberChampionStatsDTO {
+
+    Long getMemberId();
+
+    Long getChampionId();
+
+    String getChampionName();
+
+    Integer getWins();
+
+    Integer getGames();
+
+    Double getCsPerMinute();
+
+    Integer getTotalCs();
+
+    Integer getKills();
+
+    Integer getDeaths();
+
+    Integer getAssists();
+
+}
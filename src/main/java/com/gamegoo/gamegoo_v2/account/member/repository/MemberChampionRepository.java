@@ -2,9 +2,14 @@ package com.gamegoo.gamegoo_v2.account.member.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.MemberChampion;
+import com.gamegoo.gamegoo_v2.account.member.dto.data.MemberChampionStatsDTO;
 import com.gamegoo.gamegoo_v2.game.domain.Champion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberChampionRepository extends JpaRepository<MemberChampion, Long> {
@@ -13,4 +18,38 @@ public interface MemberChampionRepository extends JpaRepository<MemberChampion,
     
     Optional<MemberChampion> findByMemberAndChampion(Member member, Champion champion);
 
+    /**
+     * 회원별 판 수 상위 챔피언 통계 일괄 조회
+     * 회원마다 판 수 내림차순으로 순위를 매겨 상위 limit개만 반환한다.
+     *
+     * @param memberIds 회원 id 목록
+     * @param limit     회원별 최대 챔피언 수
+     * @return 회원 id, 순위 순서로 정렬된 챔피언 통계 목록
+     */
+    @Query(value = """
+            SELECT ranked.member_id AS memberId,
+                   ranked.champion_id AS championId,
+                   c.name AS championName,
+                   ranked.wins AS wins,
+                   ranked.games AS games,
+                   ranked.cs_per_minute AS csPerMinute,
+                   ranked.total_cs AS totalCs,
+                   ranked.kills AS kills,
+                   ranked.deaths AS deaths,
+                   ranked.assists AS assists
+            FROM (
+                SELECT mc.*,
+                       ROW_NUMBER() OVER (PARTITION BY mc.member_id
+                                          ORDER BY mc.games DESC, mc.member_champion_id) AS champion_rank
+                FROM member_champion mc
+                WHERE mc.member_id IN (:memberIds)
+                  AND mc.games > 0
+            ) ranked
+            JOIN champion c ON c.champion_id = ranked.champion_id
+            WHERE ranked.champion_rank <= :limit
+            ORDER BY ranked.member_id, ranked.champion_rank
+            """, nativeQuery = true)
+    List<MemberChampionStatsDTO> findTopChampionStatsByMemberIds(@Param("memberIds") Collection<Long> memberIds,
+                                                                 @Param("limit") int limit);
+
 }
@@ -4,12 +4,14 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.MemberRecentStats;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberChampionRepository;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRecentStatsRepository;
+import com.gamegoo.gamegoo_v2.core.event.MemberStatusChangeEvent;
 import com.gamegoo.gamegoo_v2.external.riot.domain.ChampionStats;
 import com.gamegoo.gamegoo_v2.external.riot.dto.TierDetails;
 import com.gamegoo.gamegoo_v2.external.riot.service.RiotAuthService;
 import com.gamegoo.gamegoo_v2.external.riot.service.RiotInfoService;
 import com.gamegoo.gamegoo_v2.external.riot.service.RiotRecordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class ChampionStatsRefreshService {
     private final RiotInfoService riotInfoService;
     private final MemberService memberService;
     private final MemberRecentStatsRepository memberRecentStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void refreshChampionStats(Member member) {
@@ -89,6 +92,7 @@ public class ChampionStatsRefreshService {
 
             freshMember.updateRiotBasicInfo(accountInfo.getGameName(), accountInfo.getTagLine());
             freshMember.updateRiotStats(tierWinrateRank);
+            eventPublisher.publishEvent(new MemberStatusChangeEvent(memberId));
 
             // 칼바람 승률 업데이트
             freshMember.updateAramWinRate(aramRecStats.getRecWinRate());
@@ -3,13 +3,18 @@ package com.gamegoo.gamegoo_v2.account.member.service;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.MemberChampion;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberChampionRepository;
+import com.gamegoo.gamegoo_v2.content.board.dto.response.ChampionStatsResponse;
 import com.gamegoo.gamegoo_v2.external.riot.domain.ChampionStats;
 import com.gamegoo.gamegoo_v2.game.repository.ChampionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -73,6 +78,27 @@ public class MemberChampionService {
         updateExistingChampionStatsByMode(member, aramStats, ChampionStatsMode.ARAM);
     }
 
+    /**
+     * 여러 회원의 판 수 상위 챔피언 통계를 한 번에 조회
+     * 통합 통계가 있는 챔피언만 판 수 내림차순으로 회원마다 최대 limit개 반환하며, 챔피언 통계가 없는 회원은 빈 리스트로 채운다.
+     *
+     * @param memberIds 회원 id 목록
+     * @param limit     회원별 최대 챔피언 수
+     * @return 회원 id별 챔피언 통계 map
+     */
+    public Map<Long, List<ChampionStatsResponse>> getTopChampionStatsBatch(Collection<Long> memberIds, int limit) {
+        Map<Long, List<ChampionStatsResponse>> championStatsMap = new HashMap<>();
+        if (memberIds.isEmpty() || limit <= 0) {
+            return championStatsMap;
+        }
+
+        memberIds.forEach(memberId -> championStatsMap.put(memberId, new ArrayList<>()));
+        memberChampionRepository.findTopChampionStatsByMemberIds(memberIds, limit)
+                .forEach(stats -> championStatsMap.computeIfAbsent(stats.getMemberId(), key -> new ArrayList<>())
+                        .add(ChampionStatsResponse.from(stats)));
+        return championStatsMap;
+    }
+
     /**
      * 모드별 챔피언 통계 업데이트 공통 메서드
      */
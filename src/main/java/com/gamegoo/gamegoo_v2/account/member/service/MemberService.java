@@ -9,12 +9,14 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Position;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRecentStatsRepository;
+import com.gamegoo.gamegoo_v2.core.event.MemberStatusChangeEvent;
 import com.gamegoo.gamegoo_v2.core.exception.MemberException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.external.riot.dto.TierDetails;
 import com.gamegoo.gamegoo_v2.external.riot.dto.request.RiotJoinRequest;
 import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberRecentStatsRepository memberRecentStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Member createMemberRiot(RiotJoinRequest request, String gameName, String tag, List<TierDetails> tiers) {
@@ -208,6 +211,7 @@ public class MemberService {
     public void deactivateMember(Member member) {
         member.updateBlind(true);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberStatusChangeEvent(member.getId()));
     }
 
     /**
@@ -219,6 +223,7 @@ public class MemberService {
     public void activateMember(Member member) {
         member.updateBlind(false);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberStatusChangeEvent(member.getId()));
     }
 
     /**
@@ -0,0 +1,206 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
+import com.gamegoo.gamegoo_v2.utils.DeflateUtil;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 메시지 블록
+ * <p>
+ * 한 채팅방에서 연속으로 생성된 메시지 여러 개를 하나의 row에 압축해 보관한다. payload는 메시지 수 뒤에 메시지마다 byte 길이와 내용을 이어 붙인 뒤 deflate
+ * 압축한 값이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "chat_archive_block",
+        indexes = {
+                @Index(name = "idx_chat_archive_block_chatroom_timestamp", columnList = "chatroom_id, min_timestamp")
+        }
+)
+public class ChatArchiveBlock extends BaseDateTimeEntity {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final long NULL_ID = 0L;
+    private static final int NULL_SYSTEM_TYPE = -1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_archive_block_id")
+    private Long id;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
+    // 블록에 담긴 메시지 timestamp의 최솟값, 최댓값
+    @Column(name = "min_timestamp", nullable = false)
+    private long minTimestamp;
+
+    @Column(nullable = false)
+    private long maxTimestamp;
+
+    // 블록에 담긴 가장 최근 메시지의 생성 시각
+    @Column(nullable = false)
+    private LocalDateTime lastChatCreatedAt;
+
+    @Column(nullable = false)
+    private int chatCount;
+
+    @Lob
+    @Getter(AccessLevel.NONE)
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] payload;
+
+    @Builder
+    private ChatArchiveBlock(Long chatroomId, long minTimestamp, long maxTimestamp, LocalDateTime lastChatCreatedAt,
+                             int chatCount, byte[] payload) {
+        this.chatroomId = chatroomId;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.lastChatCreatedAt = lastChatCreatedAt;
+        this.chatCount = chatCount;
+        this.payload = payload;
+    }
+
+    /**
+     * 보관 메시지 블록 생성
+     *
+     * @param chatroomId 채팅방 id
+     * @param chats      보관할 메시지 목록 (createdAt 오름차순, 1개 이상)
+     * @return ChatArchiveBlock
+     */
+    public static ChatArchiveBlock create(Long chatroomId, List<RecentChat> chats) {
+        long minTimestamp = Long.MAX_VALUE;
+        long maxTimestamp = Long.MIN_VALUE;
+        for (RecentChat chat : chats) {
+            minTimestamp = Math.min(minTimestamp, chat.timestamp());
+            maxTimestamp = Math.max(maxTimestamp, chat.timestamp());
+        }
+
+        return ChatArchiveBlock.builder()
+                .chatroomId(chatroomId)
+                .minTimestamp(minTimestamp)
+                .maxTimestamp(maxTimestamp)
+                .lastChatCreatedAt(chats.get(chats.size() - 1).createdAt())
+                .chatCount(chats.size())
+                .payload(DeflateUtil.compressBytes(encode(chats)))
+                .build();
+    }
+
+    /**
+     * 보관된 메시지 목록 조회
+     *
+     * @return 메시지 목록 (createdAt 오름차순)
+     */
+    public List<RecentChat> getChats() {
+        return decode(DeflateUtil.decompressBytes(payload), chatroomId);
+    }
+
+    private static byte[] encode(List<RecentChat> chats) {
+        try {
+            ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+            DataOutputStream block = new DataOutputStream(blockBytes);
+            block.writeByte(FORMAT_VERSION);
+            block.writeInt(chats.size());
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (RecentChat chat : chats) {
+                recordBytes.reset();
+                writeChat(record, chat);
+                record.flush();
+
+                // 메시지마다 byte 길이를 앞에 붙여 저장
+                block.writeInt(recordBytes.size());
+                recordBytes.writeTo(block);
+            }
+            block.flush();
+            return blockBytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeChat(DataOutputStream out, RecentChat chat) throws IOException {
+        byte[] contents = chat.contents().getBytes(StandardCharsets.UTF_8);
+        out.writeLong(chat.id());
+        out.writeLong(chat.timestamp());
+        out.writeLong(chat.createdAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(chat.createdAt().getNano());
+        out.writeInt(chat.systemType() != null ? chat.systemType() : NULL_SYSTEM_TYPE);
+        out.writeLong(chat.fromMemberId());
+        out.writeLong(chat.toMemberId() != null ? chat.toMemberId() : NULL_ID);
+        out.writeLong(chat.sourceBoardId() != null ? chat.sourceBoardId() : NULL_ID);
+        out.writeInt(contents.length);
+        out.write(contents);
+    }
+
+    private static List<RecentChat> decode(byte[] bytes, Long chatroomId) {
+        try {
+            DataInputStream block = new DataInputStream(new ByteArrayInputStream(bytes));
+            int version = block.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException(
+                        "지원하지 않는 보관 메시지 형식입니다. chatroomId: " + chatroomId + ", version: " + version);
+            }
+
+            int count = block.readInt();
+            List<RecentChat> chats = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] record = new byte[block.readInt()];
+                block.readFully(record);
+                chats.add(readChat(new DataInputStream(new ByteArrayInputStream(record))));
+            }
+            return chats;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RecentChat readChat(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        long timestamp = in.readLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        int systemType = in.readInt();
+        long fromMemberId = in.readLong();
+        long toMemberId = in.readLong();
+        long sourceBoardId = in.readLong();
+        byte[] contents = new byte[in.readInt()];
+        in.readFully(contents);
+
+        return new RecentChat(
+                id,
+                new String(contents, StandardCharsets.UTF_8),
+                timestamp,
+                systemType != NULL_SYSTEM_TYPE ? systemType : null,
+                createdAt,
+                fromMemberId,
+                toMemberId != NULL_ID ? toMemberId : null,
+                sourceBoardId != NULL_ID ? sourceBoardId : null);
+    }
+
+}
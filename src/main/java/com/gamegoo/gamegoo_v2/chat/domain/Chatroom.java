@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +18,12 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "chatroom",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chatroom_member_pair", columnNames = {"low_member_id", "high_member_id"})
+        }
+)
 public class Chatroom extends BaseDateTimeEntity {
 
     @Id
@@ -30,15 +38,38 @@ public class Chatroom extends BaseDateTimeEntity {
 
     private LocalDateTime lastChatAt;
 
+    // 채팅방 두 회원의 id 중 작은 값, 큰 값 (회원 쌍 key)
+    private Long lowMemberId;
+
+    private Long highMemberId;
+
+    // 보관 테이블로 옮긴 메시지 중 가장 최근 메시지의 생성 시각 (보관된 메시지가 없으면 null)
+    private LocalDateTime archivedUntil;
+
     public static Chatroom create(String uuid) {
         return Chatroom.builder()
                 .uuid(uuid)
                 .build();
     }
 
+    public static Chatroom create(String uuid, Long memberId1, Long memberId2) {
+        return Chatroom.builder()
+                .uuid(uuid)
+                .lowMemberId(Math.min(memberId1, memberId2))
+                .highMemberId(Math.max(memberId1, memberId2))
+                .build();
+    }
+
     @Builder
-    private Chatroom(String uuid) {
+    private Chatroom(String uuid, Long lowMemberId, Long highMemberId) {
         this.uuid = uuid;
+        this.lowMemberId = lowMemberId;
+        this.highMemberId = highMemberId;
+    }
+
+    public void updateMemberPair(Long memberId1, Long memberId2) {
+        this.lowMemberId = Math.min(memberId1, memberId2);
+        this.highMemberId = Math.max(memberId1, memberId2);
     }
 
     public void updateLastChatAt(LocalDateTime lastChatAt) {
@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +22,13 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "member_chatroom",
+        indexes = {
+                @Index(name = "idx_member_chatroom_member_unread", columnList = "member_id, unread_count"),
+                @Index(name = "idx_member_chatroom_member_activity", columnList = "member_id, last_activity_at")
+        }
+)
 public class MemberChatroom extends BaseDateTimeEntity {
 
     @Id
@@ -31,6 +40,14 @@ public class MemberChatroom extends BaseDateTimeEntity {
 
     private LocalDateTime lastJoinDate;
 
+    // 안읽은 메시지 수, 동시에 전송된 메시지가 누락되지 않도록 update 쿼리로만 변경한다
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private int unreadCount;
+
+    // 채팅방 목록 정렬 기준 시각 (마지막 채팅 시각, 채팅이 없으면 입장 시각), update 쿼리로만 변경한다
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -52,6 +69,7 @@ public class MemberChatroom extends BaseDateTimeEntity {
     private MemberChatroom(LocalDateTime lastViewDate, LocalDateTime lastJoinDate, Member member, Chatroom chatroom) {
         this.lastViewDate = lastViewDate;
         this.lastJoinDate = lastJoinDate;
+        this.lastActivityAt = lastJoinDate;
         this.member = member;
         this.chatroom = chatroom;
     }
@@ -0,0 +1,27 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영 대기 중인 채팅방 읽음 처리
+ *
+ * @param memberChatroomId 회원-채팅방 id
+ * @param memberId         회원 id
+ * @param lastViewDate     읽은 시각
+ */
+public record ReadReceipt(
+        Long memberChatroomId,
+        Long memberId,
+        LocalDateTime lastViewDate) {
+
+    /**
+     * 같은 회원-채팅방의 두 읽음 처리 중 더 나중 시각의 읽음 처리
+     *
+     * @param other 다른 읽음 처리
+     * @return 읽은 시각이 더 나중인 읽음 처리
+     */
+    public ReadReceipt latest(ReadReceipt other) {
+        return other.lastViewDate.isAfter(lastViewDate) ? other : this;
+    }
+
+}
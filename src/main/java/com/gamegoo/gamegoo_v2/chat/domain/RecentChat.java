@@ -0,0 +1,49 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 최근 메시지 캐시 및 보관 메시지 블록에 담는 메시지 정보
+ *
+ * @param id            채팅 id
+ * @param contents      메시지 내용
+ * @param timestamp     채팅 timestamp
+ * @param systemType    시스템 메시지 타입 (회원 메시지면 null)
+ * @param createdAt     생성 시각
+ * @param fromMemberId  보낸 회원 id
+ * @param toMemberId    시스템 메시지를 받는 회원 id (모두에게 보이는 메시지면 null)
+ * @param sourceBoardId 시스템 메시지의 게시글 id
+ */
+public record RecentChat(
+        Long id,
+        String contents,
+        long timestamp,
+        Integer systemType,
+        LocalDateTime createdAt,
+        Long fromMemberId,
+        Long toMemberId,
+        Long sourceBoardId) {
+
+    public static RecentChat from(Chat chat) {
+        return new RecentChat(
+                chat.getId(),
+                chat.getContents(),
+                chat.getTimestamp(),
+                chat.getSystemType(),
+                chat.getCreatedAt(),
+                chat.getFromMember().getId(),
+                chat.getToMember() != null ? chat.getToMember().getId() : null,
+                chat.getSourceBoard() != null ? chat.getSourceBoard().getId() : null);
+    }
+
+    /**
+     * 회원에게 보이는 메시지인지 여부 (회원 메시지 또는 해당 회원이 받은 시스템 메시지)
+     *
+     * @param memberId 회원 id
+     * @return 보이는 메시지면 true
+     */
+    public boolean isVisibleTo(Long memberId) {
+        return toMemberId == null || toMemberId.equals(memberId);
+    }
+
+}
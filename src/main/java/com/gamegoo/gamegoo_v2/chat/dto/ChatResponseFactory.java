@@ -2,6 +2,7 @@ package com.gamegoo.gamegoo_v2.chat.dto;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomSummaryDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageListResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageResponse;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -48,6 +50,29 @@ public class ChatResponseFactory {
                 .build();
     }
 
+    public ChatMessageListResponse toChatMessageListResponse(Slice<RecentChat> recentChatSlice,
+                                                             Map<Long, Member> senderMap) {
+        List<ChatMessageResponse> chatMessageResponseList = recentChatSlice.stream()
+                .map(recentChat -> {
+                    if (recentChat.systemType() == null) {
+                        return ChatMessageResponse.of(recentChat, senderMap.get(recentChat.fromMemberId()));
+                    }
+                    return SystemMessageResponse.of(recentChat);
+                })
+                .toList();
+
+        Long nextCursor = recentChatSlice.hasNext()
+                ? recentChatSlice.getContent().get(0).timestamp()
+                : null;
+
+        return ChatMessageListResponse.builder()
+                .chatMessageList(chatMessageResponseList)
+                .listSize(chatMessageResponseList.size())
+                .hasNext(recentChatSlice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public ChatMessageListResponse toChatMessageListResponse() {
         return ChatMessageListResponse.builder()
                 .chatMessageList(new ArrayList<>())
@@ -0,0 +1,23 @@
+package com.gamegoo.gamegoo_v2.chat.dto.data;
+
+public interface ChatSendContextDTO {
+
+    Long getChatroomId();
+
+    String getMemberName();
+
+    Integer getMemberImg();
+
+    String getBanType();
+
+    Long getTargetMemberId();
+
+    Integer getMemberExited();
+
+    Integer getTargetExited();
+
+    Integer getTargetBlind();
+
+    Integer getBlocked();
+
+}
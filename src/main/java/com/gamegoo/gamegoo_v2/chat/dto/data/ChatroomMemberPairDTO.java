@@ -0,0 +1,11 @@
+package com.gamegoo.gamegoo_v2.chat.dto.data;
+
+public interface ChatroomMemberPairDTO {
+
+    Long getChatroomId();
+
+    Long getLowMemberId();
+
+    Long getHighMemberId();
+
+}
@@ -34,4 +34,15 @@ public class ChatCreateResponse {
                 .build();
     }
 
+    public static ChatCreateResponse of(Chat chat, Long senderId, String senderName, int senderProfileImg) {
+        return ChatCreateResponse.builder()
+                .senderId(senderId)
+                .senderName(senderName)
+                .senderProfileImg(senderProfileImg)
+                .message(chat.getContents())
+                .createdAt(DateTimeUtil.toKSTString(chat.getCreatedAt()))
+                .timestamp(chat.getTimestamp())
+                .build();
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.gamegoo.gamegoo_v2.chat.dto.response;
 
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.utils.DateTimeUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -36,4 +38,19 @@ public class ChatMessageResponse {
                 .build();
     }
 
+    public static ChatMessageResponse of(RecentChat recentChat, Member sender) {
+        String senderName = sender.getBlind()
+                ? "(탈퇴한 사용자)"
+                : sender.getGameName();
+
+        return ChatMessageResponse.builder()
+                .senderId(recentChat.fromMemberId())
+                .senderName(senderName)
+                .senderProfileImg(sender.getProfileImage())
+                .message(recentChat.contents())
+                .createdAt(DateTimeUtil.toKSTString(recentChat.createdAt()))
+                .timestamp(recentChat.timestamp())
+                .build();
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.chat.dto.response;
 
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.utils.DateTimeUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -31,4 +32,17 @@ public class SystemMessageResponse extends ChatMessageResponse {
                 .build();
     }
 
+    public static SystemMessageResponse of(RecentChat recentChat) {
+        return SystemMessageResponse.builder()
+                .senderId(recentChat.fromMemberId())
+                .senderName(null)
+                .senderProfileImg(null)
+                .message(recentChat.contents())
+                .createdAt(DateTimeUtil.toKSTString(recentChat.createdAt()))
+                .timestamp(recentChat.timestamp())
+                .boardId(recentChat.sourceBoardId())
+                .systemType(recentChat.systemType())
+                .build();
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.gamegoo.gamegoo_v2.chat.repository;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ChatArchiveBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ChatArchiveBlockRepository extends JpaRepository<ChatArchiveBlock, Long> {
+
+    /**
+     * timestamp보다 먼저 생성된 메시지를 담은 블록 중 가장 최근 블록 조회
+     */
+    Optional<ChatArchiveBlock> findFirstByChatroomIdAndMinTimestampLessThanOrderByMinTimestampDesc(Long chatroomId,
+                                                                                                  long timestamp);
+
+    /**
+     * timestamp가 블록의 timestamp 범위에 포함되는 블록 조회
+     */
+    Optional<ChatArchiveBlock> findFirstByChatroomIdAndMinTimestampLessThanEqualAndMaxTimestampGreaterThanEqual(
+            Long chatroomId, long minTimestamp, long maxTimestamp);
+
+}
@@ -2,8 +2,14 @@ package com.gamegoo.gamegoo_v2.chat.repository;
 
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +19,56 @@ public interface ChatRepository extends JpaRepository<Chat, Long>, ChatRepositor
 
     Optional<Chat> findByChatroomAndTimestamp(Chatroom chatroom, Long timestamp);
 
+    @Query("""
+            SELECT new com.gamegoo.gamegoo_v2.chat.domain.RecentChat(
+                c.id, c.contents, c.timestamp, c.systemType, c.createdAt, fm.id, tm.id, sb.id)
+            FROM Chat c
+            JOIN c.fromMember fm
+            LEFT JOIN c.toMember tm
+            LEFT JOIN c.sourceBoard sb
+            WHERE c.chatroom.id = :chatroomId
+            ORDER BY c.createdAt DESC
+            """)
+    List<RecentChat> findRecentChatsByChatroomId(@Param("chatroomId") Long chatroomId, Pageable pageable);
+
+    /**
+     * createdAt 이전에 생성된 메시지가 있는 채팅방 id 목록 조회 (채팅방 id 오름차순)
+     */
+    @Query(value = """
+            SELECT DISTINCT c.chatroom_id
+            FROM chat c
+            WHERE c.chatroom_id > :lastId
+              AND c.created_at < :createdAt
+            ORDER BY c.chatroom_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findChatroomIdsWithChatsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("lastId") Long lastId,
+                                              @Param("limit") int limit);
+
+    /**
+     * 보관 테이블로 옮길 메시지 조회 (createdAt 오름차순)
+     * 채팅방의 마지막 메시지는 채팅방 목록에서 참조하므로 제외한다.
+     */
+    @Query("""
+            SELECT new com.gamegoo.gamegoo_v2.chat.domain.RecentChat(
+                c.id, c.contents, c.timestamp, c.systemType, c.createdAt, fm.id, tm.id, sb.id)
+            FROM Chat c
+            JOIN c.fromMember fm
+            LEFT JOIN c.toMember tm
+            LEFT JOIN c.sourceBoard sb
+            WHERE c.chatroom.id = :chatroomId
+              AND c.createdAt < :createdAt
+              AND c.id <> :excludedChatId
+            ORDER BY c.createdAt ASC, c.id ASC
+            """)
+    List<RecentChat> findArchivableChats(@Param("chatroomId") Long chatroomId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("excludedChatId") Long excludedChatId,
+                                         Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Chat c WHERE c.id IN :chatIds")
+    int deleteAllByIds(@Param("chatIds") List<Long> chatIds);
+
 }
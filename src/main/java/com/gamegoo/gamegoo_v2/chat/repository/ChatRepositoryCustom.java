@@ -3,8 +3,13 @@ package com.gamegoo.gamegoo_v2.chat.repository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+
 public interface ChatRepositoryCustom {
 
+    // 최근 메시지 조회 시 안읽은 메시지만 리턴하는 경우의 최대 개수, 그 이전 메시지는 cursor 기반 조회로 이어서 조회
+    int MAX_UNREAD_CHATS = 300;
+
     /**
      * 최근 메시지 조회
      *
@@ -35,4 +40,13 @@ public interface ChatRepositoryCustom {
      */
     int countUnreadChats(Long chatroomId, Long memberId);
 
+    /**
+     * 해당 채팅방에 from 이후(포함)에 생성된 메시지 개수
+     *
+     * @param chatroomId 채팅방 id
+     * @param from       기준 시각 (null이면 채팅방의 전체 메시지 개수)
+     * @return 메시지 개수
+     */
+    long countChatsCreatedSince(Long chatroomId, LocalDateTime from);
+
 }
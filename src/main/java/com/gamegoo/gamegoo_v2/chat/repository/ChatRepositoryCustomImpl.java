@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,55 +25,57 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
 
     @Override
     public Slice<Chat> findRecentChats(Long chatroomId, Long memberId, int pageSize) {
-        // 안읽은 메시지 모두 조회
-        List<Chat> unreadChats = queryFactory.selectFrom(chat)
-                .where(
-                        chat.chatroom.id.eq(chatroomId),
-                        createdAtGreaterThanLastViewDateSubQuery(memberId),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
-                        isMemberMessageOrMySystemMessage(memberId)
-                )
-                .orderBy(chat.createdAt.desc())
-                .fetch();
-
-        if (unreadChats.size() >= pageSize) { // 안읽은 메시지 개수가 pageSize 이상인 경우, 안읽은 메시지만 모두 리턴
-            Chat oldestUnreadChat = unreadChats.get(unreadChats.size() - 1);
-            boolean hasNext = hasNextChat(oldestUnreadChat, memberId);
-
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(unreadChats);
-
-            return new SliceImpl<>(unreadChats, Pageable.unpaged(), hasNext);
-        } else { // 안읽은 메시지가 20개 미만인 경우, 최근 메시지 20개를 조회해 리턴
-            List<Chat> chats = queryFactory.selectFrom(chat)
-                    .where(
-                            chat.chatroom.id.eq(chatroomId),
-                            createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
-                            isMemberMessageOrMySystemMessage(memberId)
-                    )
-                    .orderBy(chat.createdAt.desc())
-                    .limit(pageSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
-                    .fetch();
-
-            boolean hasNext = chats.size() > pageSize;
-            if (hasNext) {
-                chats.remove(chats.size() - 1);
-            }
-
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(chats);
-
-            return new SliceImpl<>(chats, Pageable.unpaged(), hasNext);
+        Tuple dates = findMemberChatroomDates(chatroomId, memberId);
+        if (dates == null || dates.get(memberChatroom.lastJoinDate) == null) {
+            return new SliceImpl<>(new ArrayList<>(), Pageable.unpaged(), false);
+        }
+        LocalDateTime lastViewDate = dates.get(memberChatroom.lastViewDate);
+        LocalDateTime lastJoinDate = dates.get(memberChatroom.lastJoinDate);
+        Integer unreadCount = dates.get(memberChatroom.unreadCount);
+
+        // 안읽은 메시지 개수 컬럼을 기준으로 조회 개수를 정하고, 최근 메시지를 한 번에 조회
+        // 다음 페이지가 있는지 확인하기 위해 +1
+        int limit = Math.min(Math.max(pageSize, unreadCount != null ? unreadCount : 0), MAX_UNREAD_CHATS);
+        List<Chat> chats = findLatestChats(chatroomId, memberId, lastJoinDate, limit + 1);
+        int unreadSize = countUnread(chats, lastViewDate);
+
+        // 조회한 메시지가 모두 안읽은 메시지인 경우, 최대 개수까지 다시 조회
+        if (unreadSize == chats.size() && chats.size() > limit && limit < MAX_UNREAD_CHATS) {
+            limit = MAX_UNREAD_CHATS;
+            chats = findLatestChats(chatroomId, memberId, lastJoinDate, limit + 1);
+            unreadSize = countUnread(chats, lastViewDate);
         }
+
+        // 안읽은 메시지 개수가 pageSize 이상인 경우 안읽은 메시지만, 그렇지 않은 경우 최근 메시지 pageSize개를 리턴
+        int size = unreadSize >= pageSize
+                ? Math.min(unreadSize, limit)
+                : Math.min(pageSize, chats.size());
+
+        // chat 테이블의 메시지를 모두 조회한 경우, 입장 이후의 보관된 메시지가 있으면 cursor 기반 조회로 이어서 조회
+        LocalDateTime archivedUntil = dates.get(memberChatroom.chatroom.archivedUntil);
+        boolean hasNext = chats.size() > size
+                || (size > 0 && archivedUntil != null && !archivedUntil.isBefore(lastJoinDate));
+
+        List<Chat> result = new ArrayList<>(chats.subList(0, size));
+
+        // createdAt 오름차순으로 정렬
+        Collections.reverse(result);
+
+        return new SliceImpl<>(result, Pageable.unpaged(), hasNext);
     }
 
     @Override
     public Slice<Chat> findChatsByCursor(Long cursor, Long chatroomId, Long memberId, int pageSize) {
+        Tuple dates = findMemberChatroomDates(chatroomId, memberId);
+        if (dates == null || dates.get(memberChatroom.lastJoinDate) == null) {
+            return new SliceImpl<>(new ArrayList<>(), Pageable.unpaged(), false);
+        }
+
         List<Chat> chats = queryFactory.selectFrom(chat)
                 .where(
                         chat.chatroom.id.eq(chatroomId),
                         createdBefore(cursor),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
+                        chat.createdAt.goe(dates.get(memberChatroom.lastJoinDate)),
                         isMemberMessageOrMySystemMessage(memberId)
                 )
                 .orderBy(chat.createdAt.desc())
@@ -109,26 +113,74 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
         return result != null ? result.intValue() : 0;
     }
 
+    @Override
+    public long countChatsCreatedSince(Long chatroomId, LocalDateTime from) {
+        Long result = queryFactory.select(chat.count())
+                .from(chat)
+                .where(
+                        chat.chatroom.id.eq(chatroomId),
+                        from != null ? chat.createdAt.goe(from) : null
+                )
+                .fetchOne();
+
+        return result != null ? result : 0L;
+    }
+
     /**
-     * cursorChat 보다 예전 메시지가 있는지 여부를 반환
+     * 회원의 채팅방 lastViewDate, lastJoinDate, 안읽은 메시지 개수, 채팅방의 메시지 보관 시각 조회
      *
-     * @param cursorChat
-     * @param memberId
-     * @return
+     * @param chatroomId 채팅방 id
+     * @param memberId   회원 id
+     * @return 조회 결과, MemberChatroom이 없으면 null
      */
-    private boolean hasNextChat(Chat cursorChat, Long memberId) {
-        Chat fetch = queryFactory.selectFrom(chat)
+    private Tuple findMemberChatroomDates(Long chatroomId, Long memberId) {
+        return queryFactory.select(memberChatroom.lastViewDate, memberChatroom.lastJoinDate,
+                        memberChatroom.unreadCount, memberChatroom.chatroom.archivedUntil)
+                .from(memberChatroom)
                 .where(
-                        chat.chatroom.id.eq(cursorChat.getChatroom().getId()),
-                        createdBefore(cursorChat.getTimestamp()),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
+                        memberChatroom.chatroom.id.eq(chatroomId),
+                        memberChatroom.member.id.eq(memberId)
+                )
+                .fetchFirst();
+    }
+
+    /**
+     * lastJoinDate 이후에 생성된 메시지를 최신순으로 limit개 조회
+     *
+     * @param chatroomId   채팅방 id
+     * @param memberId     회원 id
+     * @param lastJoinDate 채팅방 입장 시각
+     * @param limit        최대 조회 개수
+     * @return 메시지 목록 (createdAt 내림차순)
+     */
+    private List<Chat> findLatestChats(Long chatroomId, Long memberId, LocalDateTime lastJoinDate, int limit) {
+        return queryFactory.selectFrom(chat)
+                .where(
+                        chat.chatroom.id.eq(chatroomId),
+                        chat.createdAt.goe(lastJoinDate),
                         isMemberMessageOrMySystemMessage(memberId)
                 )
                 .orderBy(chat.createdAt.desc())
-                .limit(1)
-                .fetchOne();
+                .limit(limit)
+                .fetch();
+    }
 
-        return fetch != null;
+    /**
+     * createdAt 내림차순 메시지 목록 앞쪽의 안읽은 메시지 개수를 반환
+     *
+     * @param chats        메시지 목록 (createdAt 내림차순)
+     * @param lastViewDate 마지막으로 메시지를 읽은 시각
+     * @return 안읽은 메시지 개수
+     */
+    private static int countUnread(List<Chat> chats, LocalDateTime lastViewDate) {
+        if (lastViewDate == null) {
+            return chats.size();
+        }
+        int count = 0;
+        while (count < chats.size() && chats.get(count).getCreatedAt().isAfter(lastViewDate)) {
+            count++;
+        }
+        return count;
     }
 
     //--- BooleanExpression ---//
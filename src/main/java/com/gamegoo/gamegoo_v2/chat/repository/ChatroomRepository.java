@@ -1,12 +1,18 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatSendContextDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomSummaryDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomTargetDTO;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,21 +20,37 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Long>, Chatr
 
     Optional<Chatroom> findByUuid(String uuid);
 
+    Optional<Chatroom> findByLowMemberIdAndHighMemberId(Long lowMemberId, Long highMemberId);
+
+    /**
+     * 회원 쌍의 채팅방 잠금 조회
+     * 잠금 조회는 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 채팅방도 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Chatroom c WHERE c.lowMemberId = :lowMemberId AND c.highMemberId = :highMemberId")
+    Optional<Chatroom> findByMemberPairForUpdate(@Param("lowMemberId") Long lowMemberId,
+                                                 @Param("highMemberId") Long highMemberId);
+
+    boolean existsByLowMemberIdAndHighMemberId(Long lowMemberId, Long highMemberId);
+
+    @Query("SELECT c.id FROM Chatroom c WHERE c.lowMemberId IS NULL AND c.id > :lastId ORDER BY c.id")
+    List<Long> findIdsWithoutMemberPair(@Param("lastId") Long lastId, Pageable pageable);
+
     @Query(value = """
             SELECT
                 cr.chatroom_id AS chatroomId,
                 cr.uuid AS chatroomUuid,
-                COUNT(uc.chat_id) AS unreadCnt,
+                mc.unread_count AS unreadCnt,
                 c.contents AS lastChat,
                 cr.last_chat_at AS lastChatAt,
                 c.timestamp AS lastChatTimestamp,
-                MIN(m_other.member_id) AS targetMemberId,
+                m_other.member_id AS targetMemberId,
                 m_other.game_name AS targetMemberName,
                 m_other.profile_image AS targetMemberImg,
                 m_other.tag AS tag,
                 m_other.blind AS blind
-            FROM chatroom cr
-            JOIN member_chatroom mc
+            FROM member_chatroom mc
+            JOIN chatroom cr
               ON cr.chatroom_id = mc.chatroom_id
             LEFT JOIN member_chatroom mc_other
               ON mc_other.chatroom_id = cr.chatroom_id
@@ -37,20 +59,9 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Long>, Chatr
               ON m_other.member_id = mc_other.member_id
             LEFT JOIN chat c
               ON cr.last_chat_id = c.chat_id
-            LEFT JOIN (
-                SELECT c.chat_id, c.chatroom_id
-                FROM chat c
-                JOIN member_chatroom mcx ON mcx.chatroom_id = c.chatroom_id
-                WHERE mcx.member_id = :memberId
-                  AND c.created_at >= IFNULL(mcx.last_view_date, mcx.created_at)
-                  AND c.created_at >= mcx.last_join_date
-                  AND IFNULL(c.to_member_id, :memberId) = :memberId
-                  AND c.from_member_id != :memberId
-            ) uc ON uc.chatroom_id = cr.chatroom_id
             WHERE mc.member_id = :memberId
               AND mc.last_join_date IS NOT NULL
-            GROUP BY cr.chatroom_id, m_other.game_name, m_other.profile_image
-            ORDER BY IFNULL(MAX(cr.last_chat_at), MAX(mc.last_join_date)) DESC;
+            ORDER BY mc.last_activity_at DESC, mc.member_chatroom_id DESC;
             """, nativeQuery = true)
     List<ChatroomSummaryDTO> findChatroomSummariedByMemberId(@Param("memberId") Long memberId);
 
@@ -72,4 +83,63 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Long>, Chatr
     List<ChatroomTargetDTO> findChatroomTargetsByMemberId(@Param("memberId") Long memberId,
                                                           @Param("targetMemberIds") List<Long> targetMemberIds);
 
+    @Query(value = """
+            SELECT
+                cr.chatroom_id AS chatroomId,
+                m.game_name AS memberName,
+                m.profile_image AS memberImg,
+                m.ban_type AS banType,
+                mc_other.member_id AS targetMemberId,
+                CASE WHEN mc.last_join_date IS NULL THEN 1 ELSE 0 END AS memberExited,
+                CASE WHEN mc_other.last_join_date IS NULL THEN 1 ELSE 0 END AS targetExited,
+                CASE WHEN m_other.blind = TRUE THEN 1 ELSE 0 END AS targetBlind,
+                CASE WHEN EXISTS (
+                    SELECT 1
+                    FROM block b
+                    WHERE b.deleted = FALSE
+                      AND ((b.blocker_id = :memberId AND b.blocked_id = mc_other.member_id)
+                        OR (b.blocker_id = mc_other.member_id AND b.blocked_id = :memberId))
+                ) THEN 1 ELSE 0 END AS blocked
+            FROM chatroom cr
+            JOIN member_chatroom mc
+              ON mc.chatroom_id = cr.chatroom_id
+             AND mc.member_id = :memberId
+            JOIN member m
+              ON m.member_id = mc.member_id
+            JOIN member_chatroom mc_other
+              ON mc_other.chatroom_id = cr.chatroom_id
+             AND mc_other.member_id != :memberId
+            JOIN member m_other
+              ON m_other.member_id = mc_other.member_id
+            WHERE cr.uuid = :uuid
+            """, nativeQuery = true)
+    Optional<ChatSendContextDTO> findChatSendContext(@Param("uuid") String uuid, @Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE chatroom
+            SET last_chat_id = :chatId, last_chat_at = :lastChatAt, updated_at = :lastChatAt
+            WHERE chatroom_id = :chatroomId
+            """, nativeQuery = true)
+    void updateLastChat(@Param("chatroomId") Long chatroomId, @Param("chatId") Long chatId,
+                        @Param("lastChatAt") LocalDateTime lastChatAt);
+
+    /**
+     * 채팅방의 마지막 채팅 id 조회, 마지막 채팅이 없으면 0
+     */
+    @Query("SELECT COALESCE(c.lastChatId, 0) FROM Chatroom c WHERE c.id = :chatroomId")
+    Optional<Long> findLastChatIdOrZero(@Param("chatroomId") Long chatroomId);
+
+    /**
+     * 채팅방의 보관된 메시지 중 가장 최근 메시지의 생성 시각 업데이트, 기존 값보다 이전 시각이면 유지
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE chatroom
+            SET archived_until = GREATEST(COALESCE(archived_until, :archivedUntil), :archivedUntil)
+            WHERE chatroom_id = :chatroomId
+            """, nativeQuery = true)
+    void updateArchivedUntil(@Param("chatroomId") Long chatroomId,
+                             @Param("archivedUntil") LocalDateTime archivedUntil);
+
 }
@@ -2,11 +2,15 @@ package com.gamegoo.gamegoo_v2.chat.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomMemberPairDTO;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +18,15 @@ public interface MemberChatroomRepository extends JpaRepository<MemberChatroom,
 
     Optional<MemberChatroom> findByMemberIdAndChatroomId(Long memberId, Long chatroomId);
 
+    /**
+     * 회원-채팅방 잠금 조회
+     * 잠금 조회는 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 회원-채팅방도 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mc FROM MemberChatroom mc WHERE mc.member.id = :memberId AND mc.chatroom.id = :chatroomId")
+    Optional<MemberChatroom> findByMemberIdAndChatroomIdForUpdate(@Param("memberId") Long memberId,
+                                                                  @Param("chatroomId") Long chatroomId);
+
     @Query("""
             SELECT mc.member
             FROM MemberChatroom mc
@@ -23,10 +36,157 @@ public interface MemberChatroomRepository extends JpaRepository<MemberChatroom,
     Optional<Member> findTargetMemberByChatroomIdAndMemberId(@Param("chatroomId") Long chatroomId,
                                                              @Param("memberId") Long memberId);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE MemberChatroom mc SET mc.lastJoinDate = null where mc.member = :member")
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom
+            SET last_join_date = NULL, unread_count = 0
+            WHERE member_id = :#{#member.id}
+            """, nativeQuery = true)
     void updateLastJoinDateToNullByMember(@Param("member") Member member);
 
     List<MemberChatroom> findAllByMemberId(Long memberId);
 
+    List<MemberChatroom> findAllByChatroomId(Long chatroomId);
+
+    @Query("""
+            SELECT mc.chatroom.id AS chatroomId,
+                   MIN(mc.member.id) AS lowMemberId,
+                   MAX(mc.member.id) AS highMemberId
+            FROM MemberChatroom mc
+            WHERE mc.chatroom.id IN :chatroomIds
+            GROUP BY mc.chatroom.id
+            HAVING COUNT(mc) = 2
+            """)
+    List<ChatroomMemberPairDTO> findMemberPairsByChatroomIds(@Param("chatroomIds") List<Long> chatroomIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom
+            SET last_view_date = CASE WHEN member_id = :memberId THEN :chatAt ELSE last_view_date END,
+                unread_count = CASE
+                    WHEN member_id = :memberId THEN 0
+                    WHEN last_join_date IS NULL THEN 1
+                    ELSE unread_count + 1
+                END,
+                last_join_date = COALESCE(last_join_date, :chatAt),
+                last_activity_at = :chatAt,
+                updated_at = :chatAt
+            WHERE chatroom_id = :chatroomId
+            """, nativeQuery = true)
+    void updateDatesByAddChat(@Param("chatroomId") Long chatroomId, @Param("memberId") Long memberId,
+                              @Param("chatAt") LocalDateTime chatAt);
+
+    @Query("""
+            SELECT mc.chatroom.uuid
+            FROM MemberChatroom mc
+            WHERE mc.member.id = :memberId
+            AND mc.unreadCount > 0
+            AND mc.lastJoinDate IS NOT NULL
+            """)
+    List<String> findUnreadChatroomUuidsByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom
+            SET unread_count = unread_count + 1
+            WHERE chatroom_id = :chatroomId
+              AND member_id = :memberId
+              AND last_join_date IS NOT NULL
+            """, nativeQuery = true)
+    void increaseUnreadCount(@Param("chatroomId") Long chatroomId, @Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom
+            SET unread_count = unread_count + 1
+            WHERE chatroom_id = :chatroomId
+              AND member_id != :senderId
+              AND last_join_date IS NOT NULL
+            """, nativeQuery = true)
+    void increaseUnreadCountOfReceivers(@Param("chatroomId") Long chatroomId, @Param("senderId") Long senderId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE member_chatroom SET unread_count = 0 WHERE member_chatroom_id = :memberChatroomId",
+            nativeQuery = true)
+    void resetUnreadCount(@Param("memberChatroomId") Long memberChatroomId);
+
+    /**
+     * lastViewDate 이후에 생성된 안읽은 메시지가 없을 때만 안읽은 메시지 수 초기화
+     * 조회 시점의 채팅방 마지막 채팅 시각이 오래된 값이어도 그 사이에 전송된 메시지를 지우지 않도록 chat 테이블로 확인한다.
+     *
+     * @return 초기화된 행 수 (안읽은 메시지가 있으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom mc
+            SET unread_count = 0
+            WHERE mc.member_chatroom_id = :memberChatroomId
+              AND NOT EXISTS (
+                SELECT 1
+                FROM chat c
+                WHERE c.chatroom_id = mc.chatroom_id
+                  AND c.from_member_id != mc.member_id
+                  AND (c.to_member_id IS NULL OR c.to_member_id = mc.member_id)
+                  AND c.created_at > :lastViewDate
+              )
+            """, nativeQuery = true)
+    int resetUnreadCountIfRead(@Param("memberChatroomId") Long memberChatroomId,
+                               @Param("lastViewDate") LocalDateTime lastViewDate);
+
+    @Query(value = """
+            SELECT member_chatroom_id
+            FROM member_chatroom
+            WHERE member_chatroom_id > :lastId
+            ORDER BY member_chatroom_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 안읽은 메시지 수를 chat 테이블 기준으로 다시 계산
+     * lastViewDate 이후, lastJoinDate 이후에 생성된 메시지 중 상대 회원이 보냈거나 나에게 온 시스템 메시지 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom mc
+            SET unread_count = CASE WHEN mc.last_join_date IS NULL THEN 0 ELSE (
+                SELECT COUNT(*)
+                FROM chat c
+                WHERE c.chatroom_id = mc.chatroom_id
+                  AND c.from_member_id != mc.member_id
+                  AND (c.to_member_id IS NULL OR c.to_member_id = mc.member_id)
+                  AND (mc.last_view_date IS NULL OR c.created_at > mc.last_view_date)
+                  AND c.created_at >= mc.last_join_date
+            ) END
+            WHERE mc.member_chatroom_id IN (:memberChatroomIds)
+            """, nativeQuery = true)
+    int recomputeUnreadCounts(@Param("memberChatroomIds") List<Long> memberChatroomIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE member_chatroom SET last_activity_at = :lastActivityAt WHERE chatroom_id = :chatroomId",
+            nativeQuery = true)
+    void updateLastActivityAt(@Param("chatroomId") Long chatroomId,
+                              @Param("lastActivityAt") LocalDateTime lastActivityAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE member_chatroom mc
+            SET last_activity_at = COALESCE(
+                (SELECT cr.last_chat_at FROM chatroom cr WHERE cr.chatroom_id = mc.chatroom_id),
+                mc.last_join_date)
+            WHERE mc.member_chatroom_id = :memberChatroomId
+            """, nativeQuery = true)
+    void refreshLastActivityAt(@Param("memberChatroomId") Long memberChatroomId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE member_chatroom mc
+            SET last_activity_at = COALESCE(
+                (SELECT cr.last_chat_at FROM chatroom cr WHERE cr.chatroom_id = mc.chatroom_id),
+                mc.last_join_date)
+            WHERE mc.last_activity_at IS NULL
+              AND mc.last_join_date IS NOT NULL
+            """, nativeQuery = true)
+    int backfillLastActivityAt();
+
 }
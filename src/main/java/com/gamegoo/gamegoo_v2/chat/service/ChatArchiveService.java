@@ -0,0 +1,148 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ChatArchiveBlock;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatArchiveBlockRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅 메시지 보관
+ * <p>
+ * 오래된 메시지를 채팅방별로 묶어 chat_archive_block 테이블에 압축 보관하고 chat 테이블에서 삭제한다. 채팅방 회원 모두가 읽은 메시지만 옮기며, 채팅방의
+ * 마지막 메시지는 옮기지 않는다. 채팅방마다 보관된 메시지는 chat 테이블에 남은 메시지보다 항상 먼저 생성된 메시지이므로, 메시지 내역 조회는 chat 테이블의 메시지를 모두
+ * 조회한 뒤에 보관 테이블로 이어서 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatArchiveService {
+
+    private final ChatRepository chatRepository;
+    private final ChatroomRepository chatroomRepository;
+    private final MemberChatroomRepository memberChatroomRepository;
+    private final ChatArchiveBlockRepository chatArchiveBlockRepository;
+
+    /**
+     * 보관할 메시지가 있을 수 있는 채팅방 id 목록 조회
+     *
+     * @param cutoff 보관 기준 시각
+     * @param lastId 이전 batch의 마지막 채팅방 id
+     * @param limit  최대 조회 수
+     * @return 채팅방 id 목록 (오름차순)
+     */
+    public List<Long> findArchivableChatroomIds(LocalDateTime cutoff, Long lastId, int limit) {
+        return chatRepository.findChatroomIdsWithChatsBefore(cutoff, lastId, limit);
+    }
+
+    /**
+     * 채팅방의 오래된 메시지를 최대 blockSize개 보관 테이블로 이동
+     * cutoff 이전에 생성됐고 입장 중인 회원 모두가 읽은 메시지를 생성 순으로 옮긴다.
+     *
+     * @param chatroomId 채팅방 id
+     * @param cutoff     보관 기준 시각
+     * @param blockSize  블록 하나에 담을 최대 메시지 수
+     * @return 옮긴 메시지 수
+     */
+    @Transactional
+    public int archiveChatroom(Long chatroomId, LocalDateTime cutoff, int blockSize) {
+        // 채팅방 엔티티를 수정하면 전체 컬럼이 update되어 동시에 반영된 마지막 채팅을 덮어쓸 수 있으므로, 필요한 값만 조회하고 update
+        Optional<Long> lastChatId = chatroomRepository.findLastChatIdOrZero(chatroomId);
+        if (lastChatId.isEmpty()) {
+            return 0;
+        }
+
+        // 입장 중인 회원 모두가 읽은 시각까지만 보관
+        LocalDateTime archiveBefore = cutoff;
+        for (MemberChatroom memberChatroom : memberChatroomRepository.findAllByChatroomId(chatroomId)) {
+            if (memberChatroom.exited()) {
+                continue;
+            }
+            LocalDateTime lastViewDate = memberChatroom.getLastViewDate();
+            if (lastViewDate == null) {
+                return 0;
+            }
+            if (lastViewDate.isBefore(archiveBefore)) {
+                archiveBefore = lastViewDate;
+            }
+        }
+
+        List<RecentChat> chats = chatRepository.findArchivableChats(chatroomId, archiveBefore, lastChatId.get(),
+                PageRequest.of(0, blockSize));
+        if (chats.isEmpty()) {
+            return 0;
+        }
+
+        // 블록 저장 후 chat 테이블에서 삭제
+        chatArchiveBlockRepository.save(ChatArchiveBlock.create(chatroomId, chats));
+        chatRepository.deleteAllByIds(chats.stream().map(RecentChat::id).toList());
+        chatroomRepository.updateArchivedUntil(chatroomId, chats.get(chats.size() - 1).createdAt());
+        return chats.size();
+    }
+
+    /**
+     * 보관된 메시지 내역 조회
+     * timestamp가 before보다 작고 lastJoinDate 이후에 생성된 메시지 중 회원에게 보이는 메시지를 최신순으로 조회한다.
+     *
+     * @param chatroomId   채팅방 id
+     * @param memberId     회원 id
+     * @param before       기준 timestamp
+     * @param lastJoinDate 채팅방 입장 시각
+     * @param limit        최대 조회 개수
+     * @return 메시지 목록 (createdAt 내림차순)
+     */
+    public List<RecentChat> findArchivedChats(Long chatroomId, Long memberId, long before, LocalDateTime lastJoinDate,
+                                              int limit) {
+        List<RecentChat> result = new ArrayList<>(limit);
+        long blockBefore = before;
+        while (result.size() < limit) {
+            ChatArchiveBlock block = chatArchiveBlockRepository
+                    .findFirstByChatroomIdAndMinTimestampLessThanOrderByMinTimestampDesc(chatroomId, blockBefore)
+                    .orElse(null);
+            if (block == null || block.getLastChatCreatedAt().isBefore(lastJoinDate)) {
+                break;
+            }
+
+            List<RecentChat> chats = block.getChats();
+            for (int i = chats.size() - 1; i >= 0 && result.size() < limit; i--) {
+                RecentChat chat = chats.get(i);
+                if (chat.createdAt().isBefore(lastJoinDate)) {
+                    return result;
+                }
+                if (chat.timestamp() < before && chat.isVisibleTo(memberId)) {
+                    result.add(chat);
+                }
+            }
+            blockBefore = block.getMinTimestamp();
+        }
+        return result;
+    }
+
+    /**
+     * 해당 timestamp를 갖는 보관된 메시지 조회
+     *
+     * @param chatroomId 채팅방 id
+     * @param timestamp  채팅 timestamp
+     * @return 보관된 메시지, 없으면 empty
+     */
+    public Optional<RecentChat> findArchivedChat(Long chatroomId, long timestamp) {
+        return chatArchiveBlockRepository
+                .findFirstByChatroomIdAndMinTimestampLessThanEqualAndMaxTimestampGreaterThanEqual(chatroomId,
+                        timestamp, timestamp)
+                .flatMap(block -> block.getChats().stream()
+                        .filter(chat -> chat.timestamp() == timestamp)
+                        .findFirst());
+    }
+
+}
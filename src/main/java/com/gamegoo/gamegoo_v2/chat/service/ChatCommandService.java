@@ -5,7 +5,9 @@ import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.chat.domain.SystemMessageType;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatSendContextDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.request.SystemFlagRequest;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
@@ -19,12 +21,12 @@ import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +41,8 @@ public class ChatCommandService {
     private final ChatroomRepository chatroomRepository;
     private final BoardRepository boardRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ChatroomRecentChatCache chatroomRecentChatCache;
+    private final ChatroomSaver chatroomSaver;
 
 
     /**
@@ -50,8 +54,9 @@ public class ChatCommandService {
      * @return MemberChatroom
      */
     public MemberChatroom enterExistingChatroom(Member member, Member targetMember, Chatroom chatroom) {
+        // 다른 트랜잭션이 방금 생성한 채팅방일 수 있으므로 잠금 조회
         MemberChatroom memberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(member.getId(), chatroom.getId())
+                .findByMemberIdAndChatroomIdForUpdate(member.getId(), chatroom.getId())
                 .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
 
         // 내가 해당 채팅방을 퇴장한 상태인 경우
@@ -63,24 +68,37 @@ public class ChatCommandService {
 
         // lastViewDate 업데이트
         memberChatroom.updateLastViewDate(LocalDateTime.now());
+        memberChatroomRepository.resetUnreadCount(memberChatroom.getId());
 
         return memberChatroom;
     }
 
     /**
      * 회원과 상대 회원 사이 새로운 채팅방 생성 및 저장하는 메소드
+     * 채팅방은 별도의 트랜잭션에서 저장하며, 같은 회원 쌍의 채팅방이 동시에 생성되어 unique 제약에 걸리면 먼저 생성된 채팅방을 반환한다. 다른 트랜잭션이
+     * 커밋한 채팅방은 REPEATABLE READ의 일반 조회로는 보이지 않으므로 잠금 조회로 가져오며, 잠금은 회원-채팅방 저장이 끝날 때까지 같은 회원 쌍의 다른 요청을
+     * 기다리게 한다.
      *
      * @param member       회원
      * @param targetMember 상대 회원
      * @return Chatroom
      */
     public Chatroom createChatroom(Member member, Member targetMember) {
-        Chatroom chatroom = Chatroom.create(UUID.randomUUID().toString());
+        try {
+            chatroomSaver.save(member.getId(), targetMember.getId());
+        } catch (DataIntegrityViolationException e) {
+            if (!ChatroomSaver.isMemberPairConflict(e)) {
+                throw e;
+            }
+        }
 
-        chatroomRepository.save(chatroom);
+        Chatroom chatroom = chatroomRepository.findByMemberPairForUpdate(
+                        Math.min(member.getId(), targetMember.getId()), Math.max(member.getId(), targetMember.getId()))
+                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_NOT_FOUND));
 
-        createAndSaveMemberChatroom(member, chatroom, null);
-        createAndSaveMemberChatroom(targetMember, chatroom, null);
+        // 먼저 생성한 요청이 회원-채팅방 저장 전에 롤백된 경우를 포함해, 없는 회원-채팅방만 생성
+        createMemberChatroomIfAbsent(member, chatroom);
+        createMemberChatroomIfAbsent(targetMember, chatroom);
 
         return chatroom;
     }
@@ -94,7 +112,48 @@ public class ChatCommandService {
      * @return Chat
      */
     public Chat createMemberChat(Member member, Chatroom chatroom, String content) {
-        return chatRepository.save(Chat.create(content, null, chatroom, member, null, null));
+        Chat chat = chatRepository.save(Chat.create(content, null, chatroom, member, null, null));
+        chatroomRecentChatCache.append(chatroom.getId(), RecentChat.from(chat));
+
+        // 입장 상태인 상대 회원의 안읽은 메시지 수 증가
+        memberChatroomRepository.increaseUnreadCountOfReceivers(chatroom.getId(), member.getId());
+
+        return chat;
+    }
+
+    /**
+     * 조회해 둔 전송 정보로 회원 채팅 메시지 생성 및 저장
+     * 채팅 저장 후 두 회원의 memberChatroom 날짜와 채팅방의 마지막 채팅을 각각 한 번의 update로 반영하며, 퇴장 상태였던 회원에게는 socket join 이벤트를
+     * 발생시킨다.
+     *
+     * @param memberId 회원 id
+     * @param uuid     채팅방 uuid
+     * @param context  채팅 전송 정보
+     * @param content  메시지 내용
+     * @return Chat
+     */
+    public Chat createMemberChat(Long memberId, String uuid, ChatSendContextDTO context, String content) {
+        Member member = memberRepository.getReferenceById(memberId);
+        Chatroom chatroom = chatroomRepository.getReferenceById(context.getChatroomId());
+
+        Chat chat = chatRepository.save(Chat.create(content, null, chatroom, member, null, null));
+        chatroomRecentChatCache.append(context.getChatroomId(), RecentChat.from(chat));
+
+        // member의 lastViewDate, 두 회원의 lastJoinDate 업데이트
+        memberChatroomRepository.updateDatesByAddChat(context.getChatroomId(), memberId, chat.getCreatedAt());
+
+        // chatroom의 lastChatId, lastChatAt 업데이트
+        chatroomRepository.updateLastChat(context.getChatroomId(), chat.getId(), chat.getCreatedAt());
+
+        // socket join API 요청
+        if (context.getMemberExited() == 1) {
+            eventPublisher.publishEvent(new SocketJoinEvent(memberId, uuid));
+        }
+        if (context.getTargetExited() == 1) {
+            eventPublisher.publishEvent(new SocketJoinEvent(context.getTargetMemberId(), uuid));
+        }
+
+        return chat;
     }
 
     /**
@@ -166,6 +225,7 @@ public class ChatCommandService {
                 .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
 
         memberChatroom.updateLastViewDate(lastViewDate);
+        syncUnreadCountByLastViewDate(memberChatroom, chatroom, lastViewDate);
 
         return memberChatroom;
     }
@@ -205,6 +265,9 @@ public class ChatCommandService {
 
         // targetMember의 lastJoinDate 업데이트
         updateLastJoinDate(targetMember, chat.getChatroom().getId(), chat.getCreatedAt());
+
+        // member의 안읽은 메시지 수 초기화
+        memberChatroomRepository.resetUnreadCount(memberChatroom.getId());
     }
 
     /**
@@ -218,6 +281,19 @@ public class ChatCommandService {
         memberChatroomRepository.save(MemberChatroom.create(member, chatroom, lastJoinDate));
     }
 
+    /**
+     * 해당 회원 및 채팅방에 대한 MemberChatroom 엔티티가 없는 경우 생성 및 저장
+     *
+     * @param member   회원
+     * @param chatroom 채팅방
+     */
+    private void createMemberChatroomIfAbsent(Member member, Chatroom chatroom) {
+        if (memberChatroomRepository.findByMemberIdAndChatroomIdForUpdate(member.getId(), chatroom.getId())
+                .isEmpty()) {
+            createAndSaveMemberChatroom(member, chatroom, null);
+        }
+    }
+
     /**
      * 시스템 메시지 생성 및 저장
      *
@@ -232,12 +308,20 @@ public class ChatCommandService {
         Member systemMember = memberRepository.findById(0L)
                 .orElseThrow(() -> new ChatException(ErrorCode.SYSTEM_MEMBER_NOT_FOUND));
 
-        return chatRepository.save(Chat.create(content, systemType, chatroom, systemMember, toMember, sourceBoard));
+        Chat chat = chatRepository.save(Chat.create(content, systemType, chatroom, systemMember, toMember,
+                sourceBoard));
+        chatroomRecentChatCache.append(chatroom.getId(), RecentChat.from(chat));
+
+        // 입장 상태인 대상 회원의 안읽은 메시지 수 증가
+        memberChatroomRepository.increaseUnreadCount(chatroom.getId(), toMember.getId());
+
+        return chat;
     }
 
     /**
      * lastJoinDate 업데이트 메소드
      * 기존 lastJoinDate가 null인 경우 socket join 이벤트 발생
+     * 입장 시 안읽은 메시지 수를 다시 계산하고, 퇴장 시 0으로 초기화
      *
      * @param member         회원
      * @param memberChatroom 회원-채팅방
@@ -246,6 +330,8 @@ public class ChatCommandService {
     public void updateLastJoinDate(Member member, MemberChatroom memberChatroom, LocalDateTime date) {
         if (memberChatroom.getLastJoinDate() == null && date != null) {
             memberChatroom.updateLastJoinDate(date);
+            memberChatroomRepository.recomputeUnreadCounts(List.of(memberChatroom.getId()));
+            memberChatroomRepository.refreshLastActivityAt(memberChatroom.getId());
 
             // socket join API 요청
             eventPublisher.publishEvent(new SocketJoinEvent(member.getId(), memberChatroom.getChatroom().getUuid()));
@@ -253,6 +339,7 @@ public class ChatCommandService {
 
         if (memberChatroom.getLastJoinDate() != null && date == null) {
             memberChatroom.updateLastJoinDate(date);
+            memberChatroomRepository.resetUnreadCount(memberChatroom.getId());
         }
     }
 
@@ -265,8 +352,9 @@ public class ChatCommandService {
      * @param date       업데이트할 lastJoinDate 값
      */
     public void updateLastJoinDate(Member member, Long chatroomId, LocalDateTime date) {
+        // 다른 트랜잭션이 방금 생성한 채팅방일 수 있으므로 잠금 조회
         MemberChatroom memberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(member.getId(), chatroomId)
+                .findByMemberIdAndChatroomIdForUpdate(member.getId(), chatroomId)
                 .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
 
         updateLastJoinDate(member, memberChatroom, date);
@@ -282,6 +370,49 @@ public class ChatCommandService {
         memberChatroomRepository.updateLastJoinDateToNullByMember(member);
     }
 
+    /**
+     * lastViewDate 변경에 따른 안읽은 메시지 수 반영
+     * 마지막 채팅까지 읽은 경우 0으로 초기화하고, 중간 메시지까지 읽은 경우 다시 계산
+     * 조회해 둔 채팅방의 lastChatAt 이후에 다른 요청이 메시지를 보냈을 수 있으므로, 초기화는 lastViewDate 이후 메시지가 없을 때만 반영되고 아니면 다시 계산한다.
+     *
+     * @param memberChatroom 회원-채팅방
+     * @param chatroom       채팅방
+     * @param lastViewDate   변경된 lastViewDate
+     */
+    private void syncUnreadCountByLastViewDate(MemberChatroom memberChatroom, Chatroom chatroom,
+                                               LocalDateTime lastViewDate) {
+        if (chatroom.getLastChatAt() == null || !lastViewDate.isBefore(chatroom.getLastChatAt())) {
+            if (memberChatroomRepository.resetUnreadCountIfRead(memberChatroom.getId(), lastViewDate) > 0) {
+                return;
+            }
+        }
+        memberChatroomRepository.recomputeUnreadCounts(List.of(memberChatroom.getId()));
+    }
+
+    /**
+     * 안읽은 메시지 수를 chat 테이블 기준으로 다시 계산 (1 batch)
+     *
+     * @param lastId    이전 batch의 마지막 memberChatroom id
+     * @param batchSize 최대 처리 수
+     * @return 다시 계산한 memberChatroom id 목록
+     */
+    public List<Long> recomputeUnreadCounts(Long lastId, int batchSize) {
+        List<Long> memberChatroomIds = memberChatroomRepository.findIdsAfter(lastId, batchSize);
+        if (!memberChatroomIds.isEmpty()) {
+            memberChatroomRepository.recomputeUnreadCounts(memberChatroomIds);
+        }
+        return memberChatroomIds;
+    }
+
+    /**
+     * 채팅방 목록 정렬 기준 시각이 없는 입장 상태 memberChatroom 채우기
+     *
+     * @return 채운 memberChatroom 수
+     */
+    public int backfillLastActivityAt() {
+        return memberChatroomRepository.backfillLastActivityAt();
+    }
+
     /**
      * chatroom 엔티티의 lastChatId와 lastChatAt 업데이트 메소드
      *
@@ -291,6 +422,9 @@ public class ChatCommandService {
     public void updateLastChat(Chat chat, Chatroom chatroom) {
         chatroom.updateLastChatId(chat.getId());
         chatroom.updateLastChatAt(chat.getCreatedAt());
+
+        // 두 회원의 채팅방 목록 정렬 기준 시각 업데이트
+        memberChatroomRepository.updateLastActivityAt(chatroom.getId(), chat.getCreatedAt());
     }
 
 }
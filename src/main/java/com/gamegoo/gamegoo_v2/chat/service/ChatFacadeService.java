@@ -1,12 +1,16 @@
 package com.gamegoo.gamegoo_v2.chat.service;
 
+import com.gamegoo.gamegoo_v2.account.member.domain.BanType;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ReadReceipt;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.chat.domain.SystemMessageType;
 import com.gamegoo.gamegoo_v2.chat.dto.ChatResponseFactory;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatSendContextDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomSummaryDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomTargetDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
@@ -24,15 +28,19 @@ import com.gamegoo.gamegoo_v2.core.common.validator.MemberValidator;
 import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode.CHAT_ADD_FAILED_BLOCKED_BY_TARGET;
 import static com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode.CHAT_ADD_FAILED_TARGET_DEACTIVATED;
@@ -56,6 +64,11 @@ public class ChatFacadeService {
     private final ChatValidator chatValidator;
 
     private final ChatResponseFactory chatResponseFactory;
+    private final ReadReceiptCoalescer readReceiptCoalescer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.fast-send-enabled:true}")
+    private boolean fastSendEnabled;
 
 
     /**
@@ -66,8 +79,12 @@ public class ChatFacadeService {
      * @param targetMemberId 상대 회원 id
      * @return EnterChatroomResponse
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EnterChatroomResponse startChatroomByMemberId(Member member, Long targetMemberId) {
+        return executeRetryingOnDuplicateChatroom(() -> startChatroom(member, targetMemberId));
+    }
+
+    private EnterChatroomResponse startChatroom(Member member, Long targetMemberId) {
         // 대상 회원 검증
         Member targetMember = memberService.findMemberById(targetMemberId);
         memberValidator.throwIfEqual(member, targetMember);
@@ -92,10 +109,10 @@ public class ChatFacadeService {
         }
 
         // 채팅방에 입장 처리
-        chatCommandService.enterExistingChatroom(member, targetMember, chatroom);
+        MemberChatroom memberChatroom = chatCommandService.enterExistingChatroom(member, targetMember, chatroom);
 
         // 최근 메시지 내역 조회
-        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(member, chatroom);
+        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(memberChatroom);
 
         // 응답 dto 생성
         ChatMessageListResponse chatMessageListResponse = chatResponseFactory.toChatMessageListResponse(chatSlice);
@@ -112,8 +129,12 @@ public class ChatFacadeService {
      * @param boardId 게시글 id
      * @return EnterChatroomResponse
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EnterChatroomResponse startChatroomByBoardId(Member member, Long boardId) {
+        return executeRetryingOnDuplicateChatroom(() -> startChatroomByBoard(member, boardId));
+    }
+
+    private EnterChatroomResponse startChatroomByBoard(Member member, Long boardId) {
         // 채팅 제재 검증
         banValidator.throwIfBannedFromChatting(member);
 
@@ -134,7 +155,7 @@ public class ChatFacadeService {
         MemberChatroom memberChatroom = chatCommandService.enterExistingChatroom(member, targetMember, chatroom);
 
         // 최근 메시지 내역 조회
-        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(member, chatroom);
+        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(memberChatroom);
 
         // 응답 dto 생성
         ChatMessageListResponse chatMessageListResponse = chatResponseFactory.toChatMessageListResponse(chatSlice);
@@ -143,6 +164,38 @@ public class ChatFacadeService {
                 boardId, chatMessageListResponse);
     }
 
+    /**
+     * 채팅 시작 처리를 하나의 트랜잭션으로 실행
+     * 채팅방 생성 시의 회원 쌍 충돌은 채팅방 생성에서 처리하지만, 그 밖의 경로로 회원 쌍 unique 제약에 걸려 트랜잭션이 롤백되면 새 트랜잭션에서 한 번 더
+     * 실행해 먼저 생성된 채팅방에 입장 처리한다. 다른 제약 위반은 그대로 던진다.
+     */
+    private EnterChatroomResponse executeRetryingOnDuplicateChatroom(Supplier<EnterChatroomResponse> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (DataIntegrityViolationException e) {
+            if (!ChatroomSaver.isMemberPairConflict(e)) {
+                throw e;
+            }
+            return transactionTemplate.execute(status -> action.get());
+        }
+    }
+
+    /**
+     * 회원의 대기 중인 읽음 처리를 반영한 뒤 트랜잭션 실행
+     * 읽음 처리 반영은 새 트랜잭션에서 실행되므로, 요청 트랜잭션을 열기 전에 반영해 한 요청이 커넥션을 두 개 잡지 않도록 한다.
+     */
+    private <T> T executeAfterReadReceiptFlush(Member member, boolean readOnly, Supplier<T> action) {
+        // 대기 중인 읽음 처리 반영
+        readReceiptCoalescer.flushMember(member.getId());
+
+        TransactionTemplate template = transactionTemplate;
+        if (readOnly) {
+            template = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+            template.setReadOnly(true);
+        }
+        return template.execute(status -> action.get());
+    }
+
     /**
      * uuid에 해당하는 채팅방에 입장 처리 Facade 메소드
      *
@@ -150,8 +203,12 @@ public class ChatFacadeService {
      * @param uuid   채팅방 uuid
      * @return EnterChatroomResponse
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EnterChatroomResponse enterChatroomByUuid(Member member, String uuid) {
+        return executeAfterReadReceiptFlush(member, false, () -> enterChatroom(member, uuid));
+    }
+
+    private EnterChatroomResponse enterChatroom(Member member, String uuid) {
         // chatroom 엔티티 조회
         Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
 
@@ -161,14 +218,12 @@ public class ChatFacadeService {
         Member targetMember = chatQueryService.getChatroomTargetMember(member, chatroom);
 
         // 최근 메시지 내역 조회
-        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(member, chatroom);
+        ChatMessageListResponse chatMessageListResponse = getRecentChatMessages(member, chatroom,
+                () -> targetMember);
 
         // 채팅방에 입장 처리
         chatCommandService.enterExistingChatroom(member, targetMember, chatroom);
 
-        // 응답 dto 생성
-        ChatMessageListResponse chatMessageListResponse = chatResponseFactory.toChatMessageListResponse(chatSlice);
-
         return chatResponseFactory.toEnterChatroomResponse(member, targetMember, chatroom.getUuid(),
                 chatMessageListResponse);
     }
@@ -183,6 +238,18 @@ public class ChatFacadeService {
      */
     @Transactional
     public ChatCreateResponse createChat(ChatCreateRequest request, Long memberId, String uuid) {
+        // 시스템 메시지가 없는 일반 채팅은 전송 검증에 필요한 정보를 한 번에 조회해 처리
+        if (fastSendEnabled && request.getSystem() == null) {
+            Optional<ChatSendContextDTO> context = chatQueryService.findChatSendContext(memberId, uuid)
+                    .filter(ChatFacadeService::canSendDirectly);
+            if (context.isPresent()) {
+                ChatSendContextDTO sendContext = context.get();
+                Chat chat = chatCommandService.createMemberChat(memberId, uuid, sendContext, request.getMessage());
+                return ChatCreateResponse.of(chat, memberId, sendContext.getMemberName(),
+                        sendContext.getMemberImg());
+            }
+        }
+
         // member 엔티티 조회
         Member member = memberService.findMemberById(memberId);
 
@@ -242,20 +309,34 @@ public class ChatFacadeService {
      * @param cursor 채팅 timestamp
      * @return ChatMessageListResponse
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatMessageListResponse getChatMessagesByCursor(Member member, String uuid, Long cursor) {
+        return executeAfterReadReceiptFlush(member, true, () -> getChatMessages(member, uuid, cursor));
+    }
+
+    private ChatMessageListResponse getChatMessages(Member member, String uuid, Long cursor) {
         // chatroom 엔티티 조회
         Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
 
         // 해당 채팅방이 회원의 것이 맞는지 검증
         chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
 
-        Slice<Chat> chatSlice;
         if (cursor == null) { // cursor가 null인 경우
             // 최근 대화 내역 조회
-            chatSlice = chatQueryService.getRecentChatSlice(member, chatroom);
-        } else {
-            // 커서 기반 대화 내역 조회
-            chatSlice = chatQueryService.getChatSliceByCursor(member, chatroom, cursor);
+            return getRecentChatMessages(member, chatroom,
+                    () -> chatQueryService.getChatroomTargetMember(member, chatroom));
+        }
+
+        // 커서 기반 대화 내역 조회
+        Slice<Chat> chatSlice = chatQueryService.getChatSliceByCursor(member, chatroom, cursor);
+
+        // chat 테이블의 메시지를 모두 조회한 경우 보관된 메시지로 이어서 조회
+        Optional<Slice<RecentChat>> archivedChatSlice = chatQueryService.findChatSliceWithArchive(member, chatroom,
+                cursor, chatSlice);
+        if (archivedChatSlice.isPresent()) {
+            Member targetMember = chatQueryService.getChatroomTargetMember(member, chatroom);
+            return chatResponseFactory.toChatMessageListResponse(archivedChatSlice.get(),
+                    Map.of(member.getId(), member, targetMember.getId(), targetMember));
         }
 
         return chatResponseFactory.toChatMessageListResponse(chatSlice);
@@ -267,19 +348,9 @@ public class ChatFacadeService {
      * @param member 회원
      * @return 채팅방 uuid list
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<String> getUnreadChatroomUuids(Member member) {
-        // 입장 상태인 모든 chatroom 조회
-        List<Chatroom> activeChatrooms = chatQueryService.getActiveChatrooms(member);
-
-        // 각 채팅방에 대해 안읽은 메시지 개수 조회
-        return activeChatrooms.stream()
-                .map(chatroom -> {
-                    int unreadChats = chatQueryService.countUnreadChats(member, chatroom);
-
-                    return unreadChats > 0 ? chatroom.getUuid() : null;
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return executeAfterReadReceiptFlush(member, true, () -> chatQueryService.getUnreadChatroomUuids(member));
     }
 
     /**
@@ -302,13 +373,16 @@ public class ChatFacadeService {
         chatValidator.throwIfExited(memberChatroom, ChatException.class,
                 ErrorCode.CHAT_READ_FAILED_NOT_ENTERED_CHATROOM);
 
-        if (timestamp == null) {
-            // timestamp가 없는 경우 현재 시각으로 lastViewDate 업데이트
-            chatCommandService.updateLastViewDate(member, chatroom, LocalDateTime.now());
+        // timestamp가 없는 경우 현재 시각, timestamp가 있는 경우 해당 채팅의 createdAt으로 lastViewDate 업데이트
+        LocalDateTime lastViewDate = timestamp == null
+                ? LocalDateTime.now()
+                : chatQueryService.getChatCreatedAt(chatroom, timestamp);
+
+        if (readReceiptCoalescer.isAccepting()) {
+            // 읽음 처리를 모아 일괄 반영
+            readReceiptCoalescer.submit(new ReadReceipt(memberChatroom.getId(), member.getId(), lastViewDate));
         } else {
-            // timestamp가 있는 경우 해당 채팅의 createdAt으로 lastViewDate 업데이트
-            Chat chat = chatQueryService.getChatByChatroomAndTimestamp(chatroom, timestamp);
-            chatCommandService.updateLastViewDate(member, chatroom, chat.getCreatedAt());
+            chatCommandService.updateLastViewDate(member, chatroom, lastViewDate);
         }
 
         return ("채팅 메시지 읽음 처리 성공");
@@ -341,7 +415,12 @@ public class ChatFacadeService {
      * @param member 회원
      * @return ChatroomListResponse
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatroomListResponse getChatrooms(Member member) {
+        return executeAfterReadReceiptFlush(member, true, () -> getChatroomList(member));
+    }
+
+    private ChatroomListResponse getChatroomList(Member member) {
         // 채팅방 목록 정보 리스트 조회
         List<ChatroomSummaryDTO> chatroomSummaryList = chatQueryService.getChatroomSummaryList(member.getId());
 
@@ -395,4 +474,39 @@ public class ChatFacadeService {
         return SystemMessageType.CHAT_STARTED_BY_BOARD_MESSAGE.getCode();
     }
 
+    /**
+     * 최근 메시지 내역 응답 생성
+     * 최근 메시지 캐시로 응답할 수 있으면 캐시를 사용하고, 그렇지 않으면 DB에서 조회한다.
+     *
+     * @param member               회원
+     * @param chatroom             채팅방
+     * @param targetMemberSupplier 캐시로 응답하는 경우 메시지를 보낸 상대 회원 정보 조회
+     * @return ChatMessageListResponse
+     */
+    private ChatMessageListResponse getRecentChatMessages(Member member, Chatroom chatroom,
+                                                          Supplier<Member> targetMemberSupplier) {
+        Optional<Slice<RecentChat>> recentChatSlice = chatQueryService.findCachedRecentChatSlice(member, chatroom);
+        if (recentChatSlice.isPresent()) {
+            Member targetMember = targetMemberSupplier.get();
+            return chatResponseFactory.toChatMessageListResponse(recentChatSlice.get(),
+                    Map.of(member.getId(), member, targetMember.getId(), targetMember));
+        }
+
+        Slice<Chat> chatSlice = chatQueryService.getRecentChatSlice(member, chatroom);
+        return chatResponseFactory.toChatMessageListResponse(chatSlice);
+    }
+
+    /**
+     * 조회한 전송 정보만으로 채팅을 등록할 수 있는지 여부
+     * 제재 이력이 있거나 검증에 실패하는 경우에는 기존 검증 흐름으로 처리해 제재 만료 처리와 예외 응답을 그대로 유지한다.
+     *
+     * @param context 채팅 전송 정보
+     * @return 바로 등록 가능하면 true
+     */
+    private static boolean canSendDirectly(ChatSendContextDTO context) {
+        return BanType.NONE.name().equals(context.getBanType())
+                && context.getTargetBlind() == 0
+                && context.getBlocked() == 0;
+    }
+
 }
@@ -3,19 +3,29 @@ package com.gamegoo.gamegoo_v2.chat.service;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatSendContextDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomSummaryDTO;
 import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomTargetDTO;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomRecentChatCache.CachedRoom;
 import com.gamegoo.gamegoo_v2.core.common.validator.ChatValidator;
 import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,9 +38,12 @@ import java.util.stream.Collectors;
 public class ChatQueryService {
 
     private final ChatroomRepository chatroomRepository;
+    private final ChatroomMemberPairService chatroomMemberPairService;
     private final ChatRepository chatRepository;
     private final MemberChatroomRepository memberChatroomRepository;
     private final ChatValidator chatValidator;
+    private final ChatroomRecentChatCache chatroomRecentChatCache;
+    private final ChatArchiveService chatArchiveService;
 
     private static final int PAGE_SIZE = 20;
 
@@ -42,6 +55,13 @@ public class ChatQueryService {
      * @return 채팅방 Optional 객체
      */
     public Optional<Chatroom> findExistingChatroom(Member member, Member targetMember) {
+        Optional<Chatroom> chatroom = chatroomRepository.findByLowMemberIdAndHighMemberId(
+                Math.min(member.getId(), targetMember.getId()), Math.max(member.getId(), targetMember.getId()));
+        if (chatroom.isPresent() || chatroomMemberPairService.isBackfillCompleted()) {
+            return chatroom;
+        }
+
+        // 회원 쌍 key가 채워지지 않은 기존 채팅방 조회
         return chatroomRepository.findChatroomByMemberIds(member.getId(), targetMember.getId());
     }
 
@@ -57,6 +77,67 @@ public class ChatQueryService {
         return chatRepository.findRecentChats(chatroom.getId(), member.getId(), PAGE_SIZE);
     }
 
+    /**
+     * 입장 처리한 회원-채팅방의 최근 메시지 내역 slice 객체를 반환하는 메소드
+     * 입장 처리에서 이미 조회한 회원-채팅방이므로 다시 검증하지 않는다.
+     *
+     * @param memberChatroom 회원-채팅방
+     * @return 채팅 Slice 객체
+     */
+    public Slice<Chat> getRecentChatSlice(MemberChatroom memberChatroom) {
+        return chatRepository.findRecentChats(memberChatroom.getChatroom().getId(),
+                memberChatroom.getMember().getId(), PAGE_SIZE);
+    }
+
+    /**
+     * 최근 메시지 캐시에서 최근 메시지 내역 slice 객체를 반환하는 메소드
+     * 캐시가 회원의 lastJoinDate 이후 메시지를 모두 보관하고 있고 DB에 더 최근 메시지가 없는 경우에만 반환한다.
+     *
+     * @param member   회원
+     * @param chatroom 채팅방
+     * @return 최근 메시지 Slice 객체, 캐시로 응답할 수 없으면 empty
+     */
+    public Optional<Slice<RecentChat>> findCachedRecentChatSlice(Member member, Chatroom chatroom) {
+        if (!chatroomRecentChatCache.isEnabled()) {
+            return Optional.empty();
+        }
+
+        MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
+                chatroom.getId()).orElse(null);
+        if (memberChatroom == null || memberChatroom.getLastJoinDate() == null) {
+            return Optional.empty();
+        }
+        LocalDateTime lastJoinDate = memberChatroom.getLastJoinDate();
+
+        CachedRoom cachedRoom = chatroomRecentChatCache.find(chatroom.getId()).orElse(null);
+        if (cachedRoom != null) {
+            if (!cachedRoom.covers(lastJoinDate)) {
+                chatroomRecentChatCache.recordMiss();
+                return Optional.empty();
+            }
+            // 다른 서버에서 등록된 메시지가 있는지 확인, 이 서버의 메시지가 더 나중에 추가됐을 수 있으므로 buffer 구간 전체의 메시지 수를 비교
+            if (chatRepository.countChatsCreatedSince(chatroom.getId(), cachedRoom.oldestCreatedAt())
+                    == cachedRoom.newestFirst().size()) {
+                chatroomRecentChatCache.recordHit();
+                return Optional.of(toRecentChatSlice(cachedRoom, member.getId(), memberChatroom.getLastViewDate(),
+                        lastJoinDate, chatroom.getArchivedUntil()));
+            }
+        }
+
+        // 캐시에 없거나 오래된 경우 DB에서 최근 메시지를 읽어 캐시에 저장
+        chatroomRecentChatCache.recordMiss();
+        int chatsPerRoom = chatroomRecentChatCache.getChatsPerRoom();
+        List<RecentChat> recentChats = chatRepository.findRecentChatsByChatroomId(chatroom.getId(),
+                PageRequest.of(0, chatsPerRoom + 1));
+        cachedRoom = chatroomRecentChatCache.put(chatroom.getId(), recentChats, recentChats.size() <= chatsPerRoom);
+
+        if (!cachedRoom.covers(lastJoinDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(toRecentChatSlice(cachedRoom, member.getId(), memberChatroom.getLastViewDate(),
+                lastJoinDate, chatroom.getArchivedUntil()));
+    }
+
     /**
      * uuid에 해당하는 채팅방을 반환하는 메소드
      *
@@ -92,6 +173,44 @@ public class ChatQueryService {
         return chatRepository.findChatsByCursor(cursor, chatroom.getId(), member.getId(), PAGE_SIZE);
     }
 
+    /**
+     * chat 테이블의 메시지 내역을 모두 조회한 경우 보관된 메시지로 이어서 채운 slice 객체를 반환하는 메소드
+     *
+     * @param member    회원
+     * @param chatroom  채팅방
+     * @param cursor    채팅 timestamp
+     * @param chatSlice chat 테이블에서 조회한 메시지 내역 slice 객체
+     * @return 보관된 메시지를 이어서 채운 Slice 객체, 이어서 조회할 보관된 메시지가 없으면 empty
+     */
+    public Optional<Slice<RecentChat>> findChatSliceWithArchive(Member member, Chatroom chatroom, Long cursor,
+                                                                Slice<Chat> chatSlice) {
+        if (chatSlice.hasNext() || chatroom.getArchivedUntil() == null) {
+            return Optional.empty();
+        }
+
+        LocalDateTime lastJoinDate = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
+                chatroom.getId()).map(MemberChatroom::getLastJoinDate).orElse(null);
+        if (lastJoinDate == null || chatroom.getArchivedUntil().isBefore(lastJoinDate)) {
+            return Optional.empty();
+        }
+
+        // chat 테이블에서 조회한 메시지보다 먼저 생성된 보관 메시지를 조회, 다음 페이지가 있는지 확인하기 위해 +1
+        List<RecentChat> chats = new ArrayList<>(chatSlice.map(RecentChat::from).getContent());
+        long before = chats.isEmpty() ? cursor : chats.get(0).timestamp();
+        int remaining = Math.max(PAGE_SIZE - chats.size(), 0);
+        List<RecentChat> archivedChats = chatArchiveService.findArchivedChats(chatroom.getId(), member.getId(),
+                before, lastJoinDate, remaining + 1);
+        boolean hasNext = archivedChats.size() > remaining;
+
+        // createdAt 오름차순으로 정렬
+        List<RecentChat> result = new ArrayList<>(archivedChats.subList(0, Math.min(remaining,
+                archivedChats.size())));
+        Collections.reverse(result);
+        result.addAll(chats);
+
+        return Optional.of(new SliceImpl<>(result, Pageable.unpaged(), hasNext));
+    }
+
     /**
      * 회원이 입장한 상태인 모든 채팅방 list 반환하는 메소드
      *
@@ -115,15 +234,47 @@ public class ChatQueryService {
     }
 
     /**
-     * 해당 채팅방에 해당 timestamp를 갖는 chat 엔티티 조회 메소드
+     * 해당 채팅방에 해당 timestamp를 갖는 메시지의 생성 시각 조회 메소드
+     * chat 테이블에 없으면 보관된 메시지에서 조회한다.
      *
      * @param chatroom  채팅방
      * @param timestamp timestamp
-     * @return Chat
+     * @return 메시지 생성 시각
+     */
+    public LocalDateTime getChatCreatedAt(Chatroom chatroom, Long timestamp) {
+        Optional<Chat> chat = chatRepository.findByChatroomAndTimestamp(chatroom, timestamp);
+        if (chat.isPresent()) {
+            return chat.get().getCreatedAt();
+        }
+        if (chatroom.getArchivedUntil() != null) {
+            Optional<RecentChat> archivedChat = chatArchiveService.findArchivedChat(chatroom.getId(), timestamp);
+            if (archivedChat.isPresent()) {
+                return archivedChat.get().createdAt();
+            }
+        }
+        throw new ChatException(ErrorCode.CHAT_MESSAGE_NOT_FOUND);
+    }
+
+    /**
+     * 해당 회원의 안읽은 메시지가 존재하는 입장 상태 채팅방 uuid 목록 조회
+     *
+     * @param member 회원
+     * @return 채팅방 uuid list
+     */
+    public List<String> getUnreadChatroomUuids(Member member) {
+        return memberChatroomRepository.findUnreadChatroomUuidsByMemberId(member.getId());
+    }
+
+    /**
+     * 채팅 전송 검증에 필요한 정보 조회
+     * 회원 정보, 상대 회원 id, 두 회원의 채팅방 퇴장 여부, 상대 탈퇴 여부, 양방향 차단 여부를 한 번에 조회한다.
+     *
+     * @param memberId 회원 id
+     * @param uuid     채팅방 uuid
+     * @return 채팅방이 없거나 회원의 채팅방이 아니면 empty
      */
-    public Chat getChatByChatroomAndTimestamp(Chatroom chatroom, Long timestamp) {
-        return chatRepository.findByChatroomAndTimestamp(chatroom, timestamp).orElseThrow(
-                () -> new ChatException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+    public Optional<ChatSendContextDTO> findChatSendContext(Long memberId, String uuid) {
+        return chatroomRepository.findChatSendContext(uuid, memberId);
     }
 
     /**
@@ -151,4 +302,41 @@ public class ChatQueryService {
                 .collect(Collectors.toMap(ChatroomTargetDTO::getTargetMemberId, Function.identity()));
     }
 
+    /**
+     * 캐시된 최근 메시지로 최근 메시지 내역 slice 객체 생성
+     * 안읽은 메시지 개수가 pageSize 이상인 경우 안읽은 메시지만, 그렇지 않은 경우 최근 메시지 pageSize개를 createdAt 오름차순으로 담는다.
+     */
+    private static Slice<RecentChat> toRecentChatSlice(CachedRoom cachedRoom, Long memberId,
+                                                       LocalDateTime lastViewDate, LocalDateTime lastJoinDate,
+                                                       LocalDateTime archivedUntil) {
+        List<RecentChat> chats = new ArrayList<>();
+        for (RecentChat recentChat : cachedRoom.newestFirst()) {
+            if (recentChat.createdAt().isBefore(lastJoinDate)) {
+                break;
+            }
+            if (recentChat.isVisibleTo(memberId)) {
+                chats.add(recentChat);
+            }
+        }
+
+        int unreadSize = 0;
+        while (unreadSize < chats.size()
+                && (lastViewDate == null || chats.get(unreadSize).createdAt().isAfter(lastViewDate))) {
+            unreadSize++;
+        }
+
+        int size = unreadSize >= PAGE_SIZE
+                ? Math.min(unreadSize, ChatRepository.MAX_UNREAD_CHATS)
+                : Math.min(PAGE_SIZE, chats.size());
+
+        // 캐시된 메시지를 모두 담은 경우, 입장 이후의 보관된 메시지가 있으면 cursor 기반 조회로 이어서 조회
+        boolean hasNext = chats.size() > size
+                || (size > 0 && archivedUntil != null && !archivedUntil.isBefore(lastJoinDate));
+
+        List<RecentChat> result = new ArrayList<>(chats.subList(0, size));
+        Collections.reverse(result);
+
+        return new SliceImpl<>(result, Pageable.unpaged(), hasNext);
+    }
+
 }
@@ -0,0 +1,80 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomMemberPairDTO;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 회원 쌍 key 관리
+ * <p>
+ * 회원 쌍 key(lowMemberId, highMemberId)가 도입되기 전에 생성된 채팅방에 key를 채운다. 모든 채팅방을 채우기 전까지는 key로 찾지 못한 경우 기존 방식으로 한
+ * 번 더 조회해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatroomMemberPairService {
+
+    private final ChatroomRepository chatroomRepository;
+    private final MemberChatroomRepository memberChatroomRepository;
+
+    private volatile boolean backfillCompleted;
+
+    /**
+     * 회원 쌍 key를 채울 채팅방이 남아있지 않은지 여부
+     *
+     * @return 채우기가 끝났으면 true
+     */
+    public boolean isBackfillCompleted() {
+        return backfillCompleted;
+    }
+
+    /**
+     * 회원 쌍 key가 없는 채팅방에 key 채우기 (1 batch)
+     * 같은 회원 쌍의 채팅방이 이미 있는 경우(중복 생성된 기존 채팅방)와 회원이 두 명이 아닌 채팅방은 건너뛴다.
+     *
+     * @param lastId    이전 batch의 마지막 채팅방 id
+     * @param batchSize 최대 처리 수
+     * @return 확인한 채팅방 id 목록
+     */
+    @Transactional
+    public List<Long> backfillMemberPairs(Long lastId, int batchSize) {
+        List<Long> chatroomIds = chatroomRepository.findIdsWithoutMemberPair(lastId, PageRequest.of(0, batchSize));
+        if (chatroomIds.isEmpty()) {
+            return chatroomIds;
+        }
+
+        Map<Long, Chatroom> chatroomMap = chatroomRepository.findAllById(chatroomIds).stream()
+                .collect(Collectors.toMap(Chatroom::getId, Function.identity()));
+
+        for (ChatroomMemberPairDTO pair : memberChatroomRepository.findMemberPairsByChatroomIds(chatroomIds)) {
+            if (chatroomRepository.existsByLowMemberIdAndHighMemberId(pair.getLowMemberId(),
+                    pair.getHighMemberId())) {
+                log.warn("같은 회원 쌍의 채팅방이 이미 존재해 key를 채우지 않음 - chatroomId: {}", pair.getChatroomId());
+                continue;
+            }
+            chatroomMap.get(pair.getChatroomId()).updateMemberPair(pair.getLowMemberId(), pair.getHighMemberId());
+        }
+        return chatroomIds;
+    }
+
+    /**
+     * 회원 쌍 key 채우기 완료 처리
+     * 이후 채팅방 조회는 회원 쌍 key로만 한다.
+     */
+    public void completeBackfill() {
+        backfillCompleted = true;
+    }
+
+}
@@ -0,0 +1,321 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방별 최근 메시지 캐시 (in-memory)
+ * <p>
+ * 채팅방마다 최근 메시지 chatsPerRoom개를 생성 순서대로 ring buffer에 보관하고, 최근 조회 순으로 최대 maxRooms개 채팅방까지, 메시지 내용을 포함한 예상
+ * 메모리 사용량이 maxBytes 이내가 될 때까지만 유지한다. 메시지가 등록되면 트랜잭션 커밋 이후 해당 채팅방 buffer에 추가한다.
+ * <p>
+ * 다른 서버에서 등록된 메시지는 반영되지 않고 이후 이 서버의 메시지가 그 뒤에 추가될 수 있으므로, 조회하는 쪽에서 buffer의 가장 오래된 메시지 이후 DB 메시지
+ * 수가 buffer 크기와 같은지 확인해야 한다. 따라서 캐시 적중 시에도 chat 테이블 count 조회와 member_chatroom 조회는 실행되며, 캐시가 줄이는 것은 메시지
+ * 행을 읽어 엔티티로 만드는 비용이다.
+ */
+@Component
+public class ChatroomRecentChatCache {
+
+    // 메시지 1개당 예상 메모리 사용량 (객체 header, 필드, 문자열 header)
+    private static final long CHAT_BASE_BYTES = 96;
+
+    @Value("${chat.recent-cache-enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.recent-cache-max-rooms:10000}")
+    private int maxRooms;
+
+    @Value("${chat.recent-cache-chats-per-room:50}")
+    private int chatsPerRoom;
+
+    @Value("${chat.recent-cache-max-bytes:67108864}")
+    private long maxBytes;
+
+    // 최근 조회 순 (access order)
+    private final Map<Long, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 캐시된 메시지의 예상 메모리 사용량 합계, rooms lock 안에서만 변경
+    private long totalBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getChatsPerRoom() {
+        return chatsPerRoom;
+    }
+
+    /**
+     * 채팅방의 캐시된 최근 메시지 조회
+     *
+     * @param chatroomId 채팅방 id
+     * @return 캐시된 최근 메시지, 없으면 empty
+     */
+    public Optional<CachedRoom> find(Long chatroomId) {
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(chatroomId);
+            return buffer != null ? Optional.of(buffer.snapshot()) : Optional.empty();
+        }
+    }
+
+    /**
+     * 채팅방의 최근 메시지 저장
+     *
+     * @param chatroomId  채팅방 id
+     * @param newestFirst 최근 메시지 목록 (createdAt 내림차순, 최대 chatsPerRoom개)
+     * @param complete    채팅방의 모든 메시지인지 여부
+     * @return 저장된 최근 메시지
+     */
+    public CachedRoom put(Long chatroomId, List<RecentChat> newestFirst, boolean complete) {
+        RoomBuffer buffer = new RoomBuffer(chatsPerRoom, complete);
+        for (int i = Math.min(newestFirst.size(), chatsPerRoom) - 1; i >= 0; i--) {
+            buffer.append(newestFirst.get(i));
+        }
+
+        synchronized (rooms) {
+            removeRoom(chatroomId);
+            rooms.put(chatroomId, buffer);
+            totalBytes += buffer.estimatedBytes();
+            trim();
+            return buffer.snapshot();
+        }
+    }
+
+    /**
+     * 새로 등록된 메시지를 채팅방 buffer에 추가
+     * 현재 트랜잭션이 있으면 커밋 이후에 반영하며, 캐시에 없는 채팅방은 무시한다.
+     *
+     * @param chatroomId 채팅방 id
+     * @param recentChat 등록된 메시지
+     */
+    public void append(Long chatroomId, RecentChat recentChat) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> {
+            synchronized (rooms) {
+                RoomBuffer buffer = rooms.get(chatroomId);
+                if (buffer == null) {
+                    return;
+                }
+                long bytesBefore = buffer.estimatedBytes();
+                if (!buffer.append(recentChat)) {
+                    // 생성 순서가 어긋난 메시지는 다음 조회 때 DB에서 다시 읽음
+                    totalBytes -= bytesBefore;
+                    rooms.remove(chatroomId);
+                    return;
+                }
+                totalBytes += buffer.estimatedBytes() - bytesBefore;
+                trim();
+            }
+        });
+    }
+
+    /**
+     * 채팅방 캐시 무효화
+     *
+     * @param chatroomId 채팅방 id
+     */
+    public void evict(Long chatroomId) {
+        synchronized (rooms) {
+            removeRoom(chatroomId);
+        }
+    }
+
+    /**
+     * 캐시 전체 초기화
+     */
+    public void clear() {
+        synchronized (rooms) {
+            rooms.clear();
+            totalBytes = 0;
+        }
+    }
+
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * 캐시 사용 현황 조회
+     *
+     * @return 적중/미적중 횟수, 채팅방 수, 메시지 수, 예상 메모리 사용량
+     */
+    public Stats getStats() {
+        int roomCount;
+        long chatCount = 0;
+        long estimatedBytes;
+        synchronized (rooms) {
+            roomCount = rooms.size();
+            for (RoomBuffer buffer : rooms.values()) {
+                chatCount += buffer.size();
+            }
+            estimatedBytes = totalBytes;
+        }
+        return new Stats(hitCount.sum(), missCount.sum(), roomCount, chatCount, estimatedBytes);
+    }
+
+    private void removeRoom(Long chatroomId) {
+        RoomBuffer removed = rooms.remove(chatroomId);
+        if (removed != null) {
+            totalBytes -= removed.estimatedBytes();
+        }
+    }
+
+    /**
+     * 가장 오래 조회되지 않은 채팅방부터 채팅방 수와 예상 메모리 사용량이 한도 이내가 될 때까지 제거
+     */
+    private void trim() {
+        Iterator<RoomBuffer> iterator = rooms.values().iterator();
+        while ((rooms.size() > maxRooms || totalBytes > maxBytes) && iterator.hasNext()) {
+            totalBytes -= iterator.next().estimatedBytes();
+            iterator.remove();
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 특정 시점의 채팅방 최근 메시지
+     *
+     * @param newestFirst 최근 메시지 목록 (createdAt 내림차순)
+     * @param complete    채팅방의 모든 메시지인지 여부
+     */
+    public record CachedRoom(List<RecentChat> newestFirst, boolean complete) {
+
+        /**
+         * from 이후에 생성된 메시지를 모두 보관하고 있는지 여부
+         *
+         * @param from 기준 시각
+         * @return 모두 보관하고 있으면 true
+         */
+        public boolean covers(LocalDateTime from) {
+            if (complete) {
+                return true;
+            }
+            return !newestFirst.isEmpty() && newestFirst.get(newestFirst.size() - 1).createdAt().isBefore(from);
+        }
+
+        /**
+         * buffer의 가장 오래된 메시지 생성 시각
+         *
+         * @return 생성 시각, 채팅방의 모든 메시지를 보관 중이거나 비어 있으면 null (채팅방 전체가 비교 대상)
+         */
+        public LocalDateTime oldestCreatedAt() {
+            if (complete || newestFirst.isEmpty()) {
+                return null;
+            }
+            return newestFirst.get(newestFirst.size() - 1).createdAt();
+        }
+
+    }
+
+    /**
+     * 캐시 사용 현황
+     *
+     * @param hitCount       캐시로 응답한 횟수
+     * @param missCount      DB에서 조회한 횟수
+     * @param roomCount      캐시된 채팅방 수
+     * @param chatCount      캐시된 메시지 수
+     * @param estimatedBytes 캐시된 메시지의 예상 메모리 사용량
+     */
+    public record Stats(long hitCount, long missCount, int roomCount, long chatCount, long estimatedBytes) {
+
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+    }
+
+    /**
+     * 단일 채팅방의 최근 메시지 ring buffer (createdAt 오름차순)
+     */
+    private static final class RoomBuffer {
+
+        private final int capacity;
+        private final ArrayDeque<RecentChat> chats;
+        private boolean complete;
+        private long contentsLength;
+
+        RoomBuffer(int capacity, boolean complete) {
+            this.capacity = capacity;
+            this.chats = new ArrayDeque<>(capacity);
+            this.complete = complete;
+        }
+
+        /**
+         * 가장 최근 메시지로 추가, 가득 찬 경우 가장 오래된 메시지를 제거
+         *
+         * @return 기존 메시지보다 먼저 생성된 메시지라 추가할 수 없으면 false
+         */
+        boolean append(RecentChat recentChat) {
+            RecentChat newest = chats.peekLast();
+            if (newest != null && recentChat.createdAt().isBefore(newest.createdAt())) {
+                return false;
+            }
+            if (capacity <= 0) {
+                complete = false;
+                return true;
+            }
+            if (chats.size() == capacity) {
+                RecentChat removed = chats.pollFirst();
+                contentsLength -= removed.contents().length();
+                complete = false;
+            }
+            chats.addLast(recentChat);
+            contentsLength += recentChat.contents().length();
+            return true;
+        }
+
+        CachedRoom snapshot() {
+            List<RecentChat> newestFirst = new ArrayList<>(chats.size());
+            Iterator<RecentChat> iterator = chats.descendingIterator();
+            while (iterator.hasNext()) {
+                newestFirst.add(iterator.next());
+            }
+            return new CachedRoom(List.copyOf(newestFirst), complete);
+        }
+
+        int size() {
+            return chats.size();
+        }
+
+        long estimatedBytes() {
+            return chats.size() * CHAT_BASE_BYTES + contentsLength * 2;
+        }
+
+    }
+
+}
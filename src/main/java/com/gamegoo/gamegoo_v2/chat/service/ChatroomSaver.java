@@ -0,0 +1,51 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ChatroomSaver {
+
+    private static final String MEMBER_PAIR_CONSTRAINT = "uk_chatroom_member_pair";
+
+    private final ChatroomRepository chatroomRepository;
+
+    /**
+     * 두 회원 사이 채팅방 저장
+     * 요청 트랜잭션과 별도의 트랜잭션에서 저장하므로, 같은 회원 쌍의 채팅방이 이미 있어 unique 제약에 걸려도 요청 트랜잭션은 롤백되지 않는다.
+     *
+     * @param memberId1 회원 id
+     * @param memberId2 회원 id
+     * @throws DataIntegrityViolationException 같은 회원 쌍의 채팅방이 이미 있는 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(Long memberId1, Long memberId2) {
+        chatroomRepository.saveAndFlush(Chatroom.create(UUID.randomUUID().toString(), memberId1, memberId2));
+    }
+
+    /**
+     * 회원 쌍 unique 제약 위반 여부
+     *
+     * @param e 예외
+     * @return 같은 회원 쌍의 채팅방이 이미 있어 발생한 예외면 true
+     */
+    static boolean isMemberPairConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(MEMBER_PAIR_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ReadReceipt;
+import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 읽음 처리 일괄 반영
+ * <p>
+ * 여러 회원-채팅방의 lastViewDate를 UPDATE 한 번으로 반영한 뒤 안읽은 메시지 수를 다시 계산한다. 읽은 시각은 기존 lastViewDate보다 나중인 경우에만 반영해
+ * 늦게 반영된 읽음 처리가 lastViewDate를 되돌리지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptBatchWriter {
+
+    private static final String CASE_ROW = " WHEN ? THEN GREATEST(COALESCE(last_view_date, ?), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberChatroomRepository memberChatroomRepository;
+
+    /**
+     * 읽음 처리 일괄 반영
+     * 요청 스레드의 조회 트랜잭션과 관계없이 바로 커밋되도록 새 트랜잭션에서 실행한다.
+     *
+     * @param receipts 반영할 읽음 처리 목록 (회원-채팅방별 1건)
+     * @return 반영된 회원-채팅방 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int applyAll(List<ReadReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE member_chatroom SET last_view_date = CASE member_chatroom_id");
+        StringBuilder inClause = new StringBuilder();
+        List<Object> args = new ArrayList<>(receipts.size() * 4 + 1);
+        List<Long> memberChatroomIds = new ArrayList<>(receipts.size());
+        for (ReadReceipt receipt : receipts) {
+            Timestamp lastViewDate = Timestamp.valueOf(receipt.lastViewDate());
+            sql.append(CASE_ROW);
+            args.add(receipt.memberChatroomId());
+            args.add(lastViewDate);
+            args.add(lastViewDate);
+            memberChatroomIds.add(receipt.memberChatroomId());
+        }
+        sql.append(" ELSE last_view_date END, updated_at = ? WHERE member_chatroom_id IN (");
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        for (int i = 0; i < memberChatroomIds.size(); i++) {
+            inClause.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(inClause).append(")");
+        args.addAll(memberChatroomIds);
+
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+
+        // 변경된 lastViewDate 기준으로 안읽은 메시지 수 다시 계산
+        memberChatroomRepository.recomputeUnreadCounts(memberChatroomIds);
+        return updated;
+    }
+
+}
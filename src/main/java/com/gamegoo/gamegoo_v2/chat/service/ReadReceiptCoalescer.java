@@ -0,0 +1,296 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ReadReceipt;
+import com.gamegoo.gamegoo_v2.core.config.ChatReadReceiptProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 채팅방 읽음 처리 모음
+ * <p>
+ * 요청 스레드는 회원-채팅방별로 가장 나중 읽은 시각만 메모리에 남기고 바로 반환하며, 전용 writer 스레드가 flush 주기마다 또는 대기 중인 회원-채팅방이 배치
+ * 크기만큼 모이면 한 번에 반영한다. 안읽은 메시지 상태를 조회하기 전에는 해당 회원의 대기 중인 읽음 처리를 먼저 반영하며, 서버 종료 시에는 웹 서버가 내려간 뒤 남은
+ * 읽음 처리를 모두 반영하고 멈춘다.
+ * <p>
+ * 대기 중인 읽음 처리는 회원별로 보관하고, 회원별 상태 변경은 map의 원자적 연산 안에서만 하므로 DB 반영 중에는 어떤 lock도 잡지 않는다. 조회 전 반영은 해당
+ * 회원의 읽음 처리가 대기 중이거나 반영 중일 때만 기다린다. 반영에 실패한 읽음 처리는 버리지 않고 다시 대기 상태로 돌려 다음 반영 때 처리한다.
+ */
+@Slf4j
+@Component
+public class ReadReceiptCoalescer implements SmartLifecycle {
+
+    private static final String WRITER_THREAD_NAME = "chat-read-receipt-writer";
+
+    private final ReadReceiptBatchWriter readReceiptBatchWriter;
+    private final ChatReadReceiptProperties properties;
+
+    // 회원 id: 회원의 반영 대기 중인 읽음 처리와 반영 중인 작업
+    private final Map<Long, MemberReceipts> members = new ConcurrentHashMap<>();
+
+    // 반영 대기 중인 회원-채팅방 수
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ReadReceiptCoalescer(ReadReceiptBatchWriter readReceiptBatchWriter,
+                                ChatReadReceiptProperties properties) {
+        this.readReceiptBatchWriter = readReceiptBatchWriter;
+        this.properties = properties;
+    }
+
+    /**
+     * 읽음 처리 적재 가능 여부
+     *
+     * @return 설정이 켜져 있고 writer 스레드가 동작 중이면 true
+     */
+    public boolean isAccepting() {
+        return properties.isCoalesceEnabled() && running;
+    }
+
+    /**
+     * 읽음 처리 적재
+     * 같은 회원-채팅방에 대기 중인 읽음 처리가 있으면 더 나중 시각만 남긴다.
+     *
+     * @param receipt 읽음 처리
+     */
+    public void submit(ReadReceipt receipt) {
+        merge(receipt);
+        if (pendingCount.get() >= Math.max(1, properties.getBatchSize())) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * 회원의 대기 중인 읽음 처리를 바로 반영
+     * 안읽은 메시지 상태를 조회하기 전에 호출해 조회 결과에 대기 중인 읽음 처리가 포함되도록 한다. writer 스레드가 이 회원의 읽음 처리를 반영 중이면 끝날
+     * 때까지 기다린다. 읽음 처리 반영은 새 트랜잭션에서 실행되므로 조회 트랜잭션을 열기 전에 호출해야 한다.
+     *
+     * @param memberId 회원 id
+     */
+    public void flushMember(Long memberId) {
+        if (!properties.isCoalesceEnabled() || !members.containsKey(memberId)) {
+            return;
+        }
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        Claim claim = claim(memberId, flight);
+        try {
+            awaitInFlight(memberId, claim.previous());
+            apply(claim.receipts());
+        } finally {
+            finish(List.of(memberId), flight);
+        }
+    }
+
+    /**
+     * 반영 대기 중인 회원-채팅방 수
+     *
+     * @return 대기 중인 회원-채팅방 수
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isCoalesceEnabled() || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, WRITER_THREAD_NAME);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 새 읽음 처리 적재를 막은 뒤 writer 스레드가 멈출 때까지 대기
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(properties.getShutdownTimeoutMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("chat read receipt writer did not finish in time: {} receipts pending", pendingCount.get());
+            return;
+        }
+        // writer 스레드 종료 직전에 적재된 읽음 처리 반영
+        flushAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 1024)가 요청 수신을 멈춘 뒤에 종료되도록 더 작은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushMillis());
+        while (running) {
+            LockSupport.parkNanos(this, flushNanos);
+            flushAll();
+        }
+    }
+
+    /**
+     * 대기 중인 읽음 처리를 배치 크기씩 모두 반영
+     */
+    private void flushAll() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<ReadReceipt> batch = new ArrayList<>();
+        List<Long> batchMemberIds = new ArrayList<>();
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        for (Long memberId : members.keySet()) {
+            List<ReadReceipt> receipts = claim(memberId, flight).receipts();
+            if (receipts.isEmpty()) {
+                continue;
+            }
+            batch.addAll(receipts);
+            batchMemberIds.add(memberId);
+            if (batch.size() >= batchSize) {
+                applyAndFinish(batch, batchMemberIds, flight);
+                batch = new ArrayList<>();
+                batchMemberIds = new ArrayList<>();
+                flight = new CompletableFuture<>();
+            }
+        }
+        applyAndFinish(batch, batchMemberIds, flight);
+    }
+
+    private void applyAndFinish(List<ReadReceipt> batch, List<Long> memberIds, CompletableFuture<Void> flight) {
+        try {
+            apply(batch);
+        } finally {
+            finish(memberIds, flight);
+        }
+    }
+
+    /**
+     * 읽음 처리를 회원의 대기 목록에 추가, 같은 회원-채팅방은 더 나중 시각만 남김
+     */
+    private void merge(ReadReceipt receipt) {
+        members.compute(receipt.memberId(), (memberId, state) -> {
+            MemberReceipts receipts = state != null ? state : new MemberReceipts();
+            if (!receipts.pending.containsKey(receipt.memberChatroomId())) {
+                pendingCount.incrementAndGet();
+            }
+            receipts.pending.merge(receipt.memberChatroomId(), receipt, ReadReceipt::latest);
+            return receipts;
+        });
+    }
+
+    /**
+     * 회원의 대기 중인 읽음 처리를 모두 꺼내고, 반영이 끝날 때까지 회원의 반영 중인 작업에 flight를 추가
+     *
+     * @return 꺼낸 읽음 처리와 이전부터 반영 중이던 작업
+     */
+    private Claim claim(Long memberId, CompletableFuture<Void> flight) {
+        Claim[] claim = {Claim.EMPTY};
+        members.computeIfPresent(memberId, (id, receipts) -> {
+            List<ReadReceipt> claimed = new ArrayList<>(receipts.pending.values());
+            CompletableFuture<Void> previous = receipts.inFlight;
+            if (!claimed.isEmpty()) {
+                receipts.pending.clear();
+                pendingCount.addAndGet(-claimed.size());
+                receipts.inFlight = previous.isDone() ? flight : CompletableFuture.allOf(previous, flight);
+            }
+            claim[0] = new Claim(claimed, previous);
+            return receipts;
+        });
+        return claim[0];
+    }
+
+    /**
+     * 반영 작업 완료 처리, 대기 중인 읽음 처리와 반영 중인 작업이 없는 회원은 map에서 제거
+     */
+    private void finish(List<Long> memberIds, CompletableFuture<Void> flight) {
+        flight.complete(null);
+        for (Long memberId : memberIds) {
+            members.computeIfPresent(memberId, (id, receipts) -> receipts.isIdle() ? null : receipts);
+        }
+    }
+
+    private void awaitInFlight(Long memberId, CompletableFuture<Void> inFlight) {
+        if (inFlight.isDone()) {
+            return;
+        }
+        try {
+            inFlight.get(properties.getFlushWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("chat read receipts of member {} are still being flushed", memberId);
+        }
+    }
+
+    /**
+     * 읽음 처리 반영, 실패하면 다시 대기 목록에 추가해 다음 반영 때 처리
+     */
+    private void apply(List<ReadReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+        try {
+            readReceiptBatchWriter.applyAll(receipts);
+        } catch (Exception e) {
+            receipts.forEach(this::merge);
+            log.error("failed to flush chat read receipts: {} receipts requeued", receipts.size(), e);
+        }
+    }
+
+    /**
+     * 회원 한 명의 읽음 처리 상태, members map의 원자적 연산 안에서만 변경한다
+     */
+    private static final class MemberReceipts {
+
+        private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+        // 회원-채팅방 id: 반영 대기 중인 읽음 처리
+        private final Map<Long, ReadReceipt> pending = new HashMap<>();
+
+        // 반영 중인 읽음 처리가 모두 끝나면 완료되는 작업
+        private CompletableFuture<Void> inFlight = DONE;
+
+        private boolean isIdle() {
+            return pending.isEmpty() && inFlight.isDone();
+        }
+
+    }
+
+    /**
+     * 꺼낸 읽음 처리
+     *
+     * @param receipts 반영할 읽음 처리
+     * @param previous 꺼내기 전부터 반영 중이던 작업
+     */
+    private record Claim(List<ReadReceipt> receipts, CompletableFuture<Void> previous) {
+
+        private static final Claim EMPTY = new Claim(List.of(), MemberReceipts.DONE);
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.content.board.dto.response;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.MemberChampion;
+import com.gamegoo.gamegoo_v2.account.member.dto.data.MemberChampionStatsDTO;
 import com.gamegoo.gamegoo_v2.external.riot.domain.ChampionStats;
 import com.gamegoo.gamegoo_v2.game.domain.Champion;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -70,4 +71,26 @@ public class ChampionStatsResponse {
                 .build();
     }
 
+    public static ChampionStatsResponse from(MemberChampionStatsDTO stats) {
+        int wins = stats.getWins();
+        int games = stats.getGames();
+        int kills = stats.getKills();
+        int deaths = stats.getDeaths();
+        int assists = stats.getAssists();
+        double kda = deaths == 0 ? kills + assists : (double) (kills + assists) / deaths;
+        return ChampionStatsResponse.builder()
+                .championId(stats.getChampionId())
+                .championName(stats.getChampionName())
+                .winRate(games > 0 ? ((double) wins / games) * 100 : 0.0)
+                .wins(wins)
+                .games(games)
+                .csPerMinute(stats.getCsPerMinute())
+                .averageCs(games > 0 ? (double) stats.getTotalCs() / games : 0)
+                .kda(kda)
+                .kills(games > 0 ? (double) kills / games : 0)
+                .deaths(games > 0 ? (double) deaths / games : 0)
+                .assists(games > 0 ? (double) assists / games : 0)
+                .build();
+    }
+
 }
@@ -0,0 +1,39 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.read-receipt")
+public class ChatReadReceiptProperties {
+
+    /**
+     * 읽음 처리를 메모리에 모은 뒤 일괄 반영하는 모드 사용 여부
+     */
+    private boolean coalesceEnabled = false;
+
+    /**
+     * 모인 읽음 처리를 반영하는 주기 (ms)
+     */
+    private long flushMillis = 300;
+
+    /**
+     * 한 번에 반영할 최대 회원-채팅방 수, 대기 중인 읽음 처리가 이만큼 모이면 주기를 기다리지 않고 반영
+     */
+    private int batchSize = 500;
+
+    /**
+     * 조회 전 반영 시 해당 회원의 반영 중인 읽음 처리를 기다리는 최대 시간 (ms)
+     */
+    private long flushWaitMillis = 3000;
+
+    /**
+     * 서버 종료 시 남은 읽음 처리 반영을 기다리는 최대 시간 (ms)
+     */
+    private long shutdownTimeoutMillis = 10000;
+
+}
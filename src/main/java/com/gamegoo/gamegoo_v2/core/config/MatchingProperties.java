@@ -0,0 +1,62 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "matching")
+public class MatchingProperties {
+
+    /**
+     * 게임 모드별 우선순위 리스트 최대 길이 (0 이하이면 전체 대기자 반환)
+     */
+    private Map<GameMode, Integer> topK = new EnumMap<>(GameMode.class);
+
+    /**
+     * PENDING 상태로 남은 매칭 기록을 EXPIRED로 변경하기까지의 시간 (분)
+     */
+    private int pendingExpireMinutes = 10;
+
+    /**
+     * 종료된 매칭 기록을 이력 테이블로 옮기기까지의 보관 기간 (일)
+     */
+    private int archiveRetentionDays = 30;
+
+    /**
+     * 만료, 이관 처리 시 한 트랜잭션에서 처리할 기록 수
+     */
+    private int cleanupBatchSize = 500;
+
+    /**
+     * 서버 측 일괄 매칭 사용 여부
+     */
+    private boolean pairingEnabled = false;
+
+    /**
+     * 서버 측 일괄 매칭 주기 (ms)
+     */
+    private long pairingTickMillis = 1000;
+
+    /**
+     * 대기자별 우선순위 리스트 증분 관리 사용 여부
+     */
+    private boolean incrementalPriorityEnabled = false;
+
+    /**
+     * 게임 모드별로 보관할 우선순위 변경분 최대 개수
+     */
+    private int priorityDeltaCapacity = 10000;
+
+    public int getTopK(GameMode gameMode) {
+        return topK.getOrDefault(gameMode, 0);
+    }
+
+}
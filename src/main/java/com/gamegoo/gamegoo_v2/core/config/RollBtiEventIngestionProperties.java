@@ -0,0 +1,44 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "roll-bti.event-ingestion")
+public class RollBtiEventIngestionProperties {
+
+    /**
+     * 이벤트를 메모리 큐에 적재한 뒤 일괄 저장하는 모드 사용 여부
+     */
+    private boolean bufferedEnabled = false;
+
+    /**
+     * 메모리 큐 최대 이벤트 수
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 한 번에 저장할 최대 이벤트 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 배치 크기에 도달하지 않아도 저장하는 주기 (ms)
+     */
+    private long flushMillis = 500;
+
+    /**
+     * 큐가 가득 찼을 때 빈 자리를 기다리는 최대 시간 (ms)
+     */
+    private long offerTimeoutMillis = 50;
+
+    /**
+     * 서버 종료 시 남은 이벤트 저장을 기다리는 최대 시간 (ms)
+     */
+    private long shutdownTimeoutMillis = 10000;
+
+}
@@ -0,0 +1,12 @@
+package com.gamegoo.gamegoo_v2.core.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberStatusChangeEvent {
+
+    private final Long memberId;
+
+}
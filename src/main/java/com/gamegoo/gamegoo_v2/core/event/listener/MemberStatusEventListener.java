@@ -0,0 +1,29 @@
+package com.gamegoo.gamegoo_v2.core.event.listener;
+
+import com.gamegoo.gamegoo_v2.core.event.MemberStatusChangeEvent;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiPublicRecommendationSnapshot;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MemberStatusEventListener {
+
+    private final RollBtiRecommendationIndex rollBtiRecommendationIndex;
+    private final RollBtiPublicRecommendationSnapshot rollBtiPublicRecommendationSnapshot;
+
+    /**
+     * 회원 블라인드/티어 변경 event listener
+     * 인덱스 반영은 발행한 트랜잭션의 커밋 이후에 수행되며, 공개 추천 순서 snapshot은 무효화한다.
+     *
+     * @param event event
+     */
+    @EventListener
+    public void handleMemberStatusChangeEvent(MemberStatusChangeEvent event) {
+        rollBtiRecommendationIndex.refresh(event.getMemberId());
+        rollBtiPublicRecommendationSnapshot.invalidate();
+    }
+
+}
@@ -90,6 +90,7 @@ public enum ErrorCode {
     MATCHING_FOUND_FAILED_TARGET_IS_BLOCKED(FORBIDDEN, "MATCH_405", "매칭 상대 회원을 차단한 상태입니다. 매칭 FOUND 처리가 불가능합니다."),
     MATCHING_FOUND_FAILED_BLOCKED_BY_TARGET(FORBIDDEN, "MATCH_406", "매칭 상대 회원이 나를 차단했습니다. 매칭 FOUND 처리가 불가능합니다."),
     MATCHING_FOUND_FAILED_BY_CONFLICT_MATCHINGUUID(BAD_REQUEST, "MATCH_407", "sender와 receiver의 matchingUuid가 동일합니다."),
+    MATCHING_CLAIM_CONFLICT(CONFLICT, "MATCH_408", "다른 요청이 먼저 매칭 상태를 변경했습니다. 다시 시도해주세요."),
 
     /**
      * 차단 관련 에러
@@ -163,6 +164,8 @@ public enum ErrorCode {
     ROLL_BTI_SIZE_BAD_REQUEST(BAD_REQUEST, "ROLLBTI_402", "추천 size 값은 1 이상이어야 합니다."),
     ROLL_BTI_TYPE_NOT_SUPPORTED(BAD_REQUEST, "ROLLBTI_403", "지원하지 않는 롤BTI 타입입니다."),
     ROLL_BTI_RESULT_NOT_FOUND(NOT_FOUND, "ROLLBTI_404", "공유된 롤BTI 결과를 찾을 수 없습니다."),
+    ROLL_BTI_CURSOR_BAD_REQUEST(BAD_REQUEST, "ROLLBTI_405", "잘못된 추천 커서입니다."),
+    ROLL_BTI_EVENT_QUEUE_FULL(SERVICE_UNAVAILABLE, "ROLLBTI_503", "이벤트 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
 
     /**
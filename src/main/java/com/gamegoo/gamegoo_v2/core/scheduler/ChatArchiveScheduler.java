@@ -0,0 +1,67 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.chat.service.ChatArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveScheduler {
+
+    private final ChatArchiveService chatArchiveService;
+
+    @Value("${chat.archive-enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.archive-after-days:180}")
+    private int archiveAfterDays;
+
+    @Value("${chat.archive-block-size:500}")
+    private int blockSize;
+
+    @Value("${chat.archive-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 보관 기준 기간이 지난 메시지를 채팅방별로 보관 테이블로 이동
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void archiveChats() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+            int total = 0;
+            Long lastId = 0L;
+            List<Long> chatroomIds;
+            do {
+                chatroomIds = chatArchiveService.findArchivableChatroomIds(cutoff, lastId, batchSize);
+                for (Long chatroomId : chatroomIds) {
+                    int archived;
+                    do {
+                        archived = chatArchiveService.archiveChatroom(chatroomId, cutoff, blockSize);
+                        total += archived;
+                    } while (archived == blockSize);
+                }
+                if (!chatroomIds.isEmpty()) {
+                    lastId = chatroomIds.get(chatroomIds.size() - 1);
+                }
+            } while (chatroomIds.size() == batchSize);
+
+            log.info("채팅 메시지 보관 - {}건", total);
+        } catch (Exception e) {
+            log.error("failed to archiveChats Scheduler:", e);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.chat.service.ChatCommandService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomRecentChatCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxScheduler {
+
+    private final ChatCommandService chatCommandService;
+    private final ChatroomRecentChatCache chatroomRecentChatCache;
+
+    @Value("${chat.unread-repair-batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.unread-backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    /**
+     * 서버 시작 시 채팅방 목록 정렬 기준 시각이 없는 회원-채팅방을 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastActivityAt() {
+        try {
+            int updated = chatCommandService.backfillLastActivityAt();
+            if (updated > 0) {
+                log.info("채팅방 목록 정렬 기준 시각 채움 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("failed to backfill member chatroom last activity:", e);
+        }
+    }
+
+    /**
+     * 서버 시작 시 모든 회원-채팅방의 안읽은 메시지 수를 한 번 채움
+     * unread_count 컬럼이 추가된 뒤 첫 배포에서만 켜서, 기존 회원-채팅방이 첫 보정 cron을 기다리지 않고 바로 계산되도록 한다. 전체 회원-채팅방을 다시
+     * 계산하므로 다른 시작 작업을 막지 않도록 별도 스레드에서 실행한다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillUnreadCounts() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            log.info("안읽은 메시지 수 채움 - {}건", recomputeAllUnreadCounts());
+        } catch (Exception e) {
+            log.error("failed to backfill unread counts:", e);
+        }
+    }
+
+    /**
+     * 모든 회원-채팅방의 안읽은 메시지 수를 chat 테이블 기준으로 보정
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void repairUnreadCounts() {
+        try {
+            log.info("안읽은 메시지 수 보정 - {}건", recomputeAllUnreadCounts());
+        } catch (Exception e) {
+            log.error("failed to repairUnreadCounts Scheduler:", e);
+        }
+    }
+
+    /**
+     * memberChatroom id keyset batch로 전체 안읽은 메시지 수를 다시 계산
+     *
+     * @return 다시 계산한 memberChatroom 수
+     */
+    private int recomputeAllUnreadCounts() {
+        int total = 0;
+        Long lastId = 0L;
+        List<Long> memberChatroomIds;
+        do {
+            memberChatroomIds = chatCommandService.recomputeUnreadCounts(lastId, batchSize);
+            if (!memberChatroomIds.isEmpty()) {
+                lastId = memberChatroomIds.get(memberChatroomIds.size() - 1);
+                total += memberChatroomIds.size();
+            }
+        } while (memberChatroomIds.size() == batchSize);
+        return total;
+    }
+
+    /**
+     * 채팅방 최근 메시지 캐시 적중률 및 메모리 사용량 기록
+     */
+    @Scheduled(fixedDelayString = "${chat.recent-cache-stats-log-millis:600000}")
+    public void logRecentChatCacheStats() {
+        if (!chatroomRecentChatCache.isEnabled()) {
+            return;
+        }
+        ChatroomRecentChatCache.Stats stats = chatroomRecentChatCache.getStats();
+        log.info("채팅방 최근 메시지 캐시 - hit: {}, miss: {}, hitRate: {}, rooms: {}, chats: {}, estimatedBytes: {}",
+                stats.hitCount(), stats.missCount(), String.format("%.3f", stats.hitRate()), stats.roomCount(),
+                stats.chatCount(), stats.estimatedBytes());
+    }
+
+}
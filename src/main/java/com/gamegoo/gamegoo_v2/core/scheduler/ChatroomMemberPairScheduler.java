@@ -0,0 +1,49 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomMemberPairService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatroomMemberPairScheduler {
+
+    private final ChatroomMemberPairService chatroomMemberPairService;
+
+    @Value("${chat.member-pair-backfill-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 서버 시작 시 회원 쌍 key가 없는 기존 채팅방에 key를 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMemberPairs() {
+        try {
+            int total = 0;
+            Long lastId = 0L;
+            List<Long> chatroomIds;
+            do {
+                chatroomIds = chatroomMemberPairService.backfillMemberPairs(lastId, batchSize);
+                if (!chatroomIds.isEmpty()) {
+                    lastId = chatroomIds.get(chatroomIds.size() - 1);
+                    total += chatroomIds.size();
+                }
+            } while (chatroomIds.size() == batchSize);
+
+            chatroomMemberPairService.completeBackfill();
+            log.info("채팅방 회원 쌍 key 채우기 완료 - {}건 확인", total);
+        } catch (Exception e) {
+            log.error("failed to backfill chatroom member pairs:", e);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.dto.MatchingPair;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPairingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingPairingScheduler {
+
+    private final MatchingPairingService matchingPairingService;
+    private final MatchingProperties matchingProperties;
+
+    /**
+     * 게임 모드별 대기자 일괄 매칭
+     */
+    @Scheduled(fixedDelayString = "${matching.pairing-tick-millis:1000}")
+    public void pairPendingRecords() {
+        if (!matchingProperties.isPairingEnabled()) {
+            return;
+        }
+
+        for (GameMode gameMode : GameMode.values()) {
+            try {
+                List<MatchingPair> foundPairs = matchingPairingService.pairPendingRecords(gameMode);
+                if (!foundPairs.isEmpty()) {
+                    log.info("일괄 매칭 완료 - {}: {}쌍", gameMode, foundPairs.size());
+                }
+            } catch (Exception e) {
+                log.error("failed to pairPendingRecords Scheduler - {}:", gameMode, e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingPoolScheduler {
+
+    private final MatchingPool matchingPool;
+
+    @Scheduled(fixedRate = 60 * 1000) // 60초 주기로 실행
+    public void evictExpiredMatchingRecords() {
+        int evicted = matchingPool.evictExpired(LocalDateTime.now());
+        if (evicted > 0) {
+            log.debug("만료된 매칭 대기 기록 제거 - {}건", evicted);
+        }
+    }
+
+}
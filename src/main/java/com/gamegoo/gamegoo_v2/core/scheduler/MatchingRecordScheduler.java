@@ -0,0 +1,68 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingRecordCleanupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingRecordScheduler {
+
+    private final MatchingRecordCleanupService matchingRecordCleanupService;
+    private final MatchingProperties matchingProperties;
+
+    /**
+     * 방치된 PENDING 매칭 기록 EXPIRED 처리
+     */
+    @Scheduled(fixedRate = 60 * 1000) // 60초 주기로 실행
+    public void expirePendingRecords() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusMinutes(matchingProperties.getPendingExpireMinutes());
+        int batchSize = matchingProperties.getCleanupBatchSize();
+
+        try {
+            int total = 0;
+            int expired;
+            do {
+                expired = matchingRecordCleanupService.expirePendingRecords(createdBefore, batchSize);
+                total += expired;
+            } while (expired == batchSize);
+
+            if (total > 0) {
+                log.info("PENDING 매칭 기록 만료 처리 - {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("failed to expirePendingRecords Scheduler:", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 종료된 매칭 기록 이력 테이블 이관
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void archiveFinishedRecords() {
+        LocalDateTime updatedBefore = LocalDateTime.now().minusDays(matchingProperties.getArchiveRetentionDays());
+        int batchSize = matchingProperties.getCleanupBatchSize();
+
+        try {
+            int total = 0;
+            int archived;
+            do {
+                archived = matchingRecordCleanupService.archiveFinishedRecords(updatedBefore, batchSize);
+                total += archived;
+            } while (archived == batchSize);
+
+            log.info("종료된 매칭 기록 이력 테이블 이관 - {}건", total);
+        } catch (Exception e) {
+            log.error("failed to archiveFinishedRecords Scheduler:", e);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiParticipantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollBtiParticipantScheduler {
+
+    private final RollBtiParticipantService rollBtiParticipantService;
+
+    /**
+     * 서버 시작 시 참여자 테이블이 비어 있으면 이벤트 테이블 기준으로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillParticipants() {
+        try {
+            rollBtiParticipantService.backfillIfEmpty();
+        } catch (Exception e) {
+            log.error("failed to backfill roll-bti participants:", e);
+        }
+    }
+
+    /**
+     * 누적 참여 인원 카운터를 참여자 테이블 건수로 보정
+     */
+    @Scheduled(fixedDelayString = "${roll-bti.participant-reconcile-millis:60000}")
+    public void reconcileParticipantCount() {
+        try {
+            rollBtiParticipantService.reconcile();
+        } catch (Exception e) {
+            log.error("failed to reconcileParticipantCount Scheduler:", e);
+        }
+    }
+
+}
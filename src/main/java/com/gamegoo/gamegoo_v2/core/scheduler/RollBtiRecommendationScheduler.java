@@ -0,0 +1,32 @@
+package com.gamegoo.gamegoo_v2.core.scheduler;
+
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiFacadeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Profile({"prod", "dev", "qa"})
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollBtiRecommendationScheduler {
+
+    private final RollBtiFacadeService rollBtiFacadeService;
+
+    /**
+     * 서버 시작 시 추천 정렬 기준 시각이 없는 프로필을 수정 시각으로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRecommendationSortAt() {
+        try {
+            int updated = rollBtiFacadeService.backfillRecommendationSortAt();
+            log.info("롤BTI 추천 정렬 기준 시각 보정 - {}건", updated);
+        } catch (Exception e) {
+            log.error("failed to backfill roll-bti recommendation sort_at:", e);
+        }
+    }
+
+}
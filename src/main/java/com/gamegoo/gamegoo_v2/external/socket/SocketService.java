@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -27,6 +28,7 @@ public class SocketService {
     private static final String SYS_MESSAGE_URL = "/socket/sysmessage";
     private static final String FRIEND_ONLINE_URL = "/socket/friend/online/";
     private static final String NEW_NOTIFICATION_URL = "/socket/newnotification/";
+    private static final String MATCHING_FOUND_URL = "/socket/matching/found";
 
     /**
      * SOCKET 서버로 해당 회원의 socket을 room에 join 요청하는 API 전송
@@ -146,4 +148,29 @@ public class SocketService {
         }
     }
 
+    /**
+     * SOCKET 서버로 서버 측 일괄 매칭 결과(FOUND 처리된 매칭 쌍 목록) 전송
+     *
+     * @param pairs 매칭 쌍 목록 (memberId, matchingUuid, targetMemberId, targetMatchingUuid)
+     */
+    public void emitMatchingFound(List<Map<String, Object>> pairs) {
+        String url = SOCKET_SERVER_URL + MATCHING_FOUND_URL;
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("pairs", pairs);
+
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(url, requestBody, String.class);
+
+            log.info("response of emitMatchingFound: {}", response.getStatusCode());
+            if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                log.error("emitMatchingFound API call FAIL: {}", response.getBody());
+                throw new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR);
+            } else {
+                log.info("emitMatchingFound API call SUCCESS: {}", response.getBody());
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while emitMatchingFound method", e);
+        }
+    }
+
 }
@@ -3,9 +3,12 @@ package com.gamegoo.gamegoo_v2.matching.controller;
 import com.gamegoo.gamegoo_v2.core.common.ApiResponse;
 import com.gamegoo.gamegoo_v2.core.config.swagger.ApiErrorCodes;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
 import com.gamegoo.gamegoo_v2.matching.dto.request.InitializingMatchingRequest;
 import com.gamegoo.gamegoo_v2.matching.dto.response.MatchingFoundResponse;
+import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityDeltaResponse;
 import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
 import com.gamegoo.gamegoo_v2.matching.service.MatchingFacadeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,15 +16,21 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Matching", description = "매칭 정보 관련 API")
 @RestController
 @RequiredArgsConstructor
@@ -43,6 +52,31 @@ public class MatchingController {
         return ApiResponse.ok(matchingFacadeService.calculatePriorityAndRecording(memberId, request));
     }
 
+    @Operation(summary = "대기자 우선순위 리스트 조회 API", description = "API for current priority list of a waiting " +
+            "member (incremental mode)")
+    @GetMapping("/matching/priority/list/{gameMode}/{matchingUuid}")
+    @ApiErrorCodes({
+            ErrorCode.MATCHING_NOT_FOUND
+    })
+    public ApiResponse<List<PriorityValue>> getPriorityList(
+            @PathVariable(name = "gameMode") GameMode gameMode,
+            @PathVariable(name = "matchingUuid") String matchingUuid
+    ) {
+        return ApiResponse.ok(matchingFacadeService.getPriorityList(gameMode, matchingUuid));
+    }
+
+    @Operation(summary = "우선순위 변경분 조회 API", description = "API for priority list changes after the given " +
+            "sequence (incremental mode)")
+    @GetMapping("/matching/priority/delta/{gameMode}")
+    public ApiResponse<PriorityDeltaResponse> getPriorityDeltas(
+            @PathVariable(name = "gameMode") GameMode gameMode,
+            @Parameter(description = "마지막으로 받은 변경 순번") @RequestParam(name = "after", defaultValue = "0") long after,
+            @Parameter(description = "최대 조회 개수") @RequestParam(name = "limit", defaultValue = "1000")
+            @Min(1) @Max(10000) int limit
+    ) {
+        return ApiResponse.ok(matchingFacadeService.getPriorityDeltas(gameMode, after, limit));
+    }
+
     @Operation(summary = "내 매칭 status 변경", description = "API for updating my matching status")
     @PatchMapping("/matching/status/{matchingUuid}/{status}")
     @ApiErrorCodes({
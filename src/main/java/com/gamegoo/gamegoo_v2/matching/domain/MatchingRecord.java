@@ -108,7 +108,10 @@ public class MatchingRecord extends BaseDateTimeEntity {
                 .build();
     }
 
-    private static Tier getTierByGameMode(GameMode gameMode, Member member) {
+    /**
+     * 게임 모드에서 사용하는 회원 티어 (자유 랭크는 자유 랭크 티어, 그 외는 개인 랭크 티어)
+     */
+    public static Tier getTierByGameMode(GameMode gameMode, Member member) {
         if (gameMode == GameMode.FREE) {
             return member.getFreeTier();
         }
@@ -0,0 +1,134 @@
+package com.gamegoo.gamegoo_v2.matching.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Mike;
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 기간이 지난 종료된 매칭 기록 (cold storage)
+ * 매칭 로직에서 조회하지 않으므로 연관관계 없이 id 값만 보관한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "matching_record_history")
+public class MatchingRecordHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "matching_record_history_id")
+    private Long id;
+
+    @Column(name = "matching_uuid", nullable = false, unique = true)
+    private String matchingUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private GameMode gameMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "VARCHAR(20)")
+    private Position mainP;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "VARCHAR(20)")
+    private Position subP;
+
+    // 쉼표로 구분한 원하는 포지션 목록
+    @Column(name = "want_positions", length = 100)
+    private String wantP;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "VARCHAR(20)")
+    private Mike mike;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(50)")
+    private Tier tier;
+
+    @Column
+    private int gameRank;
+
+    @Column(nullable = false)
+    private double winrate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(50)")
+    private MatchingType matchingType;
+
+    @Column
+    private int mannerLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(50)")
+    private MatchingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(50)")
+    private MannerMessageStatus mannerMessageSent;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "target_matching_uuid")
+    private String targetMatchingUuid;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public static MatchingRecordHistory of(MatchingRecord matchingRecord, LocalDateTime archivedAt) {
+        MatchingRecordHistory history = new MatchingRecordHistory();
+        history.matchingUuid = matchingRecord.getMatchingUuid();
+        history.gameMode = matchingRecord.getGameMode();
+        history.mainP = matchingRecord.getMainP();
+        history.subP = matchingRecord.getSubP();
+        history.wantP = joinPositions(matchingRecord.getWantP());
+        history.mike = matchingRecord.getMike();
+        history.tier = matchingRecord.getTier();
+        history.gameRank = matchingRecord.getGameRank();
+        history.winrate = matchingRecord.getWinrate();
+        history.matchingType = matchingRecord.getMatchingType();
+        history.mannerLevel = matchingRecord.getMannerLevel();
+        history.status = matchingRecord.getStatus();
+        history.mannerMessageSent = matchingRecord.getMannerMessageSent();
+        history.memberId = matchingRecord.getMember().getId();
+        // 프록시 초기화 없이 id만 사용
+        history.targetMatchingUuid = matchingRecord.getTargetMatchingRecord() == null ? null
+                : matchingRecord.getTargetMatchingRecord().getMatchingUuid();
+        history.createdAt = matchingRecord.getCreatedAt();
+        history.updatedAt = matchingRecord.getUpdatedAt();
+        history.archivedAt = archivedAt;
+        return history;
+    }
+
+    private static String joinPositions(List<Position> positions) {
+        if (positions == null || positions.isEmpty()) {
+            return null;
+        }
+        return positions.stream()
+                .map(Position::name)
+                .collect(Collectors.joining(","));
+    }
+
+}
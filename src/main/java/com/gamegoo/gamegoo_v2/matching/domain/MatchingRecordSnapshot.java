@@ -0,0 +1,80 @@
+package com.gamegoo.gamegoo_v2.matching.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 우선순위 계산에 필요한 MatchingRecord 값만 int로 압축한 스냅샷
+ * <p>
+ * enum은 ordinal, wantP는 Position ordinal 기준 bitmask로 저장하며, null 값은 -1(bitmask는 0)로 표현한다.
+ */
+@Getter
+public final class MatchingRecordSnapshot {
+
+    public static final int NONE = -1;
+
+    private final int gameMode;
+    private final int precise;
+    private final int tier;
+    private final int rank;
+    private final int mannerLevel;
+    private final int mike;
+    private final int mainP;
+    private final int subP;
+    private final int wantMask;
+
+    private MatchingRecordSnapshot(int gameMode, int precise, int tier, int rank, int mannerLevel, int mike,
+                                   int mainP, int subP, int wantMask) {
+        this.gameMode = gameMode;
+        this.precise = precise;
+        this.tier = tier;
+        this.rank = rank;
+        this.mannerLevel = mannerLevel;
+        this.mike = mike;
+        this.mainP = mainP;
+        this.subP = subP;
+        this.wantMask = wantMask;
+    }
+
+    public static MatchingRecordSnapshot from(MatchingRecord matchingRecord) {
+        return new MatchingRecordSnapshot(
+                ordinalOf(matchingRecord.getGameMode()),
+                matchingRecord.getMatchingType() == MatchingType.PRECISE ? 1 : 0,
+                ordinalOf(matchingRecord.getTier()),
+                matchingRecord.getGameRank(),
+                matchingRecord.getMannerLevel(),
+                ordinalOf(matchingRecord.getMike()),
+                ordinalOf(matchingRecord.getMainP()),
+                ordinalOf(matchingRecord.getSubP()),
+                toMask(matchingRecord.getWantP()));
+    }
+
+    public boolean isPrecise() {
+        return precise == 1;
+    }
+
+    /**
+     * Position ordinal의 bit 값, null(NONE)이면 0
+     */
+    public static int bitOf(int position) {
+        return position == NONE ? 0 : 1 << position;
+    }
+
+    private static int toMask(List<Position> positions) {
+        if (positions == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (Position position : positions) {
+            mask |= bitOf(ordinalOf(position));
+        }
+        return mask;
+    }
+
+    private static int ordinalOf(Enum<?> value) {
+        return value == null ? NONE : value.ordinal();
+    }
+
+}
@@ -6,4 +6,5 @@ public enum MatchingStatus {
     PENDING,// 진행 중
     FOUND,  // 상대 찾음
     QUIT,   // 중도 이탈
+    EXPIRED,// 대기 시간 만료
 }
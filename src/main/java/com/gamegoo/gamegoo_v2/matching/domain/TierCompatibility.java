@@ -0,0 +1,84 @@
+package com.gamegoo.gamegoo_v2.matching.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게임 모드별 티어 매칭 가능 범위
+ * <p>
+ * 게임 모드마다 내 티어 기준으로 매칭 가능한 상대 티어 EnumSet을 미리 만들어 둔다. 매칭 풀의 티어 버킷 조회와 DB 조회의 tier IN (...) 조건 모두 이 표를 사용한다.
+ */
+public class TierCompatibility {
+
+    private static final Map<GameMode, Map<Tier, Set<Tier>>> COMPATIBLE_TIERS = new EnumMap<>(GameMode.class);
+
+    static {
+        for (GameMode gameMode : GameMode.values()) {
+            Map<Tier, Set<Tier>> byTier = new EnumMap<>(Tier.class);
+            for (Tier tier : Tier.values()) {
+                byTier.put(tier, Collections.unmodifiableSet(createCompatibleTiers(gameMode, tier)));
+            }
+            COMPATIBLE_TIERS.put(gameMode, byTier);
+        }
+    }
+
+    private TierCompatibility() {
+    }
+
+    /**
+     * 내 티어와 매칭 가능한 상대 티어 목록
+     *
+     * @param gameMode 게임 모드
+     * @param myTier   내 티어 (null이면 UNRANKED로 간주)
+     * @return 매칭 가능한 상대 티어 set
+     */
+    public static Set<Tier> compatibleTiers(GameMode gameMode, Tier myTier) {
+        return COMPATIBLE_TIERS.get(gameMode).get(myTier != null ? myTier : Tier.UNRANKED);
+    }
+
+    /**
+     * 내 티어 기준으로 상대 티어와 매칭 가능한지 여부
+     *
+     * @param gameMode  게임 모드
+     * @param myTier    내 티어
+     * @param otherTier 상대 티어
+     * @return 매칭 가능 여부
+     */
+    public static boolean isCompatible(GameMode gameMode, Tier myTier, Tier otherTier) {
+        return otherTier != null && compatibleTiers(gameMode, myTier).contains(otherTier);
+    }
+
+    private static EnumSet<Tier> createCompatibleTiers(GameMode gameMode, Tier myTier) {
+        return switch (gameMode) {
+            case SOLO -> soloCompatibleTiers(myTier);
+            // 자유 랭크는 내 티어와 무관하게 골드 이하 상대만 매칭
+            case FREE -> EnumSet.range(Tier.UNRANKED, Tier.GOLD);
+            default -> EnumSet.allOf(Tier.class);
+        };
+    }
+
+    /**
+     * 개인 랭크 듀오 가능 범위
+     */
+    private static EnumSet<Tier> soloCompatibleTiers(Tier myTier) {
+        return switch (myTier) {
+            // UNRANKED ↔ UNRANKED 전용 매칭
+            case UNRANKED -> EnumSet.of(Tier.UNRANKED);
+            case IRON, BRONZE -> EnumSet.of(Tier.IRON, Tier.BRONZE, Tier.SILVER);
+            case SILVER -> EnumSet.of(Tier.IRON, Tier.BRONZE, Tier.SILVER, Tier.GOLD);
+            case GOLD -> EnumSet.of(Tier.SILVER, Tier.GOLD, Tier.PLATINUM);
+            case PLATINUM -> EnumSet.of(Tier.GOLD, Tier.PLATINUM, Tier.EMERALD);
+            case EMERALD -> EnumSet.of(Tier.PLATINUM, Tier.EMERALD, Tier.DIAMOND);
+            case DIAMOND -> EnumSet.of(Tier.EMERALD, Tier.DIAMOND);
+            case MASTER, GRANDMASTER -> EnumSet.of(Tier.MASTER, Tier.GRANDMASTER);
+            // 챌린저는 듀오 불가
+            case CHALLENGER -> EnumSet.noneOf(Tier.class);
+        };
+    }
+
+}
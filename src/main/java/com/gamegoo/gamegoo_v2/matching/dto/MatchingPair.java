@@ -0,0 +1,14 @@
+package com.gamegoo.gamegoo_v2.matching.dto;
+
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+
+/**
+ * 서버 측 일괄 매칭으로 선택된 매칭 쌍
+ *
+ * @param matchingRecord       매칭 기록
+ * @param targetMatchingRecord 상대 매칭 기록
+ * @param priority             양방향 우선순위 합
+ */
+public record MatchingPair(MatchingRecord matchingRecord, MatchingRecord targetMatchingRecord, int priority) {
+
+}
@@ -0,0 +1,57 @@
+package com.gamegoo.gamegoo_v2.matching.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 대기자 한 명의 우선순위 리스트 변경분
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class PriorityDelta {
+
+    @Schema(description = "게임 모드별 변경 순번", requiredMode = Schema.RequiredMode.REQUIRED)
+    private final long sequence;
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    private final Type type;
+    @Schema(description = "우선순위 리스트가 변경된 대기자의 매칭 uuid", requiredMode = Schema.RequiredMode.REQUIRED)
+    private final String matchingUuid;
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    private final Long targetMemberId;
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    private final String targetMatchingUuid;
+    @Schema(description = "대기자 관점의 상대 우선순위 (REMOVE인 경우 0)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private final int priorityValue;
+
+    public enum Type {
+        ADD, REMOVE
+    }
+
+    public static PriorityDelta add(long sequence, String matchingUuid, PriorityValue target) {
+        return PriorityDelta.builder()
+                .sequence(sequence)
+                .type(Type.ADD)
+                .matchingUuid(matchingUuid)
+                .targetMemberId(target.getMemberId())
+                .targetMatchingUuid(target.getMatchingUuid())
+                .priorityValue(target.getPriorityValue())
+                .build();
+    }
+
+    public static PriorityDelta remove(long sequence, String matchingUuid, PriorityValue target) {
+        return PriorityDelta.builder()
+                .sequence(sequence)
+                .type(Type.REMOVE)
+                .matchingUuid(matchingUuid)
+                .targetMemberId(target.getMemberId())
+                .targetMatchingUuid(target.getMatchingUuid())
+                .priorityValue(0)
+                .build();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.gamegoo.gamegoo_v2.matching.dto.response;
+
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityDelta;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@EqualsAndHashCode
+public class PriorityDeltaResponse {
+
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    GameMode gameMode;
+    @Schema(description = "다음 요청의 after 값으로 사용할 마지막 변경 순번", requiredMode = Schema.RequiredMode.REQUIRED)
+    long lastSequence;
+    @Schema(description = "요청한 순번 이후 변경분이 이미 삭제된 경우 true (우선순위 리스트 전체 재조회 필요)",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    boolean reset;
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    List<PriorityDelta> deltas;
+
+    public static PriorityDeltaResponse of(GameMode gameMode, long lastSequence, boolean reset,
+                                           List<PriorityDelta> deltas) {
+        return PriorityDeltaResponse.builder()
+                .gameMode(gameMode)
+                .lastSequence(lastSequence)
+                .reset(reset)
+                .deltas(deltas)
+                .build();
+    }
+
+}
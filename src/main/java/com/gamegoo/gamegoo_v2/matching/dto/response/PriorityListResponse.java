@@ -21,15 +21,24 @@ public class PriorityListResponse {
     List<PriorityValue> otherPriorityList;
     @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
     MatchingMemberInfoResponse myMatchingInfo;
+    @Schema(description = "우선순위 계산 대상 전체 대기자 수", requiredMode = Schema.RequiredMode.REQUIRED)
+    int totalCandidateCount;
 
     public static PriorityListResponse of(List<PriorityValue> mypriorityList, List<PriorityValue> otherpriorityList,
                                           Member member, String matchingUuid, GameMode gameMode) {
+        return of(mypriorityList, otherpriorityList, mypriorityList.size(), member, matchingUuid, gameMode);
+    }
+
+    public static PriorityListResponse of(List<PriorityValue> mypriorityList, List<PriorityValue> otherpriorityList,
+                                          int totalCandidateCount, Member member, String matchingUuid,
+                                          GameMode gameMode) {
         MatchingMemberInfoResponse matchingMemberInfoResponse = MatchingMemberInfoResponse.of(member, matchingUuid,gameMode);
 
         return PriorityListResponse.builder()
                 .myPriorityList(mypriorityList)
                 .otherPriorityList(otherpriorityList)
                 .myMatchingInfo(matchingMemberInfoResponse)
+                .totalCandidateCount(totalCandidateCount)
                 .build();
     }
 
@@ -0,0 +1,12 @@
+package com.gamegoo.gamegoo_v2.matching.repository;
+
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MatchingRecordHistoryRepository extends JpaRepository<MatchingRecordHistory, Long> {
+
+    Optional<MatchingRecordHistory> findByMatchingUuid(String matchingUuid);
+
+}
@@ -1,8 +1,8 @@
 package com.gamegoo.gamegoo_v2.matching.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,14 +11,51 @@ import java.util.Optional;
 public interface MatchingRecordRepositoryCustom {
 
     /**
-     * 매칭 가능한 유효한 레코드 조회
+     * 기준 시각 이후 생성된 PENDING 매칭 기록 전체 조회 (매칭 풀 적재용)
      *
-     * @param createdAt 생성 시간
-     * @param gameMode  게임 모드
-     * @param memberId  사용자 id
-     * @return 매칭 가능한 레코드 리스트
+     * @param createdAfter 기준 시각
+     * @return 생성 시간 오름차순 PENDING 매칭 기록 리스트
      */
-    List<MatchingRecord> findValidMatchingRecords(LocalDateTime createdAt, GameMode gameMode, Long memberId);
+    List<MatchingRecord> findPendingMatchingRecordsCreatedAfter(LocalDateTime createdAfter);
+
+    /**
+     * 매칭 기록 status 조건부 변경 (compare-and-set)
+     * 현재 status가 expectedStatus인 기록만 newStatus로 변경한다.
+     *
+     * @param matchingUuids  변경할 매칭 uuid 목록
+     * @param expectedStatus 변경 전 status
+     * @param newStatus      변경 후 status
+     * @return 실제로 변경된 기록 수
+     */
+    long compareAndSetStatus(List<String> matchingUuids, MatchingStatus expectedStatus, MatchingStatus newStatus);
+
+    /**
+     * 기준 시각 이전에 생성된 PENDING 매칭 uuid 조회 (만료 처리용)
+     *
+     * @param createdBefore 기준 시각
+     * @param limit         최대 조회 수
+     * @return 매칭 uuid 리스트
+     */
+    List<String> findPendingMatchingUuidsCreatedBefore(LocalDateTime createdBefore, int limit);
+
+    /**
+     * 기준 시각 이전에 종료된 매칭 기록 조회 (이력 테이블 이관용)
+     * 매너 메시지 전송 대기 중인 기록은 제외한다.
+     *
+     * @param updatedBefore 기준 시각
+     * @param limit         최대 조회 수
+     * @return wantP를 함께 조회한 매칭 기록 리스트
+     */
+    List<MatchingRecord> findFinishedMatchingRecordsUpdatedBefore(LocalDateTime updatedBefore, int limit);
+
+    /**
+     * 매칭 기록 삭제
+     * 삭제 대상을 매칭 상대로 참조하는 기록의 연결을 먼저 해제한다.
+     *
+     * @param matchingUuids 삭제할 매칭 uuid 목록
+     * @return 삭제된 기록 수
+     */
+    long deleteByMatchingUuids(List<String> matchingUuids);
 
     /**
      * 가장 최근 기록 불러오기 - member
@@ -1,16 +1,10 @@
 package com.gamegoo.gamegoo_v2.matching.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.account.member.domain.Position;
-import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
-import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MannerMessageStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.QMatchingRecord;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.EnumPath;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
@@ -26,45 +20,126 @@ public class MatchingRecordRepositoryCustomImpl implements MatchingRecordReposit
     private final JPAQueryFactory queryFactory;
 
     /**
-     * 생성 시간 내 만들어진 매칭 기록 조회
+     * 기준 시각 이후 생성된 PENDING 매칭 기록 전체 조회
+     * 매칭 풀에서 트랜잭션 밖에서도 사용할 수 있도록 member, wantP를 함께 조회한다.
      *
-     * @param gameMode 게임 모드
-     * @param memberId 사용자 id
+     * @param createdAfter 기준 시각
      * @return 매칭 기록
      */
     @Override
-    public List<MatchingRecord> findValidMatchingRecords(LocalDateTime baseTime, GameMode gameMode, Long memberId) {
-        QMatchingRecord sub = new QMatchingRecord("sub");
+    public List<MatchingRecord> findPendingMatchingRecordsCreatedAfter(LocalDateTime createdAfter) {
+        return queryFactory
+                .selectFrom(matchingRecord).distinct()
+                .join(matchingRecord.member).fetchJoin()
+                .leftJoin(matchingRecord.wantP).fetchJoin()
+                .where(
+                        matchingRecord.createdAt.goe(createdAfter),
+                        matchingRecord.status.eq(MatchingStatus.PENDING)
+                )
+                .orderBy(matchingRecord.createdAt.asc())
+                .fetch();
+    }
 
-        // baseTime 기준으로 5분 전 계산
-        LocalDateTime fiveMinutesAgo = baseTime.minusMinutes(5);
+    /**
+     * 매칭 기록 status 조건부 변경 (compare-and-set)
+     * 단일 UPDATE 문으로 처리하므로 조회 후 검증 사이에 다른 요청이 끼어들 수 없다.
+     *
+     * @param matchingUuids  변경할 매칭 uuid 목록
+     * @param expectedStatus 변경 전 status
+     * @param newStatus      변경 후 status
+     * @return 실제로 변경된 기록 수
+     */
+    @Override
+    public long compareAndSetStatus(List<String> matchingUuids, MatchingStatus expectedStatus,
+                                    MatchingStatus newStatus) {
+        return queryFactory
+                .update(matchingRecord)
+                .set(matchingRecord.status, newStatus)
+                .set(matchingRecord.updatedAt, LocalDateTime.now())
+                .where(
+                        matchingRecord.matchingUuid.in(matchingUuids),
+                        matchingRecord.status.eq(expectedStatus)
+                )
+                .execute();
+    }
 
+    /**
+     * 기준 시각 이전에 생성된 PENDING 매칭 uuid 조회
+     *
+     * @param createdBefore 기준 시각
+     * @param limit         최대 조회 수
+     * @return 매칭 uuid 리스트
+     */
+    @Override
+    public List<String> findPendingMatchingUuidsCreatedBefore(LocalDateTime createdBefore, int limit) {
         return queryFactory
-                .selectFrom(matchingRecord)
+                .select(matchingRecord.matchingUuid)
+                .from(matchingRecord)
                 .where(
-                        matchingRecord.createdAt.goe(fiveMinutesAgo),
                         matchingRecord.status.eq(MatchingStatus.PENDING),
-                        matchingRecord.gameMode.eq(gameMode),
-                        matchingRecord.member.id.ne(memberId),
-                        existsValidMatchSubquery(),
-                        applyGameModeFilter(gameMode),
-
-                        matchingRecord.createdAt.eq(
-                                JPAExpressions
-                                        .select(sub.createdAt.max())
-                                        .from(sub)
-                                        .where(
-                                                sub.createdAt.goe(fiveMinutesAgo),
-                                                sub.status.eq(MatchingStatus.PENDING),
-                                                sub.gameMode.eq(gameMode),
-                                                sub.member.id.eq(matchingRecord.member.id)
-                                        )
-                        )
+                        matchingRecord.createdAt.lt(createdBefore)
+                )
+                .orderBy(matchingRecord.createdAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 기준 시각 이전에 종료된 매칭 기록 조회
+     * 컬렉션 fetch join과 limit을 함께 사용할 수 없으므로 uuid를 먼저 조회한다.
+     *
+     * @param updatedBefore 기준 시각
+     * @param limit         최대 조회 수
+     * @return wantP를 함께 조회한 매칭 기록 리스트
+     */
+    @Override
+    public List<MatchingRecord> findFinishedMatchingRecordsUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        List<String> matchingUuids = queryFactory
+                .select(matchingRecord.matchingUuid)
+                .from(matchingRecord)
+                .where(
+                        matchingRecord.status.in(MatchingStatus.SUCCESS, MatchingStatus.FAIL, MatchingStatus.QUIT,
+                                MatchingStatus.EXPIRED),
+                        matchingRecord.mannerMessageSent.ne(MannerMessageStatus.NOT_SENT),
+                        matchingRecord.updatedAt.lt(updatedBefore)
                 )
-                .orderBy(matchingRecord.member.id.asc(), matchingRecord.createdAt.desc())
+                .orderBy(matchingRecord.updatedAt.asc())
+                .limit(limit)
+                .fetch();
+
+        if (matchingUuids.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(matchingRecord).distinct()
+                .join(matchingRecord.member).fetchJoin()
+                .leftJoin(matchingRecord.wantP).fetchJoin()
+                .where(matchingRecord.matchingUuid.in(matchingUuids))
                 .fetch();
     }
 
+    /**
+     * 매칭 기록 삭제
+     *
+     * @param matchingUuids 삭제할 매칭 uuid 목록
+     * @return 삭제된 기록 수
+     */
+    @Override
+    public long deleteByMatchingUuids(List<String> matchingUuids) {
+        // 삭제 대상을 참조하는 매칭 상대 연결 해제
+        queryFactory
+                .update(matchingRecord)
+                .setNull(matchingRecord.targetMatchingRecord)
+                .where(matchingRecord.targetMatchingRecord.matchingUuid.in(matchingUuids))
+                .execute();
+
+        // wantP 컬렉션 테이블은 Hibernate 벌크 삭제 시 함께 삭제된다
+        return queryFactory
+                .delete(matchingRecord)
+                .where(matchingRecord.matchingUuid.in(matchingUuids))
+                .execute();
+    }
 
     /**
      * 해당 회원의 가장 최근 매칭
@@ -107,98 +182,4 @@ public class MatchingRecordRepositoryCustomImpl implements MatchingRecordReposit
         return Optional.ofNullable(targetMember);
     }
 
-    /**
-     * 게임 모드에 따른 추가 필터 적용
-     */
-    private BooleanExpression applyGameModeFilter(GameMode gameMode) {
-        return switch (gameMode) {
-            case SOLO -> validateSoloRankFilter(); // 개인 랭크 티어 검증
-            case FREE -> validateFreeRankFilter(); // 자유 랭크 티어 검증
-            default -> Expressions.TRUE; // 다른 게임 모드는 필터 없음
-        };
-    }
-
-    /**
-     * SOLO 모드 - 개인 랭크 제한 검증 (validateSoloRankRange 적용)
-     */
-    private BooleanExpression validateSoloRankFilter() {
-        return validateSoloRankRange(matchingRecord.tier);
-    }
-
-    /**
-     * FREE 모드 - 자유 랭크 제한 검증
-     */
-    private BooleanExpression validateFreeRankFilter() {
-        return matchingRecord.tier.in(Tier.UNRANKED, Tier.IRON, Tier.BRONZE, Tier.SILVER, Tier.GOLD)
-                .and(matchingRecord.tier.notIn(Tier.EMERALD, Tier.DIAMOND, Tier.MASTER, Tier.GRANDMASTER,
-                        Tier.CHALLENGER));
-    }
-
-    /**
-     * 매칭 유효성 검사 서브쿼리
-     */
-    private BooleanExpression existsValidMatchSubquery() {
-        QMatchingRecord otherRecord = new QMatchingRecord("otherRecord");
-
-        return JPAExpressions.selectOne()
-                .from(otherRecord)
-                .where(
-                        otherRecord.member.id.ne(matchingRecord.member.id), // 다른 멤버와의 매칭
-                        isValidMatchingPosition(matchingRecord, otherRecord) // 포지션 조건 체크
-                )
-                .exists();
-    }
-
-    /**
-     * 매칭 가능한 포지션 조건
-     */
-    private BooleanExpression isValidMatchingPosition(QMatchingRecord myRecord, QMatchingRecord otherRecord) {
-        // ANY가 하나라도 포함되어 있으면 무조건 매칭 허용
-        BooleanExpression hasAny = myRecord.mainP.eq(Position.ANY)
-                .or(myRecord.subP.eq(Position.ANY))
-                .or(otherRecord.mainP.eq(Position.ANY))
-                .or(otherRecord.subP.eq(Position.ANY));
-
-        // mainP와 subP가 모두 겹치는 경우 (매칭 불가 조건)
-        BooleanExpression exactConflict = myRecord.mainP.eq(otherRecord.mainP)
-                .and(myRecord.subP.eq(otherRecord.subP));
-
-        // 매칭은 ANY가 포함되거나, 포지션이 완전히 같지 않은 경우만 허용
-        return hasAny.or(exactConflict.not());
-    }
-
-    /**
-     * 개인 랭크 제한 검증 (SOLO 모드 전용)
-     */
-    private BooleanExpression validateSoloRankRange(EnumPath<Tier> tierPath) {
-
-        // UNRANKED ↔ UNRANKED 전용 매칭
-        BooleanExpression unrankedOnly =
-                tierPath.eq(Tier.UNRANKED)
-                        .and(matchingRecord.tier.eq(Tier.UNRANKED));
-
-        // 기존 랭크 매칭 규칙 (UNRANKED 제외)
-        BooleanExpression rankedRange =
-                tierPath.eq(Tier.IRON)
-                        .or(tierPath.eq(Tier.BRONZE))
-                        .and(matchingRecord.tier.in(Tier.IRON, Tier.BRONZE, Tier.SILVER))
-                        .or(tierPath.eq(Tier.SILVER)
-                                .and(matchingRecord.tier.in(Tier.IRON, Tier.BRONZE, Tier.SILVER, Tier.GOLD)))
-                        .or(tierPath.eq(Tier.GOLD)
-                                .and(matchingRecord.tier.in(Tier.SILVER, Tier.GOLD, Tier.PLATINUM)))
-                        .or(tierPath.eq(Tier.PLATINUM)
-                                .and(matchingRecord.tier.in(Tier.GOLD, Tier.PLATINUM, Tier.EMERALD)))
-                        .or(tierPath.eq(Tier.EMERALD)
-                                .and(matchingRecord.tier.in(Tier.PLATINUM, Tier.EMERALD, Tier.DIAMOND)))
-                        .or(tierPath.eq(Tier.DIAMOND)
-                                .and(matchingRecord.tier.in(Tier.EMERALD, Tier.DIAMOND)))
-                        .or(tierPath.eq(Tier.MASTER)
-                                .and(matchingRecord.tier.in(Tier.MASTER, Tier.GRANDMASTER)))
-                        .or(tierPath.eq(Tier.GRANDMASTER)
-                                .and(matchingRecord.tier.in(Tier.MASTER, Tier.GRANDMASTER)));
-
-        // UNRANKED 전용 OR 기존 랭크 규칙
-        return unrankedOnly.or(rankedRange);
-    }
-
 }
@@ -13,11 +13,14 @@ import com.gamegoo.gamegoo_v2.core.common.validator.MemberValidator;
 import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.MatchingException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import com.gamegoo.gamegoo_v2.matching.domain.MannerMessageStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
 import com.gamegoo.gamegoo_v2.matching.dto.request.InitializingMatchingRequest;
 import com.gamegoo.gamegoo_v2.matching.dto.response.MatchingFoundResponse;
+import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityDeltaResponse;
 import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
 import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -43,6 +46,7 @@ public class MatchingFacadeService {
     private final BlockService blockService;
     private final MemberGameStyleService memberGameStyleService;
     private final MatchingValidator matchingValidator;
+    private final MatchingPriorityBoard matchingPriorityBoard;
 
     /**
      * 매칭 우선순위 계산 및 DB 저장
@@ -73,40 +77,50 @@ public class MatchingFacadeService {
 
         // 현재 대기 중인 사용자 조회
         List<MatchingRecord> pendingMatchingRecords =
-                matchingService.getPendingMatchingRecords(request.getGameMode(), memberId);
+                matchingService.getPendingMatchingRecords(request.getGameMode(), member);
 
         // target member id 목록 추출
         List<Long> targetMemberIds = pendingMatchingRecords.stream()
                 .map(record -> record.getMember().getId())
                 .toList();
 
-        // 차단 여부 batch 조회
-        Map<Long, Boolean> blockedByTargetMap =
-                blockService.isBlockedByTargetMembersBatch(member, targetMemberIds);
-
-        Map<Long, Boolean> hasBlockedTargetMap =
-                blockService.hasBlockedTargetMembersBatch(member, targetMemberIds);
+        // 양방향 차단 관계 조회
+        Set<Long> blockRelatedMemberIds = blockService.getBlockRelatedMemberIds(member, targetMemberIds);
 
         // 서로 차단하지 않은 경우만 필터링
         List<MatchingRecord> filteredPendingMatchingRecords =
                 pendingMatchingRecords.stream()
-                        .filter(record -> {
-                            Long targetId = record.getMember().getId();
-
-                            boolean blockedByTarget =
-                                    blockedByTargetMap.getOrDefault(targetId, false);
-
-                            boolean hasBlockedTarget =
-                                    hasBlockedTargetMap.getOrDefault(targetId, false);
-
-                            return !blockedByTarget && !hasBlockedTarget;
-                        })
+                        .filter(record -> !blockRelatedMemberIds.contains(record.getMember().getId()))
                         .toList();
 
         // myPriorityList, otherPriorityList 조회
         return matchingService.calculatePriorityList(matchingRecord, filteredPendingMatchingRecords);
     }
 
+    /**
+     * 대기자의 현재 우선순위 리스트 조회 (증분 모드)
+     *
+     * @param gameMode     게임 모드
+     * @param matchingUuid 대기자 매칭 Uuid
+     * @return 우선순위 내림차순 리스트
+     */
+    public List<PriorityValue> getPriorityList(GameMode gameMode, String matchingUuid) {
+        return matchingPriorityBoard.findPriorityList(gameMode, matchingUuid)
+                .orElseThrow(() -> new MatchingException(ErrorCode.MATCHING_NOT_FOUND));
+    }
+
+    /**
+     * 마지막으로 받은 순번 이후 우선순위 변경분 조회 (증분 모드)
+     *
+     * @param gameMode      게임 모드
+     * @param afterSequence 마지막으로 받은 순번
+     * @param limit         최대 조회 개수
+     * @return 변경분 응답 DTO
+     */
+    public PriorityDeltaResponse getPriorityDeltas(GameMode gameMode, long afterSequence, int limit) {
+        return matchingPriorityBoard.findDeltas(gameMode, afterSequence, limit);
+    }
+
     /**
      * 나의 matching Status 변경
      *
@@ -185,13 +199,13 @@ public class MatchingFacadeService {
         // 두 매칭 status가 올바른지 검증
         validateMatchingStatus(MatchingStatus.PENDING, matchingRecord, targetMatchingRecord);
 
+        // matchingStatus 선점 변경 (동시에 같은 상대를 잡으려는 요청은 한 건만 성공)
+        matchingService.claimMatchingStatus(MatchingStatus.PENDING, MatchingStatus.FOUND, matchingRecord,
+                targetMatchingRecord);
+
         // targetMatchingRecord 지정하기
         matchingService.setTargetMatchingRecord(matchingRecord, targetMatchingRecord);
 
-        // matchingStatus 변경
-        matchingService.setMatchingStatus(MatchingStatus.FOUND, matchingRecord);
-        matchingService.setMatchingStatus(MatchingStatus.FOUND, targetMatchingRecord);
-
         return MatchingFoundResponse.of(matchingRecord, targetMatchingRecord);
     }
 
@@ -228,9 +242,9 @@ public class MatchingFacadeService {
         // 두 매칭 status가 올바른지 검증
         validateMatchingStatus(MatchingStatus.FOUND, matchingRecord, targetMatchingRecord);
 
-        // matchingStatus 변경
-        matchingService.setMatchingStatus(MatchingStatus.SUCCESS, matchingRecord);
-        matchingService.setMatchingStatus(MatchingStatus.SUCCESS, targetMatchingRecord);
+        // matchingStatus 선점 변경
+        matchingService.claimMatchingStatus(MatchingStatus.FOUND, MatchingStatus.SUCCESS, matchingRecord,
+                targetMatchingRecord);
 
         // mannerMessageSent 변경
         matchingService.setMannerMessageSent(matchingRecord, MannerMessageStatus.NOT_SENT);
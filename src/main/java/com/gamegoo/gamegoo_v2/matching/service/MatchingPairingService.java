@@ -0,0 +1,187 @@
+package com.gamegoo.gamegoo_v2.matching.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.core.exception.MatchingException;
+import com.gamegoo.gamegoo_v2.core.exception.common.GlobalException;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordSnapshot;
+import com.gamegoo.gamegoo_v2.matching.domain.TierCompatibility;
+import com.gamegoo.gamegoo_v2.matching.dto.MatchingPair;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서버 측 일괄 매칭
+ * <p>
+ * 게임 모드별 대기자 전체의 양방향 우선순위를 계산한 뒤, 점수가 높은 쌍부터 선택하는 greedy max-weight matching으로 매칭 쌍을 정하고 한 번에 FOUND 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchingPairingService {
+
+    // 간선 정렬 key: [우선순위 합 | 역순 index i (21bit) | 역순 index j (21bit)]
+    private static final int INDEX_BITS = 21;
+    private static final int MAX_INDEX = (1 << INDEX_BITS) - 1;
+
+    private final MatchingPool matchingPool;
+    private final MatchingService matchingService;
+    private final MatchingFacadeService matchingFacadeService;
+    private final BlockGraph blockGraph;
+    private final SocketService socketService;
+
+    /**
+     * 게임 모드의 대기자를 일괄 매칭하고 FOUND 처리
+     *
+     * @param gameMode 게임 모드
+     * @return FOUND 처리된 매칭 쌍 목록
+     */
+    public List<MatchingPair> pairPendingRecords(GameMode gameMode) {
+        List<MatchingPair> matchingPairs = findMatchingPairs(gameMode, LocalDateTime.now());
+        if (matchingPairs.isEmpty()) {
+            return matchingPairs;
+        }
+
+        List<MatchingPair> foundPairs;
+        try {
+            matchingService.claimFoundPairs(matchingPairs);
+            foundPairs = matchingPairs;
+        } catch (MatchingException e) {
+            // 일부 기록이 소켓 서버 요청으로 먼저 처리된 경우 쌍별로 다시 처리
+            foundPairs = matchingPairs.stream()
+                    .filter(this::claimPair)
+                    .toList();
+        }
+
+        if (!foundPairs.isEmpty()) {
+            socketService.emitMatchingFound(foundPairs.stream()
+                    .map(MatchingPairingService::toSocketPayload)
+                    .toList());
+        }
+        return foundPairs;
+    }
+
+    /**
+     * 게임 모드의 대기자 전체에 대한 매칭 쌍 계산
+     * 서로의 티어가 매칭 가능 범위이고 두 방향의 우선순위가 모두 0보다 크며 서로 차단하지 않은 쌍만 후보가 되고, 우선순위 합이 같으면 먼저 대기한 회원의 쌍을 우선한다.
+     *
+     * @param gameMode 게임 모드
+     * @param baseTime 기준 시각
+     * @return 매칭 쌍 목록
+     */
+    public List<MatchingPair> findMatchingPairs(GameMode gameMode, LocalDateTime baseTime) {
+        List<MatchingRecord> records = new ArrayList<>(matchingPool.findAllCandidates(gameMode, baseTime));
+        records.removeIf(record -> Boolean.TRUE.equals(record.getMember().getBlind()));
+        records.sort(Comparator.comparing(MatchingRecord::getCreatedAt,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int size = Math.min(records.size(), MAX_INDEX);
+        if (size < 2) {
+            return List.of();
+        }
+
+        MatchingRecordSnapshot[] snapshots = new MatchingRecordSnapshot[size];
+        Tier[] tiers = new Tier[size];
+        List<Long> memberIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            snapshots[i] = MatchingRecordSnapshot.from(records.get(i));
+            tiers[i] = records.get(i).getTier();
+            memberIds.add(records.get(i).getMember().getId());
+        }
+
+        long[] edges = collectEdges(gameMode, snapshots, tiers, memberIds);
+
+        // 우선순위 합이 큰 간선부터 선택
+        Arrays.sort(edges);
+        boolean[] paired = new boolean[size];
+        List<MatchingPair> matchingPairs = new ArrayList<>();
+        for (int k = edges.length - 1; k >= 0; k--) {
+            long edge = edges[k];
+            int i = MAX_INDEX - (int) ((edge >>> INDEX_BITS) & MAX_INDEX);
+            int j = MAX_INDEX - (int) (edge & MAX_INDEX);
+            if (paired[i] || paired[j]) {
+                continue;
+            }
+            paired[i] = true;
+            paired[j] = true;
+            matchingPairs.add(new MatchingPair(records.get(i), records.get(j), (int) (edge >>> (INDEX_BITS * 2))));
+        }
+        return matchingPairs;
+    }
+
+    /**
+     * 매칭 가능한 모든 쌍을 정렬 가능한 long 값으로 수집
+     */
+    private long[] collectEdges(GameMode gameMode, MatchingRecordSnapshot[] snapshots, Tier[] tiers,
+                                List<Long> memberIds) {
+        int size = snapshots.length;
+        int[] myScores = new int[size];
+        int[] otherScores = new int[size];
+        long[] edges = new long[16];
+        int edgeCount = 0;
+
+        for (int i = 0; i < size - 1; i++) {
+            // 차단 관계는 회원별 차단 관계 캐시에서 조회
+            Set<Long> blockRelatedMemberIds = blockGraph.findBlockRelatedMemberIds(memberIds.get(i),
+                    memberIds.subList(i + 1, size));
+
+            MatchingScoreKernel.scoreBatch(gameMode, snapshots[i], snapshots, i + 1, size, myScores, otherScores);
+
+            for (int j = i + 1; j < size; j++) {
+                if (myScores[j] <= 0 || otherScores[j] <= 0 || blockRelatedMemberIds.contains(memberIds.get(j))) {
+                    continue;
+                }
+                if (!TierCompatibility.isCompatible(gameMode, tiers[i], tiers[j])
+                        || !TierCompatibility.isCompatible(gameMode, tiers[j], tiers[i])) {
+                    continue;
+                }
+                if (edgeCount == edges.length) {
+                    edges = Arrays.copyOf(edges, edgeCount * 2);
+                }
+                long weight = myScores[j] + otherScores[j];
+                edges[edgeCount++] = (weight << (INDEX_BITS * 2))
+                        | ((long) (MAX_INDEX - i) << INDEX_BITS)
+                        | (MAX_INDEX - j);
+            }
+        }
+        return Arrays.copyOf(edges, edgeCount);
+    }
+
+    /**
+     * 매칭 쌍 단건 FOUND 처리
+     */
+    private boolean claimPair(MatchingPair matchingPair) {
+        try {
+            matchingFacadeService.matchingFound(matchingPair.matchingRecord().getMatchingUuid(),
+                    matchingPair.targetMatchingRecord().getMatchingUuid());
+            return true;
+        } catch (GlobalException e) {
+            log.debug("일괄 매칭 쌍 FOUND 처리 실패 - {}, {}: {}", matchingPair.matchingRecord().getMatchingUuid(),
+                    matchingPair.targetMatchingRecord().getMatchingUuid(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static Map<String, Object> toSocketPayload(MatchingPair matchingPair) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("memberId", matchingPair.matchingRecord().getMember().getId());
+        payload.put("matchingUuid", matchingPair.matchingRecord().getMatchingUuid());
+        payload.put("targetMemberId", matchingPair.targetMatchingRecord().getMember().getId());
+        payload.put("targetMatchingUuid", matchingPair.targetMatchingRecord().getMatchingUuid());
+        return payload;
+    }
+
+}
@@ -0,0 +1,298 @@
+package com.gamegoo.gamegoo_v2.matching.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.TierCompatibility;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게임 모드별 매칭 대기열 (in-memory)
+ * <p>
+ * 5분 이내 생성된 PENDING 매칭 기록만 회원당 1개(가장 최근 기록)씩 보관하며, 티어별 버킷으로 나누어 관리한다. DB는 영속 기록 용도로만 사용하고, 우선순위 계산 시
+ * 대기자 후보는 이 풀에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingPool implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final long VALID_MINUTES = 5L;
+
+    private final MatchingRecordRepository matchingRecordRepository;
+    private final MatchingPriorityBoard matchingPriorityBoard;
+
+    private final Map<GameMode, ModePool> pools = createPools();
+
+    /**
+     * 서버 시작 시 DB의 유효한 PENDING 매칭 기록으로 풀 초기화
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<MatchingRecord> pendingRecords = matchingRecordRepository.findPendingMatchingRecordsCreatedAfter(
+                LocalDateTime.now().minusMinutes(VALID_MINUTES));
+
+        // 생성 시간 오름차순이므로 회원별 가장 최근 기록이 최종적으로 남는다
+        pendingRecords.forEach(record -> pools.get(record.getGameMode()).put(Entry.of(record)));
+        log.info("matching pool loaded: {} records", pendingRecords.size());
+    }
+
+    /**
+     * 매칭 풀에 등록
+     * 커밋되지 않은 기록이 다른 요청의 후보로 조회되지 않도록 현재 트랜잭션이 커밋된 뒤 등록하며, 회원의 같은 게임 모드 기존 대기 기록은 교체된다.
+     *
+     * @param matchingRecord 등록할 매칭 기록
+     */
+    public void register(MatchingRecord matchingRecord) {
+        // 트랜잭션 종료 후에도 우선순위 계산에 사용할 수 있도록 지연 로딩 컬렉션 초기화
+        Hibernate.initialize(matchingRecord.getWantP());
+
+        runAfterCommit(() -> put(matchingRecord));
+    }
+
+    private void put(MatchingRecord matchingRecord) {
+        // 커밋 전에 같은 트랜잭션에서 PENDING이 아닌 상태로 변경된 기록은 등록하지 않음
+        if (matchingRecord.getStatus() != MatchingStatus.PENDING) {
+            return;
+        }
+        Entry replaced = pools.get(matchingRecord.getGameMode()).put(Entry.of(matchingRecord));
+        if (replaced != null) {
+            matchingPriorityBoard.leave(matchingRecord.getGameMode(), replaced.matchingUuid());
+        }
+    }
+
+    /**
+     * 매칭 풀에서 제거
+     * 현재 트랜잭션이 롤백되면 제거가 취소된다.
+     *
+     * @param matchingRecord 제거할 매칭 기록
+     */
+    public void remove(MatchingRecord matchingRecord) {
+        ModePool pool = pools.get(matchingRecord.getGameMode());
+        Entry removed = pool.remove(matchingRecord.getMatchingUuid());
+
+        if (removed != null) {
+            runOnRollback(() -> pool.putIfAbsent(removed));
+            matchingPriorityBoard.leave(matchingRecord.getGameMode(), removed.matchingUuid());
+        }
+    }
+
+    /**
+     * 매칭 가능한 대기자 조회
+     *
+     * @param gameMode 게임 모드
+     * @param memberId 요청 회원 id (결과에서 제외)
+     * @param tier     요청 회원의 게임 모드 티어
+     * @param baseTime 기준 시각
+     * @return 대기 중인 매칭 기록 리스트
+     */
+    public List<MatchingRecord> findCandidates(GameMode gameMode, Long memberId, Tier tier, LocalDateTime baseTime) {
+        return pools.get(gameMode).findCandidates(memberId, baseTime.minusMinutes(VALID_MINUTES),
+                TierCompatibility.compatibleTiers(gameMode, tier));
+    }
+
+    /**
+     * 게임 모드의 매칭 가능한 대기자 전체 조회 (서버 측 일괄 매칭용)
+     * 티어 제한은 적용하지 않으므로 호출하는 쪽에서 쌍마다 TierCompatibility로 검사한다.
+     *
+     * @param gameMode 게임 모드
+     * @param baseTime 기준 시각
+     * @return 대기 중인 매칭 기록 리스트
+     */
+    public List<MatchingRecord> findAllCandidates(GameMode gameMode, LocalDateTime baseTime) {
+        return pools.get(gameMode).findCandidates(null, baseTime.minusMinutes(VALID_MINUTES),
+                EnumSet.allOf(Tier.class));
+    }
+
+    /**
+     * 만료된(5분 경과) 대기 기록 제거
+     *
+     * @param baseTime 기준 시각
+     * @return 제거된 기록 수
+     */
+    public int evictExpired(LocalDateTime baseTime) {
+        LocalDateTime threshold = baseTime.minusMinutes(VALID_MINUTES);
+        int evicted = 0;
+        for (Map.Entry<GameMode, ModePool> pool : pools.entrySet()) {
+            List<String> evictedUuids = pool.getValue().evictCreatedBefore(threshold);
+            evictedUuids.forEach(matchingUuid -> matchingPriorityBoard.leave(pool.getKey(), matchingUuid));
+            evicted += evictedUuids.size();
+        }
+        return evicted;
+    }
+
+    /**
+     * 게임 모드별 대기 인원 수
+     *
+     * @param gameMode 게임 모드
+     * @return 대기 인원 수
+     */
+    public int size(GameMode gameMode) {
+        return pools.get(gameMode).size();
+    }
+
+    /**
+     * 풀 전체 초기화
+     */
+    public void clear() {
+        pools.values().forEach(ModePool::clear);
+        matchingPriorityBoard.clear();
+    }
+
+    private static Map<GameMode, ModePool> createPools() {
+        Map<GameMode, ModePool> pools = new EnumMap<>(GameMode.class);
+        for (GameMode gameMode : GameMode.values()) {
+            pools.put(gameMode, new ModePool());
+        }
+        return pools;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void runOnRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private record Entry(MatchingRecord record, String matchingUuid, Long memberId, Tier tier,
+                         LocalDateTime createdAt) {
+
+        static Entry of(MatchingRecord record) {
+            LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now();
+            return new Entry(record, record.getMatchingUuid(), record.getMember().getId(), record.getTier(),
+                    createdAt);
+        }
+
+    }
+
+    /**
+     * 단일 게임 모드 대기열
+     */
+    private static final class ModePool {
+
+        private final Map<String, Entry> byUuid = new HashMap<>();
+        private final Map<Long, Entry> byMember = new HashMap<>();
+        private final Map<Tier, Map<String, Entry>> byTier = new EnumMap<>(Tier.class);
+
+        synchronized Entry put(Entry entry) {
+            Entry replaced = byMember.get(entry.memberId());
+            if (replaced != null) {
+                unlink(replaced);
+            }
+            byUuid.put(entry.matchingUuid(), entry);
+            byMember.put(entry.memberId(), entry);
+            byTier.computeIfAbsent(entry.tier(), tier -> new LinkedHashMap<>()).put(entry.matchingUuid(), entry);
+            return replaced;
+        }
+
+        synchronized void putIfAbsent(Entry entry) {
+            if (!byMember.containsKey(entry.memberId())) {
+                put(entry);
+            }
+        }
+
+        synchronized Entry remove(String matchingUuid) {
+            Entry entry = byUuid.get(matchingUuid);
+            if (entry != null) {
+                unlink(entry);
+            }
+            return entry;
+        }
+
+        synchronized List<MatchingRecord> findCandidates(Long memberId, LocalDateTime threshold, Set<Tier> tiers) {
+            List<MatchingRecord> candidates = new ArrayList<>();
+            for (Tier tier : tiers) {
+                Map<String, Entry> bucket = byTier.get(tier);
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry entry : bucket.values()) {
+                    if (!entry.memberId().equals(memberId) && !entry.createdAt().isBefore(threshold)) {
+                        candidates.add(entry.record());
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        synchronized List<String> evictCreatedBefore(LocalDateTime threshold) {
+            List<String> evicted = new ArrayList<>();
+            Iterator<Entry> iterator = byUuid.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.createdAt().isBefore(threshold)) {
+                    iterator.remove();
+                    byMember.remove(entry.memberId());
+                    removeFromTier(entry);
+                    evicted.add(entry.matchingUuid());
+                }
+            }
+            return evicted;
+        }
+
+        synchronized int size() {
+            return byUuid.size();
+        }
+
+        synchronized void clear() {
+            byUuid.clear();
+            byMember.clear();
+            byTier.clear();
+        }
+
+        private void unlink(Entry entry) {
+            byUuid.remove(entry.matchingUuid());
+            byMember.remove(entry.memberId(), entry);
+            removeFromTier(entry);
+        }
+
+        private void removeFromTier(Entry entry) {
+            Map<String, Entry> bucket = byTier.get(entry.tier());
+            if (bucket != null) {
+                bucket.remove(entry.matchingUuid());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,266 @@
+package com.gamegoo.gamegoo_v2.matching.service;
+
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityDelta;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
+import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityDeltaResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 대기자별 우선순위 리스트 증분 관리 (in-memory)
+ * <p>
+ * 새 대기자가 들어오면 calculatePriorityList에서 이미 계산한 양방향 점수로 기존 대기자 리스트에 한 건씩 추가하고, 대기자가 빠지면 그 대기자를 가진 리스트에서만
+ * 제거한다. 모든 변경은 게임 모드별 순번이 붙은 변경분으로 기록되며, 소켓 서버는 마지막으로 받은 순번 이후 변경분만 조회한다. 변경은 트랜잭션 커밋 이후에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingPriorityBoard {
+
+    private final MatchingProperties matchingProperties;
+
+    private final Map<GameMode, ModeBoard> boards = createBoards();
+
+    /**
+     * 새 대기자 등록
+     * 후보 중 현재 대기자 리스트가 있는 회원에게만 서로를 추가한다. 새 대기자 본인의 리스트는 우선순위 계산 응답으로 전달되므로 변경분에 기록하지 않는다.
+     *
+     * @param myMatchingRecord 새 대기자 매칭 기록
+     * @param candidates       차단 관계를 제외한 후보 매칭 기록
+     * @param myPriorities     내 관점의 후보 우선순위
+     * @param otherPriorities  후보 관점의 내 우선순위
+     */
+    public void join(MatchingRecord myMatchingRecord, List<MatchingRecord> candidates, int[] myPriorities,
+                     int[] otherPriorities) {
+        if (!matchingProperties.isIncrementalPriorityEnabled()) {
+            return;
+        }
+
+        // 트랜잭션 종료 후 엔티티 상태와 무관하도록 필요한 값만 복사
+        PriorityValue me = PriorityValue.of(myMatchingRecord.getMember().getId(), myMatchingRecord.getMatchingUuid(),
+                0);
+        List<PriorityValue> myList = new ArrayList<>(candidates.size());
+        List<PriorityValue> otherList = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            MatchingRecord candidate = candidates.get(i);
+            Long candidateMemberId = candidate.getMember().getId();
+            myList.add(PriorityValue.of(candidateMemberId, candidate.getMatchingUuid(), myPriorities[i]));
+            otherList.add(PriorityValue.of(me.getMemberId(), me.getMatchingUuid(), otherPriorities[i]));
+        }
+
+        ModeBoard board = boards.get(myMatchingRecord.getGameMode());
+        runAfterCommit(() -> board.join(me, myList, otherList));
+    }
+
+    /**
+     * 대기자 제거
+     *
+     * @param gameMode     게임 모드
+     * @param matchingUuid 제거할 대기자 매칭 uuid
+     */
+    public void leave(GameMode gameMode, String matchingUuid) {
+        if (!matchingProperties.isIncrementalPriorityEnabled()) {
+            return;
+        }
+
+        ModeBoard board = boards.get(gameMode);
+        runAfterCommit(() -> board.leave(matchingUuid));
+    }
+
+    /**
+     * 대기자의 현재 우선순위 리스트 조회 (우선순위 내림차순)
+     * 게임 모드별 top-K 설정이 있으면 상위 K명만 반환한다.
+     *
+     * @param gameMode     게임 모드
+     * @param matchingUuid 대기자 매칭 uuid
+     * @return 우선순위 리스트, 대기자가 없으면 empty
+     */
+    public Optional<List<PriorityValue>> findPriorityList(GameMode gameMode, String matchingUuid) {
+        return boards.get(gameMode).findPriorityList(matchingUuid, matchingProperties.getTopK(gameMode));
+    }
+
+    /**
+     * 순번 이후의 변경분 조회
+     *
+     * @param gameMode      게임 모드
+     * @param afterSequence 마지막으로 받은 순번
+     * @param limit         최대 조회 개수
+     * @return 변경분 응답 DTO
+     */
+    public PriorityDeltaResponse findDeltas(GameMode gameMode, long afterSequence, int limit) {
+        return boards.get(gameMode).findDeltas(gameMode, afterSequence, limit);
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        boards.values().forEach(ModeBoard::clear);
+    }
+
+    private Map<GameMode, ModeBoard> createBoards() {
+        Map<GameMode, ModeBoard> boards = new EnumMap<>(GameMode.class);
+        for (GameMode gameMode : GameMode.values()) {
+            boards.put(gameMode, new ModeBoard());
+        }
+        return boards;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 대기자 한 명의 우선순위 리스트
+     */
+    private static final class Waiter {
+
+        private static final Comparator<PriorityValue> RANKING =
+                Comparator.comparingInt(PriorityValue::getPriorityValue).reversed()
+                        .thenComparing(PriorityValue::getMatchingUuid);
+
+        private final Map<String, PriorityValue> byUuid = new HashMap<>();
+        private final TreeSet<PriorityValue> ranked = new TreeSet<>(RANKING);
+
+        void put(PriorityValue priorityValue) {
+            PriorityValue replaced = byUuid.put(priorityValue.getMatchingUuid(), priorityValue);
+            if (replaced != null) {
+                ranked.remove(replaced);
+            }
+            ranked.add(priorityValue);
+        }
+
+        PriorityValue remove(String matchingUuid) {
+            PriorityValue removed = byUuid.remove(matchingUuid);
+            if (removed != null) {
+                ranked.remove(removed);
+            }
+            return removed;
+        }
+
+        List<PriorityValue> top(int limit) {
+            List<PriorityValue> priorityList = new ArrayList<>(Math.min(ranked.size(), limit));
+            for (PriorityValue priorityValue : ranked) {
+                if (priorityList.size() == limit) {
+                    break;
+                }
+                priorityList.add(priorityValue);
+            }
+            return priorityList;
+        }
+
+    }
+
+    /**
+     * 단일 게임 모드 대기자 리스트와 변경분
+     * 리스트는 항상 대칭(A의 리스트에 B가 있으면 B의 리스트에 A가 있음)이므로, 제거 시 제거 대상의 리스트만 보고 영향받는 대기자를 찾는다.
+     */
+    private final class ModeBoard {
+
+        private final Map<String, Waiter> waiters = new HashMap<>();
+        private final Deque<PriorityDelta> deltas = new ArrayDeque<>();
+        private long sequence;
+
+        synchronized void join(PriorityValue me, List<PriorityValue> myList, List<PriorityValue> otherList) {
+            leave(me.getMatchingUuid());
+
+            Waiter myWaiter = new Waiter();
+            for (int i = 0; i < myList.size(); i++) {
+                PriorityValue candidate = myList.get(i);
+                Waiter candidateWaiter = waiters.get(candidate.getMatchingUuid());
+
+                // 이미 대기열에서 빠진 후보는 제외
+                if (candidateWaiter == null) {
+                    continue;
+                }
+                myWaiter.put(candidate);
+                candidateWaiter.put(otherList.get(i));
+                append(PriorityDelta.add(++sequence, candidate.getMatchingUuid(), otherList.get(i)));
+            }
+            waiters.put(me.getMatchingUuid(), myWaiter);
+        }
+
+        synchronized void leave(String matchingUuid) {
+            Waiter removedWaiter = waiters.remove(matchingUuid);
+            if (removedWaiter == null) {
+                return;
+            }
+            for (String otherUuid : removedWaiter.byUuid.keySet()) {
+                Waiter otherWaiter = waiters.get(otherUuid);
+                if (otherWaiter == null) {
+                    continue;
+                }
+                PriorityValue removed = otherWaiter.remove(matchingUuid);
+                if (removed != null) {
+                    append(PriorityDelta.remove(++sequence, otherUuid, removed));
+                }
+            }
+        }
+
+        synchronized Optional<List<PriorityValue>> findPriorityList(String matchingUuid, int topK) {
+            Waiter waiter = waiters.get(matchingUuid);
+            if (waiter == null) {
+                return Optional.empty();
+            }
+            return Optional.of(waiter.top(topK > 0 ? topK : Integer.MAX_VALUE));
+        }
+
+        synchronized PriorityDeltaResponse findDeltas(GameMode gameMode, long afterSequence, int limit) {
+            // 요청 순번 다음 변경분이 이미 삭제된 경우 전체 재조회 필요
+            long oldestSequence = deltas.isEmpty() ? sequence + 1 : deltas.peekFirst().getSequence();
+            if (afterSequence + 1 < oldestSequence || afterSequence > sequence) {
+                return PriorityDeltaResponse.of(gameMode, sequence, true, List.of());
+            }
+
+            List<PriorityDelta> result = new ArrayList<>();
+            for (PriorityDelta delta : deltas) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (delta.getSequence() > afterSequence) {
+                    result.add(delta);
+                }
+            }
+            long lastSequence = result.isEmpty() ? afterSequence : result.get(result.size() - 1).getSequence();
+            return PriorityDeltaResponse.of(gameMode, lastSequence, false, result);
+        }
+
+        synchronized void clear() {
+            waiters.clear();
+            deltas.clear();
+        }
+
+        private void append(PriorityDelta delta) {
+            deltas.addLast(delta);
+            while (deltas.size() > matchingProperties.getPriorityDeltaCapacity()) {
+                deltas.removeFirst();
+            }
+        }
+
+    }
+
+}
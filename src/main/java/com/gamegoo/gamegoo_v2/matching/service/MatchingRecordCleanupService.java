@@ -0,0 +1,75 @@
+package com.gamegoo.gamegoo_v2.matching.service;
+
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordHistory;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordHistoryRepository;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * matching_record 테이블 정리
+ * 방치된 PENDING 기록의 만료 처리와 종료된 기록의 이력 테이블 이관을 batch 단위로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MatchingRecordCleanupService {
+
+    private final MatchingRecordRepository matchingRecordRepository;
+    private final MatchingRecordHistoryRepository matchingRecordHistoryRepository;
+
+    /**
+     * 기준 시각 이전에 생성된 PENDING 매칭 기록을 EXPIRED로 변경 (1 batch)
+     *
+     * @param createdBefore 기준 시각
+     * @param batchSize     최대 처리 수
+     * @return 만료 처리된 기록 수
+     */
+    @Transactional
+    public int expirePendingRecords(LocalDateTime createdBefore, int batchSize) {
+        List<String> matchingUuids = matchingRecordRepository.findPendingMatchingUuidsCreatedBefore(createdBefore,
+                batchSize);
+        if (matchingUuids.isEmpty()) {
+            return 0;
+        }
+
+        // 조회 이후 매칭이 진행된 기록은 변경되지 않도록 PENDING인 기록만 변경
+        return (int) matchingRecordRepository.compareAndSetStatus(matchingUuids, MatchingStatus.PENDING,
+                MatchingStatus.EXPIRED);
+    }
+
+    /**
+     * 기준 시각 이전에 종료된 매칭 기록을 이력 테이블로 이관 (1 batch)
+     *
+     * @param updatedBefore 기준 시각
+     * @param batchSize     최대 처리 수
+     * @return 이관된 기록 수
+     */
+    @Transactional
+    public int archiveFinishedRecords(LocalDateTime updatedBefore, int batchSize) {
+        List<MatchingRecord> matchingRecords =
+                matchingRecordRepository.findFinishedMatchingRecordsUpdatedBefore(updatedBefore, batchSize);
+        if (matchingRecords.isEmpty()) {
+            return 0;
+        }
+
+        // 이력 테이블에 저장
+        LocalDateTime archivedAt = LocalDateTime.now();
+        matchingRecordHistoryRepository.saveAll(matchingRecords.stream()
+                .map(matchingRecord -> MatchingRecordHistory.of(matchingRecord, archivedAt))
+                .toList());
+
+        // 원본 기록 삭제
+        List<String> matchingUuids = matchingRecords.stream()
+                .map(MatchingRecord::getMatchingUuid)
+                .toList();
+        return (int) matchingRecordRepository.deleteByMatchingUuids(matchingUuids);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.gamegoo.gamegoo_v2.matching.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordSnapshot;
+
+/**
+ * MatchingRecordSnapshot 기반 우선순위 일괄 계산
+ * <p>
+ * MatchingService.calculatePriority, MatchingStrategyProcessor와 동일한 점수를 int 연산만으로 계산한다. 겜구 매칭 점수는 두 방향이
+ * 동일하므로(매너/티어/마이크 차이는 대칭, 포지션은 양방향 합산) 후보당 한 번만 계산한다.
+ */
+public class MatchingScoreKernel {
+
+    private static final int MANNER_DIFFERENCE_MULTIPLIER = 4;
+    private static final int BASIC_MAX_MANNER_PRIORITY = 16;
+    private static final int MAX_TIER_RANK_PRIORITY = 40;
+    private static final int TIER_MULTIPLIER = 4;
+    private static final int MAIN_POSITION_PRIORITY = 3;
+    private static final int SUB_POSITION_PRIORITY = 2;
+    private static final int DEFAULT_POSITION_PRIORITY = 1;
+
+    private static final int ANY = Position.ANY.ordinal();
+    private static final int ANY_BIT = MatchingRecordSnapshot.bitOf(ANY);
+    private static final int[] PRECISE_MAX_MANNER_PRIORITY = new int[GameMode.values().length];
+
+    static {
+        PRECISE_MAX_MANNER_PRIORITY[GameMode.FAST.ordinal()] = 25;
+        PRECISE_MAX_MANNER_PRIORITY[GameMode.SOLO.ordinal()] = 67;
+        PRECISE_MAX_MANNER_PRIORITY[GameMode.FREE.ordinal()] = 65;
+        PRECISE_MAX_MANNER_PRIORITY[GameMode.ARAM.ordinal()] = 19;
+    }
+
+    private MatchingScoreKernel() {
+    }
+
+    /**
+     * 한 명의 매칭 정보와 후보 배열 간 양방향 우선순위 일괄 계산
+     *
+     * @param gameMode    게임 모드
+     * @param me          내 매칭 정보
+     * @param others      후보 매칭 정보 배열
+     * @param count       계산할 후보 수
+     * @param myScores    내 관점의 후보 우선순위 (calculatePriority(gameMode, me, other))
+     * @param otherScores 후보 관점의 내 우선순위 (calculatePriority(gameMode, other, me))
+     */
+    public static void scoreBatch(GameMode gameMode, MatchingRecordSnapshot me, MatchingRecordSnapshot[] others,
+                                  int count, int[] myScores, int[] otherScores) {
+        scoreBatch(gameMode, me, others, 0, count, myScores, otherScores);
+    }
+
+    /**
+     * 한 명의 매칭 정보와 후보 배열 [fromIndex, toIndex) 구간 간 양방향 우선순위 일괄 계산
+     * 결과는 후보와 같은 index에 저장된다.
+     *
+     * @param gameMode    게임 모드
+     * @param me          내 매칭 정보
+     * @param others      후보 매칭 정보 배열
+     * @param fromIndex   계산 시작 index (포함)
+     * @param toIndex     계산 종료 index (미포함)
+     * @param myScores    내 관점의 후보 우선순위
+     * @param otherScores 후보 관점의 내 우선순위
+     */
+    public static void scoreBatch(GameMode gameMode, MatchingRecordSnapshot me, MatchingRecordSnapshot[] others,
+                                  int fromIndex, int toIndex, int[] myScores, int[] otherScores) {
+        boolean useTierRank = gameMode == GameMode.SOLO || gameMode == GameMode.FREE;
+        boolean usePosition = gameMode != GameMode.ARAM;
+        int mikePriority = gameMode == GameMode.SOLO ? 5 : 3;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            MatchingRecordSnapshot other = others[i];
+
+            int basicPriority = 0;
+            if (!me.isPrecise() || !other.isPrecise()) {
+                basicPriority = basicPriority(me, other, useTierRank, usePosition, mikePriority);
+            }
+
+            myScores[i] = me.isPrecise() ? precisePriority(me, other) : basicPriority;
+            otherScores[i] = other.isPrecise() ? precisePriority(other, me) : basicPriority;
+        }
+    }
+
+    /**
+     * 단방향 우선순위 계산
+     *
+     * @param gameMode 게임 모드
+     * @param my       내 매칭 정보
+     * @param other    상대방 매칭 정보
+     * @return 우선순위 점수
+     */
+    public static int score(GameMode gameMode, MatchingRecordSnapshot my, MatchingRecordSnapshot other) {
+        if (my.isPrecise()) {
+            return precisePriority(my, other);
+        }
+        return basicPriority(my, other, gameMode == GameMode.SOLO || gameMode == GameMode.FREE,
+                gameMode != GameMode.ARAM, gameMode == GameMode.SOLO ? 5 : 3);
+    }
+
+    private static int basicPriority(MatchingRecordSnapshot my, MatchingRecordSnapshot other, boolean useTierRank,
+                                     boolean usePosition, int mikePriority) {
+        // 매너 우선순위
+        int priority = BASIC_MAX_MANNER_PRIORITY
+                - Math.abs(my.getMannerLevel() - other.getMannerLevel()) * MANNER_DIFFERENCE_MULTIPLIER;
+
+        // 티어 및 랭킹 점수
+        if (useTierRank) {
+            int myScore = my.getTier() * TIER_MULTIPLIER - my.getRank();
+            int otherScore = other.getTier() * TIER_MULTIPLIER - other.getRank();
+            priority += MAX_TIER_RANK_PRIORITY - Math.abs(myScore - otherScore);
+        }
+
+        // 포지션 우선순위 (양방향)
+        if (usePosition) {
+            priority += positionPriority(my.getWantMask(), other.getMainP(), other.getSubP());
+            priority += positionPriority(other.getWantMask(), my.getMainP(), my.getSubP());
+        }
+
+        // 마이크 우선순위
+        if (my.getMike() == other.getMike()) {
+            priority += mikePriority;
+        }
+        return priority;
+    }
+
+    private static int precisePriority(MatchingRecordSnapshot my, MatchingRecordSnapshot other) {
+        if (!validatePreciseMatching(my, other) || my.getGameMode() == MatchingRecordSnapshot.NONE) {
+            return 0;
+        }
+        return PRECISE_MAX_MANNER_PRIORITY[my.getGameMode()]
+                - Math.abs(my.getMannerLevel() - other.getMannerLevel()) * MANNER_DIFFERENCE_MULTIPLIER;
+    }
+
+    private static boolean validatePreciseMatching(MatchingRecordSnapshot my, MatchingRecordSnapshot other) {
+        // 마이크가 다를 경우 매칭 실패
+        if (my.getMike() != other.getMike()) {
+            return false;
+        }
+
+        // 내가 원하는 포지션이 상대 포지션이 아닐 경우 매칭 실패
+        int otherPositions = MatchingRecordSnapshot.bitOf(other.getMainP())
+                | MatchingRecordSnapshot.bitOf(other.getSubP());
+        if (my.getWantMask() != 0 && (my.getWantMask() & otherPositions) == 0) {
+            return false;
+        }
+
+        // 티어가 다르면 매칭 실패
+        return my.getTier() == other.getTier();
+    }
+
+    private static int positionPriority(int wantMask, int otherMainP, int otherSubP) {
+        if (wantMask == 0 || otherMainP == ANY
+                || (wantMask & (ANY_BIT | MatchingRecordSnapshot.bitOf(otherMainP))) != 0) {
+            return MAIN_POSITION_PRIORITY;
+        }
+        if (otherSubP == ANY || (wantMask & MatchingRecordSnapshot.bitOf(otherSubP)) != 0) {
+            return SUB_POSITION_PRIORITY;
+        }
+        return DEFAULT_POSITION_PRIORITY;
+    }
+
+}
@@ -1,23 +1,33 @@
 package com.gamegoo.gamegoo_v2.matching.service;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
 import com.gamegoo.gamegoo_v2.core.exception.MatchingException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import com.gamegoo.gamegoo_v2.matching.domain.MannerMessageStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordSnapshot;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.dto.MatchingPair;
 import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
 import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
 import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +36,16 @@ public class MatchingService {
 
     private final MatchingStrategyProcessor matchingStrategyProcessor;
     private final MatchingRecordRepository matchingRecordRepository;
+    private final MatchingPool matchingPool;
+    private final MatchingProperties matchingProperties;
+    private final MatchingPriorityBoard matchingPriorityBoard;
+
+    private static final Comparator<PriorityValue> PRIORITY_ASC =
+            Comparator.comparingInt(PriorityValue::getPriorityValue);
 
     /**
      * 매칭 우선순위 리스트 계산 후 조회
+     * 게임 모드별 top-K 설정이 있으면 양방향 각각 우선순위 상위 K명만 반환한다.
      *
      * @param myMatchingRecord     내 매칭 정보
      * @param otherMatchingRecords 상대방 매칭 정보
@@ -36,23 +53,43 @@ public class MatchingService {
      */
     public PriorityListResponse calculatePriorityList(MatchingRecord myMatchingRecord,
                                                       List<MatchingRecord> otherMatchingRecords) {
-        // 우선순위 리스트 초기화
-        List<PriorityValue> myPriorityList = new ArrayList<>();
-        List<PriorityValue> otherPriorityList = new ArrayList<>();
+        // 자신이 아닌 다른 멤버만 후보로 추출
+        Long myMemberId = myMatchingRecord.getMember().getId();
+        List<MatchingRecord> candidates = otherMatchingRecords.stream()
+                .filter(otherRecord -> !myMemberId.equals(otherRecord.getMember().getId()))
+                .toList();
+
+        // 양방향 우선순위 일괄 계산
+        int size = candidates.size();
+        MatchingRecordSnapshot[] snapshots = new MatchingRecordSnapshot[size];
+        for (int i = 0; i < size; i++) {
+            snapshots[i] = MatchingRecordSnapshot.from(candidates.get(i));
+        }
+        int[] otherPriorities = new int[size];
+        int[] myPriorities = new int[size];
+        MatchingScoreKernel.scoreBatch(myMatchingRecord.getGameMode(), MatchingRecordSnapshot.from(myMatchingRecord),
+                snapshots, size, otherPriorities, myPriorities);
+
+        // 증분 모드인 경우 기존 대기자 우선순위 리스트에 반영
+        matchingPriorityBoard.join(myMatchingRecord, candidates, otherPriorities, myPriorities);
 
-        for (MatchingRecord otherRecord : otherMatchingRecords) {
+        int topK = matchingProperties.getTopK(myMatchingRecord.getGameMode());
+        if (topK > 0) {
+            return toTopKPriorityList(myMatchingRecord, candidates, otherPriorities, myPriorities, topK);
+        }
+
+        // 우선순위 리스트 생성
+        List<PriorityValue> myPriorityList = new ArrayList<>(size);
+        List<PriorityValue> otherPriorityList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MatchingRecord otherRecord = candidates.get(i);
             Long otherMemberId = otherRecord.getMember().getId();
-            // 자신이 아닌 다른 멤버와 비교
-            if (!myMatchingRecord.getMember().getId().equals(otherMemberId)) {
-                // 나의 우선순위 계산
-                int otherPriority = calculatePriority(myMatchingRecord.getGameMode(), myMatchingRecord, otherRecord);
-                myPriorityList.add(PriorityValue.of(otherMemberId, otherRecord.getMatchingUuid(), otherPriority));
-
-                // 상대방 관점에서 나의 우선순위 계산
-                int myPriority = calculatePriority(myMatchingRecord.getGameMode(), otherRecord, myMatchingRecord);
-                otherPriorityList.add(PriorityValue.of(otherRecord.getMember().getId(),
-                        otherRecord.getMatchingUuid(), myPriority));
-            }
+
+            // 나의 우선순위
+            myPriorityList.add(PriorityValue.of(otherMemberId, otherRecord.getMatchingUuid(), otherPriorities[i]));
+
+            // 상대방 관점에서 나의 우선순위
+            otherPriorityList.add(PriorityValue.of(otherMemberId, otherRecord.getMatchingUuid(), myPriorities[i]));
         }
 
         // PriorityListResponse 반환
@@ -60,6 +97,54 @@ public class MatchingService {
                 myMatchingRecord.getMatchingUuid(), myMatchingRecord.getGameMode());
     }
 
+    /**
+     * 우선순위 상위 K명만 유지하며 우선순위 리스트 생성
+     * 크기 K의 min-heap으로 후보를 유지하므로 대기자 수와 무관하게 응답 크기가 일정하다.
+     *
+     * @param myMatchingRecord 내 매칭 정보
+     * @param candidates       후보 매칭 정보
+     * @param otherPriorities  내 관점의 후보 우선순위
+     * @param myPriorities     후보 관점의 내 우선순위
+     * @param topK             방향별 최대 반환 개수
+     * @return 우선순위 내림차순으로 정렬된 우선순위 계산 API 응답 DTO
+     */
+    private PriorityListResponse toTopKPriorityList(MatchingRecord myMatchingRecord, List<MatchingRecord> candidates,
+                                                    int[] otherPriorities, int[] myPriorities, int topK) {
+        PriorityQueue<PriorityValue> myPriorityHeap = new PriorityQueue<>(topK, PRIORITY_ASC);
+        PriorityQueue<PriorityValue> otherPriorityHeap = new PriorityQueue<>(topK, PRIORITY_ASC);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            MatchingRecord otherRecord = candidates.get(i);
+            Long otherMemberId = otherRecord.getMember().getId();
+
+            offerTopK(myPriorityHeap, topK, otherMemberId, otherRecord.getMatchingUuid(), otherPriorities[i]);
+            offerTopK(otherPriorityHeap, topK, otherMemberId, otherRecord.getMatchingUuid(), myPriorities[i]);
+        }
+
+        return PriorityListResponse.of(toDescendingList(myPriorityHeap), toDescendingList(otherPriorityHeap),
+                candidates.size(), myMatchingRecord.getMember(), myMatchingRecord.getMatchingUuid(),
+                myMatchingRecord.getGameMode());
+    }
+
+    /**
+     * heap이 가득 찬 경우 최소값보다 큰 우선순위만 교체하며, 탈락할 후보는 객체를 생성하지 않는다.
+     */
+    private static void offerTopK(PriorityQueue<PriorityValue> heap, int topK, Long memberId, String matchingUuid,
+                                  int priority) {
+        if (heap.size() < topK) {
+            heap.add(PriorityValue.of(memberId, matchingUuid, priority));
+        } else if (heap.peek().getPriorityValue() < priority) {
+            heap.poll();
+            heap.add(PriorityValue.of(memberId, matchingUuid, priority));
+        }
+    }
+
+    private static List<PriorityValue> toDescendingList(PriorityQueue<PriorityValue> heap) {
+        List<PriorityValue> priorityList = new ArrayList<>(heap);
+        priorityList.sort(PRIORITY_ASC.reversed());
+        return priorityList;
+    }
+
     /**
      * 우선순위 점수 계산
      *
@@ -95,14 +180,16 @@ public class MatchingService {
     }
 
     /**
-     * 매칭 대기 중인 Matching Records List 조회
+     * 매칭 대기 중인 Matching Records List 조회 (매칭 풀 기준)
+     * 회원의 게임 모드 티어와 매칭 가능한 티어의 대기자만 조회한다.
      *
      * @param gameMode 게임모드
+     * @param member   요청 회원
      * @return 대기 중인 매칭 리스트
      */
-    public List<MatchingRecord> getPendingMatchingRecords(GameMode gameMode, Long memberId) {
-        return matchingRecordRepository.findValidMatchingRecords(LocalDateTime.now(), gameMode,
-                memberId);
+    public List<MatchingRecord> getPendingMatchingRecords(GameMode gameMode, Member member) {
+        return matchingPool.findCandidates(gameMode, member.getId(), MatchingRecord.getTierByGameMode(gameMode, member),
+                LocalDateTime.now());
     }
 
     /**
@@ -115,8 +202,12 @@ public class MatchingService {
      */
     @Transactional
     public MatchingRecord createMatchingRecord(Member member, MatchingType matchingType, GameMode gameMode) {
-        MatchingRecord matchingRecord = MatchingRecord.create(gameMode, matchingType, member);
-        return matchingRecordRepository.save(matchingRecord);
+        MatchingRecord matchingRecord = matchingRecordRepository.save(
+                MatchingRecord.create(gameMode, matchingType, member));
+
+        // 매칭 풀에 등록
+        matchingPool.register(matchingRecord);
+        return matchingRecord;
     }
 
     /**
@@ -159,6 +250,92 @@ public class MatchingService {
             throw new MatchingException(ErrorCode.MATCHING_STATUS_NOT_ALLOWED);
         }
         matchingRecord.updateStatus(matchingStatus);
+        syncMatchingPool(matchingStatus, matchingRecord);
+    }
+
+    /**
+     * 나와 상대방 매칭 status 선점 변경 (compare-and-set)
+     * 두 기록이 모두 expectedStatus인 경우에만 newStatus로 변경한다. 다른 요청이 먼저 상태를 변경한 경우 재시도 가능한 예외를 던지며, 트랜잭션
+     * 롤백으로 일부만 변경된 기록도 되돌린다.
+     *
+     * @param expectedStatus       변경 전 status
+     * @param newStatus            변경 후 status
+     * @param matchingRecord       내 matchingRecord
+     * @param targetMatchingRecord 상대방 matchingRecord
+     */
+    @Transactional
+    public void claimMatchingStatus(MatchingStatus expectedStatus, MatchingStatus newStatus,
+                                    MatchingRecord matchingRecord, MatchingRecord targetMatchingRecord) {
+        long updatedCount;
+        try {
+            updatedCount = matchingRecordRepository.compareAndSetStatus(
+                    List.of(matchingRecord.getMatchingUuid(), targetMatchingRecord.getMatchingUuid()),
+                    expectedStatus, newStatus);
+        } catch (ConcurrencyFailureException e) {
+            // lock 대기 시간 초과, deadlock 등은 경쟁에서 진 것으로 처리
+            throw new MatchingException(ErrorCode.MATCHING_CLAIM_CONFLICT);
+        }
+
+        if (updatedCount != 2) {
+            throw new MatchingException(ErrorCode.MATCHING_CLAIM_CONFLICT);
+        }
+
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티에 반영
+        matchingRecord.updateStatus(newStatus);
+        targetMatchingRecord.updateStatus(newStatus);
+        syncMatchingPool(newStatus, matchingRecord);
+        syncMatchingPool(newStatus, targetMatchingRecord);
+    }
+
+    /**
+     * 여러 매칭 쌍을 한 번에 PENDING에서 FOUND로 선점 변경하고 서로를 매칭 상대로 지정
+     * 한 쌍이라도 다른 요청이 먼저 상태를 변경한 경우 전체를 롤백한다.
+     *
+     * @param matchingPairs 매칭 쌍 목록
+     */
+    @Transactional
+    public void claimFoundPairs(List<MatchingPair> matchingPairs) {
+        List<String> matchingUuids = matchingPairs.stream()
+                .flatMap(pair -> Stream.of(pair.matchingRecord().getMatchingUuid(),
+                        pair.targetMatchingRecord().getMatchingUuid()))
+                .toList();
+
+        long updatedCount;
+        try {
+            updatedCount = matchingRecordRepository.compareAndSetStatus(matchingUuids, MatchingStatus.PENDING,
+                    MatchingStatus.FOUND);
+        } catch (ConcurrencyFailureException e) {
+            throw new MatchingException(ErrorCode.MATCHING_CLAIM_CONFLICT);
+        }
+
+        if (updatedCount != matchingUuids.size()) {
+            throw new MatchingException(ErrorCode.MATCHING_CLAIM_CONFLICT);
+        }
+
+        // 상태가 변경된 기록을 조회해 매칭 상대 지정
+        Map<String, MatchingRecord> matchingRecords = matchingRecordRepository.findAllById(matchingUuids).stream()
+                .collect(Collectors.toMap(MatchingRecord::getMatchingUuid, Function.identity()));
+
+        for (MatchingPair matchingPair : matchingPairs) {
+            MatchingRecord matchingRecord = matchingRecords.get(matchingPair.matchingRecord().getMatchingUuid());
+            MatchingRecord targetMatchingRecord =
+                    matchingRecords.get(matchingPair.targetMatchingRecord().getMatchingUuid());
+
+            setTargetMatchingRecord(matchingRecord, targetMatchingRecord);
+            syncMatchingPool(MatchingStatus.FOUND, matchingRecord);
+            syncMatchingPool(MatchingStatus.FOUND, targetMatchingRecord);
+        }
+    }
+
+    /**
+     * PENDING 상태인 기록만 매칭 풀에 유지
+     */
+    private void syncMatchingPool(MatchingStatus matchingStatus, MatchingRecord matchingRecord) {
+        if (matchingStatus == MatchingStatus.PENDING) {
+            matchingPool.register(matchingRecord);
+        } else {
+            matchingPool.remove(matchingRecord);
+        }
     }
 
     /**
@@ -10,6 +10,7 @@ import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationBucket;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
 import com.gamegoo.gamegoo_v2.rollbti.dto.request.RollBtiSaveRequest;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationCursorResponse;
+import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiParticipationCountResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiProfileResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationResponse;
 import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiFacadeService;
@@ -19,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -87,6 +89,7 @@ public class RollBtiController {
             description = "회원의 롤BTI 타입 기반으로 다른 롤BTI 회원 카드를 커서 방식으로 추천합니다.")
     @Parameter(name = "size", description = "조회 개수(기본 20, 최대 50)")
     @Parameter(name = "cursorMemberId", description = "이전 응답의 마지막 memberId")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (cursorMemberId보다 우선)")
     @Parameter(name = "compatibilityOrder", description = "궁합 정렬 순서(HIGH, LOW)")
     @Parameter(name = "tier", description = "티어 필터")
     @GetMapping("/me/recommendations/cursor")
@@ -95,16 +98,18 @@ public class RollBtiController {
             ErrorCode.MEMBER_NOT_FOUND,
             ErrorCode.ROLL_BTI_PROFILE_NOT_FOUND,
             ErrorCode.ROLL_BTI_SIZE_BAD_REQUEST,
+            ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST,
             ErrorCode._BAD_REQUEST
     })
     public ApiResponse<RollBtiRecommendationCursorResponse> getMyRecommendationsWithCursor(
             @AuthMember Member member,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) @Min(1) Long cursorMemberId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) RollBtiCompatibilityOrder compatibilityOrder,
             @RequestParam(required = false) Tier tier) {
         return ApiResponse.ok(rollBtiFacadeService.getMyRecommendationsWithCursor(
-                member, size, cursorMemberId, compatibilityOrder, tier));
+                member, size, cursorMemberId, cursor, compatibilityOrder, tier));
     }
 
     @Operation(summary = "내 롤BTI 기반 추천 버킷 무한스크롤 API",
@@ -112,6 +117,7 @@ public class RollBtiController {
     @Parameter(name = "bucket", description = "추천 버킷(GOOD, NORMAL, BAD)")
     @Parameter(name = "size", description = "조회 개수(기본 20, 최대 50)")
     @Parameter(name = "cursorMemberId", description = "이전 응답의 마지막 memberId")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (cursorMemberId보다 우선)")
     @Parameter(name = "tier", description = "티어 필터")
     @GetMapping("/me/recommendations/{bucket}/cursor")
     @ApiErrorCodes({
@@ -119,6 +125,7 @@ public class RollBtiController {
             ErrorCode.MEMBER_NOT_FOUND,
             ErrorCode.ROLL_BTI_PROFILE_NOT_FOUND,
             ErrorCode.ROLL_BTI_SIZE_BAD_REQUEST,
+            ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST,
             ErrorCode._BAD_REQUEST
     })
     public ApiResponse<RollBtiRecommendationCursorResponse> getMyRecommendationsByBucketWithCursor(
@@ -126,8 +133,20 @@ public class RollBtiController {
             @PathVariable RollBtiRecommendationBucket bucket,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) @Min(1) Long cursorMemberId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Tier tier) {
         return ApiResponse.ok(rollBtiFacadeService.getMyRecommendationsByBucketWithCursor(
-                member, bucket, size, cursorMemberId, tier));
+                member, bucket, size, cursorMemberId, cursor, tier));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "롤BTI 누적 참여 인원 재계산 API (관리자 전용)",
+            description = "complete_test 이벤트 전체를 기준으로 참여자 목록과 누적 참여 인원을 처음부터 다시 계산합니다.")
+    @PostMapping("/admin/participants/recompute")
+    @ApiErrorCodes({
+            ErrorCode.UNAUTHORIZED_EXCEPTION
+    })
+    public ApiResponse<RollBtiParticipationCountResponse> recomputeParticipationCount() {
+        return ApiResponse.ok(rollBtiFacadeService.recomputeParticipationCount());
     }
 }
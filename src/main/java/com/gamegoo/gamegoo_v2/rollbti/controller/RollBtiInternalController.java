@@ -23,12 +23,15 @@ import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationCursorRe
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiTypeSummaryResponse;
 import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiFacadeService;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiGuestResultCache.CachedGuestResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -38,6 +41,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @Tag(name = "RollBTI Internal", description = "RollBTI integration API")
 @RestController
 @RequiredArgsConstructor
@@ -45,6 +50,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v2/internal/roll-bti")
 public class RollBtiInternalController {
 
+    private static final CacheControl GUEST_RESULT_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final RollBtiFacadeService rollBtiFacadeService;
 
     @Operation(summary = "특정 회원 롤BTI 타입 저장 API",
@@ -114,6 +122,7 @@ public class RollBtiInternalController {
             description = "type 기준으로 롤BTI 회원 카드를 커서 방식으로 반환합니다.")
     @Parameter(name = "size", description = "조회 개수(기본 20, 최대 50)")
     @Parameter(name = "cursorMemberId", description = "이전 응답의 마지막 memberId")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (cursorMemberId보다 우선)")
     @Parameter(name = "compatibilityOrder", description = "궁합 정렬 순서(HIGH, LOW)")
     @Parameter(name = "tier", description = "티어 필터")
     @Parameter(name = "excludeMemberId", description = "추천에서 제외할 memberId(선택)")
@@ -121,12 +130,14 @@ public class RollBtiInternalController {
     @ApiErrorCodes({
             ErrorCode.ROLL_BTI_TYPE_NOT_SUPPORTED,
             ErrorCode.ROLL_BTI_SIZE_BAD_REQUEST,
+            ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST,
             ErrorCode._BAD_REQUEST
     })
     public ApiResponse<RollBtiRecommendationCursorResponse> getRecommendationsByTypeWithCursor(
             @PathVariable RollBtiType type,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) @Min(1) Long cursorMemberId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) RollBtiCompatibilityOrder compatibilityOrder,
             @RequestParam(required = false) Tier tier,
             @RequestParam(required = false)
@@ -134,7 +145,7 @@ public class RollBtiInternalController {
             Long excludeMemberId) {
         return ApiResponse.ok(
                 rollBtiFacadeService.getRecommendationsByTypeWithCursor(
-                        type, size, cursorMemberId, compatibilityOrder, tier, excludeMemberId));
+                        type, size, cursorMemberId, cursor, compatibilityOrder, tier, excludeMemberId));
     }
 
     @Operation(summary = "타입 기반 추천 버킷 무한스크롤 조회 API",
@@ -142,12 +153,14 @@ public class RollBtiInternalController {
     @Parameter(name = "bucket", description = "추천 버킷(GOOD, NORMAL, BAD)")
     @Parameter(name = "size", description = "조회 개수(기본 20, 최대 50)")
     @Parameter(name = "cursorMemberId", description = "이전 응답의 마지막 memberId")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (cursorMemberId보다 우선)")
     @Parameter(name = "tier", description = "티어 필터")
     @Parameter(name = "excludeMemberId", description = "추천에서 제외할 memberId(선택)")
     @GetMapping("/types/{type}/recommendations/{bucket}/cursor")
     @ApiErrorCodes({
             ErrorCode.ROLL_BTI_TYPE_NOT_SUPPORTED,
             ErrorCode.ROLL_BTI_SIZE_BAD_REQUEST,
+            ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST,
             ErrorCode._BAD_REQUEST
     })
     public ApiResponse<RollBtiRecommendationCursorResponse> getRecommendationsByTypeAndBucketWithCursor(
@@ -155,13 +168,14 @@ public class RollBtiInternalController {
             @PathVariable RollBtiRecommendationBucket bucket,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) @Min(1) Long cursorMemberId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Tier tier,
             @RequestParam(required = false)
             @Min(value = 1, message = "excludeMemberId는 1 이상이어야 합니다.")
             Long excludeMemberId) {
         return ApiResponse.ok(
                 rollBtiFacadeService.getRecommendationsByTypeAndBucketWithCursor(
-                        type, bucket, size, cursorMemberId, tier, excludeMemberId));
+                        type, bucket, size, cursorMemberId, cursor, tier, excludeMemberId));
     }
 
     @Operation(summary = "비회원 롤BTI 회원 카드 목록 조회 API",
@@ -219,13 +233,18 @@ public class RollBtiInternalController {
     }
 
     @Operation(summary = "비회원 롤BTI 결과 조회 API",
-            description = "공유용 resultId로 저장된 결과 payload를 조회합니다.")
+            description = "공유용 resultId로 저장된 결과 payload를 조회합니다. 저장된 결과는 변경되지 않으므로 ETag와 " +
+                    "Cache-Control(immutable)을 함께 응답하며, If-None-Match가 일치하면 304를 반환합니다.")
     @GetMapping("/results/{resultId}")
     @ApiErrorCodes({
             ErrorCode.ROLL_BTI_RESULT_NOT_FOUND
     })
-    public ApiResponse<RollBtiGuestResultResponse> getGuestResult(@PathVariable String resultId) {
-        return ApiResponse.ok(rollBtiFacadeService.getGuestResultByResultId(resultId));
+    public ResponseEntity<ApiResponse<RollBtiGuestResultResponse>> getGuestResult(@PathVariable String resultId) {
+        CachedGuestResult result = rollBtiFacadeService.getCachedGuestResult(resultId);
+        return ResponseEntity.ok()
+                .eTag(result.eTag())
+                .cacheControl(GUEST_RESULT_CACHE_CONTROL)
+                .body(ApiResponse.ok(result.response()));
     }
 
     @Operation(summary = "롤BTI 이벤트 적재 API",
@@ -233,6 +252,7 @@ public class RollBtiInternalController {
     @PostMapping("/events")
     @ApiErrorCodes({
             ErrorCode.MEMBER_NOT_FOUND,
+            ErrorCode.ROLL_BTI_EVENT_QUEUE_FULL,
             ErrorCode._BAD_REQUEST
     })
     public ApiResponse<String> trackEvent(@Valid @RequestBody RollBtiEventRequest request) {
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,6 +29,9 @@ import lombok.NoArgsConstructor;
         name = "member_roll_bti_profile",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_member_roll_bti_profile_member_id", columnNames = "member_id")
+        },
+        indexes = {
+                @Index(name = "idx_member_roll_bti_profile_type_sort", columnList = "roll_bti_type, sort_at, member_id")
         }
 )
 public class MemberRollBtiProfile extends BaseDateTimeEntity {
@@ -42,10 +49,15 @@ public class MemberRollBtiProfile extends BaseDateTimeEntity {
     @Column(name = "roll_bti_type", nullable = false, length = 20)
     private RollBtiType rollBtiType;
 
+    // 추천 정렬 기준 시각 (유형을 등록하거나 변경한 시각), 컬럼 추가 이전 프로필은 서버 시작 시 수정 시각으로 채운다
+    @Column(name = "sort_at")
+    private LocalDateTime sortAt;
+
     @Builder
     private MemberRollBtiProfile(Member member, RollBtiType rollBtiType) {
         this.member = member;
         this.rollBtiType = rollBtiType;
+        this.sortAt = now();
     }
 
     public static MemberRollBtiProfile create(Member member, RollBtiType rollBtiType) {
@@ -56,7 +68,28 @@ public class MemberRollBtiProfile extends BaseDateTimeEntity {
     }
 
     public void updateType(RollBtiType rollBtiType) {
+        if (this.rollBtiType != rollBtiType) {
+            this.sortAt = now();
+        }
         this.rollBtiType = rollBtiType;
     }
+
+    /**
+     * 추천 정렬 기준 시각 조회
+     * 컬럼이 채워지기 전이면 수정 시각(수정 이력이 없으면 생성 시각)을 반환한다.
+     *
+     * @return 추천 정렬 기준 시각
+     */
+    public LocalDateTime getSortAt() {
+        if (sortAt != null) {
+            return sortAt;
+        }
+        return getUpdatedAt() != null ? getUpdatedAt() : getCreatedAt();
+    }
+
+    // DB에 저장되는 시각 정밀도(마이크로초)에 맞춰 keyset 커서와 비교가 어긋나지 않도록 함
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
 
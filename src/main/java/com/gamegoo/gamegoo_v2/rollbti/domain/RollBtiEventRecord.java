@@ -0,0 +1,23 @@
+package com.gamegoo.gamegoo_v2.rollbti.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 저장 대기 중인 롤BTI 이벤트
+ *
+ * @param memberId    겜구 회원 id (선택)
+ * @param eventType   이벤트 타입
+ * @param rollBtiType 이벤트 발생 시점의 롤BTI 타입 (선택)
+ * @param sessionId   롤BTI 프론트 세션 식별자 (선택)
+ * @param eventSource 이벤트 소스 (선택)
+ * @param createdAt   이벤트 접수 시각
+ */
+public record RollBtiEventRecord(
+        Long memberId,
+        RollBtiEventType eventType,
+        RollBtiType rollBtiType,
+        String sessionId,
+        String eventSource,
+        LocalDateTime createdAt) {
+
+}
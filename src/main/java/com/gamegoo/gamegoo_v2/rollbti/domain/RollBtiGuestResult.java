@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.rollbti.domain;
 
 import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
+import com.gamegoo.gamegoo_v2.utils.DeflateUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -32,9 +34,17 @@ public class RollBtiGuestResult extends BaseDateTimeEntity {
     @Column(nullable = false, length = 20)
     private RollBtiType rollBtiType;
 
+    // 압축 저장 이전에 생성된 결과의 원본 payload, 압축 저장된 결과는 빈 문자열
+    @Getter(AccessLevel.NONE)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String resultPayload;
 
+    // deflate 압축된 payload
+    @Lob
+    @Getter(AccessLevel.NONE)
+    @Column(name = "result_payload_compressed")
+    private byte[] compressedResultPayload;
+
     @Column(length = 120)
     private String sessionId;
 
@@ -42,7 +52,8 @@ public class RollBtiGuestResult extends BaseDateTimeEntity {
     private RollBtiGuestResult(String resultId, RollBtiType rollBtiType, String resultPayload, String sessionId) {
         this.resultId = resultId;
         this.rollBtiType = rollBtiType;
-        this.resultPayload = resultPayload;
+        this.resultPayload = "";
+        this.compressedResultPayload = DeflateUtil.compress(resultPayload);
         this.sessionId = sessionId;
     }
 
@@ -55,5 +66,19 @@ public class RollBtiGuestResult extends BaseDateTimeEntity {
                 .sessionId(sessionId)
                 .build();
     }
+
+    /**
+     * 결과 payload 조회
+     * 압축 저장된 결과는 압축을 풀어 반환한다.
+     *
+     * @return payload JSON 문자열
+     */
+    public String getResultPayload() {
+        if (compressedResultPayload != null) {
+            return DeflateUtil.decompress(compressedResultPayload);
+        }
+        return resultPayload;
+    }
+
 }
 
@@ -0,0 +1,70 @@
+package com.gamegoo.gamegoo_v2.rollbti.domain;
+
+import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 롤BTI 테스트 완료 참여자 (참여자 식별값 기준 중복 없이 1건)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "roll_bti_participant",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_roll_bti_participant_key", columnNames = "participant_key")
+        }
+)
+public class RollBtiParticipant extends BaseDateTimeEntity {
+
+    private static final String MEMBER_KEY_PREFIX = "M:";
+    private static final String SESSION_KEY_PREFIX = "S:";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "roll_bti_participant_id")
+    private Long id;
+
+    @Column(name = "participant_key", nullable = false, length = 130)
+    private String participantKey;
+
+    @Builder
+    private RollBtiParticipant(String participantKey) {
+        this.participantKey = participantKey;
+    }
+
+    public static RollBtiParticipant create(String participantKey) {
+        return RollBtiParticipant.builder()
+                .participantKey(participantKey)
+                .build();
+    }
+
+    /**
+     * 참여자 식별값 생성
+     * 회원이면 회원 id, 비회원이면 세션 id로 구분한다.
+     *
+     * @param memberId  회원 id
+     * @param sessionId 롤BTI 프론트 세션 식별자
+     * @return 참여자 식별값, 둘 다 없으면 null
+     */
+    public static String participantKeyOf(Long memberId, String sessionId) {
+        if (memberId != null) {
+            return MEMBER_KEY_PREFIX + memberId;
+        }
+        if (sessionId != null) {
+            return SESSION_KEY_PREFIX + sessionId;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.gamegoo.gamegoo_v2.rollbti.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+
+/**
+ * 롤BTI 공개 추천 순서 snapshot에 보관하는 회원 정보
+ *
+ * @param memberId 회원 id
+ * @param gameName 소환사명
+ * @param tag      태그
+ * @param soloTier 개인 랭크 티어
+ * @param freeTier 자유 랭크 티어
+ */
+public record RollBtiPublicRecommendationEntry(
+        Long memberId,
+        String gameName,
+        String tag,
+        Tier soloTier,
+        Tier freeTier) {
+
+}
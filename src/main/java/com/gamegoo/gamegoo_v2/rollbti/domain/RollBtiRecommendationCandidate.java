@@ -0,0 +1,33 @@
+package com.gamegoo.gamegoo_v2.rollbti.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+
+import java.time.LocalDateTime;
+
+/**
+ * 롤BTI 추천 인덱스에 보관하는 추천 대상 회원 정보
+ *
+ * @param memberId    회원 id
+ * @param rollBtiType 롤BTI 유형
+ * @param soloTier    개인 랭크 티어
+ * @param freeTier    자유 랭크 티어
+ * @param updatedAt   프로필 수정 시각 (수정 이력이 없으면 생성 시각)
+ */
+public record RollBtiRecommendationCandidate(
+        Long memberId,
+        RollBtiType rollBtiType,
+        Tier soloTier,
+        Tier freeTier,
+        LocalDateTime updatedAt) {
+
+    /**
+     * 티어 필터 일치 여부 (개인 랭크, 자유 랭크 중 하나라도 일치하면 포함)
+     *
+     * @param tier 티어 필터 (null이면 전체)
+     * @return 일치 여부
+     */
+    public boolean hasTier(Tier tier) {
+        return tier == null || tier == soloTier || tier == freeTier;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.gamegoo.gamegoo_v2.rollbti.domain;
+
+import com.gamegoo.gamegoo_v2.core.exception.RollBtiException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 롤BTI 회원 추천 keyset 커서
+ * <p>
+ * 추천 정렬 키(받은 친구 요청 여부, 궁합 점수, 프로필 수정 시각, 회원 id) 자체를 커서로 사용하므로, 커서 회원이 추천 대상에서 빠지거나 정보가 바뀌어도 다음
+ * 페이지를 이어서 조회할 수 있다.
+ *
+ * @param friendRequestReceived 요청자에게 친구 요청을 보낸 회원 여부
+ * @param compatibilityScore    궁합 점수
+ * @param updatedAt             프로필 수정 시각 (수정 이력이 없으면 생성 시각)
+ * @param memberId              회원 id
+ */
+public record RollBtiRecommendationCursor(
+        boolean friendRequestReceived,
+        int compatibilityScore,
+        LocalDateTime updatedAt,
+        Long memberId) {
+
+    private static final String DELIMITER = "_";
+
+    public RollBtiRecommendationCursor {
+        // DB에 저장되는 시각 정밀도(마이크로초)에 맞춰 keyset 비교가 어긋나지 않도록 함
+        if (updatedAt != null) {
+            updatedAt = updatedAt.truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+
+    /**
+     * 추천 정렬 순서 comparator
+     * 받은 친구 요청 우선, 궁합 점수(정렬 방향에 따라 내림차순/오름차순), 수정 시각 내림차순, 회원 id 내림차순
+     *
+     * @param compatibilityOrder 궁합 점수 정렬 방향
+     * @return comparator
+     */
+    public static Comparator<RollBtiRecommendationCursor> comparator(RollBtiCompatibilityOrder compatibilityOrder) {
+        Comparator<RollBtiRecommendationCursor> scoreComparator =
+                Comparator.comparingInt(RollBtiRecommendationCursor::compatibilityScore);
+        if (compatibilityOrder != RollBtiCompatibilityOrder.LOW) {
+            scoreComparator = scoreComparator.reversed();
+        }
+
+        return Comparator.comparing(RollBtiRecommendationCursor::friendRequestReceived, Comparator.reverseOrder())
+                .thenComparing(scoreComparator)
+                .thenComparing(RollBtiRecommendationCursor::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(RollBtiRecommendationCursor::memberId, Comparator.reverseOrder());
+    }
+
+    /**
+     * 응답용 커서 문자열 생성
+     *
+     * @return URL-safe base64 커서 문자열
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                friendRequestReceived ? "1" : "0",
+                String.valueOf(compatibilityScore),
+                updatedAt != null ? updatedAt.toString() : "",
+                String.valueOf(memberId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor encode()로 만든 커서 문자열
+     * @return 커서
+     */
+    public static RollBtiRecommendationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = raw.split(DELIMITER, -1);
+            if (tokens.length != 4) {
+                throw new RollBtiException(ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST);
+            }
+            return new RollBtiRecommendationCursor(
+                    "1".equals(tokens[0]),
+                    Integer.parseInt(tokens[1]),
+                    tokens[2].isEmpty() ? null : LocalDateTime.parse(tokens[2]),
+                    Long.parseLong(tokens[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RollBtiException(ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST);
+        }
+    }
+
+}
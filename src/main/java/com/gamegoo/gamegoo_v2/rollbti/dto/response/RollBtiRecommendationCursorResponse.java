@@ -27,6 +27,9 @@ public class RollBtiRecommendationCursorResponse {
     @Schema
     private Long nextCursorMemberId;
 
+    @Schema(description = "다음 페이지 조회용 커서")
+    private String nextCursor;
+
     @ArraySchema(schema = @Schema(implementation = RollBtiRecommendedMemberResponse.class))
     private List<RollBtiRecommendedMemberResponse> recommendations;
 
@@ -35,13 +38,15 @@ public class RollBtiRecommendationCursorResponse {
             int requestedSize,
             List<RollBtiRecommendedMemberResponse> recommendations,
             boolean hasNext,
-            Long nextCursorMemberId) {
+            Long nextCursorMemberId,
+            String nextCursor) {
         return RollBtiRecommendationCursorResponse.builder()
                 .requesterType(requesterType)
                 .requestedSize(requestedSize)
                 .count(recommendations.size())
                 .hasNext(hasNext)
                 .nextCursorMemberId(nextCursorMemberId)
+                .nextCursor(nextCursor)
                 .recommendations(recommendations)
                 .build();
     }
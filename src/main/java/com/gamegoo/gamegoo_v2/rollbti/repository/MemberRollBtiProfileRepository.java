@@ -2,7 +2,10 @@ package com.gamegoo.gamegoo_v2.rollbti.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.rollbti.domain.MemberRollBtiProfile;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiPublicRecommendationEntry;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,7 +13,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface MemberRollBtiProfileRepository extends JpaRepository<MemberRollBtiProfile, Long> {
+public interface MemberRollBtiProfileRepository extends JpaRepository<MemberRollBtiProfile, Long>,
+        MemberRollBtiProfileRepositoryCustom {
 
     Optional<MemberRollBtiProfile> findByMember_Id(Long memberId);
 
@@ -23,9 +27,58 @@ public interface MemberRollBtiProfileRepository extends JpaRepository<MemberRoll
             WHERE m.blind = false
               AND (:excludeMemberId IS NULL OR m.id <> :excludeMemberId)
               AND (:tier IS NULL OR m.soloTier = :tier OR m.freeTier = :tier)
-            ORDER BY COALESCE(p.updatedAt, p.createdAt) DESC, m.id DESC
+            ORDER BY COALESCE(p.sortAt, p.updatedAt, p.createdAt) DESC, m.id DESC
             """)
     List<MemberRollBtiProfile> findRecommendationCandidates(
             @Param("tier") Tier tier,
             @Param("excludeMemberId") Long excludeMemberId);
+
+    @Query("""
+            SELECT new com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate(
+                m.id, p.rollBtiType, m.soloTier, m.freeTier, COALESCE(p.sortAt, p.updatedAt, p.createdAt))
+            FROM MemberRollBtiProfile p
+            JOIN p.member m
+            WHERE m.blind = false
+            """)
+    List<RollBtiRecommendationCandidate> findAllRecommendationIndexCandidates();
+
+    @Query("""
+            SELECT new com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate(
+                m.id, p.rollBtiType, m.soloTier, m.freeTier, COALESCE(p.sortAt, p.updatedAt, p.createdAt))
+            FROM MemberRollBtiProfile p
+            JOIN p.member m
+            WHERE m.id = :memberId
+              AND m.blind = false
+            """)
+    Optional<RollBtiRecommendationCandidate> findRecommendationIndexCandidate(@Param("memberId") Long memberId);
+
+    @Query("""
+            SELECT new com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiPublicRecommendationEntry(
+                m.id, m.gameName, m.tag, m.soloTier, m.freeTier)
+            FROM MemberRollBtiProfile p
+            JOIN p.member m
+            WHERE m.blind = false
+            """)
+    List<RollBtiPublicRecommendationEntry> findAllPublicRecommendationEntries();
+
+    @Query("""
+            SELECT p
+            FROM MemberRollBtiProfile p
+            JOIN FETCH p.member m
+            WHERE m.id IN :memberIds
+              AND m.blind = false
+            """)
+    List<MemberRollBtiProfile> findRecommendationProfilesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 추천 정렬 기준 시각이 없는 프로필을 수정 시각(수정 이력이 없으면 생성 시각)으로 채움
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE member_roll_bti_profile
+            SET sort_at = COALESCE(updated_at, created_at)
+            WHERE sort_at IS NULL
+            """, nativeQuery = true)
+    int backfillSortAt();
+
 }
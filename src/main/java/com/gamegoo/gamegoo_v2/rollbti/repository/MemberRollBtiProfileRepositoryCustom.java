@@ -0,0 +1,33 @@
+package com.gamegoo.gamegoo_v2.rollbti.repository;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.rollbti.domain.MemberRollBtiProfile;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCursor;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface MemberRollBtiProfileRepositoryCustom {
+
+    /**
+     * 궁합 점수 keyset 기준 다음 추천 대상 프로필 조회
+     * 같은 궁합 점수의 유형을 묶어 점수 그룹 순서대로 조회하며, 그룹 안에서는 추천 정렬 기준 시각(sort_at) 내림차순, 회원 id 내림차순으로
+     * 정렬한다. 그룹마다 (roll_bti_type, sort_at, member_id) 인덱스 범위를 읽으므로 전체 정렬 없이 limit만큼만 조회한다.
+     *
+     * @param scoreByType        조회할 상대 유형별 궁합 점수 (포함되지 않은 유형은 조회하지 않음)
+     * @param compatibilityOrder 궁합 점수 정렬 방향
+     * @param tier               티어 필터 (null이면 전체)
+     * @param excludedMemberIds  제외할 회원 id
+     * @param cursor             이전 페이지 마지막 추천 키 (null이면 처음부터)
+     * @param limit              최대 조회 개수
+     * @return 추천 대상 프로필 list
+     */
+    List<MemberRollBtiProfile> findRecommendationsAfter(Map<RollBtiType, Integer> scoreByType,
+                                                        RollBtiCompatibilityOrder compatibilityOrder, Tier tier,
+                                                        Collection<Long> excludedMemberIds,
+                                                        RollBtiRecommendationCursor cursor, int limit);
+
+}
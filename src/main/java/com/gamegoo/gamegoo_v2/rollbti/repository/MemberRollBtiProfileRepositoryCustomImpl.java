@@ -0,0 +1,91 @@
+package com.gamegoo.gamegoo_v2.rollbti.repository;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.rollbti.domain.MemberRollBtiProfile;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCursor;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.gamegoo.gamegoo_v2.account.member.domain.QMember.member;
+import static com.gamegoo.gamegoo_v2.rollbti.domain.QMemberRollBtiProfile.memberRollBtiProfile;
+
+@RequiredArgsConstructor
+public class MemberRollBtiProfileRepositoryCustomImpl implements MemberRollBtiProfileRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MemberRollBtiProfile> findRecommendationsAfter(Map<RollBtiType, Integer> scoreByType,
+                                                               RollBtiCompatibilityOrder compatibilityOrder,
+                                                               Tier tier, Collection<Long> excludedMemberIds,
+                                                               RollBtiRecommendationCursor cursor, int limit) {
+        if (scoreByType.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 궁합 점수별로 유형을 묶어 정렬 순서대로 조회
+        boolean ascending = compatibilityOrder == RollBtiCompatibilityOrder.LOW;
+        TreeMap<Integer, List<RollBtiType>> typesByScore = new TreeMap<>();
+        scoreByType.forEach((type, typeScore) ->
+                typesByScore.computeIfAbsent(typeScore, key -> new ArrayList<>()).add(type));
+        Map<Integer, List<RollBtiType>> orderedGroups = ascending ? typesByScore : typesByScore.descendingMap();
+
+        List<MemberRollBtiProfile> result = new ArrayList<>(limit);
+        for (Map.Entry<Integer, List<RollBtiType>> group : orderedGroups.entrySet()) {
+            int groupScore = group.getKey();
+            // 커서보다 앞선 점수 그룹은 건너뜀
+            if (cursor != null && (ascending ? groupScore < cursor.compatibilityScore()
+                    : groupScore > cursor.compatibilityScore())) {
+                continue;
+            }
+
+            BooleanBuilder where = new BooleanBuilder()
+                    .and(memberRollBtiProfile.rollBtiType.in(group.getValue()))
+                    .and(member.blind.isFalse())
+                    .and(tierFilter(tier))
+                    .and(excludedMemberIds.isEmpty() ? null : member.id.notIn(excludedMemberIds))
+                    .and(cursor != null && groupScore == cursor.compatibilityScore() ? after(cursor) : null);
+
+            result.addAll(queryFactory.selectFrom(memberRollBtiProfile)
+                    .join(memberRollBtiProfile.member, member).fetchJoin()
+                    .where(where)
+                    .orderBy(memberRollBtiProfile.sortAt.desc(), memberRollBtiProfile.member.id.desc())
+                    .limit(limit - result.size())
+                    .fetch());
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 커서와 같은 점수 그룹 안에서 (sortAt, memberId)가 정렬 순서상 커서보다 뒤에 있는 행
+     */
+    private BooleanExpression after(RollBtiRecommendationCursor cursor) {
+        if (cursor.updatedAt() == null) {
+            return memberRollBtiProfile.member.id.lt(cursor.memberId());
+        }
+        return memberRollBtiProfile.sortAt.lt(cursor.updatedAt())
+                .or(memberRollBtiProfile.sortAt.eq(cursor.updatedAt())
+                        .and(memberRollBtiProfile.member.id.lt(cursor.memberId())));
+    }
+
+    private BooleanExpression tierFilter(Tier tier) {
+        if (tier == null) {
+            return null;
+        }
+        return member.soloTier.eq(tier).or(member.freeTier.eq(tier));
+    }
+
+}
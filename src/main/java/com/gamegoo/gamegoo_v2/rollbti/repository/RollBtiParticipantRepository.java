@@ -0,0 +1,43 @@
+package com.gamegoo.gamegoo_v2.rollbti.repository;
+
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RollBtiParticipantRepository extends JpaRepository<RollBtiParticipant, Long> {
+
+    boolean existsByParticipantKey(String participantKey);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RollBtiParticipant p")
+    int deleteAllParticipants();
+
+    /**
+     * complete_test 이벤트의 참여자 중 아직 없는 참여자 일괄 추가
+     * 참여자 식별값은 RollBtiParticipant.participantKeyOf와 같은 규칙(회원 id 우선, 없으면 세션 id)으로 만든다.
+     *
+     * @return 추가된 참여자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO roll_bti_participant (participant_key, created_at, updated_at)
+            SELECT event_key.participant_key, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM (
+                SELECT DISTINCT CASE
+                    WHEN member_id IS NOT NULL THEN CONCAT('M:', member_id)
+                    ELSE CONCAT('S:', session_id)
+                END AS participant_key
+                FROM roll_bti_event
+                WHERE event_type = 'COMPLETE_TEST'
+                  AND (member_id IS NOT NULL OR session_id IS NOT NULL)
+            ) event_key
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM roll_bti_participant p
+                WHERE p.participant_key = event_key.participant_key
+            )
+            """, nativeQuery = true)
+    int insertMissingParticipantsFromEvents();
+
+}
@@ -17,6 +17,12 @@ import java.util.Set;
 @Service
 public class RollBtiCatalogService {
 
+    private static final int GOOD_MATCH_SCORE = 95;
+    private static final int SAME_TYPE_SCORE = 75;
+    private static final int NORMAL_SCORE = 60;
+    private static final int NO_PROFILE_SCORE = 50;
+    private static final int BAD_MATCH_SCORE = 20;
+
     private final Map<RollBtiType, CatalogEntry> catalog = new EnumMap<>(RollBtiType.class);
 
     public RollBtiCatalogService() {
@@ -39,6 +45,44 @@ public class RollBtiCatalogService {
         return new HashSet<>(getEntry(type).badMatches());
     }
 
+    /**
+     * 요청자 유형 기준 상대 유형의 궁합 점수
+     *
+     * @param requesterType 요청자 롤BTI 유형
+     * @param targetType    상대 롤BTI 유형 (null이면 프로필 없음)
+     * @return 궁합 점수
+     */
+    public int calculateCompatibilityScore(RollBtiType requesterType, RollBtiType targetType) {
+        if (targetType == null) {
+            return NO_PROFILE_SCORE;
+        }
+        if (targetType == requesterType) {
+            return SAME_TYPE_SCORE;
+        }
+        CatalogEntry entry = getEntry(requesterType);
+        if (entry.goodMatches().contains(targetType)) {
+            return GOOD_MATCH_SCORE;
+        }
+        if (entry.badMatches().contains(targetType)) {
+            return BAD_MATCH_SCORE;
+        }
+        return NORMAL_SCORE;
+    }
+
+    /**
+     * 요청자 유형 기준 모든 상대 유형의 궁합 점수
+     *
+     * @param requesterType 요청자 롤BTI 유형
+     * @return Map<상대 유형, 궁합 점수>
+     */
+    public Map<RollBtiType, Integer> getCompatibilityScores(RollBtiType requesterType) {
+        Map<RollBtiType, Integer> scores = new EnumMap<>(RollBtiType.class);
+        for (RollBtiType targetType : RollBtiType.values()) {
+            scores.put(targetType, calculateCompatibilityScore(requesterType, targetType));
+        }
+        return scores;
+    }
+
     private CatalogEntry getEntry(RollBtiType type) {
         CatalogEntry entry = catalog.get(type);
         if (entry == null) {
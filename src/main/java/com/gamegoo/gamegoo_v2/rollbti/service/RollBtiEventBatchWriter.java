@@ -0,0 +1,95 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventRecord;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 롤BTI 이벤트 일괄 저장
+ * <p>
+ * 여러 이벤트를 multi-row INSERT 한 번으로 저장한다. 존재하지 않는 회원 id는 회원 없이 저장하며, complete_test 이벤트는 저장 후 누적 참여 인원에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RollBtiEventBatchWriter {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO roll_bti_event
+                (member_id, event_type, roll_bti_type, session_id, event_source, created_at, updated_at)
+            VALUES\s""";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 7;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RollBtiParticipantService rollBtiParticipantService;
+
+    /**
+     * 이벤트 일괄 저장
+     *
+     * @param records 저장할 이벤트 목록
+     * @return 저장된 이벤트 수
+     */
+    @Transactional
+    public int insertAll(List<RollBtiEventRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existingMemberIds = findExistingMemberIds(records);
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(records.size() * COLUMN_COUNT);
+        for (int i = 0; i < records.size(); i++) {
+            RollBtiEventRecord record = records.get(i);
+            Timestamp createdAt = Timestamp.valueOf(record.createdAt());
+            sql.append(i == 0 ? "" : ", ").append(VALUES_ROW);
+            args.add(existingMemberId(record, existingMemberIds));
+            args.add(record.eventType().name());
+            args.add(record.rollBtiType() != null ? record.rollBtiType().name() : null);
+            args.add(record.sessionId());
+            args.add(record.eventSource());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        int inserted = namedParameterJdbcTemplate.getJdbcTemplate().update(sql.toString(), args.toArray());
+
+        records.stream()
+                .filter(record -> record.eventType() == RollBtiEventType.COMPLETE_TEST)
+                .forEach(record -> rollBtiParticipantService.registerParticipant(
+                        existingMemberId(record, existingMemberIds), record.sessionId()));
+        return inserted;
+    }
+
+    /**
+     * 이벤트의 회원 id 중 실제 존재하는 회원 id 조회
+     */
+    private Set<Long> findExistingMemberIds(List<RollBtiEventRecord> records) {
+        Set<Long> memberIds = new HashSet<>();
+        records.stream()
+                .map(RollBtiEventRecord::memberId)
+                .filter(Objects::nonNull)
+                .forEach(memberIds::add);
+        if (memberIds.isEmpty()) {
+            return memberIds;
+        }
+
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT member_id FROM member WHERE member_id IN (:memberIds)",
+                Map.of("memberIds", memberIds), Long.class));
+    }
+
+    private Long existingMemberId(RollBtiEventRecord record, Set<Long> existingMemberIds) {
+        return existingMemberIds.contains(record.memberId()) ? record.memberId() : null;
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.core.config.RollBtiEventIngestionProperties;
+import com.gamegoo.gamegoo_v2.core.exception.RollBtiException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 롤BTI 이벤트 버퍼
+ * <p>
+ * 요청 스레드는 이벤트를 bounded 큐에 넣고 바로 반환하며, 전용 writer 스레드가 배치 크기만큼 모이거나 flush 주기가 지나면 한 번에 저장한다. 큐가 가득 차면 잠시
+ * 기다린 뒤 요청을 거절하고, 서버 종료 시에는 웹 서버가 내려간 뒤 큐에 남은 이벤트를 모두 저장하고 멈춘다.
+ */
+@Slf4j
+@Component
+public class RollBtiEventBuffer implements SmartLifecycle {
+
+    private static final String WRITER_THREAD_NAME = "roll-bti-event-writer";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final RollBtiEventBatchWriter rollBtiEventBatchWriter;
+    private final RollBtiEventIngestionProperties properties;
+    private final BlockingQueue<RollBtiEventRecord> queue;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public RollBtiEventBuffer(RollBtiEventBatchWriter rollBtiEventBatchWriter,
+                              RollBtiEventIngestionProperties properties) {
+        this.rollBtiEventBatchWriter = rollBtiEventBatchWriter;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+    }
+
+    /**
+     * 버퍼 적재 가능 여부
+     *
+     * @return 설정이 켜져 있고 writer 스레드가 동작 중이면 true
+     */
+    public boolean isAccepting() {
+        return properties.isBufferedEnabled() && running;
+    }
+
+    /**
+     * 이벤트를 큐에 적재
+     * 큐가 가득 차 있으면 설정한 시간만큼 빈 자리를 기다리고, 그래도 없으면 예외를 던진다.
+     *
+     * @param record 이벤트
+     */
+    public void enqueue(RollBtiEventRecord record) {
+        boolean offered;
+        try {
+            offered = queue.offer(record, properties.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            throw new RollBtiException(ErrorCode.ROLL_BTI_EVENT_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이벤트 수
+     *
+     * @return 큐에 남은 이벤트 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isBufferedEnabled() || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, WRITER_THREAD_NAME);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 새 이벤트 적재를 막은 뒤 writer 스레드가 남은 이벤트를 모두 저장할 때까지 대기
+        running = false;
+        try {
+            writerThread.join(properties.getShutdownTimeoutMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("roll-bti event writer did not finish in time: {} events pending", queue.size());
+            return;
+        }
+        // writer 스레드 종료 직전에 적재된 이벤트 저장
+        drainRemaining(new ArrayList<>());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 1024)가 요청 수신을 멈춘 뒤에 종료되도록 더 작은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        List<RollBtiEventRecord> batch = new ArrayList<>(Math.max(1, properties.getBatchSize()));
+        try {
+            while (running || !queue.isEmpty()) {
+                collectBatch(batch);
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flush(batch);
+            drainRemaining(batch);
+        }
+    }
+
+    /**
+     * 배치 크기만큼 모이거나 flush 주기가 지날 때까지 이벤트 수집
+     * 종료 요청을 늦지 않게 확인하도록 한 번에 최대 IDLE_POLL_MILLIS 동안만 대기한다.
+     */
+    private void collectBatch(List<RollBtiEventRecord> batch) throws InterruptedException {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushMillis());
+        long idlePollNanos = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS);
+        long deadline = System.nanoTime() + flushNanos;
+
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            // 종료 중에는 기다리지 않고 모인 이벤트를 바로 저장
+            if (batch.size() >= batchSize || !running) {
+                return;
+            }
+
+            if (batch.isEmpty()) {
+                RollBtiEventRecord first = queue.poll(idlePollNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    return;
+                }
+                batch.add(first);
+                deadline = System.nanoTime() + flushNanos;
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            RollBtiEventRecord next = queue.poll(Math.min(remaining, idlePollNanos), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void drainRemaining(List<RollBtiEventRecord> batch) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<RollBtiEventRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            rollBtiEventBatchWriter.insertAll(batch);
+        } catch (Exception e) {
+            log.error("failed to flush roll-bti events: {} events dropped", batch.size(), e);
+        }
+        batch.clear();
+    }
+
+}
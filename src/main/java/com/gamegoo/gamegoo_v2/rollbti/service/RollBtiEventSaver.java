@@ -0,0 +1,50 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.core.exception.MemberException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEvent;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventType;
+import com.gamegoo.gamegoo_v2.rollbti.dto.request.RollBtiEventRequest;
+import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RollBtiEventSaver {
+
+    private final MemberRepository memberRepository;
+    private final RollBtiEventRepository rollBtiEventRepository;
+    private final RollBtiParticipantService rollBtiParticipantService;
+
+    /**
+     * 이벤트 동기 저장
+     * 회원 조회, 이벤트 저장, 참여자 등록을 하나의 트랜잭션으로 처리한다.
+     *
+     * @param request 이벤트 요청
+     */
+    @Transactional
+    public void save(RollBtiEventRequest request) {
+        Member member = null;
+        if (request.getMemberId() != null) {
+            member = memberRepository.findById(request.getMemberId())
+                    .orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
+        }
+
+        RollBtiEvent event = RollBtiEvent.create(
+                member,
+                request.getEventType(),
+                request.getRollBtiType(),
+                request.getSessionId(),
+                request.getEventSource());
+        rollBtiEventRepository.save(event);
+
+        if (request.getEventType() == RollBtiEventType.COMPLETE_TEST) {
+            rollBtiParticipantService.registerParticipant(request.getMemberId(), request.getSessionId());
+        }
+    }
+
+}
@@ -4,18 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.account.member.domain.MemberChampion;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.account.member.service.MemberChampionService;
 import com.gamegoo.gamegoo_v2.content.board.dto.response.ChampionStatsResponse;
 import com.gamegoo.gamegoo_v2.core.exception.MemberException;
 import com.gamegoo.gamegoo_v2.core.exception.RollBtiException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventRecord;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiGuestResult;
 import com.gamegoo.gamegoo_v2.rollbti.domain.MemberRollBtiProfile;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationBucket;
-import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEvent;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCursor;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
 import com.gamegoo.gamegoo_v2.rollbti.dto.request.RollBtiEventRequest;
 import com.gamegoo.gamegoo_v2.rollbti.dto.request.RollBtiGuestResultSaveRequest;
@@ -34,20 +36,31 @@ import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationResponse
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiTypeSummaryResponse;
 import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiGuestResultRepository;
 import com.gamegoo.gamegoo_v2.rollbti.repository.MemberRollBtiProfileRepository;
-import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiEventRepository;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiGuestResultCache.CachedGuestResult;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiPublicRecommendationSnapshot.PublicOrder;
 import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -61,11 +74,7 @@ public class RollBtiFacadeService {
     private static final int FETCH_MULTIPLIER = 5;
     private static final int MIN_FETCH_SIZE = 100;
     private static final int MAX_FETCH_SIZE = 500;
-    private static final int GOOD_MATCH_SCORE = 95;
-    private static final int SAME_TYPE_SCORE = 75;
-    private static final int NORMAL_SCORE = 60;
-    private static final int NO_PROFILE_SCORE = 50;
-    private static final int BAD_MATCH_SCORE = 20;
+    private static final int RECOMMENDED_CHAMPION_COUNT = 4;
     private static final int RESULT_ID_LENGTH = 9;
     private static final int RESULT_ID_RETRY_LIMIT = 20;
     private static final char[] RESULT_ID_CHARS = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
@@ -76,11 +85,17 @@ public class RollBtiFacadeService {
 
     private final MemberRepository memberRepository;
     private final MemberRollBtiProfileRepository memberRollBtiProfileRepository;
-    private final RollBtiEventRepository rollBtiEventRepository;
     private final RollBtiGuestResultRepository rollBtiGuestResultRepository;
     private final RollBtiGuestResultSaver rollBtiGuestResultSaver;
+    private final RollBtiGuestResultCache rollBtiGuestResultCache;
     private final RollBtiCatalogService rollBtiCatalogService;
+    private final RollBtiRecommendationIndex rollBtiRecommendationIndex;
+    private final RollBtiPublicRecommendationSnapshot rollBtiPublicRecommendationSnapshot;
+    private final RollBtiParticipantService rollBtiParticipantService;
+    private final RollBtiEventBuffer rollBtiEventBuffer;
+    private final RollBtiEventSaver rollBtiEventSaver;
     private final FriendService friendService;
+    private final MemberChampionService memberChampionService;
     private final BlockService blockService;
     private final ObjectMapper objectMapper;
 
@@ -133,10 +148,12 @@ public class RollBtiFacadeService {
             Member member,
             Integer size,
             Long cursorMemberId,
+            String cursor,
             RollBtiCompatibilityOrder compatibilityOrder,
             Tier tier) {
         RollBtiType type = getProfileOrThrow(member.getId()).getRollBtiType();
-        return getRecommendationsWithCursor(type, size, cursorMemberId, compatibilityOrder, tier, member);
+        return getRecommendationsWithCursor(type, null, compatibilityOrder, size, cursorMemberId, cursor, tier,
+                member);
     }
 
     public RollBtiRecommendationCursorResponse getMyRecommendationsByBucketWithCursor(
@@ -144,9 +161,11 @@ public class RollBtiFacadeService {
             RollBtiRecommendationBucket bucket,
             Integer size,
             Long cursorMemberId,
+            String cursor,
             Tier tier) {
         RollBtiType type = getProfileOrThrow(member.getId()).getRollBtiType();
-        return getRecommendationsByBucketWithCursor(type, bucket, size, cursorMemberId, tier, member);
+        return getRecommendationsWithCursor(type, bucket, RollBtiCompatibilityOrder.HIGH, size, cursorMemberId,
+                cursor, tier, member);
     }
 
     public RollBtiRecommendationResponse getRecommendationsByType(
@@ -163,10 +182,11 @@ public class RollBtiFacadeService {
             RollBtiType type,
             Integer size,
             Long cursorMemberId,
+            String cursor,
             RollBtiCompatibilityOrder compatibilityOrder,
             Tier tier,
             Long excludeMemberId) {
-        return getRecommendationsWithCursor(type, size, cursorMemberId, compatibilityOrder, tier,
+        return getRecommendationsWithCursor(type, null, compatibilityOrder, size, cursorMemberId, cursor, tier,
                 resolveRequesterMember(excludeMemberId));
     }
 
@@ -175,10 +195,11 @@ public class RollBtiFacadeService {
             RollBtiRecommendationBucket bucket,
             Integer size,
             Long cursorMemberId,
+            String cursor,
             Tier tier,
             Long excludeMemberId) {
-        return getRecommendationsByBucketWithCursor(type, bucket, size, cursorMemberId, tier,
-                resolveRequesterMember(excludeMemberId));
+        return getRecommendationsWithCursor(type, bucket, RollBtiCompatibilityOrder.HIGH, size, cursorMemberId,
+                cursor, tier, resolveRequesterMember(excludeMemberId));
     }
 
     public RollBtiPublicRecommendationResponse getPublicRecommendations(
@@ -188,21 +209,13 @@ public class RollBtiFacadeService {
             Tier tier) {
         int normalizedSize = normalizeSize(size);
         int normalizedPage = normalizePage(page);
-        List<RollBtiMemberCardResponse> sortedRecommendations = getSortedPublicRecommendations(tier, requesterMember);
+        PublicRecommendationSequence sequence = createPublicRecommendationSequence(tier, requesterMember);
 
         int startIndex = (normalizedPage - 1) * normalizedSize;
-        if (startIndex >= sortedRecommendations.size()) {
-            return RollBtiPublicRecommendationResponse.of(
-                    normalizedPage,
-                    normalizedSize,
-                    List.of(),
-                    false
-            );
-        }
-
-        int endIndex = Math.min(startIndex + normalizedSize, sortedRecommendations.size());
-        boolean hasNext = endIndex < sortedRecommendations.size();
-        List<RollBtiMemberCardResponse> recommendations = sortedRecommendations.subList(startIndex, endIndex);
+        List<Long> windowMemberIds = sequence.window(startIndex, normalizedSize + 1);
+        boolean hasNext = windowMemberIds.size() > normalizedSize;
+        List<RollBtiMemberCardResponse> recommendations = toPublicMemberCards(
+                windowMemberIds.subList(0, Math.min(normalizedSize, windowMemberIds.size())), requesterMember);
 
         return RollBtiPublicRecommendationResponse.of(
                 normalizedPage,
@@ -218,11 +231,11 @@ public class RollBtiFacadeService {
             Long cursorMemberId,
             Tier tier) {
         int normalizedSize = normalizeSize(size);
-        List<RollBtiMemberCardResponse> sortedRecommendations = getSortedPublicRecommendations(tier, requesterMember);
+        PublicRecommendationSequence sequence = createPublicRecommendationSequence(tier, requesterMember);
 
         int startIndex = 0;
         if (cursorMemberId != null) {
-            int cursorIndex = findPublicCursorIndex(sortedRecommendations, cursorMemberId);
+            int cursorIndex = sequence.indexOf(cursorMemberId);
             if (cursorIndex < 0) {
                 return RollBtiPublicRecommendationCursorResponse.of(
                         normalizedSize,
@@ -234,19 +247,11 @@ public class RollBtiFacadeService {
             startIndex = cursorIndex + 1;
         }
 
-        if (startIndex >= sortedRecommendations.size()) {
-            return RollBtiPublicRecommendationCursorResponse.of(
-                    normalizedSize,
-                    List.of(),
-                    false,
-                    null
-            );
-        }
-
-        int endIndex = Math.min(startIndex + normalizedSize, sortedRecommendations.size());
-        boolean hasNext = endIndex < sortedRecommendations.size();
-        List<RollBtiMemberCardResponse> recommendations = sortedRecommendations.subList(startIndex, endIndex);
-        Long nextCursorMemberId = hasNext ? recommendations.get(recommendations.size() - 1).getMemberId() : null;
+        List<Long> windowMemberIds = sequence.window(startIndex, normalizedSize + 1);
+        boolean hasNext = windowMemberIds.size() > normalizedSize;
+        List<Long> pageMemberIds = windowMemberIds.subList(0, Math.min(normalizedSize, windowMemberIds.size()));
+        List<RollBtiMemberCardResponse> recommendations = toPublicMemberCards(pageMemberIds, requesterMember);
+        Long nextCursorMemberId = hasNext ? pageMemberIds.get(pageMemberIds.size() - 1) : null;
 
         return RollBtiPublicRecommendationCursorResponse.of(
                 normalizedSize,
@@ -257,8 +262,13 @@ public class RollBtiFacadeService {
     }
 
     public RollBtiParticipationCountResponse getParticipationCount() {
-        long totalParticipants = rollBtiEventRepository.countDistinctParticipantsByCompleteTest()
-                + participantCountAdjustment;
+        long totalParticipants = rollBtiParticipantService.getParticipantCount() + participantCountAdjustment;
+        return RollBtiParticipationCountResponse.of(totalParticipants);
+    }
+
+    @Transactional
+    public RollBtiParticipationCountResponse recomputeParticipationCount() {
+        long totalParticipants = rollBtiParticipantService.recompute() + participantCountAdjustment;
         return RollBtiParticipationCountResponse.of(totalParticipants);
     }
 
@@ -278,26 +288,54 @@ public class RollBtiFacadeService {
     }
 
     public RollBtiGuestResultResponse getGuestResultByResultId(String resultId) {
+        return getCachedGuestResult(resultId).response();
+    }
+
+    /**
+     * 비회원 롤BTI 결과 조회 응답과 ETag 조회
+     * 저장된 결과는 변경되지 않으므로 한 번 조회한 응답은 캐시에서 바로 반환한다.
+     *
+     * @param resultId 공유용 결과 id
+     * @return 조회 응답과 ETag
+     */
+    public CachedGuestResult getCachedGuestResult(String resultId) {
+        Optional<CachedGuestResult> cached = rollBtiGuestResultCache.find(resultId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         RollBtiGuestResult result = rollBtiGuestResultRepository.findByResultId(resultId)
                 .orElseThrow(() -> new RollBtiException(ErrorCode.ROLL_BTI_RESULT_NOT_FOUND));
-        return RollBtiGuestResultResponse.of(result, deserializePayload(result.getResultPayload()));
+        RollBtiGuestResultResponse response =
+                RollBtiGuestResultResponse.of(result, deserializePayload(result.getResultPayload()));
+
+        CachedGuestResult loaded = new CachedGuestResult(response, createETag(response));
+        rollBtiGuestResultCache.put(loaded);
+        return loaded;
     }
 
-    @Transactional
+    /**
+     * 롤BTI 이벤트 적재
+     * 버퍼 적재 모드가 켜져 있으면 큐에 넣고 바로 반환하며, 회원 존재 여부 확인과 저장은 writer 스레드가 일괄 처리한다. 이 경우 트랜잭션(DB 커넥션)을
+     * 열지 않도록 SUPPORTS로 두고, 동기 저장은 RollBtiEventSaver의 트랜잭션 안에서 회원 조회부터 참여자 등록까지 함께 처리한다.
+     *
+     * @param request 이벤트 요청
+     * @return 처리 결과 메시지
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String trackEvent(RollBtiEventRequest request) {
-        Member member = null;
-        if (request.getMemberId() != null) {
-            member = memberRepository.findById(request.getMemberId())
-                    .orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
-        }
-
-        RollBtiEvent event = RollBtiEvent.create(
-                member,
-                request.getEventType(),
-                request.getRollBtiType(),
-                request.getSessionId(),
-                request.getEventSource());
-        rollBtiEventRepository.save(event);
+        if (rollBtiEventBuffer.isAccepting()) {
+            rollBtiEventBuffer.enqueue(new RollBtiEventRecord(
+                    request.getMemberId(),
+                    request.getEventType(),
+                    request.getRollBtiType(),
+                    request.getSessionId(),
+                    request.getEventSource(),
+                    LocalDateTime.now()));
+            return EVENT_SAVED_MESSAGE;
+        }
+
+        rollBtiEventSaver.save(request);
         return EVENT_SAVED_MESSAGE;
     }
 
@@ -311,236 +349,425 @@ public class RollBtiFacadeService {
         int normalizedSize = normalizeSize(size);
         int normalizedPage = normalizePage(page);
 
-        List<RollBtiRecommendedMemberResponse> sortedRecommendations =
-                getSortedRecommendations(requesterType, compatibilityOrder, tier, requesterMember);
-
-        int startIndex = (normalizedPage - 1) * normalizedSize;
-        if (startIndex >= sortedRecommendations.size()) {
-            return RollBtiRecommendationResponse.of(
-                    requesterType,
-                    normalizedPage,
-                    normalizedSize,
-                    List.of(),
-                    false
-            );
-        }
-
-        int endIndex = Math.min(startIndex + normalizedSize, sortedRecommendations.size());
-        boolean hasNext = endIndex < sortedRecommendations.size();
-        List<RollBtiRecommendedMemberResponse> recommendations = sortedRecommendations.subList(startIndex, endIndex);
-
+        int offset = (normalizedPage - 1) * normalizedSize;
+        RecommendationWindow window = rollBtiRecommendationIndex.isAvailable()
+                ? findRecommendationWindow(requesterType, compatibilityOrder, tier, null, requesterMember, null,
+                offset, normalizedSize)
+                : findRecommendationWindowFromCandidates(requesterType, compatibilityOrder, tier, requesterMember,
+                offset, normalizedSize);
         return RollBtiRecommendationResponse.of(
                 requesterType,
                 normalizedPage,
                 normalizedSize,
-                recommendations,
-                hasNext
+                window.recommendations(),
+                window.hasNext()
         );
     }
 
     private RollBtiRecommendationCursorResponse getRecommendationsWithCursor(
             RollBtiType requesterType,
+            RollBtiRecommendationBucket bucket,
+            RollBtiCompatibilityOrder compatibilityOrder,
             Integer size,
             Long cursorMemberId,
-            RollBtiCompatibilityOrder compatibilityOrder,
+            String cursor,
             Tier tier,
             Member requesterMember) {
         int normalizedSize = normalizeSize(size);
-        List<RollBtiRecommendedMemberResponse> sortedRecommendations =
-                getSortedRecommendations(requesterType, compatibilityOrder, tier, requesterMember);
 
-        int startIndex = 0;
-        if (cursorMemberId != null) {
-            int cursorIndex = findCursorIndex(sortedRecommendations, cursorMemberId);
-            if (cursorIndex < 0) {
-                return RollBtiRecommendationCursorResponse.of(
-                        requesterType,
-                        normalizedSize,
-                        List.of(),
-                        false,
-                        null
-                );
+        RollBtiRecommendationCursor after = null;
+        if (hasText(cursor) || cursorMemberId != null) {
+            Optional<RollBtiRecommendationCursor> resolvedCursor =
+                    resolveCursor(requesterType, cursorMemberId, cursor, requesterMember);
+            if (resolvedCursor.isEmpty()) {
+                return toCursorResponse(requesterType, normalizedSize, RecommendationWindow.empty());
             }
-            startIndex = cursorIndex + 1;
+            after = resolvedCursor.get();
         }
 
-        if (startIndex >= sortedRecommendations.size()) {
-            return RollBtiRecommendationCursorResponse.of(
-                    requesterType,
-                    normalizedSize,
-                    List.of(),
-                    false,
-                    null
-            );
+        RecommendationWindow window = rollBtiRecommendationIndex.isAvailable()
+                ? findRecommendationWindow(requesterType, compatibilityOrder, tier, bucket, requesterMember, after,
+                0, normalizedSize)
+                : findRecommendationWindowFromDatabase(requesterType, compatibilityOrder, tier, bucket,
+                requesterMember, after, normalizedSize);
+        return toCursorResponse(requesterType, normalizedSize, window);
+    }
+
+    /**
+     * 요청 커서를 추천 정렬 키로 변환
+     * 커서 문자열이 있으면 그대로 해석하고, 커서 회원 id만 있으면 해당 회원의 현재 프로필로 정렬 키를 만든다.
+     */
+    private Optional<RollBtiRecommendationCursor> resolveCursor(
+            RollBtiType requesterType,
+            Long cursorMemberId,
+            String cursor,
+            Member requesterMember) {
+        if (hasText(cursor)) {
+            return Optional.of(RollBtiRecommendationCursor.decode(cursor));
         }
 
-        int endIndex = Math.min(startIndex + normalizedSize, sortedRecommendations.size());
-        boolean hasNext = endIndex < sortedRecommendations.size();
-        List<RollBtiRecommendedMemberResponse> recommendations = sortedRecommendations.subList(startIndex, endIndex);
-        Long nextCursorMemberId = hasNext ? recommendations.get(recommendations.size() - 1).getMemberId() : null;
+        return memberRollBtiProfileRepository.findByMember_Id(cursorMemberId)
+                .map(profile -> new RollBtiRecommendationCursor(
+                        isFriendRequestReceived(requesterMember, cursorMemberId),
+                        rollBtiCatalogService.calculateCompatibilityScore(requesterType, profile.getRollBtiType()),
+                        getRecommendationUpdatedAt(profile),
+                        cursorMemberId));
+    }
 
-        return RollBtiRecommendationCursorResponse.of(
-                requesterType,
-                normalizedSize,
-                recommendations,
-                hasNext,
-                nextCursorMemberId
-        );
+    /**
+     * 추천 인덱스를 쓸 수 없을 때 전체 후보의 정렬 키만 만들어 정렬한 뒤 요청 구간만 응답으로 변환
+     * 관계 정보와 챔피언 통계는 구간에 포함된 회원만 조회한다.
+     */
+    private RecommendationWindow findRecommendationWindowFromCandidates(
+            RollBtiType requesterType,
+            RollBtiCompatibilityOrder compatibilityOrder,
+            Tier tier,
+            Member requesterMember,
+            int offset,
+            int size) {
+        Long excludeMemberId = requesterMember != null ? requesterMember.getId() : null;
+        List<MemberRollBtiProfile> candidateProfiles =
+                memberRollBtiProfileRepository.findRecommendationCandidates(tier, excludeMemberId);
+
+        Set<Long> blockedMemberIds = new HashSet<>();
+        Set<Long> senderIds = new HashSet<>();
+        if (requesterMember != null) {
+            blockedMemberIds.addAll(blockService.getBlockedMemberIds(requesterMember));
+            senderIds.addAll(findFriendRequestSenderIds(requesterMember, blockedMemberIds));
+        }
+
+        Map<Long, MemberRollBtiProfile> profileMap = new HashMap<>();
+        List<RollBtiRecommendationCursor> sortedKeys = new ArrayList<>(candidateProfiles.size());
+        for (MemberRollBtiProfile profile : candidateProfiles) {
+            Long memberId = profile.getMember().getId();
+            if (blockedMemberIds.contains(memberId)) {
+                continue;
+            }
+            profileMap.put(memberId, profile);
+            sortedKeys.add(new RollBtiRecommendationCursor(
+                    senderIds.contains(memberId),
+                    rollBtiCatalogService.calculateCompatibilityScore(requesterType, profile.getRollBtiType()),
+                    getRecommendationUpdatedAt(profile),
+                    memberId));
+        }
+        sortedKeys.sort(RollBtiRecommendationCursor.comparator(compatibilityOrder));
+        if (offset >= sortedKeys.size()) {
+            return RecommendationWindow.empty();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1명 더 포함
+        List<RollBtiRecommendationCursor> keys =
+                sortedKeys.subList(offset, Math.min(offset + size + 1, sortedKeys.size()));
+        return toRecommendationWindow(requesterType, requesterMember, keys, size, profileMap);
     }
 
-    private RollBtiRecommendationCursorResponse getRecommendationsByBucketWithCursor(
+    /**
+     * 추천 인덱스에서 요청 구간만 조회
+     * 나에게 친구 요청을 보낸 회원을 가장 앞에 두고, 이후 인덱스 순서대로 내가 차단한 회원을 제외하며 구간을 채운다. 응답 DTO와 관계 정보는 구간에 포함된 회원만
+     * 만든다.
+     */
+    private RecommendationWindow findRecommendationWindow(
             RollBtiType requesterType,
-            RollBtiRecommendationBucket bucket,
-            Integer size,
-            Long cursorMemberId,
+            RollBtiCompatibilityOrder compatibilityOrder,
             Tier tier,
-            Member requesterMember) {
-        int normalizedSize = normalizeSize(size);
-        List<RollBtiRecommendedMemberResponse> recommendationsByBucket =
-                getSortedRecommendations(requesterType, RollBtiCompatibilityOrder.HIGH, tier, requesterMember).stream()
-                        .filter(recommendation -> matchesBucket(recommendation.getCompatibilityScore(), bucket))
-                        .toList();
+            RollBtiRecommendationBucket bucket,
+            Member requesterMember,
+            RollBtiRecommendationCursor after,
+            int offset,
+            int size) {
+        Map<RollBtiType, Integer> scoreByType = rollBtiCatalogService.getCompatibilityScores(requesterType);
+        IntPredicate scoreFilter = bucket == null ? score -> true : score -> matchesBucket(score, bucket);
+        Comparator<RollBtiRecommendationCursor> comparator = RollBtiRecommendationCursor.comparator(compatibilityOrder);
+
+        Set<Long> excludedMemberIds = new HashSet<>();
+        List<RollBtiRecommendationCursor> requestSenders = List.of();
+        if (requesterMember != null) {
+            excludedMemberIds.add(requesterMember.getId());
+            excludedMemberIds.addAll(blockService.getBlockedMemberIds(requesterMember));
+            requestSenders = findFriendRequestSenderIds(requesterMember, excludedMemberIds).stream()
+                    .map(rollBtiRecommendationIndex::find)
+                    .flatMap(Optional::stream)
+                    .filter(candidate -> candidate.hasTier(tier))
+                    .filter(candidate -> scoreFilter.test(scoreByType.get(candidate.rollBtiType())))
+                    .map(candidate -> toRecommendationCursor(candidate, true, scoreByType))
+                    .sorted(comparator)
+                    .toList();
+            requestSenders.forEach(key -> excludedMemberIds.add(key.memberId()));
+        }
 
-        int startIndex = 0;
-        if (cursorMemberId != null) {
-            int cursorIndex = findCursorIndex(recommendationsByBucket, cursorMemberId);
-            if (cursorIndex < 0) {
-                return RollBtiRecommendationCursorResponse.of(
-                        requesterType,
-                        normalizedSize,
-                        List.of(),
-                        false,
-                        null
-                );
+        // 커서가 받은 친구 요청 구간 이후면 커서보다 앞선 궁합 점수의 유형은 순회하지 않음
+        IntPredicate walkScoreFilter = scoreFilter;
+        if (after != null && !after.friendRequestReceived()) {
+            int cursorScore = after.compatibilityScore();
+            walkScoreFilter = scoreFilter.and(compatibilityOrder == RollBtiCompatibilityOrder.LOW
+                    ? score -> score >= cursorScore
+                    : score -> score <= cursorScore);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1명 더 수집
+        RecommendationWindowCollector collector =
+                new RecommendationWindowCollector(comparator, after, offset, size + 1);
+        boolean needMore = true;
+        for (RollBtiRecommendationCursor key : requestSenders) {
+            needMore = collector.accept(key);
+            if (!needMore) {
+                break;
             }
-            startIndex = cursorIndex + 1;
         }
+        if (needMore) {
+            rollBtiRecommendationIndex.walk(requesterType, compatibilityOrder, tier, walkScoreFilter,
+                    candidate -> excludedMemberIds.contains(candidate.memberId())
+                            || collector.accept(toRecommendationCursor(candidate, false, scoreByType)));
+        }
+
+        return toRecommendationWindow(requesterType, requesterMember, collector.collected, size, new HashMap<>());
+    }
+
+    /**
+     * DB에서 커서 이후 추천 구간 조회
+     * 나에게 친구 요청을 보낸 회원 구간을 먼저 채우고, 나머지는 궁합 점수 CASE 식과 (궁합 점수, 수정 시각, 회원 id) keyset 조건으로 필요한 개수만 조회한다.
+     */
+    private RecommendationWindow findRecommendationWindowFromDatabase(
+            RollBtiType requesterType,
+            RollBtiCompatibilityOrder compatibilityOrder,
+            Tier tier,
+            RollBtiRecommendationBucket bucket,
+            Member requesterMember,
+            RollBtiRecommendationCursor after,
+            int size) {
+        Map<RollBtiType, Integer> scoreByType = rollBtiCatalogService.getCompatibilityScores(requesterType);
+        if (bucket != null) {
+            scoreByType.values().removeIf(score -> !matchesBucket(score, bucket));
+        }
+        Comparator<RollBtiRecommendationCursor> comparator = RollBtiRecommendationCursor.comparator(compatibilityOrder);
+
+        Set<Long> excludedMemberIds = new HashSet<>();
+        Map<Long, MemberRollBtiProfile> profileMap = new HashMap<>();
+        List<RollBtiRecommendationCursor> keys = new ArrayList<>();
+        if (requesterMember != null) {
+            excludedMemberIds.add(requesterMember.getId());
+            excludedMemberIds.addAll(blockService.getBlockedMemberIds(requesterMember));
+
+            List<Long> senderIds = findFriendRequestSenderIds(requesterMember, excludedMemberIds);
+            excludedMemberIds.addAll(senderIds);
+            if (!senderIds.isEmpty()) {
+                memberRollBtiProfileRepository.findAllByMember_IdIn(senderIds).stream()
+                        .filter(profile -> isRecommendationTarget(profile, tier, scoreByType))
+                        .forEach(profile -> profileMap.put(profile.getMember().getId(), profile));
+                profileMap.values().stream()
+                        .map(profile -> toRecommendationCursor(profile, true, scoreByType))
+                        .filter(key -> after == null || comparator.compare(key, after) > 0)
+                        .sorted(comparator)
+                        .limit(size + 1L)
+                        .forEach(keys::add);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1명 더 조회
+        int remaining = size + 1 - keys.size();
+        if (remaining > 0) {
+            RollBtiRecommendationCursor rangeAfter = after != null && !after.friendRequestReceived() ? after : null;
+            memberRollBtiProfileRepository.findRecommendationsAfter(scoreByType, compatibilityOrder, tier,
+                    excludedMemberIds, rangeAfter, remaining).forEach(profile -> {
+                profileMap.put(profile.getMember().getId(), profile);
+                keys.add(toRecommendationCursor(profile, false, scoreByType));
+            });
+        }
+
+        return toRecommendationWindow(requesterType, requesterMember, keys, size, profileMap);
+    }
+
+    /**
+     * 추천 순서로 수집한 정렬 키 중 요청 개수만큼 응답 DTO로 변환
+     */
+    private RecommendationWindow toRecommendationWindow(
+            RollBtiType requesterType,
+            Member requesterMember,
+            List<RollBtiRecommendationCursor> keys,
+            int size,
+            Map<Long, MemberRollBtiProfile> profileMap) {
+        List<RollBtiRecommendationCursor> windowKeys = keys.subList(0, Math.min(size, keys.size()));
+        if (windowKeys.isEmpty()) {
+            return RecommendationWindow.empty();
+        }
+
+        List<Long> missingMemberIds = windowKeys.stream()
+                .map(RollBtiRecommendationCursor::memberId)
+                .filter(memberId -> !profileMap.containsKey(memberId))
+                .toList();
+        if (!missingMemberIds.isEmpty()) {
+            memberRollBtiProfileRepository.findAllByMember_IdIn(missingMemberIds)
+                    .forEach(profile -> profileMap.put(profile.getMember().getId(), profile));
+        }
+
+        List<MemberRollBtiProfile> windowProfiles = windowKeys.stream()
+                .map(key -> profileMap.get(key.memberId()))
+                .filter(Objects::nonNull)
+                .toList();
+        RecommendationRelationContext relationContext = buildRelationContext(requesterMember, windowProfiles);
+        Map<Long, List<ChampionStatsResponse>> championStatsMap = getRecommendedChampionStatsBatch(windowProfiles);
+
+        List<RollBtiRecommendedMemberResponse> recommendations = windowProfiles.stream()
+                .map(profile -> toRecommendedMemberResponse(requesterType, profile, relationContext, championStatsMap))
+                .toList();
+        boolean hasNext = keys.size() > size;
+        String nextCursor = hasNext ? windowKeys.get(windowKeys.size() - 1).encode() : null;
+        return new RecommendationWindow(recommendations, hasNext, nextCursor);
+    }
+
+    /**
+     * 나에게 친구 요청을 보낸 회원 id 조회
+     * 양방향 요청이 함께 있는 경우에도 관계 정보와 같은 기준으로 받은 요청 여부를 판단한다.
+     */
+    private List<Long> findFriendRequestSenderIds(Member requesterMember, Set<Long> excludedMemberIds) {
+        List<Long> senderIds = friendService.getReceivedFriendRequestMemberIds(requesterMember).stream()
+                .filter(memberId -> !excludedMemberIds.contains(memberId))
+                .distinct()
+                .toList();
+        if (senderIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> friendRequestMemberIdMap =
+                friendService.getFriendRequestMemberIdBatch(requesterMember, senderIds);
+        return senderIds.stream()
+                .filter(memberId -> memberId.equals(friendRequestMemberIdMap.get(memberId)))
+                .toList();
+    }
+
+    private boolean isFriendRequestReceived(Member requesterMember, Long targetMemberId) {
+        if (requesterMember == null) {
+            return false;
+        }
+        Long requestMemberId = friendService.getFriendRequestMemberIdBatch(requesterMember, List.of(targetMemberId))
+                .get(targetMemberId);
+        return targetMemberId.equals(requestMemberId);
+    }
 
-        if (startIndex >= recommendationsByBucket.size()) {
+    private boolean isRecommendationTarget(MemberRollBtiProfile profile, Tier tier,
+                                           Map<RollBtiType, Integer> scoreByType) {
+        Member targetMember = profile.getMember();
+        return !Boolean.TRUE.equals(targetMember.getBlind())
+                && (tier == null || tier == targetMember.getSoloTier() || tier == targetMember.getFreeTier())
+                && scoreByType.containsKey(profile.getRollBtiType());
+    }
+
+    private RollBtiRecommendationCursor toRecommendationCursor(
+            RollBtiRecommendationCandidate candidate,
+            boolean friendRequestReceived,
+            Map<RollBtiType, Integer> scoreByType) {
+        return new RollBtiRecommendationCursor(friendRequestReceived, scoreByType.get(candidate.rollBtiType()),
+                candidate.updatedAt(), candidate.memberId());
+    }
+
+    private RollBtiRecommendationCursor toRecommendationCursor(
+            MemberRollBtiProfile profile,
+            boolean friendRequestReceived,
+            Map<RollBtiType, Integer> scoreByType) {
+        return new RollBtiRecommendationCursor(friendRequestReceived, scoreByType.get(profile.getRollBtiType()),
+                getRecommendationUpdatedAt(profile), profile.getMember().getId());
+    }
+
+    private RollBtiRecommendationCursorResponse toCursorResponse(
+            RollBtiType requesterType,
+            int normalizedSize,
+            RecommendationWindow window) {
+        if (window.recommendations().isEmpty()) {
             return RollBtiRecommendationCursorResponse.of(
                     requesterType,
                     normalizedSize,
                     List.of(),
                     false,
+                    null,
                     null
             );
         }
 
-        int endIndex = Math.min(startIndex + normalizedSize, recommendationsByBucket.size());
-        boolean hasNext = endIndex < recommendationsByBucket.size();
-        List<RollBtiRecommendedMemberResponse> recommendations =
-                recommendationsByBucket.subList(startIndex, endIndex);
-        Long nextCursorMemberId = hasNext ? recommendations.get(recommendations.size() - 1).getMemberId() : null;
-
+        List<RollBtiRecommendedMemberResponse> recommendations = window.recommendations();
+        Long nextCursorMemberId = window.hasNext()
+                ? recommendations.get(recommendations.size() - 1).getMemberId()
+                : null;
         return RollBtiRecommendationCursorResponse.of(
                 requesterType,
                 normalizedSize,
                 recommendations,
-                hasNext,
-                nextCursorMemberId
+                window.hasNext(),
+                nextCursorMemberId,
+                window.nextCursor()
         );
     }
 
-    private List<RollBtiRecommendedMemberResponse> getSortedRecommendations(
+    private RollBtiRecommendedMemberResponse toRecommendedMemberResponse(
             RollBtiType requesterType,
-            RollBtiCompatibilityOrder compatibilityOrder,
-            Tier tier,
-            Member requesterMember) {
-        Long excludeMemberId = requesterMember != null ? requesterMember.getId() : null;
-        List<MemberRollBtiProfile> candidateProfiles =
-                memberRollBtiProfileRepository.findRecommendationCandidates(tier, excludeMemberId);
-        Set<RollBtiType> goodMatches = rollBtiCatalogService.getGoodMatches(requesterType);
-        Set<RollBtiType> badMatches = rollBtiCatalogService.getBadMatches(requesterType);
-        RecommendationRelationContext relationContext = buildRelationContext(requesterMember, candidateProfiles);
-
-        return candidateProfiles.stream()
-                .filter(profile -> !relationContext.isBlocked(profile.getMember().getId()))
-                .map(profile -> {
-                    Member targetMember = profile.getMember();
-                    RollBtiType targetType = profile.getRollBtiType();
-                    int compatibilityScore = calculateCompatibilityScore(
-                            requesterType,
-                            targetType,
-                            goodMatches,
-                            badMatches
-                    );
-                    RecommendationRelation relation = relationContext.get(targetMember.getId());
-                    return RollBtiRecommendedMemberResponse.of(
-                            targetMember.getId(),
-                            targetMember.getGameName(),
-                            targetMember.getTag(),
-                            targetMember.getProfileImage(),
-                            targetMember.getMannerLevel(),
-                            targetMember.getMainP(),
-                            targetMember.getSubP(),
-                            targetMember.getMike(),
-                            targetType,
-                            compatibilityScore,
-                            relation.blocked(),
-                            relation.friendRequestReceived(),
-                            relation.friendRequestSent(),
-                            relation.friend(),
-                            relation.nonFriend(),
-                            getRecommendationUpdatedAt(profile),
-                            getRecommendedChampionStats(targetMember));
-                })
-                .sorted(getRecommendationComparator(compatibilityOrder))
-                .collect(Collectors.toList());
+            MemberRollBtiProfile profile,
+            RecommendationRelationContext relationContext,
+            Map<Long, List<ChampionStatsResponse>> championStatsMap) {
+        Member targetMember = profile.getMember();
+        RollBtiType targetType = profile.getRollBtiType();
+        int compatibilityScore = rollBtiCatalogService.calculateCompatibilityScore(requesterType, targetType);
+        RecommendationRelation relation = relationContext.get(targetMember.getId());
+        return RollBtiRecommendedMemberResponse.of(
+                targetMember.getId(),
+                targetMember.getGameName(),
+                targetMember.getTag(),
+                targetMember.getProfileImage(),
+                targetMember.getMannerLevel(),
+                targetMember.getMainP(),
+                targetMember.getSubP(),
+                targetMember.getMike(),
+                targetType,
+                compatibilityScore,
+                relation.blocked(),
+                relation.friendRequestReceived(),
+                relation.friendRequestSent(),
+                relation.friend(),
+                relation.nonFriend(),
+                getRecommendationUpdatedAt(profile),
+                championStatsMap.getOrDefault(targetMember.getId(), List.of()));
     }
 
-    private List<RollBtiMemberCardResponse> getSortedPublicRecommendations(Tier tier, Member requesterMember) {
-        List<MemberRollBtiProfile> candidateProfiles =
-                memberRollBtiProfileRepository.findRecommendationCandidates(tier, null);
-        RecommendationRelationContext relationContext = buildRelationContext(requesterMember, candidateProfiles);
-
-        return candidateProfiles.stream()
-                .filter(profile -> !relationContext.isBlocked(profile.getMember().getId()))
-                .map(profile -> toMemberCardResponse(profile, relationContext))
-                .sorted(getPublicRecommendationComparator())
-                .toList();
-    }
+    /**
+     * 공개 추천 순서 생성
+     * 비로그인 순서는 snapshot을 그대로 사용하고, 로그인한 경우 나에게 친구 요청을 보낸 회원을 앞에 두고 내가 차단한 회원을 제외한다. 두 목록 모두 요청자 기준으로
+     * 조회하므로 전체 추천 대상 수와 무관하다.
+     */
+    private PublicRecommendationSequence createPublicRecommendationSequence(Tier tier, Member requesterMember) {
+        PublicOrder publicOrder = rollBtiPublicRecommendationSnapshot.find(tier);
+        if (requesterMember == null) {
+            return new PublicRecommendationSequence(publicOrder, List.of(), Set.of());
+        }
 
-    private List<RollBtiMemberCardResponse> getSortedPublicRecommendations(Tier tier) {
-        return memberRollBtiProfileRepository.findRecommendationCandidates(tier, null).stream()
-                .map(this::toMemberCardResponse)
-                .sorted(getPublicRecommendationComparator())
+        Set<Long> blockedMemberIds = blockService.getBlockedMemberIds(requesterMember);
+        List<Long> senderIds = findFriendRequestSenderIds(requesterMember, blockedMemberIds).stream()
+                .filter(memberId -> publicOrder.indexOf(memberId) >= 0)
+                .sorted(Comparator.comparingInt(publicOrder::indexOf))
                 .toList();
+        return new PublicRecommendationSequence(publicOrder, senderIds, blockedMemberIds);
     }
 
-    private int findCursorIndex(List<RollBtiRecommendedMemberResponse> recommendations, Long cursorMemberId) {
-        for (int i = 0; i < recommendations.size(); i++) {
-            if (Objects.equals(recommendations.get(i).getMemberId(), cursorMemberId)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    private int findPublicCursorIndex(List<RollBtiMemberCardResponse> recommendations, Long cursorMemberId) {
-        for (int i = 0; i < recommendations.size(); i++) {
-            if (Objects.equals(recommendations.get(i).getMemberId(), cursorMemberId)) {
-                return i;
-            }
+    /**
+     * 공개 추천 구간의 회원 카드 생성
+     * 관계 정보와 챔피언 통계는 구간에 포함된 회원만 조회한다.
+     */
+    private List<RollBtiMemberCardResponse> toPublicMemberCards(List<Long> memberIds, Member requesterMember) {
+        if (memberIds.isEmpty()) {
+            return List.of();
         }
-        return -1;
-    }
 
-    private Comparator<RollBtiRecommendedMemberResponse> getRecommendationComparator(
-            RollBtiCompatibilityOrder compatibilityOrder) {
-        Comparator<RollBtiRecommendedMemberResponse> scoreComparator =
-                Comparator.comparingInt(RollBtiRecommendedMemberResponse::getCompatibilityScore);
-
-        if (compatibilityOrder != RollBtiCompatibilityOrder.LOW) {
-            scoreComparator = scoreComparator.reversed();
-        }
+        Map<Long, MemberRollBtiProfile> profileMap =
+                memberRollBtiProfileRepository.findRecommendationProfilesByMemberIds(memberIds).stream()
+                        .collect(Collectors.toMap(profile -> profile.getMember().getId(), profile -> profile,
+                                (a, b) -> a));
+        List<MemberRollBtiProfile> profiles = memberIds.stream()
+                .map(profileMap::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        return Comparator.comparing(
-                        RollBtiRecommendedMemberResponse::getFriendRequestReceived,
-                        Comparator.nullsLast(Comparator.reverseOrder()))
-                .thenComparing(scoreComparator)
-                .thenComparing(RollBtiRecommendedMemberResponse::getUpdatedAt,
-                        Comparator.nullsLast(Comparator.reverseOrder()))
-                .thenComparing(RollBtiRecommendedMemberResponse::getMemberId, Comparator.reverseOrder());
+        RecommendationRelationContext relationContext = buildRelationContext(requesterMember, profiles);
+        Map<Long, List<ChampionStatsResponse>> championStatsMap = getRecommendedChampionStatsBatch(profiles);
+        return profiles.stream()
+                .map(profile -> toMemberCardResponse(profile, relationContext, championStatsMap))
+                .toList();
     }
 
     private boolean matchesBucket(int compatibilityScore, RollBtiRecommendationBucket bucket) {
@@ -551,43 +778,26 @@ public class RollBtiFacadeService {
         };
     }
 
-    private Comparator<RollBtiMemberCardResponse> getPublicRecommendationComparator() {
-        return Comparator.comparing(
-                        RollBtiMemberCardResponse::getFriendRequestReceived,
-                        Comparator.nullsLast(Comparator.reverseOrder()))
-                .thenComparing(
-                        RollBtiMemberCardResponse::getGameName,
-                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
-                .thenComparing(
-                        RollBtiMemberCardResponse::getTag,
-                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
-                .thenComparing(RollBtiMemberCardResponse::getMemberId);
-    }
-
-    private List<ChampionStatsResponse> getRecommendedChampionStats(Member member) {
-        if (member.getMemberChampionList() == null) {
-            return List.of();
-        }
-
-        return member.getMemberChampionList().stream()
-                .filter(memberChampion -> memberChampion.getGames() > 0)
-                .sorted(Comparator.comparingInt(MemberChampion::getGames).reversed())
-                .limit(4)
-                .map(ChampionStatsResponse::from)
+    /**
+     * 추천 카드에 표시할 회원별 판 수 상위 챔피언 통계를 한 번에 조회
+     */
+    private Map<Long, List<ChampionStatsResponse>> getRecommendedChampionStatsBatch(
+            List<MemberRollBtiProfile> profiles) {
+        List<Long> memberIds = profiles.stream()
+                .map(profile -> profile.getMember().getId())
+                .distinct()
                 .toList();
+        return memberChampionService.getTopChampionStatsBatch(memberIds, RECOMMENDED_CHAMPION_COUNT);
     }
 
-    private java.time.LocalDateTime getRecommendationUpdatedAt(MemberRollBtiProfile profile) {
-        return profile.getUpdatedAt() != null ? profile.getUpdatedAt() : profile.getCreatedAt();
-    }
-
-    private RollBtiMemberCardResponse toMemberCardResponse(MemberRollBtiProfile profile) {
-        return toMemberCardResponse(profile, RecommendationRelationContext.empty());
+    private LocalDateTime getRecommendationUpdatedAt(MemberRollBtiProfile profile) {
+        return profile.getSortAt();
     }
 
     private RollBtiMemberCardResponse toMemberCardResponse(
             MemberRollBtiProfile profile,
-            RecommendationRelationContext relationContext) {
+            RecommendationRelationContext relationContext,
+            Map<Long, List<ChampionStatsResponse>> championStatsMap) {
         Member targetMember = profile.getMember();
         RecommendationRelation relation = relationContext.get(targetMember.getId());
         return RollBtiMemberCardResponse.of(
@@ -606,7 +816,7 @@ public class RollBtiFacadeService {
                 relation.friend(),
                 relation.nonFriend(),
                 getRecommendationUpdatedAt(profile),
-                getRecommendedChampionStats(targetMember)
+                championStatsMap.getOrDefault(targetMember.getId(), List.of())
         );
     }
 
@@ -676,21 +886,144 @@ public class RollBtiFacadeService {
             Boolean nonFriend) {
     }
 
-    private int calculateCompatibilityScore(RollBtiType requesterType, RollBtiType targetType,
-                                            Set<RollBtiType> goodMatches, Set<RollBtiType> badMatches) {
-        if (targetType == null) {
-            return NO_PROFILE_SCORE;
+    /**
+     * 추천 조회 구간
+     *
+     * @param recommendations 구간의 추천 회원
+     * @param hasNext         다음 구간 존재 여부
+     * @param nextCursor      다음 구간 조회용 커서 (다음 구간이 없으면 null)
+     */
+    private record RecommendationWindow(
+            List<RollBtiRecommendedMemberResponse> recommendations,
+            boolean hasNext,
+            String nextCursor) {
+
+        private static RecommendationWindow empty() {
+            return new RecommendationWindow(List.of(), false, null);
         }
-        if (targetType == requesterType) {
-            return SAME_TYPE_SCORE;
+    }
+
+    /**
+     * 요청자 기준 공개 추천 순서
+     * 친구 요청을 보낸 회원(prefix)을 앞에 두고, 이어서 snapshot 순서에서 prefix와 차단한 회원을 건너뛴 순서로 구성된다. 건너뛸 회원의 snapshot 위치만 정렬해
+     * 두므로 전체 목록을 복사하지 않고 offset 위치를 계산할 수 있다.
+     */
+    private static final class PublicRecommendationSequence {
+
+        private final PublicOrder publicOrder;
+        private final List<Long> prefixMemberIds;
+        private final Set<Long> skippedMemberIds;
+        private final int[] skippedIndexes;
+
+        private PublicRecommendationSequence(PublicOrder publicOrder, List<Long> prefixMemberIds,
+                                             Set<Long> excludedMemberIds) {
+            this.publicOrder = publicOrder;
+            this.prefixMemberIds = prefixMemberIds;
+            this.skippedMemberIds = new HashSet<>(excludedMemberIds);
+            this.skippedMemberIds.addAll(prefixMemberIds);
+            this.skippedIndexes = skippedMemberIds.stream()
+                    .mapToInt(publicOrder::indexOf)
+                    .filter(index -> index >= 0)
+                    .sorted()
+                    .toArray();
         }
-        if (goodMatches.contains(targetType)) {
-            return GOOD_MATCH_SCORE;
+
+        /**
+         * 회원의 순서상 위치
+         *
+         * @param memberId 회원 id
+         * @return 위치, 순서에 없거나 제외된 회원이면 -1
+         */
+        private int indexOf(Long memberId) {
+            int prefixIndex = prefixMemberIds.indexOf(memberId);
+            if (prefixIndex >= 0) {
+                return prefixIndex;
+            }
+            int orderIndex = publicOrder.indexOf(memberId);
+            if (orderIndex < 0 || skippedMemberIds.contains(memberId)) {
+                return -1;
+            }
+            return prefixMemberIds.size() + orderIndex - countSkippedBefore(orderIndex);
         }
-        if (badMatches.contains(targetType)) {
-            return BAD_MATCH_SCORE;
+
+        /**
+         * startIndex부터 최대 limit명의 회원 id 조회
+         */
+        private List<Long> window(int startIndex, int limit) {
+            List<Long> memberIds = new ArrayList<>(limit);
+            int index = startIndex;
+            while (index < prefixMemberIds.size() && memberIds.size() < limit) {
+                memberIds.add(prefixMemberIds.get(index++));
+            }
+
+            int orderIndex = toOrderIndex(Math.max(0, startIndex - prefixMemberIds.size()));
+            while (orderIndex < publicOrder.size() && memberIds.size() < limit) {
+                Long memberId = publicOrder.memberIdAt(orderIndex++);
+                if (!skippedMemberIds.contains(memberId)) {
+                    memberIds.add(memberId);
+                }
+            }
+            return memberIds;
         }
-        return NORMAL_SCORE;
+
+        /**
+         * 건너뛴 회원을 제외한 n번째 회원의 snapshot 위치
+         */
+        private int toOrderIndex(int n) {
+            int orderIndex = n;
+            for (int skippedIndex : skippedIndexes) {
+                if (skippedIndex > orderIndex) {
+                    break;
+                }
+                orderIndex++;
+            }
+            return orderIndex;
+        }
+
+        private int countSkippedBefore(int orderIndex) {
+            int position = Arrays.binarySearch(skippedIndexes, orderIndex);
+            return position >= 0 ? position : -position - 1;
+        }
+
+    }
+
+    /**
+     * 추천 순서로 방문하는 후보 중 커서 또는 offset 이후 구간만 수집
+     */
+    private static final class RecommendationWindowCollector {
+
+        private final Comparator<RollBtiRecommendationCursor> comparator;
+        private final RollBtiRecommendationCursor after;
+        private final int limit;
+        private final List<RollBtiRecommendationCursor> collected = new ArrayList<>();
+        private int remainingSkip;
+
+        private RecommendationWindowCollector(
+                Comparator<RollBtiRecommendationCursor> comparator,
+                RollBtiRecommendationCursor after,
+                int offset,
+                int limit) {
+            this.comparator = comparator;
+            this.after = after;
+            this.remainingSkip = offset;
+            this.limit = limit;
+        }
+
+        /**
+         * @return 더 수집해야 하면 true
+         */
+        private boolean accept(RollBtiRecommendationCursor key) {
+            if (after != null && comparator.compare(key, after) <= 0) {
+                return true;
+            }
+            if (remainingSkip > 0) {
+                remainingSkip--;
+                return true;
+            }
+            collected.add(key);
+            return collected.size() < limit;
+        }
+
     }
 
     private int normalizeSize(Integer size) {
@@ -723,14 +1056,30 @@ public class RollBtiFacadeService {
                 .orElseGet(() -> MemberRollBtiProfile.create(member, type));
 
         MemberRollBtiProfile savedProfile = memberRollBtiProfileRepository.save(profile);
+        rollBtiRecommendationIndex.refresh(member.getId());
+        rollBtiPublicRecommendationSnapshot.invalidate();
         return RollBtiProfileResponse.of(savedProfile);
     }
 
+    /**
+     * 추천 정렬 기준 시각이 없는 프로필 채우기
+     *
+     * @return 채운 프로필 수
+     */
+    @Transactional
+    public int backfillRecommendationSortAt() {
+        return memberRollBtiProfileRepository.backfillSortAt();
+    }
+
     private MemberRollBtiProfile getProfileOrThrow(Long memberId) {
         return memberRollBtiProfileRepository.findByMember_Id(memberId)
                 .orElseThrow(() -> new RollBtiException(ErrorCode.ROLL_BTI_PROFILE_NOT_FOUND));
     }
 
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
     private String generateRandomResultId() {
         StringBuilder sb = new StringBuilder(RESULT_ID_LENGTH);
         for (int i = 0; i < RESULT_ID_LENGTH; i++) {
@@ -748,6 +1097,15 @@ public class RollBtiFacadeService {
         }
     }
 
+    private String createETag(RollBtiGuestResultResponse response) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response)) + "\"";
+        } catch (JsonProcessingException e) {
+            log.error("롤BTI 결과 응답 직렬화 실패", e);
+            throw new RollBtiException(ErrorCode._INTERNAL_SERVER_ERROR, RESULT_PAYLOAD_SERIALIZATION_FAILED_MESSAGE);
+        }
+    }
+
     private JsonNode deserializePayload(String resultPayload) {
         try {
             return objectMapper.readTree(resultPayload);
@@ -0,0 +1,71 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiGuestResultResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비회원 롤BTI 결과 조회 응답 캐시 (in-memory)
+ * <p>
+ * 저장된 결과는 이후 변경되지 않으므로 resultId별 조회 응답과 ETag를 무효화 없이 보관하며, 최근 조회 순으로 최대 maxEntries개까지만 유지한다.
+ */
+@Component
+public class RollBtiGuestResultCache {
+
+    @Value("${roll-bti.guest-result-cache-max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, CachedGuestResult> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedGuestResult> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * 캐시된 조회 응답 조회
+     *
+     * @param resultId 공유용 결과 id
+     * @return 캐시된 응답, 없으면 empty
+     */
+    public Optional<CachedGuestResult> find(String resultId) {
+        synchronized (entries) {
+            return Optional.ofNullable(entries.get(resultId));
+        }
+    }
+
+    /**
+     * 조회 응답 저장
+     *
+     * @param cachedGuestResult 조회 응답과 ETag
+     */
+    public void put(CachedGuestResult cachedGuestResult) {
+        synchronized (entries) {
+            entries.put(cachedGuestResult.response().getResultId(), cachedGuestResult);
+        }
+    }
+
+    /**
+     * 캐시 전체 초기화
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시된 결과 조회 응답
+     *
+     * @param response 조회 응답
+     * @param eTag     응답 내용으로 만든 strong ETag (따옴표 포함)
+     */
+    public record CachedGuestResult(RollBtiGuestResultResponse response, String eTag) {
+
+    }
+
+}
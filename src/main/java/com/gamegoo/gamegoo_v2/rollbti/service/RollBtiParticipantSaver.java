@@ -0,0 +1,33 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiParticipant;
+import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RollBtiParticipantSaver {
+
+    private final RollBtiParticipantRepository rollBtiParticipantRepository;
+
+    /**
+     * 참여자 저장 시도
+     *
+     * @param participantKey 참여자 식별값
+     * @return 새로 저장되었으면 true, 이미 있는 참여자면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean trySave(String participantKey) {
+        try {
+            rollBtiParticipantRepository.saveAndFlush(RollBtiParticipant.create(participantKey));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+}
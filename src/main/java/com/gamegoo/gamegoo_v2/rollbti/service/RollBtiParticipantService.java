@@ -0,0 +1,96 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiParticipant;
+import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 롤BTI 누적 참여 인원 관리
+ * <p>
+ * complete_test 이벤트 적재 시 참여자 테이블에 중복 없이 추가하고, 조회는 메모리의 카운터로 응답한다. 카운터는 스케줄러가 주기적으로 참여자 테이블 건수와 맞추며,
+ * 참여자 테이블 자체는 관리자 API로 이벤트 테이블에서 다시 계산할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RollBtiParticipantService {
+
+    private final RollBtiParticipantRepository rollBtiParticipantRepository;
+    private final RollBtiParticipantSaver rollBtiParticipantSaver;
+
+    private final AtomicLong participantCount = new AtomicLong();
+    private volatile boolean loaded;
+
+    /**
+     * 누적 참여 인원 조회
+     *
+     * @return 참여자 수
+     */
+    public long getParticipantCount() {
+        if (!loaded) {
+            return reconcile();
+        }
+        return participantCount.get();
+    }
+
+    /**
+     * 테스트 완료 참여자 등록
+     * 처음 참여한 회원 또는 세션이면 참여자 테이블에 추가하고 카운터를 증가시킨다.
+     *
+     * @param memberId  회원 id
+     * @param sessionId 롤BTI 프론트 세션 식별자
+     */
+    public void registerParticipant(Long memberId, String sessionId) {
+        String participantKey = RollBtiParticipant.participantKeyOf(memberId, sessionId);
+        if (participantKey == null || rollBtiParticipantRepository.existsByParticipantKey(participantKey)) {
+            return;
+        }
+
+        if (rollBtiParticipantSaver.trySave(participantKey) && loaded) {
+            participantCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 카운터를 참여자 테이블 건수로 보정
+     *
+     * @return 보정된 참여자 수
+     */
+    public long reconcile() {
+        long count = rollBtiParticipantRepository.count();
+        participantCount.set(count);
+        loaded = true;
+        return count;
+    }
+
+    /**
+     * 이벤트 테이블 기준으로 참여자 테이블과 카운터를 처음부터 다시 계산
+     *
+     * @return 다시 계산한 참여자 수
+     */
+    @Transactional
+    public long recompute() {
+        rollBtiParticipantRepository.deleteAllParticipants();
+        rollBtiParticipantRepository.insertMissingParticipantsFromEvents();
+        long count = reconcile();
+        log.info("roll-bti participants recomputed: {}", count);
+        return count;
+    }
+
+    /**
+     * 참여자 테이블이 비어 있으면 이벤트 테이블 기준으로 채움 (참여자 테이블 도입 전 이벤트 반영)
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollBtiParticipantRepository.count() == 0) {
+            recompute();
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiPublicRecommendationEntry;
+import com.gamegoo.gamegoo_v2.rollbti.repository.MemberRollBtiProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 롤BTI 공개 추천 순서 snapshot (in-memory)
+ * <p>
+ * 비로그인 기준 공개 추천 순서(소환사명, 태그 대소문자 무시 오름차순, 회원 id 오름차순)를 전체, 티어별로 미리 정렬해 둔다. 처음 조회될 때 DB에서 읽어오며, 프로필
+ * 저장, 회원 블라인드/티어 변경 시 무효화되고 그 밖의 변경(소환사명 등)은 ttlMillis가 지나면 다시 읽어 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RollBtiPublicRecommendationSnapshot {
+
+    public static final Comparator<RollBtiPublicRecommendationEntry> PUBLIC_ORDER =
+            Comparator.comparing(RollBtiPublicRecommendationEntry::gameName,
+                            Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                    .thenComparing(RollBtiPublicRecommendationEntry::tag,
+                            Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                    .thenComparing(RollBtiPublicRecommendationEntry::memberId);
+
+    private final MemberRollBtiProfileRepository memberRollBtiProfileRepository;
+
+    @Value("${roll-bti.public-snapshot-ttl-millis:60000}")
+    private long ttlMillis;
+
+    // 무효화 이전에 시작된 조회 결과가 snapshot으로 저장되지 않도록 하기 위한 세대 값
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+
+    /**
+     * 티어 필터에 해당하는 공개 추천 순서 조회
+     *
+     * @param tier 티어 필터 (null이면 전체)
+     * @return 공개 추천 순서
+     */
+    public PublicOrder find(Tier tier) {
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.isExpired(ttlMillis)) {
+            snapshot = reload();
+        }
+        return snapshot.find(tier);
+    }
+
+    /**
+     * snapshot 무효화
+     * 현재 트랜잭션 종료 후에도 한 번 더 무효화해 커밋 전 상태가 snapshot에 남지 않도록 한다.
+     */
+    public void invalidate() {
+        evict();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict();
+                }
+            });
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot snapshot = current;
+        if (snapshot != null && !snapshot.isExpired(ttlMillis)) {
+            return snapshot;
+        }
+
+        long loadedGeneration = generation.get();
+        List<RollBtiPublicRecommendationEntry> entries =
+                new ArrayList<>(memberRollBtiProfileRepository.findAllPublicRecommendationEntries());
+        entries.sort(PUBLIC_ORDER);
+        Snapshot loaded = Snapshot.of(entries, System.currentTimeMillis());
+
+        if (generation.get() == loadedGeneration) {
+            current = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * 정렬된 공개 추천 회원 순서
+     * 순서상 위치로 회원 id를 읽거나 회원 id로 위치를 찾을 수 있다.
+     */
+    public static final class PublicOrder {
+
+        private static final PublicOrder EMPTY = new PublicOrder(new long[0]);
+
+        private final long[] memberIds;
+        private final Map<Long, Integer> indexes;
+
+        private PublicOrder(long[] memberIds) {
+            this.memberIds = memberIds;
+            this.indexes = new HashMap<>(Math.max(16, memberIds.length * 2));
+            for (int i = 0; i < memberIds.length; i++) {
+                indexes.put(memberIds[i], i);
+            }
+        }
+
+        public int size() {
+            return memberIds.length;
+        }
+
+        public Long memberIdAt(int index) {
+            return memberIds[index];
+        }
+
+        /**
+         * 회원의 순서상 위치
+         *
+         * @param memberId 회원 id
+         * @return 위치, 순서에 없으면 -1
+         */
+        public int indexOf(Long memberId) {
+            return indexes.getOrDefault(memberId, -1);
+        }
+
+    }
+
+    /**
+     * 특정 시점의 공개 추천 순서 (전체, 티어별)
+     * 개인 랭크와 자유 랭크 티어가 다르면 두 티어 순서에 모두 포함된다.
+     */
+    private record Snapshot(PublicOrder all, Map<Tier, PublicOrder> byTier, long loadedAtMillis) {
+
+        private static Snapshot of(List<RollBtiPublicRecommendationEntry> sortedEntries, long loadedAtMillis) {
+            Map<Tier, List<Long>> memberIdsByTier = new EnumMap<>(Tier.class);
+            for (RollBtiPublicRecommendationEntry entry : sortedEntries) {
+                if (entry.soloTier() != null) {
+                    memberIdsByTier.computeIfAbsent(entry.soloTier(), key -> new ArrayList<>()).add(entry.memberId());
+                }
+                if (entry.freeTier() != null && entry.freeTier() != entry.soloTier()) {
+                    memberIdsByTier.computeIfAbsent(entry.freeTier(), key -> new ArrayList<>()).add(entry.memberId());
+                }
+            }
+
+            Map<Tier, PublicOrder> byTier = new EnumMap<>(Tier.class);
+            memberIdsByTier.forEach((tier, memberIds) -> byTier.put(tier, toPublicOrder(memberIds)));
+            return new Snapshot(
+                    toPublicOrder(sortedEntries.stream().map(RollBtiPublicRecommendationEntry::memberId).toList()),
+                    byTier,
+                    loadedAtMillis);
+        }
+
+        private static PublicOrder toPublicOrder(List<Long> memberIds) {
+            return new PublicOrder(memberIds.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        private PublicOrder find(Tier tier) {
+            if (tier == null) {
+                return all;
+            }
+            return byTier.getOrDefault(tier, PublicOrder.EMPTY);
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAtMillis >= ttlMillis;
+        }
+
+    }
+
+}
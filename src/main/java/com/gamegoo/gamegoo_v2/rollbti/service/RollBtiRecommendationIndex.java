@@ -0,0 +1,314 @@
+package com.gamegoo.gamegoo_v2.rollbti.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
+import com.gamegoo.gamegoo_v2.rollbti.repository.MemberRollBtiProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 롤BTI 회원 추천 인덱스 (in-memory)
+ * <p>
+ * 추천 대상 회원(블라인드가 아닌 롤BTI 프로필 보유 회원)을 롤BTI 유형별로 나누어 프로필 수정 시각, 회원 id 내림차순으로 정렬해 두고, 티어별로도 같은 정렬의 목록을
+ * 유지한다. 요청자 유형이 정해지면 상대 유형마다 궁합 점수가 하나로 정해지므로, 점수 순서대로 같은 점수 유형의 목록을 병합하며 필요한 구간만 읽는다. 프로필 저장,
+ * 회원 블라인드/티어 변경 시 트랜잭션 커밋 이후 해당 회원만 다시 조회해 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollBtiRecommendationIndex implements ApplicationListener<ApplicationReadyEvent> {
+
+    // 같은 궁합 점수 안에서의 추천 순서: 프로필 수정 시각 내림차순, 회원 id 내림차순
+    public static final Comparator<RollBtiRecommendationCandidate> RECENT_FIRST =
+            Comparator.comparing(RollBtiRecommendationCandidate::updatedAt,
+                            Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(RollBtiRecommendationCandidate::memberId, Comparator.reverseOrder());
+
+    private final MemberRollBtiProfileRepository memberRollBtiProfileRepository;
+    private final RollBtiCatalogService rollBtiCatalogService;
+
+    @Value("${roll-bti.recommendation-index-enabled:false}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RollBtiRecommendationCandidate> candidates = new HashMap<>();
+    private final Map<RollBtiType, TypeGroup> groups = createGroups();
+    private volatile boolean loaded;
+
+    /**
+     * 서버 시작 시 DB의 추천 대상 회원으로 인덱스 초기화
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     *
+     * @return 설정이 켜져 있고 초기화가 끝났으면 true
+     */
+    public boolean isAvailable() {
+        return enabled && loaded;
+    }
+
+    /**
+     * DB의 추천 대상 회원 전체로 인덱스 재구성
+     */
+    public void reload() {
+        List<RollBtiRecommendationCandidate> loadedCandidates =
+                memberRollBtiProfileRepository.findAllRecommendationIndexCandidates();
+
+        lock.writeLock().lock();
+        try {
+            candidates.clear();
+            groups.values().forEach(TypeGroup::clear);
+            loadedCandidates.forEach(this::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("roll-bti recommendation index loaded: {} members", loadedCandidates.size());
+    }
+
+    /**
+     * 회원 한 명의 추천 대상 정보를 DB에서 다시 읽어 반영
+     * 현재 트랜잭션이 있으면 커밋 이후에 반영하며, 추천 대상이 아니게 된 회원(블라인드 등)은 인덱스에서 제거된다.
+     *
+     * @param memberId 회원 id
+     */
+    public void refresh(Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> {
+            if (!loaded) {
+                return;
+            }
+            Optional<RollBtiRecommendationCandidate> candidate =
+                    memberRollBtiProfileRepository.findRecommendationIndexCandidate(memberId);
+
+            lock.writeLock().lock();
+            try {
+                remove(memberId);
+                candidate.ifPresent(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 회원의 추천 대상 정보 조회
+     *
+     * @param memberId 회원 id
+     * @return 추천 대상 정보, 추천 대상이 아니면 empty
+     */
+    public Optional<RollBtiRecommendationCandidate> find(Long memberId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(candidates.get(memberId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 요청자 유형 기준 추천 순서대로 추천 대상 순회
+     * 궁합 점수(정렬 방향에 따라 내림차순/오름차순), 프로필 수정 시각 내림차순, 회원 id 내림차순으로 방문하며, visitor가 false를 반환하면 순회를 멈춘다.
+     *
+     * @param requesterType      요청자 롤BTI 유형
+     * @param compatibilityOrder 궁합 점수 정렬 방향
+     * @param tier               티어 필터 (null이면 전체)
+     * @param scoreFilter        방문할 궁합 점수 조건
+     * @param visitor            방문 처리, 계속 순회하려면 true 반환
+     */
+    public void walk(RollBtiType requesterType, RollBtiCompatibilityOrder compatibilityOrder, Tier tier,
+                     IntPredicate scoreFilter, Predicate<RollBtiRecommendationCandidate> visitor) {
+        List<List<RollBtiType>> typesByScore = groupTypesByScore(requesterType, compatibilityOrder, scoreFilter);
+
+        lock.readLock().lock();
+        try {
+            for (List<RollBtiType> targetTypes : typesByScore) {
+                if (!mergeWalk(targetTypes, tier, visitor)) {
+                    return;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 궁합 점수가 같은 상대 유형끼리 묶어 정렬 방향 순서로 반환
+     */
+    private List<List<RollBtiType>> groupTypesByScore(RollBtiType requesterType,
+                                                      RollBtiCompatibilityOrder compatibilityOrder,
+                                                      IntPredicate scoreFilter) {
+        TreeMap<Integer, List<RollBtiType>> typesByScore = new TreeMap<>(
+                compatibilityOrder == RollBtiCompatibilityOrder.LOW
+                        ? Comparator.<Integer>naturalOrder()
+                        : Comparator.<Integer>reverseOrder());
+
+        for (RollBtiType targetType : RollBtiType.values()) {
+            int score = rollBtiCatalogService.calculateCompatibilityScore(requesterType, targetType);
+            if (scoreFilter.test(score)) {
+                typesByScore.computeIfAbsent(score, key -> new ArrayList<>()).add(targetType);
+            }
+        }
+        return new ArrayList<>(typesByScore.values());
+    }
+
+    /**
+     * 여러 유형의 정렬된 목록을 하나의 순서로 병합하며 방문
+     */
+    private boolean mergeWalk(List<RollBtiType> targetTypes, Tier tier,
+                              Predicate<RollBtiRecommendationCandidate> visitor) {
+        PriorityQueue<MergeCursor> queue = new PriorityQueue<>(targetTypes.size(),
+                (a, b) -> RECENT_FIRST.compare(a.current, b.current));
+        for (RollBtiType targetType : targetTypes) {
+            MergeCursor cursor = new MergeCursor(groups.get(targetType).find(tier).iterator());
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            MergeCursor cursor = queue.poll();
+            if (!visitor.test(cursor.current)) {
+                return false;
+            }
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        return true;
+    }
+
+    private void add(RollBtiRecommendationCandidate candidate) {
+        candidates.put(candidate.memberId(), candidate);
+        groups.get(candidate.rollBtiType()).add(candidate);
+    }
+
+    private void remove(Long memberId) {
+        RollBtiRecommendationCandidate removed = candidates.remove(memberId);
+        if (removed != null) {
+            groups.get(removed.rollBtiType()).remove(removed);
+        }
+    }
+
+    private static Map<RollBtiType, TypeGroup> createGroups() {
+        Map<RollBtiType, TypeGroup> groups = new EnumMap<>(RollBtiType.class);
+        for (RollBtiType type : RollBtiType.values()) {
+            groups.put(type, new TypeGroup());
+        }
+        return groups;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 단일 롤BTI 유형의 추천 대상 목록 (전체, 티어별)
+     * 개인 랭크와 자유 랭크 티어가 다르면 두 티어 목록에 모두 포함된다.
+     */
+    private static final class TypeGroup {
+
+        private final NavigableSet<RollBtiRecommendationCandidate> all = new TreeSet<>(RECENT_FIRST);
+        private final Map<Tier, NavigableSet<RollBtiRecommendationCandidate>> byTier = new EnumMap<>(Tier.class);
+
+        void add(RollBtiRecommendationCandidate candidate) {
+            all.add(candidate);
+            if (candidate.soloTier() != null) {
+                byTier.computeIfAbsent(candidate.soloTier(), key -> new TreeSet<>(RECENT_FIRST)).add(candidate);
+            }
+            if (candidate.freeTier() != null) {
+                byTier.computeIfAbsent(candidate.freeTier(), key -> new TreeSet<>(RECENT_FIRST)).add(candidate);
+            }
+        }
+
+        void remove(RollBtiRecommendationCandidate candidate) {
+            all.remove(candidate);
+            if (candidate.soloTier() != null && byTier.containsKey(candidate.soloTier())) {
+                byTier.get(candidate.soloTier()).remove(candidate);
+            }
+            if (candidate.freeTier() != null && byTier.containsKey(candidate.freeTier())) {
+                byTier.get(candidate.freeTier()).remove(candidate);
+            }
+        }
+
+        NavigableSet<RollBtiRecommendationCandidate> find(Tier tier) {
+            if (tier == null) {
+                return all;
+            }
+            return byTier.getOrDefault(tier, Collections.emptyNavigableSet());
+        }
+
+        void clear() {
+            all.clear();
+            byTier.clear();
+        }
+
+    }
+
+    /**
+     * 병합 순회 중인 목록의 현재 위치
+     */
+    private static final class MergeCursor {
+
+        private final Iterator<RollBtiRecommendationCandidate> iterator;
+        private RollBtiRecommendationCandidate current;
+
+        MergeCursor(Iterator<RollBtiRecommendationCandidate> iterator) {
+            this.iterator = iterator;
+        }
+
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+
+    }
+
+}
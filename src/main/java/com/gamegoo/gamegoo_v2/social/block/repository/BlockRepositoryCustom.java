@@ -22,4 +22,20 @@ public interface BlockRepositoryCustom {
      */
     Map<Long, Boolean> hasBlockedTargetMembersBatch(List<Long> targetMemberIds, Long memberId);
 
+    /**
+     * 회원이 차단한 회원 id 목록 조회
+     *
+     * @param blockerId 회원 id
+     * @return 차단한 회원 id list
+     */
+    List<Long> findBlockedMemberIds(Long blockerId);
+
+    /**
+     * 회원을 차단한 회원 id 목록 조회
+     *
+     * @param blockedId 회원 id
+     * @return 회원을 차단한 회원 id list
+     */
+    List<Long> findBlockerMemberIds(Long blockedId);
+
 }
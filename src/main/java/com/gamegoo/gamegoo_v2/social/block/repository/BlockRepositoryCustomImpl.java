@@ -57,4 +57,28 @@ public class BlockRepositoryCustomImpl implements BlockRepositoryCustom {
                 ));
     }
 
+    @Override
+    public List<Long> findBlockedMemberIds(Long blockerId) {
+        return queryFactory
+                .select(block.blockedMember.id)
+                .from(block)
+                .where(
+                        block.blockerMember.id.eq(blockerId),
+                        block.deleted.eq(false)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findBlockerMemberIds(Long blockedId) {
+        return queryFactory
+                .select(block.blockerMember.id)
+                .from(block)
+                .where(
+                        block.blockedMember.id.eq(blockedId),
+                        block.deleted.eq(false)
+                )
+                .fetch();
+    }
+
 }
@@ -0,0 +1,209 @@
+package com.gamegoo.gamegoo_v2.social.block.service;
+
+import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 양방향 차단 관계 캐시 (in-memory)
+ * <p>
+ * 회원마다 내가 차단한 회원, 나를 차단한 회원의 id를 정렬된 long 배열로 보관한다. 처음 조회될 때 DB에서 읽어오며, 최근 조회 순으로 최대 maxMembers명까지만
+ * 유지한다. 차단 관계가 변경되면 두 회원의 캐시를 무효화한다. 변경 커밋 이전 snapshot으로 조회한 결과가 무효화 이후에 저장될 수 있으므로, 저장된 관계는
+ * ttlMillis가 지나면 다시 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockGraph {
+
+    private final BlockRepository blockRepository;
+
+    @Value("${block.graph-max-members:10000}")
+    private int maxMembers;
+
+    @Value("${block.graph-ttl-millis:30000}")
+    private long ttlMillis;
+
+    private final Map<Long, BlockNode> nodes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BlockNode> eldest) {
+            return size() > maxMembers;
+        }
+    };
+
+    // 무효화 이전에 시작된 조회 결과가 캐시에 저장되지 않도록 하기 위한 세대 값
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * member가 targetMember를 차단했는지 여부
+     *
+     * @param memberId       회원 id
+     * @param targetMemberId 상대 회원 id
+     * @return 차단 여부
+     */
+    public boolean hasBlocked(Long memberId, Long targetMemberId) {
+        return getNode(memberId).hasBlocked(targetMemberId);
+    }
+
+    /**
+     * member가 targetMember들을 차단했는지 여부
+     *
+     * @param memberId        회원 id
+     * @param targetMemberIds 상대 회원 id list
+     * @return Map<상대 회원 id, 회원이 해당 상대를 차단했는지 여부>
+     */
+    public Map<Long, Boolean> hasBlockedBatch(Long memberId, List<Long> targetMemberIds) {
+        BlockNode node = getNode(memberId);
+        return targetMemberIds.stream()
+                .collect(Collectors.toMap(targetId -> targetId, node::hasBlocked, (a, b) -> a));
+    }
+
+    /**
+     * targetMember들이 member를 차단했는지 여부
+     *
+     * @param memberId        회원 id
+     * @param targetMemberIds 상대 회원 id list
+     * @return Map<상대 회원 id, 차단 여부>
+     */
+    public Map<Long, Boolean> isBlockedByBatch(Long memberId, List<Long> targetMemberIds) {
+        BlockNode node = getNode(memberId);
+        return targetMemberIds.stream()
+                .collect(Collectors.toMap(targetId -> targetId, node::isBlockedBy, (a, b) -> a));
+    }
+
+    /**
+     * 상대 회원 중 회원과 어느 한쪽이라도 차단 관계인 회원 id 조회
+     *
+     * @param memberId        회원 id
+     * @param targetMemberIds 상대 회원 id 목록
+     * @return 차단 관계인 상대 회원 id set
+     */
+    public Set<Long> findBlockRelatedMemberIds(Long memberId, Collection<Long> targetMemberIds) {
+        BlockNode node = getNode(memberId);
+        Set<Long> related = new HashSet<>();
+        for (Long targetId : targetMemberIds) {
+            if (node.hasBlocked(targetId) || node.isBlockedBy(targetId)) {
+                related.add(targetId);
+            }
+        }
+        return related;
+    }
+
+    /**
+     * 회원이 차단한 회원 id 전체 조회
+     *
+     * @param memberId 회원 id
+     * @return 회원이 차단한 회원 id set
+     */
+    public Set<Long> findBlockedMemberIds(Long memberId) {
+        return Arrays.stream(getNode(memberId).blocking())
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 두 회원 사이 차단 관계 변경 시 캐시 무효화
+     * 현재 트랜잭션 종료 후에도 한 번 더 무효화해 커밋 전 상태가 캐시에 남지 않도록 한다.
+     *
+     * @param blockerId 차단한 회원 id
+     * @param blockedId 차단된 회원 id
+     */
+    public void invalidate(Long blockerId, Long blockedId) {
+        evict(blockerId, blockedId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(blockerId, blockedId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 전체 초기화
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (nodes) {
+            nodes.clear();
+        }
+    }
+
+    private void evict(Long blockerId, Long blockedId) {
+        generation.incrementAndGet();
+        synchronized (nodes) {
+            nodes.remove(blockerId);
+            nodes.remove(blockedId);
+        }
+    }
+
+    private BlockNode getNode(Long memberId) {
+        synchronized (nodes) {
+            BlockNode node = nodes.get(memberId);
+            if (node != null && !node.isExpired(ttlMillis)) {
+                return node;
+            }
+        }
+
+        long loadedGeneration = generation.get();
+        BlockNode node = new BlockNode(
+                toSortedArray(blockRepository.findBlockedMemberIds(memberId)),
+                toSortedArray(blockRepository.findBlockerMemberIds(memberId)),
+                System.nanoTime());
+
+        synchronized (nodes) {
+            if (generation.get() == loadedGeneration) {
+                nodes.put(memberId, node);
+            }
+        }
+        return node;
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        long[] array = ids.stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * 회원 한 명의 차단 관계
+     *
+     * @param blocking      회원이 차단한 회원 id (정렬)
+     * @param blockedBy     회원을 차단한 회원 id (정렬)
+     * @param loadedAtNanos DB에서 조회한 시각 (System.nanoTime)
+     */
+    private record BlockNode(long[] blocking, long[] blockedBy, long loadedAtNanos) {
+
+        boolean isExpired(long ttlMillis) {
+            return System.nanoTime() - loadedAtNanos >= TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        }
+
+        boolean hasBlocked(Long targetId) {
+            return targetId != null && Arrays.binarySearch(blocking, targetId) >= 0;
+        }
+
+        boolean isBlockedBy(Long targetId) {
+            return targetId != null && Arrays.binarySearch(blockedBy, targetId) >= 0;
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +26,7 @@ public class BlockService {
     private final BlockRepository blockRepository;
     private final MemberValidator memberValidator;
     private final BlockValidator blockValidator;
+    private final BlockGraph blockGraph;
 
     private final static int PAGE_SIZE = 10;
 
@@ -50,6 +52,9 @@ public class BlockService {
         Block block = Block.create(member, targetMember);
         blockRepository.save(block);
 
+        // 차단 관계 캐시 무효화
+        blockGraph.invalidate(member.getId(), targetMember.getId());
+
         return block;
     }
 
@@ -85,6 +90,9 @@ public class BlockService {
         // Block 엔티티의 deleted 필드 업데이트
         block.updateDeleted(true);
 
+        // 차단 관계 캐시 무효화
+        blockGraph.invalidate(member.getId(), targetMember.getId());
+
         return block;
     }
 
@@ -109,6 +117,9 @@ public class BlockService {
         // Block 엔티티의 deleted 필드 업데이트
         block.updateDeleted(true);
 
+        // 차단 관계 캐시 무효화
+        blockGraph.invalidate(member.getId(), targetMember.getId());
+
         return block;
     }
 
@@ -120,7 +131,7 @@ public class BlockService {
      * @return 차단 여부
      */
     public boolean isBlocked(Member member, Member targetMember) {
-        return blockRepository.existsByBlockerMemberAndBlockedMemberAndDeleted(member, targetMember, false);
+        return blockGraph.hasBlocked(member.getId(), targetMember.getId());
     }
 
     /**
@@ -131,7 +142,7 @@ public class BlockService {
      * @return Map<상대 회원 id, 차단 여부>
      */
     public Map<Long, Boolean> isBlockedByTargetMembersBatch(Member member, List<Long> targetMemberIds) {
-        return blockRepository.isBlockedByTargetMembersBatch(targetMemberIds, member.getId());
+        return blockGraph.isBlockedByBatch(member.getId(), targetMemberIds);
     }
 
     /**
@@ -142,7 +153,28 @@ public class BlockService {
      * @return Map<상대 회원 id, 회원이 해당 상대를 차단했는지 여부>
      */
     public Map<Long, Boolean> hasBlockedTargetMembersBatch(Member member, List<Long> targetMemberIds) {
-        return blockRepository.hasBlockedTargetMembersBatch(targetMemberIds, member.getId());
+        return blockGraph.hasBlockedBatch(member.getId(), targetMemberIds);
+    }
+
+    /**
+     * member가 차단한 회원 id 전체 조회
+     *
+     * @param member 회원
+     * @return 회원이 차단한 회원 id set
+     */
+    public Set<Long> getBlockedMemberIds(Member member) {
+        return blockGraph.findBlockedMemberIds(member.getId());
+    }
+
+    /**
+     * targetMember들 중 member와 어느 한쪽이라도 차단 관계인 회원 id 조회
+     *
+     * @param member          회원
+     * @param targetMemberIds 상대 회원 id list
+     * @return 회원이 차단했거나 회원을 차단한 상대 회원 id set
+     */
+    public Set<Long> getBlockRelatedMemberIds(Member member, List<Long> targetMemberIds) {
+        return blockGraph.findBlockRelatedMemberIds(member.getId(), targetMemberIds);
     }
 
     /**
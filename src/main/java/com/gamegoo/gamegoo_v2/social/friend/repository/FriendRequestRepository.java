@@ -48,6 +48,10 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, Lo
             @Param("status") FriendRequestStatus status
     );
 
+    @Query("SELECT fr.fromMember.id FROM FriendRequest fr WHERE fr.toMember = :member AND fr.status = :status")
+    List<Long> findFromMemberIdsByToMemberAndStatus(@Param("member") Member member,
+                                                    @Param("status") FriendRequestStatus status);
+
     List<FriendRequest> findAllByFromMember(Member fromMember);
 
     List<FriendRequest> findAllByToMember(Member toMember);
@@ -316,6 +316,16 @@ public class FriendService {
                 .orElse(null);
     }
 
+    /**
+     * member에게 대기 중인 친구 요청을 보낸 회원의 id 목록 조회 메소드
+     *
+     * @param member 회원
+     * @return 친구 요청을 보낸 회원 id list
+     */
+    public List<Long> getReceivedFriendRequestMemberIds(Member member) {
+        return friendRequestRepository.findFromMemberIdsByToMemberAndStatus(member, FriendRequestStatus.PENDING);
+    }
+
     /**
      * 모든 targetMember에 대해 두 회원 사이 친구 요청 보낸 회원의 id 반환하는 메소드
      *
@@ -0,0 +1,88 @@
+package com.gamegoo.gamegoo_v2.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class DeflateUtil {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private DeflateUtil() {
+    }
+
+    /**
+     * 문자열을 UTF-8로 인코딩한 뒤 deflate 압축
+     *
+     * @param value 원본 문자열
+     * @return 압축된 byte 배열
+     */
+    public static byte[] compress(String value) {
+        return compressBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * compress()로 압축한 byte 배열을 문자열로 복원
+     *
+     * @param compressed 압축된 byte 배열
+     * @return 원본 문자열
+     */
+    public static String decompress(byte[] compressed) {
+        return new String(decompressBytes(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * byte 배열을 deflate 압축
+     *
+     * @param input 원본 byte 배열
+     * @return 압축된 byte 배열
+     */
+    public static byte[] compressBytes(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * compressBytes()로 압축한 byte 배열을 복원
+     *
+     * @param compressed 압축된 byte 배열
+     * @return 원본 byte 배열
+     */
+    public static byte[] decompressBytes(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("압축 데이터가 손상되었습니다.");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 데이터 형식이 올바르지 않습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
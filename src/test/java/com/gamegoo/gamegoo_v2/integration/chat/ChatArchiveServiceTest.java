@@ -0,0 +1,260 @@
+package com.gamegoo.gamegoo_v2.integration.chat;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.MemberRecentStats;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRecentStatsRepository;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageListResponse;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageResponse;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatArchiveBlockRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.service.ChatArchiveService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatFacadeService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatQueryService;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ChatArchiveServiceTest {
+
+    private static final int BLOCK_SIZE = 10;
+
+    @Autowired
+    private ChatArchiveService chatArchiveService;
+
+    @Autowired
+    private ChatFacadeService chatFacadeService;
+
+    @Autowired
+    private ChatQueryService chatQueryService;
+
+    @Autowired
+    private ChatArchiveBlockRepository chatArchiveBlockRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberRecentStatsRepository memberRecentStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SocketService socketService;
+
+    private Member member;
+    private Member targetMember;
+    private Chatroom chatroom;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("test@gmail.com", "member");
+        targetMember = createMember("target@gmail.com", "targetMember");
+        chatroom = chatroomRepository.save(Chatroom.create(UUID.randomUUID().toString()));
+        baseTime = LocalDateTime.now().minusDays(10).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatArchiveBlockRepository.deleteAllInBatch();
+        memberRecentStatsRepository.deleteAll();
+        chatRepository.deleteAllInBatch();
+        memberChatroomRepository.deleteAllInBatch();
+        chatroomRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("회원 모두가 읽은 오래된 메시지를 블록 단위로 옮기고, 채팅방의 마지막 메시지는 남긴다.")
+    @Test
+    void archiveChatroom() {
+        // given
+        createMemberChatroom(member, LocalDateTime.now());
+        createMemberChatroom(targetMember, LocalDateTime.now());
+        List<Chat> chats = createChats(25);
+
+        // when
+        List<Integer> archived = archiveAll();
+
+        // then
+        assertThat(archived).containsExactly(10, 10, 4, 0);
+        assertThat(chatRepository.findAll()).extracting(Chat::getId).containsExactly(chats.get(24).getId());
+        assertThat(chatArchiveBlockRepository.count()).isEqualTo(3);
+
+        Chatroom archivedChatroom = chatroomRepository.findById(chatroom.getId()).orElseThrow();
+        assertThat(archivedChatroom.getArchivedUntil()).isEqualTo(baseTime.plusMinutes(24));
+    }
+
+    @DisplayName("아직 메시지를 읽지 않은 회원이 있으면 옮기지 않는다.")
+    @Test
+    void archiveChatroomSkipsUnreadChats() {
+        // given
+        createMemberChatroom(member, LocalDateTime.now());
+        createMemberChatroom(targetMember, null);
+        createChats(5);
+
+        // when
+        int archived = chatArchiveService.archiveChatroom(chatroom.getId(), LocalDateTime.now().minusDays(1),
+                BLOCK_SIZE);
+
+        // then
+        assertThat(archived).isZero();
+        assertThat(chatRepository.count()).isEqualTo(5);
+    }
+
+    @DisplayName("메시지 내역 조회 시 chat 테이블의 메시지를 모두 조회하면 보관된 메시지로 이어서 조회한다.")
+    @Test
+    void getChatMessagesContinuesIntoArchive() {
+        // given
+        createMemberChatroom(member, LocalDateTime.now());
+        createMemberChatroom(targetMember, LocalDateTime.now());
+        createChats(25);
+        archiveAll();
+
+        // when
+        ChatMessageListResponse recent = chatFacadeService.getChatMessagesByCursor(member, chatroom.getUuid(), null);
+        ChatMessageListResponse firstPage = chatFacadeService.getChatMessagesByCursor(member, chatroom.getUuid(),
+                recent.getNextCursor());
+        ChatMessageListResponse secondPage = chatFacadeService.getChatMessagesByCursor(member, chatroom.getUuid(),
+                firstPage.getNextCursor());
+
+        // then
+        assertThat(recent.getChatMessageList()).extracting(ChatMessageResponse::getMessage)
+                .containsExactly("message 25");
+        assertThat(recent.getHasNext()).isTrue();
+
+        assertThat(firstPage.getChatMessageList()).hasSize(20);
+        assertThat(firstPage.getChatMessageList().get(0).getMessage()).isEqualTo("message 5");
+        assertThat(firstPage.getChatMessageList().get(19).getMessage()).isEqualTo("message 24");
+        assertThat(firstPage.getHasNext()).isTrue();
+
+        assertThat(secondPage.getChatMessageList()).extracting(ChatMessageResponse::getMessage)
+                .containsExactly("message 1", "message 2", "message 3", "message 4");
+        assertThat(secondPage.getHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("보관된 메시지의 timestamp로 메시지 생성 시각을 조회한다.")
+    @Test
+    void getChatCreatedAtFromArchive() {
+        // given
+        createMemberChatroom(member, LocalDateTime.now());
+        createMemberChatroom(targetMember, LocalDateTime.now());
+        List<Chat> chats = createChats(5);
+        archiveAll();
+        Chatroom archivedChatroom = chatroomRepository.findById(chatroom.getId()).orElseThrow();
+
+        // when
+        LocalDateTime createdAt = chatQueryService.getChatCreatedAt(archivedChatroom, chats.get(2).getTimestamp());
+
+        // then
+        assertThat(createdAt).isEqualTo(baseTime.plusMinutes(3));
+    }
+
+    private List<Integer> archiveAll() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        List<Integer> archived = new ArrayList<>();
+        int count;
+        do {
+            count = chatArchiveService.archiveChatroom(chatroom.getId(), cutoff, BLOCK_SIZE);
+            archived.add(count);
+        } while (count > 0);
+        return archived;
+    }
+
+    /**
+     * baseTime 이후 1분 간격으로 생성된 메시지 생성, 마지막 메시지를 채팅방의 마지막 메시지로 설정
+     */
+    private List<Chat> createChats(int count) {
+        long baseTimestamp = Timestamp.valueOf(baseTime).getTime();
+        List<Chat> chats = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Chat chat = chatRepository.save(Chat.builder()
+                    .contents("message " + i)
+                    .timestamp(baseTimestamp + i * 60_000L)
+                    .chatroom(chatroom)
+                    .fromMember(i % 2 == 0 ? member : targetMember)
+                    .build());
+            jdbcTemplate.update("UPDATE chat SET created_at = ? WHERE chat_id = ?",
+                    Timestamp.valueOf(baseTime.plusMinutes(i)), chat.getId());
+            chats.add(chat);
+        }
+
+        Chat lastChat = chats.get(chats.size() - 1);
+        chatroom.updateLastChatId(lastChat.getId());
+        chatroom.updateLastChatAt(baseTime.plusMinutes(count));
+        chatroom = chatroomRepository.save(chatroom);
+        return chats;
+    }
+
+    private MemberChatroom createMemberChatroom(Member member, LocalDateTime lastViewDate) {
+        return memberChatroomRepository.save(MemberChatroom.builder()
+                .chatroom(chatroom)
+                .member(member)
+                .lastViewDate(lastViewDate)
+                .lastJoinDate(baseTime.minusDays(1))
+                .build());
+    }
+
+    private Member createMember(String email, String gameName) {
+        Member member = Member.builder()
+                .email(email)
+                .password("testPassword")
+                .profileImage(1)
+                .loginType(LoginType.GENERAL)
+                .gameName(gameName)
+                .tag("TAG")
+                .soloTier(Tier.IRON)
+                .soloRank(0)
+                .soloWinRate(0.0)
+                .soloGameCount(0)
+                .freeTier(Tier.IRON)
+                .freeRank(0)
+                .freeWinRate(0.0)
+                .freeGameCount(0)
+                .isAgree(true)
+                .build();
+
+        memberRecentStatsRepository.save(MemberRecentStats.builder()
+                .member(member)
+                .build());
+
+        return memberRepository.save(member);
+    }
+
+}
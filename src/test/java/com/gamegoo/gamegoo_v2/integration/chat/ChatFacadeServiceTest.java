@@ -12,15 +12,19 @@ import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
 import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
 import com.gamegoo.gamegoo_v2.chat.dto.request.SystemFlagRequest;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatCreateResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageListResponse;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.EnterChatroomResponse;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.service.ChatFacadeService;
 import com.gamegoo.gamegoo_v2.chat.service.ChatQueryService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomRecentChatCache;
 import com.gamegoo.gamegoo_v2.content.board.domain.Board;
 import com.gamegoo.gamegoo_v2.content.board.repository.BoardRepository;
 import com.gamegoo.gamegoo_v2.core.exception.BoardException;
@@ -48,6 +52,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -60,6 +65,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
@@ -79,6 +85,9 @@ class ChatFacadeServiceTest {
     @Autowired
     private ChatRepository chatRepository;
 
+    @Autowired
+    private ChatroomRecentChatCache chatroomRecentChatCache;
+
     @Autowired
     private BlockRepository blockRepository;
 
@@ -174,6 +183,27 @@ class ChatFacadeServiceTest {
             assertThat(response.getSystem()).isNull();
         }
 
+        @DisplayName("성공: 같은 회원 쌍의 채팅방이 동시에 생성된 경우 먼저 생성된 채팅방에 입장 처리되어야 한다.")
+        @Test
+        void startChatroomByMemberIdSucceedsWhenChatroomCreatedConcurrently() {
+            // given
+            Chatroom chatroom = chatroomRepository.save(
+                    Chatroom.create(UUID.randomUUID().toString(), member.getId(), targetMember.getId()));
+            createMemberChatroom(member, chatroom, null);
+            createMemberChatroom(targetMember, chatroom, null);
+
+            // 첫 조회에서는 다른 요청이 아직 채팅방을 생성하기 전인 것처럼 응답
+            willReturn(Optional.empty()).willCallRealMethod()
+                    .given(chatQueryService).findExistingChatroom(any(Member.class), any(Member.class));
+
+            // when
+            EnterChatroomResponse response = chatFacadeService.startChatroomByMemberId(member, targetMember.getId());
+
+            // then
+            assertThat(chatroomRepository.count()).isEqualTo(1);
+            assertEnterChatroomResponse(response, chatroom, targetMember);
+        }
+
         @DisplayName("성공: 기존 채팅방이 존재하지 않는 경우 새 채팅방 생성 후 입장 처리되어야 한다.")
         @Test
         void startChatroomByMemberIdSucceedsWhenNoExistingChatroom() {
@@ -410,6 +440,37 @@ class ChatFacadeServiceTest {
             assertThat(response.getSystem()).isNull();
         }
 
+        @DisplayName("성공: 최근 메시지 캐시 이후 다른 서버에서 등록된 메시지도 조회되어야 한다.")
+        @Test
+        void enterChatroomIncludesChatsFromOtherServer() {
+            // given
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, LocalDateTime.now().minusDays(1));
+            createMemberChatroom(targetMember, chatroom, LocalDateTime.now().minusDays(1));
+            createChat(targetMember, "first", chatroom);
+
+            ReflectionTestUtils.setField(chatroomRecentChatCache, "enabled", true);
+            try {
+                chatFacadeService.enterChatroomByUuid(member, chatroom.getUuid());
+
+                // 다른 서버에서 등록되어 캐시에 추가되지 않은 메시지, 이후 이 서버에서 등록된 메시지
+                createChat(targetMember, "other server", chatroom);
+                Chat localChat = createChat(member, "local", chatroom);
+                chatroomRecentChatCache.append(chatroom.getId(), RecentChat.from(localChat));
+
+                // when
+                EnterChatroomResponse response = chatFacadeService.enterChatroomByUuid(member, chatroom.getUuid());
+
+                // then
+                assertThat(response.getChatMessageListResponse().getChatMessageList())
+                        .extracting(ChatMessageResponse::getMessage)
+                        .containsExactly("first", "other server", "local");
+            } finally {
+                ReflectionTestUtils.setField(chatroomRecentChatCache, "enabled", false);
+                chatroomRecentChatCache.clear();
+            }
+        }
+
     }
 
     @Nested
@@ -609,6 +670,31 @@ class ChatFacadeServiceTest {
             }
         }
 
+        @DisplayName("성공: 응답에 보낸 회원 정보와 메시지가 포함된다.")
+        @Test
+        void createChatReturnsSenderInfo() {
+            // given
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, LocalDateTime.now());
+            createMemberChatroom(targetMember, chatroom, LocalDateTime.now());
+
+            ChatCreateRequest request = ChatCreateRequest.builder()
+                    .message("message")
+                    .system(null)
+                    .build();
+
+            // when
+            ChatCreateResponse response = chatFacadeService.createChat(request, member.getId(), chatroom.getUuid());
+
+            // then
+            Chat chat = chatRepository.findByChatroomIdAndFromMemberId(chatroom.getId(), member.getId()).get(0);
+            assertThat(response.getSenderId()).isEqualTo(member.getId());
+            assertThat(response.getSenderName()).isEqualTo(member.getGameName());
+            assertThat(response.getSenderProfileImg()).isEqualTo(member.getProfileImage());
+            assertThat(response.getMessage()).isEqualTo("message");
+            assertThat(response.getTimestamp()).isEqualTo(chat.getTimestamp());
+        }
+
     }
 
     @Nested
@@ -705,7 +791,7 @@ class ChatFacadeServiceTest {
             assertThat(result).isEmpty();
         }
 
-        @DisplayName("성공: 입장 상태인 채팅방이 있는 경우 해당 채팅방의 안읽은 메시지 조회 메소드를 호출해야 한다.")
+        @DisplayName("성공: 입장 상태인 채팅방에 안읽은 메시지가 없는 경우 빈 list를 반환한다.")
         @Test
         void getUnreadChatroomUuidsSucceeds() {
             // given
@@ -717,12 +803,38 @@ class ChatFacadeServiceTest {
             List<String> result = chatFacadeService.getUnreadChatroomUuids(member);
 
             // then
-            verify(chatQueryService, Mockito.times(1))
-                    .countUnreadChats(any(Member.class), any(Chatroom.class));
+            verify(chatQueryService, Mockito.times(1)).getUnreadChatroomUuids(any(Member.class));
 
             assertThat(result).isEmpty();
         }
 
+        @DisplayName("성공: 상대가 보낸 메시지를 읽지 않은 채팅방 uuid를 반환하고, 읽음 처리 후에는 반환하지 않는다.")
+        @Test
+        void getUnreadChatroomUuidsReturnsChatroomWithUnreadChat() {
+            // given
+            Chatroom chatroom = createChatroom();
+            Chatroom readChatroom = createChatroom();
+            createMemberChatroom(member, chatroom, LocalDateTime.now().minusMinutes(1));
+            createMemberChatroom(targetMember, chatroom, LocalDateTime.now().minusMinutes(1));
+            createMemberChatroom(member, readChatroom, LocalDateTime.now().minusMinutes(1));
+            createMemberChatroom(targetMember, readChatroom, LocalDateTime.now().minusMinutes(1));
+
+            ChatCreateRequest request = ChatCreateRequest.builder()
+                    .message("message")
+                    .system(null)
+                    .build();
+            chatFacadeService.createChat(request, targetMember.getId(), chatroom.getUuid());
+            chatFacadeService.createChat(request, targetMember.getId(), readChatroom.getUuid());
+
+            // when
+            chatFacadeService.readChatMessage(member, readChatroom.getUuid(), null);
+            List<String> result = chatFacadeService.getUnreadChatroomUuids(member);
+
+            // then
+            assertThat(result).containsExactly(chatroom.getUuid());
+            assertThat(chatFacadeService.getUnreadChatroomUuids(targetMember)).isEmpty();
+        }
+
     }
 
     @Nested
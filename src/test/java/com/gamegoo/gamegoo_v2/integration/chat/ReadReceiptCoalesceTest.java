@@ -0,0 +1,213 @@
+package com.gamegoo.gamegoo_v2.integration.chat;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.MemberRecentStats;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRecentStatsRepository;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ReadReceipt;
+import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatroomListResponse;
+import com.gamegoo.gamegoo_v2.chat.dto.response.ChatroomResponse;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
+import com.gamegoo.gamegoo_v2.chat.service.ChatFacadeService;
+import com.gamegoo.gamegoo_v2.chat.service.ReadReceiptBatchWriter;
+import com.gamegoo.gamegoo_v2.chat.service.ReadReceiptCoalescer;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "chat.read-receipt.coalesce-enabled=true",
+        "chat.read-receipt.flush-millis=60000"
+})
+class ReadReceiptCoalesceTest {
+
+    @Autowired
+    private ChatFacadeService chatFacadeService;
+
+    @Autowired
+    private ReadReceiptCoalescer readReceiptCoalescer;
+
+    @Autowired
+    private ReadReceiptBatchWriter readReceiptBatchWriter;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberRecentStatsRepository memberRecentStatsRepository;
+
+    @MockitoBean
+    private SocketService socketService;
+
+    private Member member;
+    private Member targetMember;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("test@gmail.com", "member");
+        targetMember = createMember("target@gmail.com", "targetMember");
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRecentStatsRepository.deleteAll();
+        chatRepository.deleteAllInBatch();
+        memberChatroomRepository.deleteAllInBatch();
+        chatroomRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("읽음 처리는 바로 반영되지 않고, 안읽은 채팅방 uuid 목록 조회 전에 반영된다.")
+    @Test
+    void getUnreadChatroomUuidsIncludesPendingReadReceipt() {
+        // given
+        Chatroom chatroom = createChatroomWithUnreadChat();
+
+        // when
+        chatFacadeService.readChatMessage(member, chatroom.getUuid(), null);
+        int pendingCount = readReceiptCoalescer.getPendingCount();
+        LocalDateTime lastViewDateBeforeFlush = findMemberChatroom(member, chatroom).getLastViewDate();
+        List<String> result = chatFacadeService.getUnreadChatroomUuids(member);
+
+        // then
+        assertThat(pendingCount).isEqualTo(1);
+        assertThat(lastViewDateBeforeFlush).isNull();
+        assertThat(result).isEmpty();
+        assertThat(readReceiptCoalescer.getPendingCount()).isZero();
+        assertThat(findMemberChatroom(member, chatroom).getLastViewDate()).isNotNull();
+    }
+
+    @DisplayName("채팅방 목록 조회 전에 대기 중인 읽음 처리가 반영되어 안읽은 메시지 수가 0이어야 한다.")
+    @Test
+    void getChatroomsIncludesPendingReadReceipt() {
+        // given
+        Chatroom chatroom = createChatroomWithUnreadChat();
+
+        // when
+        chatFacadeService.readChatMessage(member, chatroom.getUuid(), null);
+        int pendingCount = readReceiptCoalescer.getPendingCount();
+        ChatroomListResponse response = chatFacadeService.getChatrooms(member);
+
+        // then
+        assertThat(pendingCount).isEqualTo(1);
+        assertThat(response.getChatroomResponseList())
+                .extracting(ChatroomResponse::getUuid, ChatroomResponse::getNotReadMsgCnt)
+                .containsExactly(tuple(chatroom.getUuid(), 0));
+    }
+
+    @DisplayName("일괄 반영 시 기존 lastViewDate보다 나중인 읽음 처리만 반영하고 안읽은 메시지 수를 다시 계산한다.")
+    @Test
+    void applyAllKeepsLatestLastViewDateAndRecomputesUnreadCount() {
+        // given
+        Chatroom chatroom = createChatroomWithUnreadChat();
+        MemberChatroom memberChatroom = findMemberChatroom(member, chatroom);
+        MemberChatroom targetMemberChatroom = findMemberChatroom(targetMember, chatroom);
+        LocalDateTime targetLastViewDate = targetMemberChatroom.getLastViewDate();
+        LocalDateTime readAt = LocalDateTime.now().plusSeconds(1);
+
+        // when
+        int updated = readReceiptBatchWriter.applyAll(List.of(
+                new ReadReceipt(memberChatroom.getId(), member.getId(), readAt),
+                new ReadReceipt(targetMemberChatroom.getId(), targetMember.getId(),
+                        targetLastViewDate.minusHours(1))));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+
+        MemberChatroom readMemberChatroom = findMemberChatroom(member, chatroom);
+        assertThat(readMemberChatroom.getLastViewDate()).isCloseTo(readAt, within(1, ChronoUnit.MILLIS));
+        assertThat(readMemberChatroom.getUnreadCount()).isZero();
+
+        // 더 이전 시각의 읽음 처리는 lastViewDate를 되돌리지 않음
+        assertThat(findMemberChatroom(targetMember, chatroom).getLastViewDate())
+                .isCloseTo(targetLastViewDate, within(1, ChronoUnit.MILLIS));
+    }
+
+    /**
+     * 두 회원이 입장한 채팅방을 만들고 상대 회원이 메시지를 보내 회원에게 안읽은 메시지 1개를 남김
+     */
+    private Chatroom createChatroomWithUnreadChat() {
+        Chatroom chatroom = chatroomRepository.save(
+                Chatroom.create(UUID.randomUUID().toString(), member.getId(), targetMember.getId()));
+        createMemberChatroom(member, chatroom);
+        createMemberChatroom(targetMember, chatroom);
+
+        chatFacadeService.createChat(ChatCreateRequest.builder()
+                .message("message")
+                .system(null)
+                .build(), targetMember.getId(), chatroom.getUuid());
+        return chatroom;
+    }
+
+    private MemberChatroom findMemberChatroom(Member member, Chatroom chatroom) {
+        return memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(), chatroom.getId()).orElseThrow();
+    }
+
+    private MemberChatroom createMemberChatroom(Member member, Chatroom chatroom) {
+        return memberChatroomRepository.save(MemberChatroom.builder()
+                .chatroom(chatroom)
+                .member(member)
+                .lastViewDate(null)
+                .lastJoinDate(LocalDateTime.now().minusMinutes(1))
+                .build());
+    }
+
+    private Member createMember(String email, String gameName) {
+        Member member = Member.builder()
+                .email(email)
+                .password("testPassword")
+                .profileImage(1)
+                .loginType(LoginType.GENERAL)
+                .gameName(gameName)
+                .tag("TAG")
+                .soloTier(Tier.IRON)
+                .soloRank(0)
+                .soloWinRate(0.0)
+                .soloGameCount(0)
+                .freeTier(Tier.IRON)
+                .freeRank(0)
+                .freeWinRate(0.0)
+                .freeGameCount(0)
+                .isAgree(true)
+                .build();
+
+        memberRecentStatsRepository.save(MemberRecentStats.builder()
+                .member(member)
+                .build());
+
+        return memberRepository.save(member);
+    }
+
+}
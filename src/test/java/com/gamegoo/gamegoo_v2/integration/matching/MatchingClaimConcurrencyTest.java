@@ -0,0 +1,144 @@
+package com.gamegoo.gamegoo_v2.integration.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.core.exception.MatchingException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingFacadeService;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MatchingClaimConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private MatchingFacadeService matchingFacadeService;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @AfterEach
+    void tearDown() {
+        matchingPool.clear();
+
+        // 서로를 참조하는 매칭 기록은 연결을 먼저 끊고 삭제
+        List<MatchingRecord> matchingRecords = matchingRecordRepository.findAll();
+        matchingRecords.forEach(record -> record.updateTargetMatchingRecord(null));
+        matchingRecordRepository.saveAll(matchingRecords);
+        matchingRecordRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("여러 요청이 동시에 같은 상대에게 matchingFound를 요청하면 한 건만 성공하고 나머지는 재시도 가능한 예외로 실패한다.")
+    @Test
+    void onlyOneClaimSucceedsForSameTarget() throws InterruptedException {
+        // given
+        MatchingRecord targetRecord = createPendingRecord(createMember("target@gmail.com", "target"));
+        List<MatchingRecord> requesterRecords = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            requesterRecords.add(createPendingRecord(createMember("requester" + i + "@gmail.com", "requester" + i)));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (MatchingRecord requesterRecord : requesterRecords) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    matchingFacadeService.matchingFound(requesterRecord.getMatchingUuid(),
+                            targetRecord.getMatchingUuid());
+                    successCount.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failures).hasSize(THREAD_COUNT - 1);
+        assertThat(failures).allSatisfy(e -> assertThat(e)
+                .isInstanceOf(MatchingException.class)
+                .extracting(ex -> ((MatchingException) ex).getCode())
+                .isIn(ErrorCode.MATCHING_CLAIM_CONFLICT.getCode(), ErrorCode.MATCHING_TARGET_UNAVAILABLE.getCode()));
+
+        Map<String, MatchingRecord> savedRecords = matchingRecordRepository.findAll().stream()
+                .collect(Collectors.toMap(MatchingRecord::getMatchingUuid, Function.identity()));
+        assertThat(savedRecords.get(targetRecord.getMatchingUuid()).getStatus()).isEqualTo(MatchingStatus.FOUND);
+
+        // 경쟁에서 진 요청의 변경은 모두 롤백되어 한 명만 FOUND 상태가 된다
+        List<MatchingRecord> foundRequesters = requesterRecords.stream()
+                .map(record -> savedRecords.get(record.getMatchingUuid()))
+                .filter(record -> record.getStatus() == MatchingStatus.FOUND)
+                .toList();
+        assertThat(foundRequesters).hasSize(1);
+
+        Member winner = matchingRecordRepository.findTargetMemberByUuid(targetRecord.getMatchingUuid())
+                .orElseThrow();
+        Member foundRequesterTarget = matchingRecordRepository.findTargetMemberByUuid(
+                foundRequesters.get(0).getMatchingUuid()).orElseThrow();
+        assertThat(foundRequesterTarget.getId()).isEqualTo(targetRecord.getMember().getId());
+        assertThat(requesterRecords).filteredOn(record -> record.getMember().getId().equals(winner.getId()))
+                .extracting(MatchingRecord::getMatchingUuid)
+                .containsExactly(foundRequesters.get(0).getMatchingUuid());
+    }
+
+    private Member createMember(String email, String gameName) {
+        return memberRepository.save(Member.createForGeneral(email, "password123", LoginType.GENERAL, gameName,
+                "TAG", Tier.GOLD, 1, 55.0, Tier.GOLD, 1, 55.0, 100, 100, true));
+    }
+
+    private MatchingRecord createPendingRecord(Member member) {
+        return matchingRecordRepository.save(MatchingRecord.create(GameMode.SOLO, MatchingType.BASIC, member));
+    }
+
+}
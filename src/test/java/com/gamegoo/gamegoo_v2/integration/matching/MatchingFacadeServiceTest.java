@@ -24,12 +24,14 @@ import com.gamegoo.gamegoo_v2.matching.domain.MannerMessageStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.domain.TierCompatibility;
 import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
 import com.gamegoo.gamegoo_v2.matching.dto.request.InitializingMatchingRequest;
 import com.gamegoo.gamegoo_v2.matching.dto.response.MatchingFoundResponse;
 import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
 import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
 import com.gamegoo.gamegoo_v2.matching.service.MatchingFacadeService;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
 import com.gamegoo.gamegoo_v2.matching.service.MatchingService;
 import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
@@ -43,14 +45,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -93,6 +98,9 @@ public class MatchingFacadeServiceTest {
     @Autowired
     private MatchingRecordRepository matchingRecordRepository;
 
+    @Autowired
+    private MatchingPool matchingPool;
+
     @MockitoBean
     private SocketService socketService;
 
@@ -107,6 +115,11 @@ public class MatchingFacadeServiceTest {
 
     @AfterEach
     void tearDown() {
+        // 별도의 트랜잭션에서 저장된 채팅방이나 테스트 중 커밋한 데이터는 테스트 트랜잭션과 함께 롤백되지 않으므로, 테스트 트랜잭션을 끝낸 뒤 삭제
+        if (TestTransaction.isActive()) {
+            TestTransaction.end();
+        }
+        matchingPool.clear();
         chatRepository.deleteAllInBatch();
         memberChatroomRepository.deleteAllInBatch();
         chatroomRepository.deleteAllInBatch();
@@ -257,6 +270,7 @@ public class MatchingFacadeServiceTest {
 
         // 랜덤 대기 유저 생성
         Random random = new Random();
+        List<MatchingRecord> waitingMatchingRecords = new ArrayList<>();
         for (int i = 0; i < 20; i++) {
             // 랜덤값 생성
             String email = "user" + i + "@gmail.com";
@@ -271,16 +285,21 @@ public class MatchingFacadeServiceTest {
             int mannerLevel = random.nextInt(4) + 1;
             GameMode randomGameMode = GameMode.values()[random.nextInt(GameMode.values().length)];
             MatchingType randomMatchingType = MatchingType.values()[random.nextInt(MatchingType.values().length)];
-            MatchingStatus randomMatchingStatus = MatchingStatus.PENDING;
 
             Member targetMember = createMatchingMember(email, gameName, tag, tier, gameRank, mike, mainP, subP,
                     List.of(wantP), mannerLevel);
-            createMatchingRecord(randomGameMode, randomMatchingType, targetMember, randomMatchingStatus);
+            waitingMatchingRecords.add(
+                    matchingService.createMatchingRecord(targetMember, randomMatchingType, randomGameMode));
         }
 
+        // 매칭 풀에는 커밋된 매칭 기록만 등록되므로 대기 기록을 먼저 커밋
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
         // when
         PriorityListResponse priorityListResponse =
                 matchingFacadeService.calculatePriorityAndRecording(matchingMember.getId(), request);
+        TestTransaction.start();
 
         Member updatedMember = memberRepository.findByEmail("matchinguser@gmail.com")
                 .orElseThrow(() -> new AssertionError("테스트 실패: Member가 존재하지 않음"));
@@ -311,9 +330,12 @@ public class MatchingFacadeServiceTest {
         assertThat(actualMatchingRecord.getMike()).isEqualTo(request.getMike());
 
         // 3. Priority 검증
-        List<MatchingRecord> recentValidMatchingRecords =
-                matchingRecordRepository.findValidMatchingRecords(LocalDateTime.now().minusMinutes(5), GameMode.SOLO,
-                        member.getId());
+        Set<Tier> compatibleTiers = TierCompatibility.compatibleTiers(GameMode.SOLO,
+                MatchingRecord.getTierByGameMode(GameMode.SOLO, updatedMember));
+        List<MatchingRecord> recentValidMatchingRecords = waitingMatchingRecords.stream()
+                .filter(record -> record.getGameMode() == GameMode.SOLO)
+                .filter(record -> compatibleTiers.contains(record.getTier()))
+                .toList();
         PriorityListResponse expectedPriorityList = matchingService.calculatePriorityList(matchingRecord,
                 recentValidMatchingRecords);
 
@@ -1,31 +1,54 @@
 package com.gamegoo.gamegoo_v2.integration.rollbti;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.core.exception.MemberException;
+import com.gamegoo.gamegoo_v2.core.exception.RollBtiException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEvent;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventType;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiGuestResult;
 import com.gamegoo.gamegoo_v2.rollbti.domain.MemberRollBtiProfile;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationBucket;
 import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
+import com.gamegoo.gamegoo_v2.rollbti.dto.request.RollBtiEventRequest;
+import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiGuestResultResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiPublicRecommendationCursorResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiPublicRecommendationResponse;
+import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationCursorResponse;
 import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendationResponse;
+import com.gamegoo.gamegoo_v2.rollbti.dto.response.RollBtiRecommendedMemberResponse;
 import com.gamegoo.gamegoo_v2.rollbti.repository.MemberRollBtiProfileRepository;
+import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiEventRepository;
+import com.gamegoo.gamegoo_v2.rollbti.repository.RollBtiGuestResultRepository;
 import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiFacadeService;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiGuestResultCache;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiGuestResultCache.CachedGuestResult;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiParticipantService;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiPublicRecommendationSnapshot;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiRecommendationIndex;
 import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -47,6 +70,36 @@ class RollBtiFacadeServiceTest {
     @Autowired
     private BlockService blockService;
 
+    @Autowired
+    private RollBtiRecommendationIndex rollBtiRecommendationIndex;
+
+    @Autowired
+    private RollBtiEventRepository rollBtiEventRepository;
+
+    @Autowired
+    private RollBtiParticipantService rollBtiParticipantService;
+
+    @Autowired
+    private RollBtiPublicRecommendationSnapshot rollBtiPublicRecommendationSnapshot;
+
+    @Autowired
+    private RollBtiGuestResultRepository rollBtiGuestResultRepository;
+
+    @Autowired
+    private RollBtiGuestResultCache rollBtiGuestResultCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 저장한 프로필이 공개 추천 순서에 반영되도록 snapshot 무효화
+        rollBtiPublicRecommendationSnapshot.invalidate();
+    }
+
     @Test
     @DisplayName("게시글이 없어도 롤BTI 프로필이 있으면 회원 기반 추천 대상에 포함된다")
     void getRecommendationsByType_shouldReturnMembersWithoutBoards() {
@@ -172,11 +225,11 @@ class RollBtiFacadeServiceTest {
         memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(badType, RollBtiType.FDTB));
 
         var goodResponse = rollBtiFacadeService.getRecommendationsByTypeAndBucketWithCursor(
-                RollBtiType.ADCI, RollBtiRecommendationBucket.GOOD, 20, null, Tier.GOLD, null);
+                RollBtiType.ADCI, RollBtiRecommendationBucket.GOOD, 20, null, null, Tier.GOLD, null);
         var normalResponse = rollBtiFacadeService.getRecommendationsByTypeAndBucketWithCursor(
-                RollBtiType.ADCI, RollBtiRecommendationBucket.NORMAL, 20, null, Tier.GOLD, null);
+                RollBtiType.ADCI, RollBtiRecommendationBucket.NORMAL, 20, null, null, Tier.GOLD, null);
         var badResponse = rollBtiFacadeService.getRecommendationsByTypeAndBucketWithCursor(
-                RollBtiType.ADCI, RollBtiRecommendationBucket.BAD, 20, null, Tier.GOLD, null);
+                RollBtiType.ADCI, RollBtiRecommendationBucket.BAD, 20, null, null, Tier.GOLD, null);
 
         assertThat(goodResponse.getRecommendations())
                 .extracting(recommendation -> recommendation.getCompatibilityScore())
@@ -209,6 +262,41 @@ class RollBtiFacadeServiceTest {
                 .containsExactly(visibleMember.getId());
     }
 
+    @Test
+    @DisplayName("로그인 사용자 공개 피드는 친구 요청을 보낸 유저를 먼저 두고 차단한 유저를 건너뛰며 페이지를 나눈다")
+    void getPublicRecommendations_shouldPageOverRequesterSequence() {
+        Member requester = memberRepository.save(createMember("requester", "KR0", Tier.SILVER));
+        List<Member> members = new ArrayList<>();
+        for (String gameName : List.of("alpha", "bravo", "charlie", "delta", "echo")) {
+            Member member = memberRepository.save(createMember(gameName, "KR1", Tier.GOLD));
+            memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(member, RollBtiType.ADCI));
+            members.add(member);
+        }
+        blockService.blockMember(requester, members.get(1));
+        friendService.sendFriendRequest(members.get(3), requester);
+
+        RollBtiPublicRecommendationResponse firstPage =
+                rollBtiFacadeService.getPublicRecommendations(requester, 2, 1, Tier.GOLD);
+        RollBtiPublicRecommendationResponse secondPage =
+                rollBtiFacadeService.getPublicRecommendations(requester, 2, 2, Tier.GOLD);
+        RollBtiPublicRecommendationCursorResponse cursorPage = rollBtiFacadeService.getPublicRecommendationsWithCursor(
+                requester, 2, members.get(0).getId(), Tier.GOLD);
+
+        assertThat(firstPage.getRecommendations())
+                .extracting(recommendation -> recommendation.getGameName())
+                .containsExactly("delta", "alpha");
+        assertThat(firstPage.getRecommendations().get(0).getFriendRequestReceived()).isTrue();
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getRecommendations())
+                .extracting(recommendation -> recommendation.getGameName())
+                .containsExactly("charlie", "echo");
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(cursorPage.getRecommendations())
+                .extracting(recommendation -> recommendation.getGameName())
+                .containsExactly("charlie", "echo");
+        assertThat(cursorPage.getNextCursorMemberId()).isNull();
+    }
+
     @Test
     @DisplayName("나에게 친구 요청을 보낸 유저는 회원 추천에서 가장 먼저 노출된다")
     void getMyRecommendations_shouldPrioritizeReceivedFriendRequest() {
@@ -236,6 +324,231 @@ class RollBtiFacadeServiceTest {
         assertThat(response.getRecommendations().get(0).getFriendRequestReceived()).isTrue();
     }
 
+    @Test
+    @DisplayName("추천 인덱스를 사용해도 전체 정렬과 같은 페이지, 커서, 버킷 결과를 반환한다")
+    void getMyRecommendations_shouldMatchWithRecommendationIndex() {
+        Member requester = memberRepository.save(createMember("requester", "KR0", Tier.GOLD));
+        memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(requester, RollBtiType.ADCI));
+
+        RollBtiType[] types = {RollBtiType.ADTB, RollBtiType.ADCI, RollBtiType.ASCB, RollBtiType.FDTB};
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Member member = memberRepository.save(createMember(i, i % 5 == 4 ? Tier.SILVER : Tier.GOLD));
+            memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(member, types[i % types.length]));
+            members.add(member);
+        }
+        friendService.sendFriendRequest(members.get(2), requester);
+        blockService.blockMember(requester, members.get(0));
+
+        List<Object> expected = collectRecommendations(requester);
+
+        ReflectionTestUtils.setField(rollBtiRecommendationIndex, "enabled", true);
+        try {
+            rollBtiRecommendationIndex.reload();
+            assertThat(rollBtiRecommendationIndex.isAvailable()).isTrue();
+            assertThat(collectRecommendations(requester)).isEqualTo(expected);
+        } finally {
+            ReflectionTestUtils.setField(rollBtiRecommendationIndex, "enabled", false);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 회원이 추천 대상에서 빠져도 커서 이후 순서 그대로 다음 페이지를 조회한다")
+    void getMyRecommendationsWithCursor_shouldContinueAfterCursorMemberRemoved() {
+        Member requester = memberRepository.save(createMember("requester", "KR0", Tier.GOLD));
+        memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(requester, RollBtiType.ADCI));
+
+        RollBtiType[] types = {RollBtiType.ADTB, RollBtiType.ASCB, RollBtiType.FDTB};
+        for (int i = 0; i < 9; i++) {
+            Member member = memberRepository.save(createMember(i, Tier.GOLD));
+            memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(member, types[i % types.length]));
+        }
+
+        RollBtiRecommendationResponse fullPage = rollBtiFacadeService.getMyRecommendations(
+                requester, 9, 1, RollBtiCompatibilityOrder.HIGH, Tier.GOLD);
+        RollBtiRecommendationCursorResponse firstPage = rollBtiFacadeService.getMyRecommendationsWithCursor(
+                requester, 4, null, null, RollBtiCompatibilityOrder.HIGH, Tier.GOLD);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        // 커서 회원을 차단해도 같은 커서로 이어서 조회
+        Member cursorMember = memberRepository.findById(firstPage.getNextCursorMemberId()).orElseThrow();
+        blockService.blockMember(requester, cursorMember);
+
+        RollBtiRecommendationCursorResponse secondPage = rollBtiFacadeService.getMyRecommendationsWithCursor(
+                requester, 4, null, firstPage.getNextCursor(), RollBtiCompatibilityOrder.HIGH, Tier.GOLD);
+
+        assertThat(toMemberIds(firstPage.getRecommendations()))
+                .isEqualTo(toMemberIds(fullPage.getRecommendations()).subList(0, 4));
+        assertThat(toMemberIds(secondPage.getRecommendations()))
+                .isEqualTo(toMemberIds(fullPage.getRecommendations()).subList(4, 8));
+        assertThat(secondPage.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 추천 커서는 예외가 발생한다")
+    void getMyRecommendationsWithCursor_shouldThrowWhenCursorInvalid() {
+        Member requester = memberRepository.save(createMember("requester", "KR0", Tier.GOLD));
+        memberRollBtiProfileRepository.save(MemberRollBtiProfile.create(requester, RollBtiType.ADCI));
+
+        assertThatThrownBy(() -> rollBtiFacadeService.getMyRecommendationsWithCursor(
+                requester, 4, null, "invalid-cursor", RollBtiCompatibilityOrder.HIGH, Tier.GOLD))
+                .isInstanceOf(RollBtiException.class)
+                .hasMessage(ErrorCode.ROLL_BTI_CURSOR_BAD_REQUEST.getMessage());
+    }
+
+    @Test
+    @DisplayName("누적 참여 인원 재계산은 complete_test 이벤트의 회원, 세션을 중복 없이 센다")
+    void recomputeParticipationCount_shouldCountDistinctParticipants() {
+        Member member = memberRepository.save(createMember("participant", "KR1", Tier.GOLD));
+        rollBtiEventRepository.saveAll(List.of(
+                RollBtiEvent.create(member, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, "session-1", null),
+                RollBtiEvent.create(member, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, "session-2", null),
+                RollBtiEvent.create(null, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, "session-1", null),
+                RollBtiEvent.create(null, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, "session-1", null),
+                RollBtiEvent.create(null, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, "session-3", null),
+                RollBtiEvent.create(null, RollBtiEventType.COMPLETE_TEST, RollBtiType.ADCI, null, null),
+                RollBtiEvent.create(null, RollBtiEventType.START_TEST, RollBtiType.ADCI, "session-4", null)
+        ));
+        rollBtiEventRepository.flush();
+
+        var response = rollBtiFacadeService.recomputeParticipationCount();
+
+        assertThat(response.getTotalParticipants()).isEqualTo(3);
+        assertThat(rollBtiFacadeService.getParticipationCount().getTotalParticipants()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비회원 결과 payload는 압축 저장되고 조회 시 원본 그대로 복원된다")
+    void getGuestResult_shouldRestoreCompressedPayload() throws Exception {
+        String payload = "{\"type\":\"ADCI\",\"title\":\"한타 설계자\",\"scores\":[95,75,60,20]}";
+        String resultId = UUID.randomUUID().toString().replace("-", "");
+        rollBtiGuestResultRepository.save(RollBtiGuestResult.create(resultId, RollBtiType.ADCI, payload, null));
+        em.flush();
+        em.clear();
+
+        RollBtiGuestResult saved = rollBtiGuestResultRepository.findByResultId(resultId).orElseThrow();
+        RollBtiGuestResultResponse response = rollBtiFacadeService.getGuestResultByResultId(resultId);
+
+        assertThat(saved.getResultPayload()).isEqualTo(payload);
+        assertThat(response.getResultPayload()).isEqualTo(objectMapper.readTree(payload));
+        assertThat(response.getType()).isEqualTo(RollBtiType.ADCI);
+    }
+
+    @Test
+    @DisplayName("비회원 결과는 한 번 조회하면 캐시된 응답과 같은 ETag를 반환한다")
+    void getCachedGuestResult_shouldReturnCachedResponse() {
+        String resultId = UUID.randomUUID().toString().replace("-", "");
+        rollBtiGuestResultRepository.save(
+                RollBtiGuestResult.create(resultId, RollBtiType.FSCB, "{\"type\":\"FSCB\"}", "session-1"));
+
+        CachedGuestResult first = rollBtiFacadeService.getCachedGuestResult(resultId);
+        CachedGuestResult second = rollBtiFacadeService.getCachedGuestResult(resultId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(rollBtiGuestResultCache.find(resultId)).containsSame(first);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 비회원 결과를 조회하면 예외가 발생하고 캐시에 남지 않는다")
+    void getCachedGuestResult_shouldThrowWhenNotFound() {
+        String resultId = UUID.randomUUID().toString().replace("-", "");
+
+        assertThatThrownBy(() -> rollBtiFacadeService.getCachedGuestResult(resultId))
+                .isInstanceOf(RollBtiException.class)
+                .hasMessage(ErrorCode.ROLL_BTI_RESULT_NOT_FOUND.getMessage());
+        assertThat(rollBtiGuestResultCache.find(resultId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 세션의 complete_test 참여는 누적 참여 인원에 한 번만 반영된다")
+    void registerParticipant_shouldIncreaseCountOncePerParticipant() {
+        long before = rollBtiFacadeService.getParticipationCount().getTotalParticipants();
+        String sessionId = UUID.randomUUID().toString();
+
+        rollBtiParticipantService.registerParticipant(null, sessionId);
+        rollBtiParticipantService.registerParticipant(null, sessionId);
+        rollBtiParticipantService.registerParticipant(null, UUID.randomUUID().toString());
+        rollBtiParticipantService.registerParticipant(null, null);
+
+        assertThat(rollBtiFacadeService.getParticipationCount().getTotalParticipants()).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("버퍼 적재 모드가 꺼져 있으면 이벤트를 바로 저장하고 complete_test 참여를 반영한다")
+    void trackEvent_shouldSaveSynchronously() {
+        Member member = memberRepository.save(createMember("eventMember", "KR1", Tier.GOLD));
+        long eventCount = rollBtiEventRepository.count();
+        long participants = rollBtiFacadeService.getParticipationCount().getTotalParticipants();
+
+        rollBtiFacadeService.trackEvent(createEventRequest(member.getId(), RollBtiEventType.COMPLETE_TEST));
+
+        assertThat(rollBtiEventRepository.count()).isEqualTo(eventCount + 1);
+        assertThat(rollBtiFacadeService.getParticipationCount().getTotalParticipants()).isEqualTo(participants + 1);
+    }
+
+    @Test
+    @DisplayName("동기 저장 시 존재하지 않는 회원의 이벤트는 예외가 발생하고 저장되지 않는다")
+    void trackEvent_shouldThrowWhenMemberNotFound() {
+        long eventCount = rollBtiEventRepository.count();
+
+        assertThatThrownBy(() -> rollBtiFacadeService.trackEvent(
+                createEventRequest(Long.MAX_VALUE, RollBtiEventType.START_TEST)))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(ErrorCode.MEMBER_NOT_FOUND.getMessage());
+        assertThat(rollBtiEventRepository.count()).isEqualTo(eventCount);
+    }
+
+    private RollBtiEventRequest createEventRequest(Long memberId, RollBtiEventType eventType) {
+        RollBtiEventRequest request = new RollBtiEventRequest();
+        ReflectionTestUtils.setField(request, "memberId", memberId);
+        ReflectionTestUtils.setField(request, "eventType", eventType);
+        ReflectionTestUtils.setField(request, "rollBtiType", RollBtiType.ADCI);
+        ReflectionTestUtils.setField(request, "sessionId", UUID.randomUUID().toString());
+        return request;
+    }
+
+    private List<Object> collectRecommendations(Member requester) {
+        List<Object> results = new ArrayList<>();
+        for (RollBtiCompatibilityOrder order : RollBtiCompatibilityOrder.values()) {
+            for (Tier tier : new Tier[]{Tier.GOLD, null}) {
+                for (int page = 1; page <= 4; page++) {
+                    RollBtiRecommendationResponse response =
+                            rollBtiFacadeService.getMyRecommendations(requester, 3, page, order, tier);
+                    results.add(List.of(toMemberIds(response.getRecommendations()), response.isHasNext()));
+                }
+
+                Long cursorMemberId = null;
+                do {
+                    RollBtiRecommendationCursorResponse response = rollBtiFacadeService.getMyRecommendationsWithCursor(
+                            requester, 4, cursorMemberId, null, order, tier);
+                    results.add(toMemberIds(response.getRecommendations()));
+                    cursorMemberId = response.getNextCursorMemberId();
+                } while (cursorMemberId != null);
+
+                String cursor = null;
+                do {
+                    RollBtiRecommendationCursorResponse response = rollBtiFacadeService.getMyRecommendationsWithCursor(
+                            requester, 4, null, cursor, order, tier);
+                    results.add(toMemberIds(response.getRecommendations()));
+                    cursor = response.getNextCursor();
+                } while (cursor != null);
+            }
+        }
+        for (RollBtiRecommendationBucket bucket : RollBtiRecommendationBucket.values()) {
+            RollBtiRecommendationCursorResponse response = rollBtiFacadeService.getMyRecommendationsByBucketWithCursor(
+                    requester, bucket, 2, null, null, Tier.GOLD);
+            results.add(List.of(toMemberIds(response.getRecommendations()), response.isHasNext()));
+        }
+        return results;
+    }
+
+    private List<Long> toMemberIds(List<RollBtiRecommendedMemberResponse> recommendations) {
+        return recommendations.stream()
+                .map(recommendation -> recommendation.getMemberId())
+                .toList();
+    }
+
     private Member createMember(int index, Tier tier) {
         return createMember("rollbti" + index, "KR" + index, tier);
     }
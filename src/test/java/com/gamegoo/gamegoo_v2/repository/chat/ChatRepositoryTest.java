@@ -90,6 +90,26 @@ public class ChatRepositoryTest extends RepositoryTestSupport {
             assertThat(chats.get(29).getContents()).isEqualTo("message 30");
         }
 
+        @DisplayName("읽지 않은 메시지가 최대 개수보다 많은 경우, 최근 메시지부터 최대 개수만큼만 반환한다.")
+        @Test
+        void findRecentChatsWithTooManyUnreadMessages() {
+            // given
+            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
+            createMemberChatroom(member, chatroom, null, lastJoinDate);
+            createMemberChatroom(targetMember, chatroom);
+
+            for (int i = 1; i <= 310; i++) {
+                createChat(targetMember, "message " + i, chatroom);
+            }
+
+            // when
+            Slice<Chat> chatSlice = chatRepository.findRecentChats(chatroom.getId(), member.getId(), PAGE_SIZE);
+
+            // then
+            assertThat(chatSlice.getContent()).hasSize(300);
+            assertThat(chatSlice.hasNext()).isTrue();
+        }
+
         @DisplayName("읽지 않은 메시지가 pageSize 보다 적은 경우, 최근 메시지가 pageSize 만큼 정렬되어 반환한다.")
         @Test
         void findRecentChats() {
@@ -4,6 +4,7 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.dto.data.ChatroomSummaryDTO;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
@@ -80,6 +81,28 @@ public class ChatroomRepositoryTest extends RepositoryTestSupport {
 
     }
 
+    @Nested
+    @DisplayName("회원 쌍 key로 채팅방 조회")
+    class FindByMemberPairTest {
+
+        @DisplayName("두 회원의 순서와 관계없이 같은 채팅방을 반환한다.")
+        @Test
+        void findByLowMemberIdAndHighMemberIdSucceeds() {
+            // given
+            Chatroom chatroom = em.persist(Chatroom.create(UUID.randomUUID().toString(), targetMember.getId(),
+                    member.getId()));
+
+            // when
+            Optional<Chatroom> result = chatroomRepository.findByLowMemberIdAndHighMemberId(
+                    Math.min(member.getId(), targetMember.getId()), Math.max(member.getId(), targetMember.getId()));
+
+            // then
+            assertThat(result).contains(chatroom);
+            assertThat(chatroom.getLowMemberId()).isLessThan(chatroom.getHighMemberId());
+        }
+
+    }
+
     @Nested
     @DisplayName("입장한 채팅방 목록 조회")
     class FindActiveChatroomsTest {
@@ -117,6 +140,43 @@ public class ChatroomRepositoryTest extends RepositoryTestSupport {
 
     }
 
+    @Nested
+    @DisplayName("채팅방 목록 정보 조회")
+    class FindChatroomSummariesTest {
+
+        @DisplayName("입장한 채팅방만 마지막 활동 시각 내림차순으로 반환한다.")
+        @Test
+        void findChatroomSummariesOrderedByLastActivity() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Chatroom oldChatroom = createChatroom();
+            Chatroom recentChatroom = createChatroom();
+            Chatroom chattedChatroom = createChatroom();
+            Chatroom exitedChatroom = createChatroom();
+            createMemberChatroom(member, oldChatroom, now.minusMinutes(30));
+            createMemberChatroom(targetMember, oldChatroom, now.minusMinutes(30));
+            createMemberChatroom(member, recentChatroom, now.minusMinutes(10));
+            createMemberChatroom(targetMember, recentChatroom, now.minusMinutes(10));
+            createMemberChatroom(member, chattedChatroom, now.minusMinutes(20));
+            createMemberChatroom(targetMember, chattedChatroom, now.minusMinutes(20));
+            createMemberChatroom(member, exitedChatroom, null);
+            createMemberChatroom(targetMember, exitedChatroom, now);
+
+            // when
+            memberChatroomRepository.updateLastActivityAt(chattedChatroom.getId(), now.minusMinutes(1));
+            List<ChatroomSummaryDTO> result = chatroomRepository.findChatroomSummariedByMemberId(member.getId());
+
+            // then
+            assertThat(result).extracting(ChatroomSummaryDTO::getChatroomId)
+                    .containsExactly(chattedChatroom.getId(), recentChatroom.getId(), oldChatroom.getId());
+            assertThat(result).allSatisfy(summary -> {
+                assertThat(summary.getTargetMemberId()).isEqualTo(targetMember.getId());
+                assertThat(summary.getUnreadCnt()).isZero();
+            });
+        }
+
+    }
+
     private Chatroom createChatroom() {
         return em.persist(Chatroom.builder()
                 .uuid(UUID.randomUUID().toString())
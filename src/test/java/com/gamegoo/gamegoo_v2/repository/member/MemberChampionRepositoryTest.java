@@ -0,0 +1,60 @@
+package com.gamegoo.gamegoo_v2.repository.member;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.MemberChampion;
+import com.gamegoo.gamegoo_v2.account.member.dto.data.MemberChampionStatsDTO;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberChampionRepository;
+import com.gamegoo.gamegoo_v2.game.domain.Champion;
+import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MemberChampionRepositoryTest extends RepositoryTestSupport {
+
+    @Autowired
+    private MemberChampionRepository memberChampionRepository;
+
+    @DisplayName("회원별 판 수 상위 챔피언 통계 일괄 조회: 회원마다 판 수 내림차순 상위 limit개만 반환해야 한다.")
+    @Test
+    void findTopChampionStatsByMemberIds() {
+        // given
+        Member otherMember = createMember("other@gmail.com", "other");
+        Member emptyMember = createMember("empty@gmail.com", "empty");
+
+        int[] games = {3, 10, 0, 7, 1, 5};
+        for (int i = 0; i < games.length; i++) {
+            Champion champion = em.persist(Champion.create((long) i + 1, "champion" + (i + 1)));
+            createMemberChampion(champion, member, games[i]);
+            if (i == 0) {
+                createMemberChampion(champion, otherMember, 2);
+            }
+        }
+        em.flush();
+
+        // when
+        List<MemberChampionStatsDTO> result = memberChampionRepository.findTopChampionStatsByMemberIds(
+                List.of(member.getId(), otherMember.getId(), emptyMember.getId()), 4);
+
+        // then
+        assertThat(result)
+                .extracting(MemberChampionStatsDTO::getMemberId, MemberChampionStatsDTO::getChampionName,
+                        MemberChampionStatsDTO::getGames)
+                .containsExactly(
+                        tuple(member.getId(), "champion2", 10),
+                        tuple(member.getId(), "champion4", 7),
+                        tuple(member.getId(), "champion6", 5),
+                        tuple(member.getId(), "champion1", 3),
+                        tuple(otherMember.getId(), "champion1", 2));
+    }
+
+    private void createMemberChampion(Champion champion, Member member, int games) {
+        em.persist(MemberChampion.create(champion, member, games / 2, games, 5.0, games * 100, games, games, games));
+    }
+
+}
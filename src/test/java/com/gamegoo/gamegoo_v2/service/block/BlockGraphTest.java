@@ -0,0 +1,143 @@
+package com.gamegoo.gamegoo_v2.service.block;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraph;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class BlockGraphTest {
+
+    @Autowired
+    private BlockService blockService;
+
+    @Autowired
+    private BlockGraph blockGraph;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoSpyBean
+    private BlockRepository blockRepository;
+
+    private Member member;
+    private Member target1;
+    private Member target2;
+    private Member target3;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("graph@gmail.com", "graph");
+        target1 = createMember("graph1@gmail.com", "graph1");
+        target2 = createMember("graph2@gmail.com", "graph2");
+        target3 = createMember("graph3@gmail.com", "graph3");
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockGraph.clear();
+        blockRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("후보 목록 전체에 대해 양방향 차단 관계를 한 번에 조회하며, 캐시된 이후에는 DB를 조회하지 않는다.")
+    @Test
+    void findBlockRelatedMemberIdsInBothDirections() {
+        // given
+        blockService.blockMember(member, target1);
+        blockService.blockMember(target2, member);
+        List<Long> targetIds = List.of(target1.getId(), target2.getId(), target3.getId());
+
+        // when
+        blockService.getBlockRelatedMemberIds(member, targetIds);
+        clearInvocations(blockRepository);
+
+        // then
+        assertThat(blockService.getBlockRelatedMemberIds(member, targetIds))
+                .containsExactlyInAnyOrder(target1.getId(), target2.getId());
+        assertThat(blockService.hasBlockedTargetMembersBatch(member, targetIds))
+                .containsEntry(target1.getId(), true)
+                .containsEntry(target2.getId(), false)
+                .containsEntry(target3.getId(), false);
+        assertThat(blockService.isBlockedByTargetMembersBatch(member, targetIds))
+                .containsEntry(target1.getId(), false)
+                .containsEntry(target2.getId(), true)
+                .containsEntry(target3.getId(), false);
+        verify(blockRepository, never()).findBlockedMemberIds(anyLong());
+        verify(blockRepository, never()).findBlockerMemberIds(anyLong());
+    }
+
+    @DisplayName("차단 및 차단 해제 시 두 회원의 캐시가 모두 무효화된다.")
+    @Test
+    void invalidatedOnBlockAndUnblock() {
+        // given
+        assertThat(blockService.isBlocked(member, target1)).isFalse();
+        assertThat(blockService.isBlocked(target1, member)).isFalse();
+
+        // when
+        blockService.blockMember(member, target1);
+
+        // then
+        assertThat(blockService.isBlocked(member, target1)).isTrue();
+        assertThat(blockService.isBlockedByTargetMembersBatch(target1, List.of(member.getId())))
+                .containsEntry(member.getId(), false);
+        assertThat(blockService.hasBlockedTargetMembersBatch(target1, List.of(member.getId())))
+                .containsEntry(member.getId(), false);
+        assertThat(blockService.getBlockRelatedMemberIds(target1, List.of(member.getId())))
+                .containsExactly(member.getId());
+
+        // when
+        blockService.unBlockMember(member, target1);
+
+        // then
+        assertThat(blockService.isBlocked(member, target1)).isFalse();
+        assertThat(blockService.getBlockRelatedMemberIds(target1, List.of(member.getId()))).isEmpty();
+    }
+
+    @DisplayName("캐시된 차단 관계는 ttl이 지나면 DB에서 다시 조회한다.")
+    @Test
+    void reloadAfterTtl() {
+        // given
+        Object ttlMillis = ReflectionTestUtils.getField(blockGraph, "ttlMillis");
+        ReflectionTestUtils.setField(blockGraph, "ttlMillis", 0L);
+        try {
+            blockService.isBlocked(member, target1);
+            clearInvocations(blockRepository);
+
+            // when
+            blockService.isBlocked(member, target1);
+
+            // then
+            verify(blockRepository).findBlockedMemberIds(member.getId());
+        } finally {
+            ReflectionTestUtils.setField(blockGraph, "ttlMillis", ttlMillis);
+        }
+    }
+
+    private Member createMember(String email, String gameName) {
+        return memberRepository.save(Member.createForGeneral(email, "password123", LoginType.GENERAL, gameName,
+                "TAG", Tier.IRON, 0, 0.0, Tier.IRON, 0, 0.0, 0, 0, true));
+    }
+
+}
@@ -212,6 +212,23 @@ class ChatCommandServiceTest {
                     .isPresent();
         }
 
+        @DisplayName("같은 회원 쌍의 채팅방이 이미 생성된 경우 새로 생성하지 않고 기존 채팅방을 반환해야 한다.")
+        @Test
+        void createChatroomReturnsChatroomCreatedConcurrently() {
+            // given
+            Chatroom existingChatroom = chatroomRepository.save(
+                    Chatroom.create(UUID.randomUUID().toString(), targetMember.getId(), member.getId()));
+            createMemberChatroom(member, existingChatroom, null);
+
+            // when
+            Chatroom chatroom = chatCommandService.createChatroom(member, targetMember);
+
+            // then
+            assertThat(chatroom.getId()).isEqualTo(existingChatroom.getId());
+            assertThat(chatroomRepository.count()).isEqualTo(1);
+            assertThat(memberChatroomRepository.findAllByChatroomId(chatroom.getId())).hasSize(2);
+        }
+
     }
 
     @Nested
@@ -465,6 +482,60 @@ class ChatCommandServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("안읽은 메시지 수")
+    class UnreadCountTest {
+
+        @DisplayName("성공: 채팅 등록 시 입장 상태인 상대 회원의 안읽은 메시지 수만 증가하고, 마지막 채팅까지 읽으면 0이 되어야 한다.")
+        @Test
+        void unreadCountIncreasesAndResets() {
+            // given
+            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, lastJoinDate);
+            createMemberChatroom(targetMember, chatroom, lastJoinDate);
+
+            // when
+            chatCommandService.createMemberChat(member, chatroom, "message1");
+            Chat lastChat = chatCommandService.createMemberChat(member, chatroom, "message2");
+
+            // then
+            assertThat(getUnreadCount(member, chatroom)).isZero();
+            assertThat(getUnreadCount(targetMember, chatroom)).isEqualTo(2);
+
+            chatCommandService.updateLastViewDate(targetMember, chatroom, lastChat.getCreatedAt());
+            assertThat(getUnreadCount(targetMember, chatroom)).isZero();
+        }
+
+        @DisplayName("성공: 보정 시 chat 테이블 기준으로 안읽은 메시지 수가 다시 계산되어야 한다.")
+        @Test
+        void recomputeUnreadCountsSucceeds() {
+            // given
+            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
+            Chatroom chatroom = createChatroom();
+            MemberChatroom memberChatroom = createMemberChatroom(member, chatroom, lastJoinDate);
+            MemberChatroom targetMemberChatroom = createMemberChatroom(targetMember, chatroom, lastJoinDate);
+
+            // 카운터를 거치지 않고 저장된 채팅
+            createChat(member, "message1", chatroom);
+            createChat(member, "message2", chatroom);
+
+            // when
+            List<Long> result = chatCommandService.recomputeUnreadCounts(0L, 500);
+
+            // then
+            assertThat(result).contains(memberChatroom.getId(), targetMemberChatroom.getId());
+            assertThat(getUnreadCount(member, chatroom)).isZero();
+            assertThat(getUnreadCount(targetMember, chatroom)).isEqualTo(2);
+        }
+
+        private int getUnreadCount(Member member, Chatroom chatroom) {
+            return memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(), chatroom.getId())
+                    .orElseThrow()
+                    .getUnreadCount();
+        }
+
+    }
 
     private Member createMember(String email, String gameName) {
         Member member = Member.builder()
@@ -27,8 +27,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -39,6 +42,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -74,6 +78,9 @@ class ChatFacadeServiceBanTest {
     @Mock
     private ChatResponseFactory chatResponseFactory;
 
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private ChatFacadeService chatFacadeService;
 
@@ -278,7 +285,7 @@ class ChatFacadeServiceBanTest {
             //doNothing().when(blockValidator).throwIfBlocked(any(), any(), any(), any());
             when(chatQueryService.findExistingChatroom(any(), any())).thenReturn(java.util.Optional.of(chatroom));
             when(chatCommandService.enterExistingChatroom(any(), any(), any())).thenReturn(memberChatroom);
-            when(chatQueryService.getRecentChatSlice(any(), any())).thenReturn(null);
+            when(chatQueryService.getRecentChatSlice(any())).thenReturn(null);
             when(chatResponseFactory.toChatMessageListResponse(any())).thenReturn(null);
             when(chatResponseFactory.toEnterChatroomResponse(any(), any(), anyString(), anyInt(), anyLong(),
                     any())).thenReturn(null);
@@ -130,7 +130,7 @@ class MatchingFacadeServiceBanTest {
         doNothing().when(memberService).updateMikePosition(any(), any(), any(), any(), any());
         doNothing().when(memberGameStyleService).updateGameStyle(any(), any());
         when(matchingService.createMatchingRecord(any(), any(), any())).thenReturn(null);
-        when(matchingService.getPendingMatchingRecords(any(), anyLong())).thenReturn(List.of());
+        when(matchingService.getPendingMatchingRecords(any(), any())).thenReturn(List.of());
         when(matchingService.calculatePriorityList(any(), any())).thenReturn(null);
 
         // when
@@ -173,7 +173,7 @@ class MatchingFacadeServiceBanTest {
         doNothing().when(memberService).updateMikePosition(any(), any(), any(), any(), any());
         doNothing().when(memberGameStyleService).updateGameStyle(any(), any());
         when(matchingService.createMatchingRecord(any(), any(), any())).thenReturn(null);
-        when(matchingService.getPendingMatchingRecords(any(), anyLong())).thenReturn(List.of());
+        when(matchingService.getPendingMatchingRecords(any(), any())).thenReturn(List.of());
         when(matchingService.calculatePriorityList(any(), any())).thenReturn(null);
 
         // when
@@ -0,0 +1,167 @@
+package com.gamegoo.gamegoo_v2.service.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.dto.MatchingPair;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPairingService;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
+import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraph;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MatchingPairingServiceTest {
+
+    @Autowired
+    private MatchingPairingService matchingPairingService;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @Autowired
+    private BlockGraph blockGraph;
+
+    @Autowired
+    private BlockService blockService;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private SocketService socketService;
+
+    @AfterEach
+    void tearDown() {
+        matchingPool.clear();
+        blockGraph.clear();
+        blockRepository.deleteAllInBatch();
+
+        // 서로를 참조하는 매칭 기록은 연결을 먼저 끊고 삭제
+        List<MatchingRecord> matchingRecords = matchingRecordRepository.findAll();
+        matchingRecords.forEach(record -> record.updateTargetMatchingRecord(null));
+        matchingRecordRepository.saveAll(matchingRecords);
+        matchingRecordRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("대기자 전체를 두 명씩 묶어 FOUND 처리하고 서로를 매칭 상대로 지정한다.")
+    @Test
+    void pairPendingRecords() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            createPendingRecord(createMember("pairing" + i + "@gmail.com", "pairing" + i, 1));
+        }
+
+        // when
+        List<MatchingPair> foundPairs = matchingPairingService.pairPendingRecords(GameMode.FAST);
+
+        // then
+        assertThat(foundPairs).hasSize(2);
+        assertThat(matchingPool.size(GameMode.FAST)).isZero();
+
+        for (MatchingPair foundPair : foundPairs) {
+            MatchingRecord matchingRecord =
+                    matchingRecordRepository.findById(foundPair.matchingRecord().getMatchingUuid()).orElseThrow();
+            MatchingRecord targetMatchingRecord =
+                    matchingRecordRepository.findById(foundPair.targetMatchingRecord().getMatchingUuid())
+                            .orElseThrow();
+
+            assertThat(matchingRecord.getStatus()).isEqualTo(MatchingStatus.FOUND);
+            assertThat(targetMatchingRecord.getStatus()).isEqualTo(MatchingStatus.FOUND);
+            assertThat(matchingRecordRepository.findTargetMemberByUuid(matchingRecord.getMatchingUuid())
+                    .orElseThrow().getId()).isEqualTo(foundPair.targetMatchingRecord().getMember().getId());
+            assertThat(matchingRecordRepository.findTargetMemberByUuid(targetMatchingRecord.getMatchingUuid())
+                    .orElseThrow().getId()).isEqualTo(foundPair.matchingRecord().getMember().getId());
+        }
+        verify(socketService).emitMatchingFound(anyList());
+    }
+
+    @DisplayName("차단 관계인 회원끼리는 매칭하지 않는다.")
+    @Test
+    void doNotPairBlockedMembers() {
+        // given
+        Member member = createMember("pairing1@gmail.com", "pairing1", 1);
+        Member targetMember = createMember("pairing2@gmail.com", "pairing2", 1);
+        blockService.blockMember(targetMember, member);
+        createPendingRecord(member);
+        createPendingRecord(targetMember);
+
+        // when
+        List<MatchingPair> foundPairs = matchingPairingService.pairPendingRecords(GameMode.FAST);
+
+        // then
+        assertThat(foundPairs).isEmpty();
+        assertThat(matchingPool.size(GameMode.FAST)).isEqualTo(2);
+        verify(socketService, never()).emitMatchingFound(anyList());
+    }
+
+    @DisplayName("우선순위 합이 가장 큰 쌍부터 매칭한다.")
+    @Test
+    void pairHighestPriorityFirst() {
+        // given
+        Member member = createMember("pairing1@gmail.com", "pairing1", 1);
+        Member similarMember = createMember("pairing2@gmail.com", "pairing2", 1);
+        Member differentMember = createMember("pairing3@gmail.com", "pairing3", 5);
+        createPendingRecord(differentMember);
+        createPendingRecord(member);
+        createPendingRecord(similarMember);
+
+        // when
+        List<MatchingPair> foundPairs = matchingPairingService.pairPendingRecords(GameMode.FAST);
+
+        // then
+        assertThat(foundPairs).hasSize(1);
+        MatchingPair foundPair = foundPairs.get(0);
+        assertThat(List.of(foundPair.matchingRecord().getMember().getId(),
+                foundPair.targetMatchingRecord().getMember().getId()))
+                .containsExactlyInAnyOrder(member.getId(), similarMember.getId());
+        assertThat(matchingPool.findAllCandidates(GameMode.FAST, LocalDateTime.now()))
+                .extracting(record -> record.getMember().getId())
+                .containsExactly(differentMember.getId());
+    }
+
+    private Member createMember(String email, String gameName, int mannerLevel) {
+        Member member = Member.createForGeneral(email, "password123", LoginType.GENERAL, gameName, "TAG",
+                Tier.GOLD, 1, 55.0, Tier.GOLD, 1, 55.0, 100, 100, true);
+        member.updateMannerLevel(mannerLevel);
+        return memberRepository.save(member);
+    }
+
+    private MatchingRecord createPendingRecord(Member member) {
+        MatchingRecord matchingRecord = matchingRecordRepository.save(
+                MatchingRecord.create(GameMode.FAST, MatchingType.BASIC, member));
+        matchingPool.register(matchingRecord);
+        return matchingRecord;
+    }
+
+}
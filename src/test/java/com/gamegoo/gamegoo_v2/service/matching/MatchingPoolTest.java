@@ -0,0 +1,153 @@
+package com.gamegoo.gamegoo_v2.service.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MatchingPoolTest {
+
+    @Autowired
+    MatchingPool matchingPool;
+
+    @Autowired
+    MatchingService matchingService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private Member member;
+    private Member otherMember;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("pool1@gmail.com", "Pool1", Tier.GOLD);
+        otherMember = createMember("pool2@gmail.com", "Pool2", Tier.GOLD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchingPool.clear();
+        matchingRecordRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("매칭 기록 생성 시 풀에 등록되며, 본인 기록은 후보에서 제외된다.")
+    @Test
+    void registeredOnCreateAndExcludesSelf() {
+        // given
+        matchingService.createMatchingRecord(member, MatchingType.BASIC, GameMode.SOLO);
+        MatchingRecord otherRecord = matchingService.createMatchingRecord(otherMember, MatchingType.BASIC,
+                GameMode.SOLO);
+
+        // when
+        List<MatchingRecord> candidates = matchingPool.findCandidates(GameMode.SOLO, member.getId(), Tier.GOLD,
+                LocalDateTime.now());
+
+        // then
+        assertThat(candidates).extracting(MatchingRecord::getMatchingUuid)
+                .containsExactly(otherRecord.getMatchingUuid());
+        assertThat(matchingPool.findCandidates(GameMode.FAST, member.getId(), Tier.GOLD, LocalDateTime.now()))
+                .isEmpty();
+    }
+
+    @DisplayName("매칭 기록을 생성한 트랜잭션이 커밋되기 전에는 후보로 조회되지 않는다.")
+    @Test
+    void registeredAfterCommit() {
+        // when
+        List<MatchingRecord> candidatesBeforeCommit = transactionTemplate.execute(status -> {
+            matchingService.createMatchingRecord(otherMember, MatchingType.BASIC, GameMode.SOLO);
+            return matchingPool.findCandidates(GameMode.SOLO, member.getId(), Tier.GOLD, LocalDateTime.now());
+        });
+
+        // then
+        assertThat(candidatesBeforeCommit).isEmpty();
+        assertThat(matchingPool.findCandidates(GameMode.SOLO, member.getId(), Tier.GOLD, LocalDateTime.now()))
+                .hasSize(1);
+    }
+
+    @DisplayName("같은 게임 모드에 다시 매칭을 시작하면 가장 최근 기록만 남는다.")
+    @Test
+    void keepsLatestRecordPerMember() {
+        // given
+        matchingService.createMatchingRecord(otherMember, MatchingType.BASIC, GameMode.ARAM);
+        MatchingRecord latestRecord = matchingService.createMatchingRecord(otherMember, MatchingType.PRECISE,
+                GameMode.ARAM);
+
+        // when
+        List<MatchingRecord> candidates = matchingPool.findCandidates(GameMode.ARAM, member.getId(), Tier.GOLD,
+                LocalDateTime.now());
+
+        // then
+        assertThat(matchingPool.size(GameMode.ARAM)).isEqualTo(1);
+        assertThat(candidates).extracting(MatchingRecord::getMatchingUuid)
+                .containsExactly(latestRecord.getMatchingUuid());
+    }
+
+    @DisplayName("PENDING이 아닌 상태로 변경되면 풀에서 제거된다.")
+    @Test
+    void removedOnStatusChange() {
+        // given
+        MatchingRecord otherRecord = matchingService.createMatchingRecord(otherMember, MatchingType.BASIC,
+                GameMode.FAST);
+
+        // when
+        matchingService.setMatchingStatus(MatchingStatus.QUIT, otherRecord);
+
+        // then
+        assertThat(matchingPool.findCandidates(GameMode.FAST, member.getId(), Tier.GOLD, LocalDateTime.now()))
+                .isEmpty();
+    }
+
+    @DisplayName("5분이 지난 기록은 조회되지 않고 만료 처리 시 제거된다.")
+    @Test
+    void expiredRecordsAreEvicted() {
+        // given
+        matchingService.createMatchingRecord(otherMember, MatchingType.BASIC, GameMode.FAST);
+        LocalDateTime later = LocalDateTime.now().plusMinutes(6);
+
+        // when
+        List<MatchingRecord> candidates = matchingPool.findCandidates(GameMode.FAST, member.getId(), Tier.GOLD,
+                later);
+        int evicted = matchingPool.evictExpired(later);
+
+        // then
+        assertThat(candidates).isEmpty();
+        assertThat(evicted).isEqualTo(1);
+        assertThat(matchingPool.size(GameMode.FAST)).isZero();
+    }
+
+    private Member createMember(String email, String gameName, Tier tier) {
+        return memberRepository.save(Member.createForGeneral(email, "password123", LoginType.GENERAL, gameName,
+                "TAG", tier, 1, 55.0, tier, 1, 55.0, 100, 100, true));
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.gamegoo.gamegoo_v2.service.matching;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MannerMessageStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordHistory;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordHistoryRepository;
+import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingRecordCleanupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MatchingRecordCleanupServiceTest {
+
+    @Autowired
+    MatchingRecordCleanupService matchingRecordCleanupService;
+
+    @Autowired
+    MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    MatchingRecordHistoryRepository matchingRecordHistoryRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    private Member member;
+    private Member targetMember;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("cleanup1@gmail.com", "Cleanup1");
+        targetMember = createMember("cleanup2@gmail.com", "Cleanup2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchingRecordHistoryRepository.deleteAll();
+        List<MatchingRecord> matchingRecords = matchingRecordRepository.findAll();
+        matchingRecords.forEach(record -> record.updateTargetMatchingRecord(null));
+        matchingRecordRepository.saveAll(matchingRecords);
+        matchingRecordRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("기준 시각 이전에 생성된 PENDING 기록만 EXPIRED로 변경된다.")
+    @Test
+    void expirePendingRecords() {
+        // given
+        MatchingRecord pendingRecord = createMatchingRecord(member, MatchingStatus.PENDING);
+        MatchingRecord foundRecord = createMatchingRecord(targetMember, MatchingStatus.FOUND);
+
+        // when
+        int notExpired = matchingRecordCleanupService.expirePendingRecords(LocalDateTime.now().minusMinutes(10), 500);
+        int expired = matchingRecordCleanupService.expirePendingRecords(LocalDateTime.now().plusMinutes(1), 500);
+
+        // then
+        assertThat(notExpired).isZero();
+        assertThat(expired).isEqualTo(1);
+        assertThat(findStatus(pendingRecord)).isEqualTo(MatchingStatus.EXPIRED);
+        assertThat(findStatus(foundRecord)).isEqualTo(MatchingStatus.FOUND);
+    }
+
+    @DisplayName("만료 처리는 batch 크기만큼씩 나누어 처리된다.")
+    @Test
+    void expirePendingRecordsInBatches() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            createMatchingRecord(member, MatchingStatus.PENDING);
+        }
+        LocalDateTime createdBefore = LocalDateTime.now().plusMinutes(1);
+
+        // when
+        int first = matchingRecordCleanupService.expirePendingRecords(createdBefore, 2);
+        int second = matchingRecordCleanupService.expirePendingRecords(createdBefore, 2);
+        int third = matchingRecordCleanupService.expirePendingRecords(createdBefore, 2);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+    }
+
+    @DisplayName("종료된 매칭 기록은 이력 테이블로 이관되고, 매너 메시지 전송 대기 중인 기록과 진행 중인 기록은 남는다.")
+    @Test
+    void archiveFinishedRecords() {
+        // given
+        MatchingRecord successRecord = createMatchingRecord(member, MatchingStatus.SUCCESS);
+        MatchingRecord targetSuccessRecord = createMatchingRecord(targetMember, MatchingStatus.SUCCESS);
+        successRecord.updateTargetMatchingRecord(targetSuccessRecord);
+        targetSuccessRecord.updateTargetMatchingRecord(successRecord);
+        successRecord.updateMannerMessageSent(MannerMessageStatus.SENT);
+        targetSuccessRecord.updateMannerMessageSent(MannerMessageStatus.SENT);
+        matchingRecordRepository.saveAll(List.of(successRecord, targetSuccessRecord));
+
+        MatchingRecord notSentRecord = createMatchingRecord(member, MatchingStatus.SUCCESS);
+        notSentRecord.updateMannerMessageSent(MannerMessageStatus.NOT_SENT);
+        matchingRecordRepository.save(notSentRecord);
+
+        MatchingRecord pendingRecord = createMatchingRecord(targetMember, MatchingStatus.PENDING);
+
+        // when
+        int archived = matchingRecordCleanupService.archiveFinishedRecords(LocalDateTime.now().plusMinutes(1), 500);
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        assertThat(matchingRecordRepository.findAll())
+                .extracting(MatchingRecord::getMatchingUuid)
+                .containsExactlyInAnyOrder(notSentRecord.getMatchingUuid(), pendingRecord.getMatchingUuid());
+
+        MatchingRecordHistory history =
+                matchingRecordHistoryRepository.findByMatchingUuid(successRecord.getMatchingUuid()).orElseThrow();
+        assertThat(history.getStatus()).isEqualTo(MatchingStatus.SUCCESS);
+        assertThat(history.getMemberId()).isEqualTo(member.getId());
+        assertThat(history.getTargetMatchingUuid()).isEqualTo(targetSuccessRecord.getMatchingUuid());
+        assertThat(history.getWantP().split(",")).containsExactlyInAnyOrder("TOP", "JUNGLE");
+        assertThat(history.getCreatedAt()).isNotNull();
+    }
+
+    private MatchingStatus findStatus(MatchingRecord matchingRecord) {
+        return matchingRecordRepository.findById(matchingRecord.getMatchingUuid()).orElseThrow().getStatus();
+    }
+
+    private Member createMember(String email, String gameName) {
+        Member member = Member.createForGeneral(email, "password123", LoginType.GENERAL, gameName, "TAG",
+                Tier.GOLD, 1, 55.0, Tier.GOLD, 1, 55.0, 100, 100, true);
+        member.updatePosition(Position.MID, Position.ADC, new ArrayList<>(List.of(Position.TOP, Position.JUNGLE)));
+        return memberRepository.save(member);
+    }
+
+    private MatchingRecord createMatchingRecord(Member member, MatchingStatus status) {
+        MatchingRecord matchingRecord = MatchingRecord.create(GameMode.SOLO, MatchingType.BASIC, member);
+        matchingRecord.updateStatus(status);
+        return matchingRecordRepository.save(matchingRecord);
+    }
+
+}
@@ -6,16 +6,19 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Mike;
 import com.gamegoo.gamegoo_v2.account.member.domain.Position;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
 import com.gamegoo.gamegoo_v2.core.exception.MatchingException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingStatus;
 import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.domain.TierCompatibility;
 import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
 import com.gamegoo.gamegoo_v2.matching.dto.response.MatchingMemberInfoResponse;
 import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityListResponse;
 import com.gamegoo.gamegoo_v2.matching.repository.MatchingRecordRepository;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPool;
 import com.gamegoo.gamegoo_v2.matching.service.MatchingService;
 import com.gamegoo.gamegoo_v2.matching.service.MatchingStrategyProcessor;
 import org.junit.jupiter.api.AfterEach;
@@ -27,11 +30,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
@@ -53,10 +56,18 @@ class MatchingServiceTest {
     @Autowired
     MatchingRecordRepository matchingRecordRepository;
 
+    @Autowired
+    MatchingPool matchingPool;
+
+    @Autowired
+    MatchingProperties matchingProperties;
+
     private Member member;
 
     @AfterEach
     void tearDown() {
+        matchingPool.clear();
+        matchingProperties.getTopK().clear();
         matchingRecordRepository.deleteAll();
     }
 
@@ -156,6 +167,53 @@ class MatchingServiceTest {
             assertThat(priorityListResponse.getOtherPriorityList()).isEqualTo(expectedOtherPriorityList);
         }
 
+        @DisplayName("매칭 리스트 조회 성공 : top-K 설정 시 방향별 상위 K명만 우선순위 내림차순으로 반환")
+        @Test
+        void getMatchingPriorityListReturnsTopKWhenConfigured() {
+            // given
+            int topK = 3;
+            matchingProperties.getTopK().put(GameMode.SOLO, topK);
+
+            MatchingRecord matchingRecord = createMatchingRecord(GameMode.SOLO, MatchingType.BASIC, member,
+                    MatchingStatus.PENDING);
+
+            Random random = new Random();
+            List<MatchingRecord> allMatchingRecords = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Tier tier = Tier.values()[random.nextInt(Tier.values().length)];
+                Mike mike = Mike.values()[random.nextInt(Mike.values().length)];
+                Position mainP = Position.values()[random.nextInt(Position.values().length)];
+                Position subP = Position.values()[random.nextInt(Position.values().length)];
+                Position wantP = Position.values()[random.nextInt(Position.values().length)];
+                Member targetMember = createMember("topk" + i + "@gmail.com", "TOPK" + i, "TAG" + i, tier,
+                        random.nextInt(4) + 1, mike, mainP, subP, wantP, random.nextInt(4) + 1);
+                allMatchingRecords.add(createMatchingRecord(GameMode.SOLO, MatchingType.BASIC, targetMember,
+                        MatchingStatus.PENDING));
+            }
+
+            // when
+            PriorityListResponse priorityListResponse = matchingService.calculatePriorityList(matchingRecord,
+                    allMatchingRecords);
+
+            // then
+            List<Integer> expectedMyTopK = allMatchingRecords.stream()
+                    .map(other -> matchingService.calculatePriority(GameMode.SOLO, matchingRecord, other))
+                    .sorted(Comparator.reverseOrder())
+                    .limit(topK)
+                    .toList();
+            List<Integer> expectedOtherTopK = allMatchingRecords.stream()
+                    .map(other -> matchingService.calculatePriority(GameMode.SOLO, other, matchingRecord))
+                    .sorted(Comparator.reverseOrder())
+                    .limit(topK)
+                    .toList();
+
+            assertThat(priorityListResponse.getTotalCandidateCount()).isEqualTo(allMatchingRecords.size());
+            assertThat(priorityListResponse.getMyPriorityList()).extracting(PriorityValue::getPriorityValue)
+                    .containsExactlyElementsOf(expectedMyTopK);
+            assertThat(priorityListResponse.getOtherPriorityList()).extracting(PriorityValue::getPriorityValue)
+                    .containsExactlyElementsOf(expectedOtherTopK);
+        }
+
     }
 
     @Nested
@@ -295,24 +353,26 @@ class MatchingServiceTest {
             int mannerLevel = random.nextInt(4) + 1;
             GameMode randomGameMode = GameMode.values()[random.nextInt(GameMode.values().length)];
             MatchingType randomMatchingType = MatchingType.values()[random.nextInt(MatchingType.values().length)];
-            MatchingStatus randomMatchingStatus = MatchingStatus.PENDING;
 
             Member targetMember = createMember(email, gameName, tag, tier, gameRank, mike, mainP, subP, wantP,
                     mannerLevel);
-            MatchingRecord targetMatchingRecord = createMatchingRecord(randomGameMode, randomMatchingType, targetMember,
-                    randomMatchingStatus);
+            MatchingRecord targetMatchingRecord = matchingService.createMatchingRecord(targetMember,
+                    randomMatchingType, randomGameMode);
 
             // MatchingRecord 리스트에 저장
             allMatchingRecords.add(targetMatchingRecord);
         }
 
         // when
-        List<MatchingRecord> matchingRecords = matchingService.getPendingMatchingRecords(gameMode, member.getId());
+        List<MatchingRecord> matchingRecords = matchingService.getPendingMatchingRecords(gameMode, member);
 
         // then
-        List<MatchingRecord> expectedMatchingRecords =
-                matchingRecordRepository.findValidMatchingRecords(LocalDateTime.now().minusMinutes(5), gameMode,
-                        member.getId());
+        Set<Tier> compatibleTiers = TierCompatibility.compatibleTiers(gameMode,
+                MatchingRecord.getTierByGameMode(gameMode, member));
+        List<MatchingRecord> expectedMatchingRecords = allMatchingRecords.stream()
+                .filter(record -> record.getGameMode() == gameMode)
+                .filter(record -> compatibleTiers.contains(record.getTier()))
+                .toList();
         assertThat(matchingRecords.size()).isEqualTo(expectedMatchingRecords.size());
     }
 
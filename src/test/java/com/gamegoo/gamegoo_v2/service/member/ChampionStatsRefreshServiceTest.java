@@ -24,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -64,6 +65,9 @@ class ChampionStatsRefreshServiceTest {
     @Mock
     private MemberRecentStatsRepository memberRecentStatsRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Member testMemberWithPuuid;
     private Member testMemberWithoutPuuid;
     private List<ChampionStats> mockChampionStats;
@@ -0,0 +1,39 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ChatArchiveBlock;
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatArchiveBlockTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0, 0, 123_456_789);
+
+    @Test
+    @DisplayName("블록에 담은 메시지는 생성 순서와 값 그대로 복원된다")
+    void createAndGetChats() {
+        // given
+        List<RecentChat> chats = List.of(
+                new RecentChat(1L, "안녕하세요", 1_000L, null, BASE_TIME, 10L, null, null),
+                new RecentChat(2L, "", 3_000L, 1, BASE_TIME.plusSeconds(1), 0L, 20L, 30L),
+                new RecentChat(3L, "같이 듀오 하실래요? ".repeat(50), 2_000L, null, BASE_TIME.plusSeconds(2), 20L, null,
+                        null));
+
+        // when
+        ChatArchiveBlock block = ChatArchiveBlock.create(100L, chats);
+
+        // then
+        assertThat(block.getChats()).containsExactlyElementsOf(chats);
+        assertThat(block.getChatroomId()).isEqualTo(100L);
+        assertThat(block.getChatCount()).isEqualTo(3);
+        assertThat(block.getMinTimestamp()).isEqualTo(1_000L);
+        assertThat(block.getMaxTimestamp()).isEqualTo(3_000L);
+        assertThat(block.getLastChatCreatedAt()).isEqualTo(BASE_TIME.plusSeconds(2));
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.chat.domain.RecentChat;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomRecentChatCache;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomRecentChatCache.CachedRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatroomRecentChatCacheTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Long CHATROOM_ID = 1L;
+
+    private ChatroomRecentChatCache chatroomRecentChatCache;
+
+    @BeforeEach
+    void setUp() {
+        chatroomRecentChatCache = new ChatroomRecentChatCache();
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "enabled", true);
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "maxRooms", 2);
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "chatsPerRoom", 3);
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "maxBytes", Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 채팅방에 등록된 메시지는 무시한다")
+    void appendIgnoresUncachedChatroom() {
+        // when
+        chatroomRecentChatCache.append(CHATROOM_ID, chat(1L, 1));
+
+        // then
+        assertThat(chatroomRecentChatCache.find(CHATROOM_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 가득 차면 가장 오래된 메시지를 제거하고, 제거 이후 구간만 보관한 것으로 판단한다")
+    void appendKeepsLatestChats() {
+        // given
+        chatroomRecentChatCache.put(CHATROOM_ID, List.of(chat(2L, 2), chat(1L, 1)), true);
+
+        // when
+        chatroomRecentChatCache.append(CHATROOM_ID, chat(3L, 3));
+        chatroomRecentChatCache.append(CHATROOM_ID, chat(4L, 4));
+
+        // then
+        CachedRoom cachedRoom = chatroomRecentChatCache.find(CHATROOM_ID).orElseThrow();
+        assertThat(cachedRoom.newestFirst()).extracting(RecentChat::id).containsExactly(4L, 3L, 2L);
+        assertThat(cachedRoom.complete()).isFalse();
+        assertThat(cachedRoom.oldestCreatedAt()).isEqualTo(BASE_TIME.plusMinutes(2));
+        assertThat(cachedRoom.covers(BASE_TIME.plusMinutes(3))).isTrue();
+        assertThat(cachedRoom.covers(BASE_TIME.plusMinutes(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("채팅방의 모든 메시지를 보관하고 있으면 입장 시각과 관계없이 사용할 수 있다")
+    void completeRoomCoversAnyJoinDate() {
+        // when
+        CachedRoom cachedRoom = chatroomRecentChatCache.put(CHATROOM_ID, List.of(), true);
+
+        // then
+        assertThat(cachedRoom.covers(BASE_TIME.minusYears(1))).isTrue();
+        assertThat(cachedRoom.oldestCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("보관 중인 메시지보다 먼저 생성된 메시지가 등록되면 채팅방 캐시를 무효화한다")
+    void appendOutOfOrderEvictsChatroom() {
+        // given
+        chatroomRecentChatCache.put(CHATROOM_ID, List.of(chat(2L, 2)), true);
+
+        // when
+        chatroomRecentChatCache.append(CHATROOM_ID, chat(1L, 1));
+
+        // then
+        assertThat(chatroomRecentChatCache.find(CHATROOM_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 채팅방 수를 넘으면 가장 오래 조회되지 않은 채팅방을 제거하고, 사용 현황을 집계한다")
+    void evictLeastRecentlyUsedChatroom() {
+        // given
+        chatroomRecentChatCache.put(1L, List.of(chat(1L, 1)), true);
+        chatroomRecentChatCache.put(2L, List.of(chat(2L, 2)), true);
+        chatroomRecentChatCache.find(1L);
+
+        // when
+        chatroomRecentChatCache.put(3L, List.of(chat(3L, 3)), true);
+        chatroomRecentChatCache.recordHit();
+        chatroomRecentChatCache.recordMiss();
+
+        // then
+        assertThat(chatroomRecentChatCache.find(1L)).isPresent();
+        assertThat(chatroomRecentChatCache.find(2L)).isEmpty();
+
+        ChatroomRecentChatCache.Stats stats = chatroomRecentChatCache.getStats();
+        assertThat(stats.roomCount()).isEqualTo(2);
+        assertThat(stats.chatCount()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+        assertThat(stats.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("예상 메모리 사용량이 한도를 넘으면 가장 오래 조회되지 않은 채팅방부터 제거한다")
+    void evictLeastRecentlyUsedChatroomOverByteBudget() {
+        // given
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "maxRooms", 10);
+        chatroomRecentChatCache.put(1L, List.of(chat(1L, 1)), true);
+        long roomBytes = chatroomRecentChatCache.getStats().estimatedBytes();
+        ReflectionTestUtils.setField(chatroomRecentChatCache, "maxBytes", roomBytes * 2);
+        chatroomRecentChatCache.put(2L, List.of(chat(2L, 2)), false);
+
+        // when
+        chatroomRecentChatCache.append(2L, chat(3L, 3));
+
+        // then
+        assertThat(chatroomRecentChatCache.find(1L)).isEmpty();
+        assertThat(chatroomRecentChatCache.find(2L)).isPresent();
+        assertThat(chatroomRecentChatCache.getStats().estimatedBytes()).isLessThanOrEqualTo(roomBytes * 2);
+    }
+
+    private RecentChat chat(Long id, int minutes) {
+        return new RecentChat(id, "message " + id, id, null, BASE_TIME.plusMinutes(minutes), 10L, null, null);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.utils.DeflateUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeflateUtilTest {
+
+    @Test
+    @DisplayName("압축한 문자열은 원본 그대로 복원된다")
+    void compressAndDecompress() {
+        // given
+        String value = "{\"type\":\"ADCI\",\"title\":\"한타 설계자\",\"description\":\"" + "팀 합류 ".repeat(200) + "\"}";
+
+        // when
+        byte[] compressed = DeflateUtil.compress(value);
+
+        // then
+        assertThat(compressed.length).isLessThan(value.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(DeflateUtil.decompress(compressed)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("빈 문자열도 압축 후 복원된다")
+    void compressEmptyString() {
+        assertThat(DeflateUtil.decompress(DeflateUtil.compress(""))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("압축 형식이 아닌 데이터는 예외가 발생한다")
+    void decompressInvalidData() {
+        byte[] invalid = "not deflate".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> DeflateUtil.decompress(invalid))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
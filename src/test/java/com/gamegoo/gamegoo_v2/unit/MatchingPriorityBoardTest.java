@@ -0,0 +1,155 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.core.config.MatchingProperties;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityDelta;
+import com.gamegoo.gamegoo_v2.matching.dto.PriorityValue;
+import com.gamegoo.gamegoo_v2.matching.dto.response.PriorityDeltaResponse;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingPriorityBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MatchingPriorityBoardTest {
+
+    private MatchingProperties matchingProperties;
+    private MatchingPriorityBoard matchingPriorityBoard;
+
+    private MatchingRecord record1;
+    private MatchingRecord record2;
+    private MatchingRecord record3;
+
+    @BeforeEach
+    void setUp() {
+        matchingProperties = new MatchingProperties();
+        matchingProperties.setIncrementalPriorityEnabled(true);
+        matchingPriorityBoard = new MatchingPriorityBoard(matchingProperties);
+
+        record1 = record(1L, "uuid-1");
+        record2 = record(2L, "uuid-2");
+        record3 = record(3L, "uuid-3");
+    }
+
+    @Test
+    @DisplayName("새 대기자가 들어오면 기존 대기자 리스트에 한 건씩 추가되고 변경분이 기록된다")
+    void joinAppendsOneEntryPerWaiter() {
+        // given
+        matchingPriorityBoard.join(record1, List.of(), new int[0], new int[0]);
+        matchingPriorityBoard.join(record2, List.of(record1), new int[]{10}, new int[]{20});
+
+        // when
+        matchingPriorityBoard.join(record3, List.of(record1, record2), new int[]{30, 5}, new int[]{40, 7});
+
+        // then
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-1").orElseThrow())
+                .extracting(PriorityValue::getMatchingUuid, PriorityValue::getPriorityValue)
+                .containsExactly(tuple("uuid-3", 40), tuple("uuid-2", 20));
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-3").orElseThrow())
+                .extracting(PriorityValue::getMatchingUuid, PriorityValue::getPriorityValue)
+                .containsExactly(tuple("uuid-1", 30), tuple("uuid-2", 5));
+
+        PriorityDeltaResponse response = matchingPriorityBoard.findDeltas(GameMode.SOLO, 1, 100);
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getLastSequence()).isEqualTo(3);
+        assertThat(response.getDeltas())
+                .extracting(PriorityDelta::getType, PriorityDelta::getMatchingUuid,
+                        PriorityDelta::getTargetMatchingUuid, PriorityDelta::getPriorityValue)
+                .containsExactly(
+                        tuple(PriorityDelta.Type.ADD, "uuid-1", "uuid-3", 40),
+                        tuple(PriorityDelta.Type.ADD, "uuid-2", "uuid-3", 7));
+    }
+
+    @Test
+    @DisplayName("대기자가 빠지면 그 대기자를 가진 리스트에서만 제거된다")
+    void leaveRemovesFromAffectedWaitersOnly() {
+        // given
+        matchingPriorityBoard.join(record1, List.of(), new int[0], new int[0]);
+        matchingPriorityBoard.join(record2, List.of(record1), new int[]{10}, new int[]{20});
+        matchingPriorityBoard.join(record3, List.of(record2), new int[]{5}, new int[]{7});
+        long lastSequence = matchingPriorityBoard.findDeltas(GameMode.SOLO, 0, 100).getLastSequence();
+
+        // when
+        matchingPriorityBoard.leave(GameMode.SOLO, "uuid-1");
+
+        // then
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-1")).isEmpty();
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-2").orElseThrow())
+                .extracting(PriorityValue::getMatchingUuid)
+                .containsExactly("uuid-3");
+        assertThat(matchingPriorityBoard.findDeltas(GameMode.SOLO, lastSequence, 100).getDeltas())
+                .extracting(PriorityDelta::getType, PriorityDelta::getMatchingUuid,
+                        PriorityDelta::getTargetMatchingUuid)
+                .containsExactly(tuple(PriorityDelta.Type.REMOVE, "uuid-2", "uuid-1"));
+    }
+
+    @Test
+    @DisplayName("이미 대기열에서 빠진 후보는 새 대기자 리스트에 추가되지 않는다")
+    void joinSkipsCandidatesAlreadyLeft() {
+        // given
+        matchingPriorityBoard.join(record1, List.of(), new int[0], new int[0]);
+        matchingPriorityBoard.leave(GameMode.SOLO, "uuid-1");
+
+        // when
+        matchingPriorityBoard.join(record2, List.of(record1), new int[]{10}, new int[]{20});
+
+        // then
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-2").orElseThrow()).isEmpty();
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘어 삭제된 순번을 요청하면 전체 재조회가 필요하다고 응답한다")
+    void findDeltasRequiresResetWhenTruncated() {
+        // given
+        matchingProperties.setPriorityDeltaCapacity(1);
+        matchingPriorityBoard.join(record1, List.of(), new int[0], new int[0]);
+        matchingPriorityBoard.join(record2, List.of(record1), new int[]{10}, new int[]{20});
+        matchingPriorityBoard.join(record3, List.of(record1, record2), new int[]{30, 5}, new int[]{40, 7});
+
+        // when
+        PriorityDeltaResponse truncated = matchingPriorityBoard.findDeltas(GameMode.SOLO, 0, 100);
+        PriorityDeltaResponse latest = matchingPriorityBoard.findDeltas(GameMode.SOLO, 2, 100);
+
+        // then
+        assertThat(truncated.isReset()).isTrue();
+        assertThat(truncated.getLastSequence()).isEqualTo(3);
+        assertThat(latest.isReset()).isFalse();
+        assertThat(latest.getDeltas()).extracting(PriorityDelta::getSequence).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("증분 모드가 꺼져 있으면 아무것도 기록하지 않는다")
+    void disabledBoardIgnoresChanges() {
+        // given
+        matchingProperties.setIncrementalPriorityEnabled(false);
+
+        // when
+        matchingPriorityBoard.join(record1, List.of(), new int[0], new int[0]);
+
+        // then
+        assertThat(matchingPriorityBoard.findPriorityList(GameMode.SOLO, "uuid-1")).isEmpty();
+        assertThat(matchingPriorityBoard.findDeltas(GameMode.SOLO, 0, 100).getDeltas()).isEmpty();
+    }
+
+    private MatchingRecord record(Long memberId, String matchingUuid) {
+        Member member = Member.createForGeneral("board" + memberId + "@gmail.com", "password123", LoginType.GENERAL,
+                "board" + memberId, "TAG", Tier.GOLD, 1, 55.0, Tier.GOLD, 1, 55.0, 100, 100, true);
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        MatchingRecord matchingRecord = MatchingRecord.create(GameMode.SOLO, MatchingType.BASIC, member);
+        ReflectionTestUtils.setField(matchingRecord, "matchingUuid", matchingUuid);
+        return matchingRecord;
+    }
+
+}
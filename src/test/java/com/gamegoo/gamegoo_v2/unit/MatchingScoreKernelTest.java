@@ -0,0 +1,151 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Mike;
+import com.gamegoo.gamegoo_v2.account.member.domain.Position;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecord;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingRecordSnapshot;
+import com.gamegoo.gamegoo_v2.matching.domain.MatchingType;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingScoreKernel;
+import com.gamegoo.gamegoo_v2.matching.service.MatchingStrategyProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingScoreKernelTest {
+
+    private static final int PAIR_COUNT = 20_000;
+
+    private final MatchingStrategyProcessor matchingStrategyProcessor = new MatchingStrategyProcessor();
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(GameMode.class)
+    @DisplayName("단방향 점수가 기존 MatchingStrategyProcessor 계산 결과와 일치한다")
+    void scoreMatchesStrategyProcessor(GameMode gameMode) {
+        Random random = new Random(gameMode.ordinal());
+
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            MatchingRecord myRecord = randomRecord(random, gameMode);
+            MatchingRecord otherRecord = randomRecord(random, gameMode);
+
+            int expected = expectedPriority(gameMode, myRecord, otherRecord);
+            int actual = MatchingScoreKernel.score(gameMode, MatchingRecordSnapshot.from(myRecord),
+                    MatchingRecordSnapshot.from(otherRecord));
+
+            assertThat(actual)
+                    .as("my=%s, other=%s", describe(myRecord), describe(otherRecord))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 계산 결과가 양방향 모두 기존 계산 결과와 일치한다")
+    void scoreBatchMatchesStrategyProcessorInBothDirections() {
+        Random random = new Random(42);
+
+        for (GameMode gameMode : GameMode.values()) {
+            MatchingRecord myRecord = randomRecord(random, gameMode);
+            List<MatchingRecord> otherRecords = new ArrayList<>();
+            MatchingRecordSnapshot[] snapshots = new MatchingRecordSnapshot[1_000];
+            for (int i = 0; i < snapshots.length; i++) {
+                MatchingRecord otherRecord = randomRecord(random, gameMode);
+                otherRecords.add(otherRecord);
+                snapshots[i] = MatchingRecordSnapshot.from(otherRecord);
+            }
+
+            int[] myScores = new int[snapshots.length];
+            int[] otherScores = new int[snapshots.length];
+            MatchingScoreKernel.scoreBatch(gameMode, MatchingRecordSnapshot.from(myRecord), snapshots,
+                    snapshots.length, myScores, otherScores);
+
+            for (int i = 0; i < snapshots.length; i++) {
+                MatchingRecord otherRecord = otherRecords.get(i);
+                assertThat(myScores[i]).isEqualTo(expectedPriority(gameMode, myRecord, otherRecord));
+                assertThat(otherScores[i]).isEqualTo(expectedPriority(gameMode, otherRecord, myRecord));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("wantP는 Position ordinal 기준 bitmask로 압축된다")
+    void snapshotPacksWantPositionsAsBitmask() {
+        MatchingRecord record = record(GameMode.SOLO, MatchingType.BASIC, Tier.GOLD, 2, 3, Mike.AVAILABLE,
+                Position.MID, Position.ANY, List.of(Position.TOP, Position.SUP));
+
+        MatchingRecordSnapshot snapshot = MatchingRecordSnapshot.from(record);
+
+        assertThat(snapshot.getWantMask())
+                .isEqualTo((1 << Position.TOP.ordinal()) | (1 << Position.SUP.ordinal()));
+        assertThat(snapshot.getTier()).isEqualTo(Tier.GOLD.ordinal());
+        assertThat(snapshot.getMainP()).isEqualTo(Position.MID.ordinal());
+        assertThat(snapshot.getSubP()).isEqualTo(Position.ANY.ordinal());
+        assertThat(snapshot.isPrecise()).isFalse();
+    }
+
+    /**
+     * MatchingService.calculatePriority와 동일한 분기
+     */
+    private int expectedPriority(GameMode gameMode, MatchingRecord myRecord, MatchingRecord otherRecord) {
+        if (myRecord.getMatchingType() == MatchingType.PRECISE) {
+            if (matchingStrategyProcessor.validatePreciseMatching(myRecord, otherRecord)) {
+                return matchingStrategyProcessor.calculatePrecisePriority(myRecord, otherRecord);
+            }
+            return 0;
+        }
+        return switch (gameMode) {
+            case SOLO -> matchingStrategyProcessor.calculateSoloPriority(myRecord, otherRecord);
+            case FREE -> matchingStrategyProcessor.calculateFreePriority(myRecord, otherRecord);
+            case ARAM -> matchingStrategyProcessor.calculateAramPriority(myRecord, otherRecord);
+            case FAST -> matchingStrategyProcessor.calculateFastPriority(myRecord, otherRecord);
+        };
+    }
+
+    private MatchingRecord randomRecord(Random random, GameMode gameMode) {
+        Position[] positions = Position.values();
+        List<Position> wantP = new ArrayList<>();
+        int wantCount = random.nextInt(3);
+        for (int i = 0; i < wantCount; i++) {
+            wantP.add(positions[random.nextInt(positions.length)]);
+        }
+
+        return record(gameMode,
+                MatchingType.values()[random.nextInt(MatchingType.values().length)],
+                Tier.values()[random.nextInt(Tier.values().length)],
+                random.nextInt(5),
+                random.nextInt(5) + 1,
+                Mike.values()[random.nextInt(Mike.values().length)],
+                positions[random.nextInt(positions.length)],
+                positions[random.nextInt(positions.length)],
+                wantP);
+    }
+
+    private MatchingRecord record(GameMode gameMode, MatchingType matchingType, Tier tier, int gameRank,
+                                  int mannerLevel, Mike mike, Position mainP, Position subP, List<Position> wantP) {
+        return MatchingRecord.builder()
+                .gameMode(gameMode)
+                .matchingType(matchingType)
+                .tier(tier)
+                .gameRank(gameRank)
+                .mannerLevel(mannerLevel)
+                .mike(mike)
+                .mainP(mainP)
+                .subP(subP)
+                .wantP(wantP)
+                .build();
+    }
+
+    private String describe(MatchingRecord record) {
+        return String.format("%s/%s/%s-%d/manner%d/%s/%s,%s/%s", record.getGameMode(), record.getMatchingType(),
+                record.getTier(), record.getGameRank(), record.getMannerLevel(), record.getMike(), record.getMainP(),
+                record.getSubP(), record.getWantP());
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ReadReceipt;
+import com.gamegoo.gamegoo_v2.chat.service.ReadReceiptBatchWriter;
+import com.gamegoo.gamegoo_v2.chat.service.ReadReceiptCoalescer;
+import com.gamegoo.gamegoo_v2.core.config.ChatReadReceiptProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReadReceiptCoalescerTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ReadReceiptBatchWriter readReceiptBatchWriter;
+    private ChatReadReceiptProperties properties;
+    private List<ReadReceipt> appliedReceipts;
+    private ReadReceiptCoalescer readReceiptCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        readReceiptBatchWriter = mock(ReadReceiptBatchWriter.class);
+        appliedReceipts = Collections.synchronizedList(new ArrayList<>());
+        given(readReceiptBatchWriter.applyAll(anyList())).willAnswer(invocation -> {
+            List<ReadReceipt> receipts = invocation.getArgument(0);
+            appliedReceipts.addAll(receipts);
+            return receipts.size();
+        });
+
+        properties = new ChatReadReceiptProperties();
+        properties.setCoalesceEnabled(true);
+        properties.setBatchSize(10);
+        properties.setFlushMillis(60000);
+        readReceiptCoalescer = new ReadReceiptCoalescer(readReceiptBatchWriter, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readReceiptCoalescer.stop();
+    }
+
+    @Test
+    @DisplayName("같은 회원-채팅방의 읽음 처리는 가장 나중 시각 하나로 합쳐 반영한다")
+    void coalesceReceiptsOfSameMemberChatroom() {
+        // given: writer 스레드를 시작하지 않아 주기적으로 반영되지 않음
+        readReceiptCoalescer.submit(receipt(1L, 10L, 2));
+        readReceiptCoalescer.submit(receipt(1L, 10L, 5));
+        readReceiptCoalescer.submit(receipt(1L, 10L, 3));
+
+        // when
+        readReceiptCoalescer.flushMember(10L);
+
+        // then
+        assertThat(appliedReceipts).containsExactly(receipt(1L, 10L, 5));
+    }
+
+    @Test
+    @DisplayName("회원의 대기 중인 읽음 처리만 바로 반영한다")
+    void flushMemberAppliesOnlyThatMember() {
+        // given
+        readReceiptCoalescer.start();
+        readReceiptCoalescer.submit(receipt(1L, 10L, 1));
+        readReceiptCoalescer.submit(receipt(2L, 20L, 1));
+
+        // when
+        readReceiptCoalescer.flushMember(10L);
+
+        // then
+        assertThat(appliedReceipts).containsExactly(receipt(1L, 10L, 1));
+        assertThat(readReceiptCoalescer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 읽음 처리는 버리지 않고 다음 반영 때 다시 반영한다")
+    void requeueReceiptsWhenApplyFails() {
+        // given
+        given(readReceiptBatchWriter.applyAll(anyList()))
+                .willThrow(new IllegalStateException("deadlock"))
+                .willAnswer(invocation -> {
+                    List<ReadReceipt> receipts = invocation.getArgument(0);
+                    appliedReceipts.addAll(receipts);
+                    return receipts.size();
+                });
+        readReceiptCoalescer.submit(receipt(1L, 10L, 1));
+
+        // when
+        readReceiptCoalescer.flushMember(10L);
+        readReceiptCoalescer.submit(receipt(2L, 10L, 2));
+        int pendingAfterFailure = readReceiptCoalescer.getPendingCount();
+        readReceiptCoalescer.flushMember(10L);
+
+        // then
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(appliedReceipts).containsExactlyInAnyOrder(receipt(1L, 10L, 1), receipt(2L, 10L, 2));
+        assertThat(readReceiptCoalescer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 회원-채팅방이 배치 크기만큼 모이면 flush 주기를 기다리지 않고 반영한다")
+    void flushWhenBatchSizeReached() throws InterruptedException {
+        // given
+        properties.setBatchSize(3);
+        readReceiptCoalescer.start();
+
+        // when
+        for (long id = 1; id <= 3; id++) {
+            readReceiptCoalescer.submit(receipt(id, id, 1));
+        }
+
+        // then
+        waitUntil(() -> appliedReceipts.size() == 3);
+        assertThat(appliedReceipts).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 읽음 처리를 모두 반영한다")
+    void flushOnStop() {
+        // given
+        readReceiptCoalescer.start();
+        for (long id = 1; id <= 5; id++) {
+            readReceiptCoalescer.submit(receipt(id, id, 1));
+        }
+
+        // when
+        readReceiptCoalescer.stop();
+
+        // then
+        assertThat(readReceiptCoalescer.isRunning()).isFalse();
+        assertThat(readReceiptCoalescer.getPendingCount()).isZero();
+        assertThat(appliedReceipts).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("설정이 꺼져 있으면 writer 스레드를 시작하지 않고 적재를 받지 않는다")
+    void notAcceptingWhenDisabled() {
+        // given
+        properties.setCoalesceEnabled(false);
+
+        // when
+        readReceiptCoalescer.start();
+
+        // then
+        assertThat(readReceiptCoalescer.isRunning()).isFalse();
+        assertThat(readReceiptCoalescer.isAccepting()).isFalse();
+    }
+
+    private ReadReceipt receipt(Long memberChatroomId, Long memberId, int minutes) {
+        return new ReadReceipt(memberChatroomId, memberId, BASE_TIME.plusMinutes(minutes));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.core.config.RollBtiEventIngestionProperties;
+import com.gamegoo.gamegoo_v2.core.exception.RollBtiException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventRecord;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiEventType;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiEventBatchWriter;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiEventBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RollBtiEventBufferTest {
+
+    private RollBtiEventBatchWriter rollBtiEventBatchWriter;
+    private RollBtiEventIngestionProperties properties;
+    private List<List<Long>> flushedBatches;
+    private RollBtiEventBuffer rollBtiEventBuffer;
+
+    @BeforeEach
+    void setUp() {
+        rollBtiEventBatchWriter = mock(RollBtiEventBatchWriter.class);
+        flushedBatches = Collections.synchronizedList(new ArrayList<>());
+        given(rollBtiEventBatchWriter.insertAll(anyList())).willAnswer(invocation -> {
+            List<RollBtiEventRecord> records = invocation.getArgument(0);
+            flushedBatches.add(records.stream().map(RollBtiEventRecord::memberId).toList());
+            return records.size();
+        });
+
+        properties = new RollBtiEventIngestionProperties();
+        properties.setBufferedEnabled(true);
+        properties.setQueueCapacity(10);
+        properties.setBatchSize(3);
+        properties.setFlushMillis(60000);
+        properties.setOfferTimeoutMillis(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (rollBtiEventBuffer != null) {
+            rollBtiEventBuffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모이면 flush 주기를 기다리지 않고 저장한다")
+    void flushWhenBatchSizeReached() throws InterruptedException {
+        // given
+        rollBtiEventBuffer = new RollBtiEventBuffer(rollBtiEventBatchWriter, properties);
+        rollBtiEventBuffer.start();
+
+        // when
+        for (long memberId = 1; memberId <= 3; memberId++) {
+            rollBtiEventBuffer.enqueue(record(memberId));
+        }
+
+        // then
+        waitUntil(() -> !flushedBatches.isEmpty());
+        assertThat(flushedBatches).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("배치 크기에 도달하지 않아도 flush 주기가 지나면 저장한다")
+    void flushWhenIntervalElapsed() throws InterruptedException {
+        // given
+        properties.setFlushMillis(20);
+        rollBtiEventBuffer = new RollBtiEventBuffer(rollBtiEventBatchWriter, properties);
+        rollBtiEventBuffer.start();
+
+        // when
+        rollBtiEventBuffer.enqueue(record(1L));
+
+        // then
+        waitUntil(() -> !flushedBatches.isEmpty());
+        assertThat(flushedBatches).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 잠시 기다린 뒤 예외가 발생한다")
+    void rejectWhenQueueFull() {
+        // given: writer 스레드를 시작하지 않아 큐가 비워지지 않음
+        properties.setQueueCapacity(2);
+        rollBtiEventBuffer = new RollBtiEventBuffer(rollBtiEventBatchWriter, properties);
+        rollBtiEventBuffer.enqueue(record(1L));
+        rollBtiEventBuffer.enqueue(record(2L));
+
+        // when // then
+        assertThatThrownBy(() -> rollBtiEventBuffer.enqueue(record(3L)))
+                .isInstanceOf(RollBtiException.class)
+                .hasMessage(ErrorCode.ROLL_BTI_EVENT_QUEUE_FULL.getMessage());
+        assertThat(rollBtiEventBuffer.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 이벤트를 모두 저장한다")
+    void drainOnStop() {
+        // given
+        rollBtiEventBuffer = new RollBtiEventBuffer(rollBtiEventBatchWriter, properties);
+        rollBtiEventBuffer.start();
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            rollBtiEventBuffer.enqueue(record(memberId));
+        }
+
+        // when
+        rollBtiEventBuffer.stop();
+
+        // then
+        assertThat(rollBtiEventBuffer.isRunning()).isFalse();
+        assertThat(rollBtiEventBuffer.getPendingCount()).isZero();
+        assertThat(flushedBatches.stream().flatMap(List::stream).toList())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("설정이 꺼져 있으면 writer 스레드를 시작하지 않고 적재를 받지 않는다")
+    void notAcceptingWhenDisabled() {
+        // given
+        properties.setBufferedEnabled(false);
+        rollBtiEventBuffer = new RollBtiEventBuffer(rollBtiEventBatchWriter, properties);
+
+        // when
+        rollBtiEventBuffer.start();
+
+        // then
+        assertThat(rollBtiEventBuffer.isRunning()).isFalse();
+        assertThat(rollBtiEventBuffer.isAccepting()).isFalse();
+    }
+
+    private RollBtiEventRecord record(Long memberId) {
+        return new RollBtiEventRecord(memberId, RollBtiEventType.COMPLETE_TEST, null, "session-" + memberId, null,
+                LocalDateTime.now());
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
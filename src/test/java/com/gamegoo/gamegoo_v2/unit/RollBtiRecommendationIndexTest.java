@@ -0,0 +1,136 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiCompatibilityOrder;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiRecommendationCandidate;
+import com.gamegoo.gamegoo_v2.rollbti.domain.RollBtiType;
+import com.gamegoo.gamegoo_v2.rollbti.repository.MemberRollBtiProfileRepository;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiCatalogService;
+import com.gamegoo.gamegoo_v2.rollbti.service.RollBtiRecommendationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RollBtiRecommendationIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private MemberRollBtiProfileRepository memberRollBtiProfileRepository;
+    private RollBtiRecommendationIndex rollBtiRecommendationIndex;
+
+    @BeforeEach
+    void setUp() {
+        memberRollBtiProfileRepository = mock(MemberRollBtiProfileRepository.class);
+        rollBtiRecommendationIndex = new RollBtiRecommendationIndex(memberRollBtiProfileRepository,
+                new RollBtiCatalogService());
+        ReflectionTestUtils.setField(rollBtiRecommendationIndex, "enabled", true);
+
+        // ADCI 기준: ADTB(95), ADCI(75), ASCB(60), FDTB(20)
+        given(memberRollBtiProfileRepository.findAllRecommendationIndexCandidates()).willReturn(List.of(
+                candidate(1L, RollBtiType.FDTB, Tier.GOLD, 1),
+                candidate(2L, RollBtiType.ASCB, Tier.GOLD, 2),
+                candidate(3L, RollBtiType.ADTB, Tier.GOLD, 1),
+                candidate(4L, RollBtiType.ADTB, Tier.SILVER, 3),
+                candidate(5L, RollBtiType.ADCI, Tier.GOLD, 3),
+                candidate(6L, RollBtiType.ADTB, Tier.GOLD, 1)
+        ));
+        rollBtiRecommendationIndex.reload();
+    }
+
+    @Test
+    @DisplayName("궁합 점수 내림차순, 수정 시각 내림차순, 회원 id 내림차순으로 순회한다")
+    void walkInCompatibilityOrder() {
+        assertThat(walk(RollBtiCompatibilityOrder.HIGH, null, score -> true))
+                .containsExactly(4L, 6L, 3L, 5L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("LOW 정렬은 궁합 점수만 오름차순이고 같은 점수 안의 순서는 유지된다")
+    void walkInLowCompatibilityOrder() {
+        assertThat(walk(RollBtiCompatibilityOrder.LOW, null, score -> true))
+                .containsExactly(1L, 2L, 5L, 4L, 6L, 3L);
+    }
+
+    @Test
+    @DisplayName("티어와 점수 조건으로 필요한 목록만 순회한다")
+    void walkWithTierAndScoreFilter() {
+        assertThat(walk(RollBtiCompatibilityOrder.HIGH, Tier.GOLD, score -> score >= 90))
+                .containsExactly(6L, 3L);
+    }
+
+    @Test
+    @DisplayName("개인 랭크와 자유 랭크 중 하나라도 티어가 일치하면 포함된다")
+    void walkMatchesSoloOrFreeTier() {
+        // given
+        given(memberRollBtiProfileRepository.findRecommendationIndexCandidate(7L)).willReturn(Optional.of(
+                new RollBtiRecommendationCandidate(7L, RollBtiType.ADTB, Tier.PLATINUM, Tier.SILVER,
+                        BASE_TIME.plusMinutes(4))));
+
+        // when
+        rollBtiRecommendationIndex.refresh(7L);
+
+        // then
+        assertThat(walk(RollBtiCompatibilityOrder.HIGH, Tier.SILVER, score -> true)).containsExactly(7L, 4L);
+        assertThat(walk(RollBtiCompatibilityOrder.HIGH, Tier.PLATINUM, score -> true)).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("회원 정보를 다시 읽어 유형 변경은 이동, 추천 대상 제외는 제거로 반영된다")
+    void refreshMovesOrRemovesMember() {
+        // given
+        given(memberRollBtiProfileRepository.findRecommendationIndexCandidate(1L)).willReturn(Optional.of(
+                candidate(1L, RollBtiType.ADTB, Tier.GOLD, 5)));
+        given(memberRollBtiProfileRepository.findRecommendationIndexCandidate(4L)).willReturn(Optional.empty());
+
+        // when
+        rollBtiRecommendationIndex.refresh(1L);
+        rollBtiRecommendationIndex.refresh(4L);
+
+        // then
+        assertThat(walk(RollBtiCompatibilityOrder.HIGH, null, score -> true))
+                .containsExactly(1L, 6L, 3L, 5L, 2L);
+        assertThat(rollBtiRecommendationIndex.find(4L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("visitor가 false를 반환하면 순회를 멈춘다")
+    void walkStopsWhenVisitorReturnsFalse() {
+        // given
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        rollBtiRecommendationIndex.walk(RollBtiType.ADCI, RollBtiCompatibilityOrder.HIGH, null, score -> true,
+                candidate -> {
+                    visited.add(candidate.memberId());
+                    return visited.size() < 2;
+                });
+
+        // then
+        assertThat(visited).containsExactly(4L, 6L);
+    }
+
+    private List<Long> walk(RollBtiCompatibilityOrder compatibilityOrder, Tier tier, IntPredicate scoreFilter) {
+        List<Long> memberIds = new ArrayList<>();
+        rollBtiRecommendationIndex.walk(RollBtiType.ADCI, compatibilityOrder, tier, scoreFilter, candidate -> {
+            memberIds.add(candidate.memberId());
+            return true;
+        });
+        return memberIds;
+    }
+
+    private RollBtiRecommendationCandidate candidate(Long memberId, RollBtiType type, Tier tier, int minutes) {
+        return new RollBtiRecommendationCandidate(memberId, type, tier, tier, BASE_TIME.plusMinutes(minutes));
+    }
+
+}
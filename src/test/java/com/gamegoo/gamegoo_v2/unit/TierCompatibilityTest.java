@@ -0,0 +1,90 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.matching.domain.GameMode;
+import com.gamegoo.gamegoo_v2.matching.domain.TierCompatibility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TierCompatibilityTest {
+
+    /**
+     * 기존 validateSoloRankRange의 OR 조건이 의도한 개인 랭크 듀오 범위 (내 티어 -> 상대 티어)
+     */
+    private static final Map<Tier, Set<Tier>> INTENDED_SOLO_RULES = Map.ofEntries(
+            Map.entry(Tier.UNRANKED, EnumSet.of(Tier.UNRANKED)),
+            Map.entry(Tier.IRON, EnumSet.of(Tier.IRON, Tier.BRONZE, Tier.SILVER)),
+            Map.entry(Tier.BRONZE, EnumSet.of(Tier.IRON, Tier.BRONZE, Tier.SILVER)),
+            Map.entry(Tier.SILVER, EnumSet.of(Tier.IRON, Tier.BRONZE, Tier.SILVER, Tier.GOLD)),
+            Map.entry(Tier.GOLD, EnumSet.of(Tier.SILVER, Tier.GOLD, Tier.PLATINUM)),
+            Map.entry(Tier.PLATINUM, EnumSet.of(Tier.GOLD, Tier.PLATINUM, Tier.EMERALD)),
+            Map.entry(Tier.EMERALD, EnumSet.of(Tier.PLATINUM, Tier.EMERALD, Tier.DIAMOND)),
+            Map.entry(Tier.DIAMOND, EnumSet.of(Tier.EMERALD, Tier.DIAMOND)),
+            Map.entry(Tier.MASTER, EnumSet.of(Tier.MASTER, Tier.GRANDMASTER)),
+            Map.entry(Tier.GRANDMASTER, EnumSet.of(Tier.MASTER, Tier.GRANDMASTER)),
+            Map.entry(Tier.CHALLENGER, EnumSet.noneOf(Tier.class))
+    );
+
+    /**
+     * 기존 validateFreeRankFilter가 의도한 자유 랭크 상대 티어
+     */
+    private static final Set<Tier> INTENDED_FREE_TIERS =
+            EnumSet.of(Tier.UNRANKED, Tier.IRON, Tier.BRONZE, Tier.SILVER, Tier.GOLD);
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(GameMode.class)
+    @DisplayName("모든 티어 조합이 의도한 매칭 규칙과 일치한다")
+    void matchesIntendedRules(GameMode gameMode) {
+        for (Tier myTier : Tier.values()) {
+            for (Tier otherTier : Tier.values()) {
+                boolean expected = switch (gameMode) {
+                    case SOLO -> INTENDED_SOLO_RULES.get(myTier).contains(otherTier);
+                    case FREE -> INTENDED_FREE_TIERS.contains(otherTier);
+                    default -> true;
+                };
+
+                assertThat(TierCompatibility.isCompatible(gameMode, myTier, otherTier))
+                        .as("%s: %s -> %s", gameMode, myTier, otherTier)
+                        .isEqualTo(expected);
+                assertThat(TierCompatibility.compatibleTiers(gameMode, myTier).contains(otherTier))
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("개인 랭크 범위는 대칭이다")
+    void soloRulesAreSymmetric() {
+        for (Tier myTier : Tier.values()) {
+            for (Tier otherTier : Tier.values()) {
+                assertThat(TierCompatibility.isCompatible(GameMode.SOLO, myTier, otherTier))
+                        .as("%s <-> %s", myTier, otherTier)
+                        .isEqualTo(TierCompatibility.isCompatible(GameMode.SOLO, otherTier, myTier));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("개인 랭크는 내 티어에 따라 상대 티어가 제한된다")
+    void soloDependsOnMyTier() {
+        assertThat(TierCompatibility.isCompatible(GameMode.SOLO, Tier.IRON, Tier.GOLD)).isFalse();
+        assertThat(TierCompatibility.isCompatible(GameMode.SOLO, Tier.DIAMOND, Tier.MASTER)).isFalse();
+        assertThat(TierCompatibility.compatibleTiers(GameMode.SOLO, Tier.CHALLENGER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("티어가 없으면 UNRANKED로 간주하고, 상대 티어가 없으면 매칭하지 않는다")
+    void nullTiers() {
+        assertThat(TierCompatibility.compatibleTiers(GameMode.SOLO, null)).containsExactly(Tier.UNRANKED);
+        assertThat(TierCompatibility.isCompatible(GameMode.FAST, Tier.GOLD, null)).isFalse();
+    }
+
+}